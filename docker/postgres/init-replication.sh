@@ -0,0 +1,10 @@
+#!/bin/sh
+# Replication role for the local streaming replica (docker-compose, profile
+# "replica"). Runs once, when the primary's data directory is created.
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-SQL
+    CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replicator';
+SQL
+
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
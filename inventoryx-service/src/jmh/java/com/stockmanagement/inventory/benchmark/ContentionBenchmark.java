@@ -0,0 +1,119 @@
+package com.stockmanagement.inventory.benchmark;
+
+import com.stockmanagement.inventory.application.dto.command.QuickSaleCommand;
+import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.service.QuickSaleUseCase;
+import com.stockmanagement.inventory.application.service.StockCommandCombiner;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.service.ReservationPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ContentionBenchmark - 64 clients selling the same SKU at once.
+ *
+ * direct: QuickSaleUseCase per request; the row lock is held until that
+ * request's commit, so requests go through one commit at a time.
+ * combined: StockCommandCombiner; queued requests share one load, one save
+ * and one commit.
+ *
+ * Both run on InMemoryStockRepository with a transaction manager whose
+ * commit parks for commitLatencyMicros (the database round trip + WAL
+ * flush); 0 compares the pure in-JVM overhead of combining.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+
+    @Param({ "0", "100" })
+    public long commitLatencyMicros;
+
+    private final Object rowLock = new Object();
+
+    private TransactionTemplate transactionTemplate;
+    private QuickSaleUseCase quickSaleUseCase;
+    private StockCommandCombiner combiner;
+    private QuickSaleCommand command;
+
+    @Setup
+    public void setUp() {
+        InMemoryStockRepository repository = new InMemoryStockRepository();
+        StockMapper stockMapper = new StockMapper();
+        PlatformTransactionManager transactionManager = new SimulatedCommitTransactionManager(
+                TimeUnit.MICROSECONDS.toNanos(commitLatencyMicros));
+
+        // Large enough that a run never exhausts it
+        Stock stock = Stock.create("P001", ProductSKU.of("SKU-001"), LocationId.of("WH-01"), UnitOfMeasure.PIECE);
+        stock.receiveStock(Quantity.of(1_000_000_000_000L), "Initial", "benchmark");
+        repository.save(stock);
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        quickSaleUseCase = new QuickSaleUseCase(repository, stockMapper, new DomainEventPublisher(event -> {
+        }));
+        combiner = new StockCommandCombiner(repository, new ReservationPolicy(), null, stockMapper,
+                transactionManager, new SimpleMeterRegistry(), null, null, quickSaleUseCase, null, null,
+                true, 256, Duration.ofSeconds(30));
+
+        command = new QuickSaleCommand(stock.getId().value(), "1", "INV-1", "benchmark");
+    }
+
+    @Benchmark
+    public StockResponse direct() {
+        synchronized (rowLock) {
+            return transactionTemplate.execute(status -> quickSaleUseCase.execute(command));
+        }
+    }
+
+    @Benchmark
+    public StockResponse combined() {
+        return combiner.quickSale(command);
+    }
+
+    /**
+     * No resources; commit waits like a database round trip.
+     */
+    private static final class SimulatedCommitTransactionManager implements PlatformTransactionManager {
+
+        private final long commitNanos;
+
+        private SimulatedCommitTransactionManager(long commitNanos) {
+            this.commitNanos = commitNanos;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            if (commitNanos > 0) {
+                LockSupport.parkNanos(commitNanos);
+            }
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
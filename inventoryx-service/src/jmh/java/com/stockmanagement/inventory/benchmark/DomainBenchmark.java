@@ -0,0 +1,52 @@
+package com.stockmanagement.inventory.benchmark;
+
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DomainBenchmark - Aggregate and value-object hot paths.
+ *
+ * - stockReserveRelease: Stock.reserve + releaseReservation (2 events)
+ * - productSkuOf: ProductSKU.of normalization + regex validation
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainBenchmark {
+
+    @Param({ "SKU-001", "sku-0001-abc " })
+    public String rawSku;
+
+    private Stock stock;
+    private Quantity request;
+
+    @Setup
+    public void setUp() {
+        stock = Stock.create("P001", ProductSKU.of("SKU-001"), LocationId.of("WH-01"), UnitOfMeasure.PIECE);
+        stock.receiveStock(Quantity.of(1_000), "Initial", "benchmark");
+        stock.clearDomainEvents();
+        request = Quantity.of(5);
+    }
+
+    @Benchmark
+    public Stock stockReserveRelease() {
+        stock.reserve(request, "ORDER-1");
+        stock.releaseReservation(request, "ORDER-1");
+        stock.clearDomainEvents();
+        return stock;
+    }
+
+    @Benchmark
+    public ProductSKU productSkuOf() {
+        return ProductSKU.of(rawSku);
+    }
+}
@@ -0,0 +1,170 @@
+package com.stockmanagement.inventory.benchmark;
+
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InMemoryStockRepository - StockRepository stand-in for use-case benchmarks.
+ *
+ * Keeps the same contracts as StockRepositoryImpl (atomic methods return the
+ * pre-update image) so use cases run their real code path, minus I/O.
+ * Each stock is guarded by its own monitor, like a row lock.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+class InMemoryStockRepository implements StockRepository {
+
+    private final Map<StockId, Stock> byId = new ConcurrentHashMap<>();
+    private final Map<StockKey, Stock> byKey = new ConcurrentHashMap<>();
+
+    @Override
+    public Stock save(Stock stock) {
+        stock.clearDomainEvents();
+        byId.put(stock.getId(), stock);
+        byKey.put(StockKey.of(stock.getSku(), stock.getLocationId()), stock);
+        return stock;
+    }
+
+    @Override
+    public List<Stock> saveAll(List<Stock> stocks) {
+        return stocks.stream().map(this::save).toList();
+    }
+
+    @Override
+    public List<Stock> findAllForUpdate(Collection<StockKey> keys) {
+        return keys.stream().distinct().sorted().map(byKey::get).filter(s -> s != null).toList();
+    }
+
+    @Override
+    public Optional<Stock> findByIdForUpdate(StockId id) {
+        return findById(id);
+    }
+
+    @Override
+    public Optional<Stock> reserveAtomically(ProductSKU sku, LocationId locationId, Quantity quantity) {
+        Stock stock = byKey.get(StockKey.of(sku, locationId));
+        if (stock == null) {
+            return Optional.empty();
+        }
+        synchronized (stock) {
+            if (!stock.getAvailableQuantity().isGreaterThanOrEqual(quantity)) {
+                return Optional.empty();
+            }
+            Stock before = copy(stock);
+            stock.reserve(quantity, "benchmark");
+            stock.clearDomainEvents();
+            return Optional.of(before);
+        }
+    }
+
+    @Override
+    public Optional<Stock> deductAtomically(StockId id, Quantity quantity) {
+        Stock stock = byId.get(id);
+        if (stock == null) {
+            return Optional.empty();
+        }
+        synchronized (stock) {
+            if (!stock.getAvailableQuantity().isGreaterThanOrEqual(quantity)) {
+                return Optional.empty();
+            }
+            Stock before = copy(stock);
+            stock.quickSale(quantity, "benchmark", "benchmark");
+            stock.clearDomainEvents();
+            return Optional.of(before);
+        }
+    }
+
+    @Override
+    public Optional<Stock> findById(StockId id) {
+        return Optional.ofNullable(byId.get(id)).map(InMemoryStockRepository::copy);
+    }
+
+    @Override
+    public List<Stock> findAllById(Collection<StockId> ids) {
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(InMemoryStockRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public Optional<Stock> findBySkuAndLocation(ProductSKU sku, LocationId locationId) {
+        return Optional.ofNullable(byKey.get(StockKey.of(sku, locationId))).map(InMemoryStockRepository::copy);
+    }
+
+    @Override
+    public List<Stock> findBySku(ProductSKU sku) {
+        return byId.values().stream().filter(s -> s.getSku().equals(sku)).toList();
+    }
+
+    @Override
+    public List<Stock> findByLocation(LocationId locationId) {
+        return byId.values().stream().filter(s -> s.getLocationId().equals(locationId)).toList();
+    }
+
+    @Override
+    public List<Stock> findAll() {
+        return List.copyOf(byId.values());
+    }
+
+    @Override
+    public Page<Stock> findAll(Pageable pageable) {
+        return new PageImpl<>(findAll(), pageable, byId.size());
+    }
+
+    @Override
+    public Window<Stock> scroll(ScrollPosition position, int limit) {
+        // Benchmarks never scroll; a single unordered window is enough
+        List<Stock> all = findAll();
+        return Window.from(all.subList(0, Math.min(limit, all.size())), ScrollPosition::offset,
+                all.size() > limit);
+    }
+
+    @Override
+    public OptionalLong estimateCount() {
+        return OptionalLong.of(byId.size());
+    }
+
+    @Override
+    public void delete(StockId id) {
+        Stock removed = byId.remove(id);
+        if (removed != null) {
+            byKey.remove(StockKey.of(removed.getSku(), removed.getLocationId()));
+        }
+    }
+
+    @Override
+    public boolean exists(ProductSKU sku, LocationId locationId) {
+        return byKey.containsKey(StockKey.of(sku, locationId));
+    }
+
+    private static Stock copy(Stock stock) {
+        return Stock.reconstitute(
+                stock.getId(),
+                stock.getProductId(),
+                stock.getSku(),
+                stock.getLocationId(),
+                stock.getAvailableQuantity(),
+                stock.getReservedQuantity(),
+                stock.getUnitOfMeasure(),
+                stock.getVersion(),
+                stock.getCreatedAt(),
+                stock.getUpdatedAt());
+    }
+}
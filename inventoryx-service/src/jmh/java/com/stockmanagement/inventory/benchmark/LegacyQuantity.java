@@ -0,0 +1,117 @@
+package com.stockmanagement.inventory.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * LegacyQuantity - Verbatim copy of the BigDecimal-backed Quantity record that
+ * Quantity replaced (scaled long). Kept only as the benchmark baseline.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+record LegacyQuantity(BigDecimal value) {
+
+    private static final int SCALE = 4;
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+
+    /**
+     * Validates and normalizes quantity.
+     * BUSINESS RULE: Must be >= 0
+     */
+    LegacyQuantity {
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Quantity cannot be null. Use Quantity.zero() for zero.");
+        }
+
+        if (value.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Quantity cannot be negative: %s", value));
+        }
+
+        // Normalize scale for consistent comparisons
+        value = value.setScale(SCALE, ROUNDING_MODE);
+    }
+
+    // Factory Methods
+
+    static LegacyQuantity of(String value) {
+        return new LegacyQuantity(new BigDecimal(value));
+    }
+
+    static LegacyQuantity of(long value) {
+        return new LegacyQuantity(BigDecimal.valueOf(value));
+    }
+
+    static LegacyQuantity zero() {
+        return new LegacyQuantity(BigDecimal.ZERO);
+    }
+
+    // Arithmetic Operations
+
+    /**
+     * Adds quantities (immutable).
+     * USE CASE: Receiving stock, releasing reservation
+     */
+    public LegacyQuantity add(LegacyQuantity other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Cannot add null quantity");
+        }
+        return new LegacyQuantity(this.value.add(other.value));
+    }
+
+    /**
+     * Subtracts quantities (immutable).
+     * USE CASE: Reserving stock, confirming sale
+     * BUSINESS RULE: Result must be >= 0
+     */
+    public LegacyQuantity subtract(LegacyQuantity other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Cannot subtract null quantity");
+        }
+
+        BigDecimal result = this.value.subtract(other.value);
+        if (result.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot subtract %s from %s: result would be negative",
+                            other.value, this.value));
+        }
+
+        return new LegacyQuantity(result);
+    }
+
+    /**
+     * Multiplies by factor.
+     * USE CASE: Unit conversion, price calculation
+     */
+    public LegacyQuantity multiply(BigDecimal factor) {
+        if (factor == null) {
+            throw new IllegalArgumentException("Cannot multiply by null factor");
+        }
+        return new LegacyQuantity(this.value.multiply(factor));
+    }
+
+    // Comparison Operations
+
+    public boolean isGreaterThan(LegacyQuantity other) {
+        return other != null && this.value.compareTo(other.value) > 0;
+    }
+
+    public boolean isGreaterThanOrEqual(LegacyQuantity other) {
+        return other != null && this.value.compareTo(other.value) >= 0;
+    }
+
+    public boolean isZero() {
+        return this.value.compareTo(BigDecimal.ZERO) == 0;
+    }
+
+    public boolean isPositive() {
+        return this.value.compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    @Override
+    public String toString() {
+        return value.toPlainString();
+    }
+}
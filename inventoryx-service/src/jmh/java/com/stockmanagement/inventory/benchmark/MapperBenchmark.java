@@ -0,0 +1,78 @@
+package com.stockmanagement.inventory.benchmark;
+
+import com.stockmanagement.inventory.application.dto.response.StockMovementResponse;
+import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.mapper.StockMovementMapper;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.StockEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.StockMovementEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.mapper.StockEntityMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapperBenchmark - Layer-boundary conversions done on every request.
+ *
+ * - stockEntityRoundTrip: StockEntityMapper toEntity + toDomain
+ * - stockToResponse: StockMapper.toResponse (quantities → String)
+ * - movementToResponse: StockMovementMapper.toResponse incl. formatQuantity
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    @Param({ "SALE", "ADJUSTMENT" })
+    public String movementType;
+
+    private final StockEntityMapper entityMapper = new StockEntityMapper();
+    private final StockMapper stockMapper = new StockMapper();
+    private final StockMovementMapper movementMapper = new StockMovementMapper();
+
+    private Stock stock;
+    private StockMovementEntity movement;
+
+    @Setup
+    public void setUp() {
+        stock = Stock.create("P001", ProductSKU.of("SKU-001"), LocationId.of("WH-01"), UnitOfMeasure.PIECE);
+        stock.receiveStock(Quantity.of("1250.5"), "Initial", "benchmark");
+        stock.clearDomainEvents();
+
+        StockEntity parent = entityMapper.toEntity(stock);
+        movement = new StockMovementEntity();
+        movement.setId("00000000-0000-0000-0000-000000000001");
+        movement.setStock(parent);
+        movement.setMovementType(movementType);
+        movement.setQuantity(new BigDecimal("-2.5000"));
+        movement.setReason("benchmark");
+        movement.setReferenceId("ORDER-1");
+        movement.setPerformedBy("benchmark");
+        movement.setPerformedAt(Instant.now());
+    }
+
+    @Benchmark
+    public Stock stockEntityRoundTrip() {
+        return entityMapper.toDomain(entityMapper.toEntity(stock));
+    }
+
+    @Benchmark
+    public StockResponse stockToResponse() {
+        return stockMapper.toResponse(stock);
+    }
+
+    @Benchmark
+    public StockMovementResponse movementToResponse() {
+        return movementMapper.toResponse(movement);
+    }
+}
@@ -0,0 +1,108 @@
+package com.stockmanagement.inventory.benchmark;
+
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QuantityBenchmark - Scaled-long Quantity vs the former BigDecimal record.
+ *
+ * SCENARIOS:
+ * - reserveRelease: the arithmetic Stock.reserve + releaseReservation do
+ * (compare, subtract, add - twice)
+ * - mapFromRow: StockEntityMapper.toDomain for one column
+ * (legacy went BigDecimal → String → BigDecimal)
+ * - toBoundary: Quantity → BigDecimal for DB/API
+ *
+ * RUN (allocation rates need the GC profiler):
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="QuantityBenchmark -prof gc"
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuantityBenchmark {
+
+    private BigDecimal column;
+
+    private Quantity available;
+    private Quantity reserved;
+    private Quantity request;
+
+    private LegacyQuantity legacyAvailable;
+    private LegacyQuantity legacyReserved;
+    private LegacyQuantity legacyRequest;
+
+    @Setup
+    public void setUp() {
+        column = new BigDecimal("1250.5000");
+
+        available = Quantity.of(column);
+        reserved = Quantity.of(10);
+        request = Quantity.of("2.5");
+
+        legacyAvailable = new LegacyQuantity(column);
+        legacyReserved = LegacyQuantity.of(10);
+        legacyRequest = LegacyQuantity.of("2.5");
+    }
+
+    @Benchmark
+    public void reserveRelease(Blackhole blackhole) {
+        Quantity a = available;
+        Quantity r = reserved;
+        if (a.isGreaterThanOrEqual(request)) {
+            a = a.subtract(request);
+            r = r.add(request);
+        }
+        if (r.isGreaterThanOrEqual(request)) {
+            r = r.subtract(request);
+            a = a.add(request);
+        }
+        blackhole.consume(a);
+        blackhole.consume(r);
+    }
+
+    @Benchmark
+    public void legacyReserveRelease(Blackhole blackhole) {
+        LegacyQuantity a = legacyAvailable;
+        LegacyQuantity r = legacyReserved;
+        if (a.isGreaterThanOrEqual(legacyRequest)) {
+            a = a.subtract(legacyRequest);
+            r = r.add(legacyRequest);
+        }
+        if (r.isGreaterThanOrEqual(legacyRequest)) {
+            r = r.subtract(legacyRequest);
+            a = a.add(legacyRequest);
+        }
+        blackhole.consume(a);
+        blackhole.consume(r);
+    }
+
+    @Benchmark
+    public Quantity mapFromRow() {
+        return Quantity.of(column);
+    }
+
+    @Benchmark
+    public LegacyQuantity legacyMapFromRow() {
+        return LegacyQuantity.of(column.toString());
+    }
+
+    @Benchmark
+    public BigDecimal toBoundary() {
+        return available.value();
+    }
+
+    @Benchmark
+    public BigDecimal legacyToBoundary() {
+        return legacyAvailable.value();
+    }
+}
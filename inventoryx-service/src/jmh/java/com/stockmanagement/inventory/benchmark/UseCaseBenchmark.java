@@ -0,0 +1,82 @@
+package com.stockmanagement.inventory.benchmark;
+
+import com.stockmanagement.inventory.application.dto.command.QuickSaleCommand;
+import com.stockmanagement.inventory.application.dto.command.ReserveStockCommand;
+import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
+import com.stockmanagement.inventory.application.service.QuickSaleUseCase;
+import com.stockmanagement.inventory.application.service.ReserveStockUseCase;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.service.ReservationPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UseCaseBenchmark - Full application-layer path without I/O.
+ *
+ * Runs ReserveStockUseCase and QuickSaleUseCase against
+ * InMemoryStockRepository with a no-op event sink, so the numbers cover
+ * command parsing, value objects, policy, domain replay, event creation
+ * and response mapping. Spring proxies and the database are excluded.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UseCaseBenchmark {
+
+    private ReserveStockUseCase reserveStockUseCase;
+    private QuickSaleUseCase quickSaleUseCase;
+
+    private ReserveStockCommand reserveCommand;
+    private QuickSaleCommand quickSaleCommand;
+
+    @Setup
+    public void setUp() {
+        InMemoryStockRepository repository = new InMemoryStockRepository();
+        StockMapper stockMapper = new StockMapper();
+        DomainEventPublisher eventPublisher = new DomainEventPublisher(event -> {
+        });
+
+        // Large enough that a run never exhausts it
+        Stock stock = Stock.create("P001", ProductSKU.of("SKU-001"), LocationId.of("WH-01"), UnitOfMeasure.PIECE);
+        stock.receiveStock(Quantity.of(1_000_000_000_000L), "Initial", "benchmark");
+        repository.save(stock);
+
+        // Holds are rows in stock_reservations: I/O, so not part of this benchmark
+        ReservationHoldService noHolds = new ReservationHoldService(null, null, Duration.ZERO) {
+            @Override
+            public Instant hold(String orderId, String stockId, Quantity quantity) {
+                return Instant.EPOCH;
+            }
+        };
+
+        reserveStockUseCase = new ReserveStockUseCase(repository, new ReservationPolicy(), stockMapper, eventPublisher,
+                noHolds);
+        quickSaleUseCase = new QuickSaleUseCase(repository, stockMapper, eventPublisher);
+
+        reserveCommand = new ReserveStockCommand("SKU-001", "WH-01", "1", "ORDER-1");
+        quickSaleCommand = new QuickSaleCommand(stock.getId().value(), "1", "INV-1", "benchmark");
+    }
+
+    @Benchmark
+    public StockResponse reserveStock() {
+        return reserveStockUseCase.execute(reserveCommand);
+    }
+
+    @Benchmark
+    public StockResponse quickSale() {
+        return quickSaleUseCase.execute(quickSaleCommand);
+    }
+}
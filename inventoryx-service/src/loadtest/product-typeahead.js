@@ -0,0 +1,57 @@
+// InventoryX typeahead load test (k6): /products/suggest over 1M products
+//
+// Replays what the product picker sends while someone types: growing
+// prefixes of SKUs, names and categories, plus substrings from the middle
+// of a name. Seed the catalogue first with seed-products.sql.
+//
+// k6 run src/loadtest/product-typeahead.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081/api/v1';
+
+// Keystroke sequences: SKU, name prefix, category, mid-name substring, no match
+const QUERIES = [
+    'lo', 'loa', 'load-00', 'load-0012', 'load-0012345',
+    'st', 'ste', 'steel', 'steel br', 'steel bracket',
+    'ha', 'har', 'hardware',
+    'ash', 'washe', 'washer heavy',
+    'bearng', 'brackte', 'premuim',
+];
+
+export const options = {
+    scenarios: {
+        typing: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 500),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:suggest}': ['p(99)<10'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({
+        username: __ENV.USERNAME || 'admin',
+        password: __ENV.PASSWORD || 'admin123',
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'logged in': (r) => r.status === 200 });
+    return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+    const q = QUERIES[Math.floor(Math.random() * QUERIES.length)];
+    const res = http.get(`${BASE_URL}/products/suggest?q=${encodeURIComponent(q)}&limit=10`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { name: 'suggest' },
+    });
+    check(res, { suggest: (r) => r.status === 200 });
+}
@@ -0,0 +1,25 @@
+-- Seeds 1,000,000 synthetic products for product-typeahead.js.
+-- SKUs LOAD-0000001.., names/categories drawn from small word lists so
+-- common prefixes and substrings match many rows.
+--
+-- psql -h localhost -U postgres -d stockmanagement -f src/loadtest/seed-products.sql
+
+WITH words AS (
+    SELECT ARRAY['steel', 'copper', 'plastic', 'oak', 'glass', 'rubber', 'carbon', 'aluminium',
+                 'bolt', 'washer', 'bracket', 'hinge', 'panel', 'cable', 'valve', 'bearing',
+                 'small', 'large', 'heavy', 'compact', 'industrial', 'premium', 'standard', 'spare']
+               AS w,
+           ARRAY['Hardware', 'Electrical', 'Plumbing', 'Fasteners', 'Tools', 'Packaging'] AS c
+)
+INSERT INTO inventory.products (id, sku, name, category, price_amount, price_currency, unit_of_measure)
+SELECT gen_random_uuid()::text,
+       'LOAD-' || lpad(i::text, 7, '0'),
+       initcap(w[1 + (i * 7) % 24] || ' ' || w[1 + (i * 13) % 24] || ' ' || w[1 + (i / 24) % 24]) || ' ' || i,
+       c[1 + i % 6],
+       (i % 10000) / 100.0,
+       'USD',
+       'PIECE'
+FROM words, generate_series(1, 1000000) AS i
+ON CONFLICT (sku) DO NOTHING;
+
+ANALYZE inventory.products;
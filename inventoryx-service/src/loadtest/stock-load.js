@@ -0,0 +1,68 @@
+// InventoryX load test (k6): platform vs virtual threads
+//
+// Mix per iteration: stock detail, keyset list page, movement history page,
+// reserve + release of one unit. Every request touches PostgreSQL, so the
+// run measures how each thread mode handles requests blocked on JDBC.
+//
+// k6 run -e STOCK_ID=<id> -e SKU=<sku> -e LOCATION_ID=<location> src/loadtest/stock-load.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081/api/v1';
+const STOCK_ID = __ENV.STOCK_ID;
+const SKU = __ENV.SKU;
+const LOCATION_ID = __ENV.LOCATION_ID;
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: Number(__ENV.VUS || 400) },
+                { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 400) },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:reserve}': ['p(99)<500'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    if (!STOCK_ID || !SKU || !LOCATION_ID) {
+        throw new Error('STOCK_ID, SKU and LOCATION_ID are required');
+    }
+    const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({
+        username: __ENV.USERNAME || 'admin',
+        password: __ENV.PASSWORD || 'admin123',
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'logged in': (r) => r.status === 200 });
+    return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+    const params = (name) => ({
+        headers: { Authorization: `Bearer ${data.token}`, 'Content-Type': 'application/json' },
+        tags: { name },
+    });
+
+    check(http.get(`${BASE_URL}/stocks/${STOCK_ID}`, params('detail')), { detail: (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/stocks/scroll?size=20`, params('scroll')), { scroll: (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/stocks/${STOCK_ID}/movements?size=20`, params('movements')),
+        { movements: (r) => r.status === 200 });
+
+    const orderId = `LOAD-${__VU}-${__ITER}`;
+    const reserve = http.post(`${BASE_URL}/stocks/reserve`, JSON.stringify({
+        sku: SKU, locationId: LOCATION_ID, quantity: '1', orderId,
+    }), params('reserve'));
+    if (check(reserve, { reserve: (r) => r.status === 200 })) {
+        http.post(`${BASE_URL}/stocks/release`, JSON.stringify({
+            stockId: STOCK_ID, quantity: '1', orderId,
+        }), params('release'));
+    }
+}
@@ -0,0 +1,40 @@
+package com.stockmanagement.inventory.application.dto.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * BatchReserveStockCommand - Command to reserve every line of an order at once.
+ *
+ * USE CASE: Checkout places an order with many lines (20-80 typical)
+ *
+ * BUSINESS RULE: All-or-nothing. If any line cannot be reserved, nothing is.
+ *
+ * VALIDATION:
+ * - OrderId: Required
+ * - Lines: Required, 1-500 lines, each with SKU, location and positive quantity
+ *
+ * @author InventoryX Development Team
+ * @since 2026-01-20
+ */
+public record BatchReserveStockCommand(
+                @NotBlank(message = "Order ID is required") String orderId,
+
+                @NotEmpty(message = "At least one line is required") @Size(max = 500, message = "At most 500 lines per batch") List<@Valid Line> lines) {
+
+        /**
+         * Single order line to reserve.
+         */
+        public record Line(
+                        @NotBlank(message = "SKU is required") String sku,
+
+                        @NotBlank(message = "Location ID is required") String locationId,
+
+                        @NotBlank(message = "Quantity is required") @Pattern(regexp = "^\\d+(\\.\\d+)?$", message = "Quantity must be a positive number") String quantity) {
+        }
+}
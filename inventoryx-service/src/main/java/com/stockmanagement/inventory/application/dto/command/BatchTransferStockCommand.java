@@ -0,0 +1,49 @@
+package com.stockmanagement.inventory.application.dto.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * BatchTransferStockCommand - Command to move many lines between locations at
+ * once.
+ *
+ * USE CASE: Rebalancing job moves thousands of lines between warehouses
+ *
+ * BUSINESS RULE: All-or-nothing. If any line cannot be moved, nothing is.
+ * Lines are applied in order, so stock moved into a location by one line
+ * can be moved on by a later line.
+ *
+ * VALIDATION:
+ * - Lines: Required, 1-10000 lines, each with SKU, two locations and
+ * positive quantity
+ * - reason: Optional
+ * - performedBy: Required
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record BatchTransferStockCommand(
+                @NotEmpty(message = "At least one line is required") @Size(max = 10000, message = "At most 10000 lines per batch") List<@Valid Line> lines,
+
+                String reason,
+
+                @NotBlank(message = "Performed by is required") String performedBy) {
+
+        /**
+         * Single line to move.
+         */
+        public record Line(
+                        @NotBlank(message = "SKU is required") String sku,
+
+                        @NotBlank(message = "Source location ID is required") String fromLocationId,
+
+                        @NotBlank(message = "Destination location ID is required") String toLocationId,
+
+                        @NotBlank(message = "Quantity is required") @Pattern(regexp = "^\\d+(\\.\\d+)?$", message = "Quantity must be a positive number") String quantity) {
+        }
+}
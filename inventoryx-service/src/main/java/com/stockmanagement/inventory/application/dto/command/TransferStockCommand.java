@@ -0,0 +1,35 @@
+package com.stockmanagement.inventory.application.dto.command;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * TransferStockCommand - Command to move stock from one location to another.
+ * 
+ * USE CASE: Send goods from a warehouse to a store
+ * 
+ * BUSINESS RULE: Both sides change in one transaction; the stock is never
+ * missing from (or counted in) both locations.
+ * 
+ * VALIDATION:
+ * - sku, fromLocationId, toLocationId: Required (locations must differ)
+ * - quantity: Required, must be positive
+ * - reason: Optional
+ * - performedBy: Required, who performed the action
+ * 
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record TransferStockCommand(
+        @NotBlank(message = "SKU is required") String sku,
+
+        @NotBlank(message = "Source location ID is required") String fromLocationId,
+
+        @NotBlank(message = "Destination location ID is required") String toLocationId,
+
+        @NotBlank(message = "Quantity is required") @Pattern(regexp = "^\\d+(\\.\\d+)?$", message = "Quantity must be a positive number") String quantity,
+
+        String reason,
+
+        @NotBlank(message = "Performed by is required") String performedBy) {
+}
@@ -0,0 +1,40 @@
+package com.stockmanagement.inventory.application.dto.response;
+
+import java.util.List;
+
+/**
+ * BulkReceiptResponse - Result report of a bulk receipt import.
+ * 
+ * FIELDS:
+ * - totalLines: Data lines read from the upload
+ * - received: Lines booked to a stock
+ * - rejected: Lines not booked (see each line's message)
+ * - lines: One result per data line, in file order
+ * 
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record BulkReceiptResponse(
+        int totalLines,
+        int received,
+        int rejected,
+        List<LineResult> lines) {
+
+    public static final String RECEIVED = "RECEIVED";
+    public static final String REJECTED = "REJECTED";
+
+    /**
+     * @param line    Line number in the uploaded file (1-based, header included)
+     * @param status  RECEIVED or REJECTED
+     * @param stockId Stock the quantity was added to (received lines)
+     * @param message Rejection reason (rejected lines)
+     */
+    public record LineResult(
+            int line,
+            String sku,
+            String locationId,
+            String status,
+            String stockId,
+            String message) {
+    }
+}
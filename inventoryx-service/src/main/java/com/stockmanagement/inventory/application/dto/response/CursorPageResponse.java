@@ -0,0 +1,34 @@
+package com.stockmanagement.inventory.application.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CursorPageResponse - Keyset (cursor) page of results.
+ *
+ * FIELDS:
+ * - content: Items in this page
+ * - size: Number of items in this page
+ * - nextCursor: Opaque token for the next page (null on the last page)
+ * - hasNext: Whether another page exists
+ * - estimatedTotal: Planner row estimate (only when requested and unfiltered)
+ *
+ * WHY NO EXACT TOTAL?
+ * An exact total is a COUNT(*) over the whole table on every page, which is
+ * what keyset pagination is meant to avoid.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long estimatedTotal) {
+
+    public <R> CursorPageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPageResponse<>(mapped, size, nextCursor, hasNext, estimatedTotal);
+    }
+}
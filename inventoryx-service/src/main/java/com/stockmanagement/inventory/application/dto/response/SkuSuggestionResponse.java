@@ -0,0 +1,18 @@
+package com.stockmanagement.inventory.application.dto.response;
+
+/**
+ * SkuSuggestionResponse - One SKU autocomplete result.
+ *
+ * FIELDS:
+ * - sku: Product SKU
+ * - productId: Product identifier
+ * - availableQuantity: Available quantity summed over all locations
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record SkuSuggestionResponse(
+        String sku,
+        String productId,
+        String availableQuantity) {
+}
@@ -0,0 +1,20 @@
+package com.stockmanagement.inventory.application.dto.response;
+
+import java.util.List;
+
+/**
+ * StockTransferResponse - Result of a stock transfer (single or batch).
+ * 
+ * FIELDS:
+ * - transferId: Reference recorded on both TRANSFER movements of every line
+ * - lines: Number of lines moved
+ * - stocks: Every stock changed (sources and destinations), once each
+ * 
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record StockTransferResponse(
+        String transferId,
+        int lines,
+        List<StockResponse> stocks) {
+}
@@ -0,0 +1,45 @@
+package com.stockmanagement.inventory.application.export;
+
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+
+/**
+ * StockExportFormat - Output formats of the stock export.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public enum StockExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    StockExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Parses a request parameter (case-insensitive).
+     *
+     * @throws InvalidStockOperationException for unknown formats
+     */
+    public static StockExportFormat fromParameter(String value) {
+        for (StockExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value) || format.fileExtension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidStockOperationException("Unsupported export format: " + value);
+    }
+}
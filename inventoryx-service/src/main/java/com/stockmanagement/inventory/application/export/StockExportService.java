@@ -0,0 +1,178 @@
+package com.stockmanagement.inventory.application.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockExportQueryRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockExportQueryRepository.StockExportRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * StockExportService - Streams the full stock list as CSV or NDJSON.
+ *
+ * PROBLEM:
+ * Exports went through getAll(): every StockEntity, Stock and StockResponse
+ * was held in heap at once, which runs out of memory at 1M+ rows.
+ *
+ * SOLUTION:
+ * Rows come from a JDBC cursor (StockExportQueryRepository) and are written
+ * to the response stream as they arrive. Memory is bounded by the fetch
+ * size and the writer buffers, not by the row count.
+ *
+ * FORMATS:
+ * - CSV: RFC 4180 (header row, CRLF, quoted when needed)
+ * - NDJSON: one JSON object per line
+ * Either can be gzip-compressed on the fly.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Service
+public class StockExportService {
+
+    static final String[] CSV_HEADER = {
+            "stock_id", "sku", "product_name", "location_id", "location_name",
+            "available_quantity", "reserved_quantity", "unit_of_measure", "updated_at" };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StockExportQueryRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    public StockExportService(StockExportQueryRepository exportRepository, ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the export to the stream. The stream is flushed, not closed.
+     *
+     * @param format Output format
+     * @param gzip   Compress the output
+     * @param out    Response stream
+     * @return Number of rows written
+     * @throws IOException if the client goes away or the stream fails
+     */
+    public long export(StockExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(compressed != null ? compressed : out, StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+
+        long started = System.nanoTime();
+        long rows = switch (format) {
+            case CSV -> writeCsv(writer);
+            case NDJSON -> writeNdjson(writer);
+        };
+
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        out.flush();
+
+        log.info("Stock export finished: format={}, gzip={}, rows={}, took={}ms",
+                format, gzip, rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private long writeCsv(Writer writer) throws IOException {
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+        return forEachRow(row -> writeCsvLine(writer,
+                row.stockId(),
+                row.sku(),
+                row.productName(),
+                row.locationId(),
+                row.locationName(),
+                row.availableQuantity(),
+                row.reservedQuantity(),
+                row.unitOfMeasure(),
+                row.updatedAt()));
+    }
+
+    private long writeNdjson(Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        long rows = forEachRow(row -> {
+            generator.writeStartObject();
+            generator.writeStringField("stockId", row.stockId());
+            generator.writeStringField("sku", row.sku());
+            generator.writeStringField("productName", row.productName());
+            generator.writeStringField("locationId", row.locationId());
+            generator.writeStringField("locationName", row.locationName());
+            writeDecimalField(generator, "availableQuantity", row.availableQuantity());
+            writeDecimalField(generator, "reservedQuantity", row.reservedQuantity());
+            generator.writeStringField("unitOfMeasure", row.unitOfMeasure());
+            generator.writeStringField("updatedAt", row.updatedAt() != null ? row.updatedAt().toString() : null);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        });
+        generator.flush();
+        return rows;
+    }
+
+    private long forEachRow(RowWriter rowWriter) throws IOException {
+        long[] count = { 0 };
+        try {
+            exportRepository.forEachRow(row -> {
+                try {
+                    rowWriter.write(row);
+                    count[0]++;
+                } catch (IOException e) {
+                    // Client disconnected: abort the query
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    private static void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static void writeDecimalField(JsonGenerator generator, String name, BigDecimal value)
+            throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            // Plain digits, never scientific notation
+            generator.writeFieldName(name);
+            generator.writeNumber(value.toPlainString());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(StockExportRow row) throws IOException;
+    }
+}
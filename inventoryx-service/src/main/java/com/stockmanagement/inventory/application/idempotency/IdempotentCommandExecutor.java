@@ -0,0 +1,223 @@
+package com.stockmanagement.inventory.application.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmanagement.inventory.domain.exception.IdempotencyConflictException;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.IdempotencyKeyRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.IdempotencyKeyRepository.RequestKey;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.IdempotencyKeyRepository.StoredResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * IdempotentCommandExecutor - Runs a stock command at most once per
+ * Idempotency-Key and replays its response to retries.
+ *
+ * PROBLEM:
+ * Checkout and POS clients retry on timeouts. Every retry reran the
+ * command: stock was decremented twice and the ledger duplicated.
+ *
+ * FLOW:
+ * 1. Front cache (bounded, TTL): completed key → replay, no database access
+ * 2. In-flight map: a duplicate arriving while the first request runs waits
+ * for that execution and replays its result (no second row lock)
+ * 3. Leader, one transaction: claim the key row, run the command, store
+ * the response JSON; the key is committed together with the stock change
+ * 4. If the claim finds a committed row (retry after a restart, or another
+ * instance was first) the stored response is replayed
+ *
+ * A failed command stores nothing: its transaction rolls back with the
+ * claim, waiting duplicates get the same error, later retries run again.
+ * Reusing a key with a different request body is a conflict (409).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class IdempotentCommandExecutor {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[\\x21-\\x7E]{1,100}");
+
+    private final IdempotencyKeyRepository keyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inFlightWait;
+
+    private final Cache<RequestKey, StoredResponse> completed;
+    private final Map<RequestKey, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentCommandExecutor(
+            IdempotencyKeyRepository keyRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${inventory.idempotency.ttl:24h}") Duration ttl,
+            @Value("${inventory.idempotency.cache-maximum-size:100000}") long cacheMaximumSize,
+            @Value("${inventory.idempotency.in-flight-wait:30s}") Duration inFlightWait) {
+        this.keyRepository = keyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.inFlightWait = inFlightWait;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Runs the command once for this key, or replays the stored response.
+     *
+     * @param key          Principal + endpoint + client key
+     * @param request      Request body (fingerprinted to detect key reuse)
+     * @param responseType Response type, for replays
+     * @param command      The use case call; joins the executor's transaction
+     * @return Response and whether it was replayed
+     * @throws IdempotencyConflictException   if the key belongs to another request
+     * @throws InvalidStockOperationException if the key is malformed
+     */
+    public <T> Result<T> execute(RequestKey key, Object request, TypeReference<T> responseType,
+            Supplier<T> command) {
+        if (!KEY_PATTERN.matcher(key.key()).matches()) {
+            throw new InvalidStockOperationException("Idempotency-Key must be 1-100 visible ASCII characters");
+        }
+        String requestHash = fingerprint(request);
+
+        // 1. Completed recently
+        StoredResponse cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return replay(key, cached, requestHash, responseType);
+        }
+
+        // 2. Running right now: coalesce
+        CompletableFuture<StoredResponse> own = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            log.debug("Coalescing duplicate request onto in-flight execution: {}", key);
+            return replay(key, await(running), requestHash, responseType);
+        }
+
+        // 3. Lead
+        try {
+            Execution<T> execution = transactionTemplate.execute(status -> lead(key, requestHash, command));
+            completed.put(key, execution.stored());
+            own.complete(execution.stored());
+            return execution.value() != null
+                    ? new Result<>(execution.value(), false)
+                    : replay(key, execution.stored(), requestHash, responseType);
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Deletes expired keys (the front cache expires on its own).
+     */
+    @Scheduled(initialDelayString = "${inventory.idempotency.purge-interval-ms:3600000}",
+            fixedDelayString = "${inventory.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = keyRepository.purgeExpired(Instant.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private <T> Execution<T> lead(RequestKey key, String requestHash, Supplier<T> command) {
+        Instant now = Instant.now();
+        if (!keyRepository.claim(key, requestHash, now, now.plus(ttl))) {
+            // 4. Committed earlier (or by another instance while we waited)
+            StoredResponse stored = keyRepository.find(key, now)
+                    .filter(found -> found.responseJson() != null)
+                    .orElseThrow(() -> new IdempotencyConflictException(
+                            "Request with this Idempotency-Key is still in progress"));
+            return new Execution<>(null, stored);
+        }
+
+        T value = command.get();
+        String json = toJson(value);
+        keyRepository.complete(key, json);
+        return new Execution<>(value, new StoredResponse(requestHash, json));
+    }
+
+    private <T> Result<T> replay(RequestKey key, StoredResponse stored, String requestHash,
+            TypeReference<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            log.warn("Idempotency-Key reused with a different request: {}", key);
+            throw new IdempotencyConflictException("Idempotency-Key was already used for a different request");
+        }
+        try {
+            return new Result<>(objectMapper.readValue(stored.responseJson(), responseType), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is unreadable", e);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(inFlightWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Same outcome as the request we coalesced onto
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("Request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("Request with this Idempotency-Key is still in progress");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store idempotent response", e);
+        }
+    }
+
+    /**
+     * @param replayed true if the command did not run for this call
+     */
+    public record Result<T>(T value, boolean replayed) {
+    }
+
+    private record Execution<T>(T value, StoredResponse stored) {
+    }
+}
@@ -1,10 +1,8 @@
 package com.stockmanagement.inventory.application.listener;
 
 import com.stockmanagement.inventory.domain.event.*;
-import com.stockmanagement.inventory.infrastructure.persistence.entity.StockEntity;
-import com.stockmanagement.inventory.infrastructure.persistence.entity.StockMovementEntity;
-import com.stockmanagement.inventory.infrastructure.persistence.repository.JpaStockMovementRepository;
-import com.stockmanagement.inventory.infrastructure.persistence.repository.JpaStockRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.hotstock.HotStockStore;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementLedgerWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -28,14 +26,23 @@ import java.math.BigDecimal;
  * Uses MANDATORY propagation to participate in the existing transaction of the
  * command.
  * If the command fails, the audit log should also roll back.
+ * 
+ * PERFORMANCE:
+ * Rows are handed to StockMovementLedgerWriter, which writes all movements of
+ * the transaction as one JDBC batch just before commit (no per-event SELECT
+ * or INSERT on the command path).
+ * 
+ * HOT STOCKS:
+ * Movements of stocks tracked by HotStockStore are handed to its
+ * write-behind queue instead of being inserted here (written on commit).
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StockMovementEventListener {
 
-    private final JpaStockMovementRepository movementRepository;
-    private final JpaStockRepository stockRepository;
+    private final StockMovementLedgerWriter ledgerWriter;
+    private final HotStockStore hotStocks;
 
     @EventListener
     @Transactional(propagation = Propagation.MANDATORY)
@@ -135,26 +142,46 @@ public class StockMovementEventListener {
                 event.occurredOn());
     }
 
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void handleStockTransferredOut(StockTransferredOutEvent event) {
+        log.debug("Processing StockTransferredOutEvent: {}", event);
+        saveMovement(
+                event.stockId().value(),
+                "TRANSFER",
+                event.quantity().value().negate(), // Leaves this location
+                transferReason(event.reason(), "to", event.toLocationId().value()),
+                event.transferId(),
+                event.performedBy(),
+                event.occurredOn());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void handleStockTransferredIn(StockTransferredInEvent event) {
+        log.debug("Processing StockTransferredInEvent: {}", event);
+        saveMovement(
+                event.stockId().value(),
+                "TRANSFER",
+                event.quantity().value(),
+                transferReason(event.reason(), "from", event.fromLocationId().value()),
+                event.transferId(),
+                event.performedBy(),
+                event.occurredOn());
+    }
+
+    private static String transferReason(String reason, String direction, String otherLocationId) {
+        String route = "Transfer " + direction + " " + otherLocationId;
+        return reason == null || reason.isBlank() ? route : route + ": " + reason;
+    }
+
     private void saveMovement(String stockId, String type, BigDecimal quantity, String reason, String refId,
             String performedBy, java.time.Instant occurredOn) {
-        StockEntity stockEntity = stockRepository.findById(stockId)
-                .orElseThrow(() -> new IllegalStateException("Stock not found for movement logging: " + stockId));
-
-        StockMovementEntity movement = new StockMovementEntity();
-        movement.setStock(stockEntity);
-        movement.setMovementType(type);
-        movement.setQuantity(quantity);
-        movement.setReason(reason);
-        movement.setReferenceId(refId);
-        movement.setPerformedBy(performedBy);
-        movement.setPerformedAt(occurredOn);
-
-        // ID is usually generated by UUID if not set, or let Hibernate do it?
-        // Entity uses String ID. Let's check generator.
-        if (movement.getId() == null) {
-            movement.setId(java.util.UUID.randomUUID().toString());
+        if (hotStocks.tracks(stockId)) {
+            hotStocks.recordMovement(stockId, type, quantity, reason, refId, performedBy, occurredOn);
+            return;
         }
 
-        movementRepository.save(movement);
+        ledgerWriter.append(stockId, type, quantity, reason, refId, performedBy, occurredOn);
     }
 }
@@ -2,8 +2,10 @@ package com.stockmanagement.inventory.application.mapper;
 
 import com.stockmanagement.inventory.application.dto.response.StockMovementResponse;
 import com.stockmanagement.inventory.infrastructure.persistence.entity.StockMovementEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementHistoryRepository.MovementRow;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -33,15 +35,34 @@ public class StockMovementMapper {
     public StockMovementResponse toResponse(StockMovementEntity entity) {
         return new StockMovementResponse(
                 entity.getId(),
+                // Identifier of the lazy proxy: no SELECT on stocks per movement
                 entity.getStock().getId(),
                 entity.getMovementType(),
-                formatQuantity(entity),
+                formatQuantity(entity.getMovementType(), entity.getQuantity()),
                 entity.getReason(),
                 entity.getReferenceId(),
                 entity.getPerformedBy(),
                 entity.getPerformedAt().toString());
     }
 
+    /**
+     * Maps a history row (StockMovementHistoryRepository) to response.
+     * 
+     * @param row Movement row from the history query
+     * @return StockMovementResponse for API
+     */
+    public StockMovementResponse toResponse(MovementRow row) {
+        return new StockMovementResponse(
+                row.id(),
+                row.stockId(),
+                row.movementType(),
+                formatQuantity(row.movementType(), row.quantity()),
+                row.reason(),
+                row.referenceId(),
+                row.performedBy(),
+                row.performedAt().toString());
+    }
+
     /**
      * Maps list of entities to responses.
      * 
@@ -60,10 +81,7 @@ public class StockMovementMapper {
      * RECEIPT/RELEASE: positive (+50.00)
      * RESERVATION/CONFIRMATION/SALE/ADJUSTMENT: depends on actual value
      */
-    private String formatQuantity(StockMovementEntity entity) {
-        var quantity = entity.getQuantity();
-        var type = entity.getMovementType();
-
+    private String formatQuantity(String type, BigDecimal quantity) {
         // RECEIPT and RELEASE add stock (positive display)
         if ("RECEIPT".equals(type) || "RELEASE".equals(type)) {
             return "+" + quantity.toPlainString();
@@ -0,0 +1,112 @@
+package com.stockmanagement.inventory.application.pagination;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
+import com.stockmanagement.inventory.domain.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
+
+/**
+ * CursorCodec - Converts keyset scroll positions to opaque cursor tokens.
+ *
+ * FORMAT:
+ * Base64url (no padding) of a JSON object holding the sort-key values of
+ * the last row, e.g. {"sku":"SKU-001","locationId":"L1","id":"..."}.
+ * Clients must treat it as opaque; only string keys are used so it
+ * round-trips without type information.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public final class CursorCodec {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Decodes a cursor; null/blank means "first page".
+     *
+     * @throws InvalidCursorException if the token is not one we issued
+     */
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            Map<String, Object> keys = MAPPER.readValue(json, KEYS_TYPE);
+            if (keys.isEmpty() || !keys.values().stream().allMatch(String.class::isInstance)) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encodes the position after the last element, or null if there is no next page.
+     */
+    public static String encodeNext(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        ScrollPosition position = window.positionAt(window.size() - 1);
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalStateException("Cursor pagination requires keyset scrolling");
+        }
+        return encode(keyset.getKeys());
+    }
+
+    /**
+     * Builds the response for a window, mapping each element.
+     */
+    public static <T, R> CursorPageResponse<R> toResponse(Window<T> window, Function<? super T, ? extends R> mapper,
+            OptionalLong estimatedTotal) {
+        List<R> content = window.getContent().stream().<R>map(mapper).toList();
+        return new CursorPageResponse<>(
+                content,
+                content.size(),
+                encodeNext(window),
+                window.hasNext(),
+                estimatedTotal.isPresent() ? estimatedTotal.getAsLong() : null);
+    }
+
+    /**
+     * Clamps a requested page size to 1..MAX_SIZE.
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Encodes sort-key values directly, for queries that do not go through
+     * Spring Data scrolling. Values should be strings (see decode).
+     */
+    public static String encode(Map<String, ?> keys) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsString(keys).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.stockmanagement.inventory.application.reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * HierarchicalTimingWheel - Millions of timeouts, O(1) to add and cancel.
+ *
+ * PROBLEM:
+ * A priority queue (or ScheduledExecutorService) costs O(log n) per hold
+ * and keeps one heap node per pending task; a thread per hold is out of the
+ * question at millions of outstanding reservations.
+ *
+ * STRUCTURE (Varghese &amp; Lauck, as in Kafka / Netty / Linux timers):
+ * - LEVELS wheels of SLOTS buckets each; level k covers SLOTS^k ticks per slot
+ * - A timeout is placed on the lowest level whose range reaches its deadline
+ * - When the clock crosses a level-k slot boundary, that slot is cascaded:
+ * its entries are re-added and land on lower levels
+ * - Level 0 slots are drained tick by tick; everything drained is due
+ *
+ * With 64 slots and 4 levels the wheel spans 64^4 ticks (194 days at one
+ * second per tick). Deadlines beyond that park in the top level and are
+ * re-placed each time they cascade.
+ *
+ * CANCELLATION:
+ * Lazy. {@link Timeout#cancel()} marks the entry; it is dropped when its
+ * slot is drained or cascaded.
+ *
+ * NOT THREAD-SAFE: The owner serializes access (one lock, one ticker).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public class HierarchicalTimingWheel<T> {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 4;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final List<Timeout<T>>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis Resolution; timeouts fire at most one tick late
+     * @param nowMillis  Current time (epoch millis)
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.wheels = new List[LEVELS][SLOTS];
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Schedules a timeout. Deadlines at or before the current tick fire on
+     * the next {@link #advance}.
+     *
+     * @param item           Payload handed back when the timeout fires
+     * @param deadlineMillis Due time (epoch millis)
+     * @return Handle for cancellation
+     */
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick, this);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Moves the clock forward and hands every due, non-cancelled item to
+     * the consumer, in tick order.
+     *
+     * @param nowMillis Current time (epoch millis)
+     * @param expired   Receives due items
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            // Higher levels first, so cascaded entries can still reach this tick
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                int shift = SLOT_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    cascade(level, (int) ((currentTick >>> shift) & SLOT_MASK));
+                }
+            }
+            List<Timeout<T>> due = takeSlot(0, (int) (currentTick & SLOT_MASK));
+            if (due != null) {
+                for (Timeout<T> timeout : due) {
+                    if (!timeout.cancelled) {
+                        timeout.fired = true;
+                        size--;
+                        expired.accept(timeout.item);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Number of scheduled, not yet fired or cancelled timeouts
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level, int slot) {
+        List<Timeout<T>> entries = takeSlot(level, slot);
+        if (entries == null) {
+            return;
+        }
+        for (Timeout<T> timeout : entries) {
+            if (!timeout.cancelled) {
+                place(timeout);
+            }
+        }
+    }
+
+    /**
+     * Puts the entry on the lowest level whose window still reaches its deadline.
+     */
+    private void place(Timeout<T> timeout) {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            long distance = (timeout.deadlineTick >>> shift) - (currentTick >>> shift);
+            if (distance < SLOTS) {
+                addToSlot(level, (int) ((timeout.deadlineTick >>> shift) & SLOT_MASK), timeout);
+                return;
+            }
+        }
+        // Beyond the wheel's span: park in the farthest top-level slot
+        int shift = SLOT_BITS * (LEVELS - 1);
+        addToSlot(LEVELS - 1, (int) (((currentTick >>> shift) + SLOTS - 1) & SLOT_MASK), timeout);
+    }
+
+    private void addToSlot(int level, int slot, Timeout<T> timeout) {
+        List<Timeout<T>> bucket = wheels[level][slot];
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            wheels[level][slot] = bucket;
+        }
+        bucket.add(timeout);
+    }
+
+    private List<Timeout<T>> takeSlot(int level, int slot) {
+        List<Timeout<T>> bucket = wheels[level][slot];
+        wheels[level][slot] = null;
+        return bucket;
+    }
+
+    /**
+     * Handle of a scheduled item.
+     */
+    public static final class Timeout<T> {
+
+        private final T item;
+        private final long deadlineTick;
+        private final HierarchicalTimingWheel<T> wheel;
+        private boolean cancelled;
+        private boolean fired;
+
+        private Timeout(T item, long deadlineTick, HierarchicalTimingWheel<T> wheel) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+            this.wheel = wheel;
+        }
+
+        /**
+         * Cancels the timeout; no-op if it already fired or was cancelled.
+         */
+        public void cancel() {
+            if (!cancelled && !fired) {
+                cancelled = true;
+                wheel.size--;
+            }
+        }
+
+        public T item() {
+            return item;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.stockmanagement.inventory.application.reservation;
+
+import com.stockmanagement.inventory.application.reservation.HierarchicalTimingWheel.Timeout;
+import com.stockmanagement.inventory.application.service.ExpireReservationsUseCase;
+import com.stockmanagement.inventory.infrastructure.config.BackgroundThreads;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.HoldKey;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationExpiryScheduler - Expires reservation holds from an in-memory
+ * timing wheel.
+ *
+ * FLOW:
+ * - Startup: rebuild the wheel from stock_reservations (expires_at order)
+ * - Reserve / confirm / release: schedule or cancel the hold after commit,
+ * O(1) through the key index
+ * - Every tick: advance the wheel, release due holds in batches of
+ * batch-size (one transaction per batch, see ExpireReservationsUseCase)
+ * - Every sweep interval: release expired holds the wheel does not know
+ * (created by another instance, or a failed batch)
+ *
+ * One ticker thread for all holds; memory is one small entry per hold.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class ReservationExpiryScheduler {
+
+    private final boolean enabled;
+    private final long tickMillis;
+    private final long sweepIntervalMillis;
+    private final int batchSize;
+    private final boolean virtualThreads;
+    private final StockReservationRepository reservationRepository;
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+
+    // Guarded by "this"
+    private final Map<HoldKey, Timeout<HoldKey>> timeouts = new HashMap<>();
+    private HierarchicalTimingWheel<HoldKey> wheel;
+
+    private ScheduledExecutorService ticker;
+
+    public ReservationExpiryScheduler(
+            @Value("${inventory.reservations.expiry-enabled:true}") boolean enabled,
+            @Value("${inventory.reservations.tick-ms:1000}") long tickMillis,
+            @Value("${inventory.reservations.sweep-interval-ms:60000}") long sweepIntervalMillis,
+            @Value("${inventory.reservations.batch-size:500}") int batchSize,
+            @Value(BackgroundThreads.VIRTUAL_THREADS_PROPERTY) boolean virtualThreads,
+            StockReservationRepository reservationRepository,
+            ExpireReservationsUseCase expireReservationsUseCase) {
+        this.enabled = enabled;
+        this.tickMillis = tickMillis;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.batchSize = batchSize;
+        this.virtualThreads = virtualThreads;
+        this.reservationRepository = reservationRepository;
+        this.expireReservationsUseCase = expireReservationsUseCase;
+    }
+
+    // ==================== Lifecycle ====================
+
+    @PostConstruct
+    void start() {
+        synchronized (this) {
+            wheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+        }
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        reservationRepository.forEachHold(hold -> schedule(hold.key(), hold.expiresAt()));
+        log.info("Reservation wheel rebuilt: holds={}, took={}ms", pending(),
+                (System.nanoTime() - started) / 1_000_000);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(
+                BackgroundThreads.factory("reservation-expiry", virtualThreads));
+        ticker.scheduleWithFixedDelay(this::tickQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        ticker.scheduleWithFixedDelay(this::sweepQuietly, sweepIntervalMillis, sweepIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (ticker != null) {
+            ticker.shutdown();
+            ticker.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // ==================== Scheduling ====================
+
+    /**
+     * Schedules (or moves) the hold's expiry once the current transaction commits.
+     */
+    public void scheduleAfterCommit(HoldKey key, Instant expiresAt) {
+        afterCommit(() -> schedule(key, expiresAt));
+    }
+
+    /**
+     * Drops the hold's expiry once the current transaction commits.
+     */
+    public void cancelAfterCommit(HoldKey key) {
+        afterCommit(() -> cancel(key));
+    }
+
+    synchronized void schedule(HoldKey key, Instant expiresAt) {
+        if (!enabled) {
+            return;
+        }
+        Timeout<HoldKey> previous = timeouts.put(key, wheel.schedule(key, expiresAt.toEpochMilli()));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    synchronized void cancel(HoldKey key) {
+        Timeout<HoldKey> timeout = timeouts.remove(key);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * @return Holds currently tracked by the wheel
+     */
+    public synchronized int pending() {
+        return wheel.size();
+    }
+
+    // ==================== Expiry ====================
+
+    /**
+     * Advances the wheel and releases every due hold, batch by batch.
+     *
+     * @return Number of holds released
+     */
+    int tick() {
+        List<HoldKey> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), key -> {
+                timeouts.remove(key);
+                due.add(key);
+            });
+        }
+
+        int released = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<HoldKey> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                released += expireReservationsUseCase.expire(batch);
+            } catch (RuntimeException e) {
+                // Rows are untouched (rolled back); the sweep picks them up
+                log.error("Releasing {} expired reservations failed", batch.size(), e);
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Releases expired holds directly from the table until none are left.
+     *
+     * @return Number of holds released
+     */
+    int sweep() {
+        int released = 0;
+        int batch;
+        do {
+            batch = expireReservationsUseCase.sweep(batchSize);
+            released += batch;
+        } while (batch == batchSize);
+        return released;
+    }
+
+    private void tickQuietly() {
+        try {
+            int released = tick();
+            if (released > 0) {
+                log.info("Released {} expired reservations", released);
+            }
+        } catch (RuntimeException e) {
+            log.error("Reservation expiry tick failed", e);
+        }
+    }
+
+    private void sweepQuietly() {
+        try {
+            int released = sweep();
+            if (released > 0) {
+                log.info("Sweep released {} expired reservations", released);
+            }
+        } catch (RuntimeException e) {
+            log.error("Reservation expiry sweep failed", e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
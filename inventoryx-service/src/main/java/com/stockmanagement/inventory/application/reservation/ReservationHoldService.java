@@ -0,0 +1,107 @@
+package com.stockmanagement.inventory.application.reservation;
+
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.Hold;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.HoldKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * ReservationHoldService - Records which order holds how much of a stock.
+ *
+ * Called inside the reserve / confirm / release transactions:
+ * - hold: after a successful reserve; expires after the configured TTL
+ * - consume: before confirm/release; the order must still hold at least
+ * the requested quantity, otherwise the operation is rejected (the hold
+ * expired and was already returned to available)
+ *
+ * The timing wheel is updated only after commit.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ReservationHoldService {
+
+    private final StockReservationRepository reservationRepository;
+    private final ReservationExpiryScheduler expiryScheduler;
+    private final Duration ttl;
+
+    public ReservationHoldService(
+            StockReservationRepository reservationRepository,
+            ReservationExpiryScheduler expiryScheduler,
+            @Value("${inventory.reservations.ttl:30m}") Duration ttl) {
+        this.reservationRepository = reservationRepository;
+        this.expiryScheduler = expiryScheduler;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Records (or tops up) the order's hold on the stock.
+     *
+     * @return Expiry of the hold
+     */
+    public Instant hold(String orderId, String stockId, Quantity quantity) {
+        HoldKey key = new HoldKey(orderId, stockId);
+        Instant now = Instant.now();
+        Instant expiresAt = reservationRepository.hold(key, quantity.value(), now, now.plus(ttl));
+        expiryScheduler.scheduleAfterCommit(key, expiresAt);
+        return expiresAt;
+    }
+
+    /**
+     * Takes the quantity out of the order's hold (confirm or release).
+     *
+     * @throws InvalidStockOperationException if the order holds less than the quantity
+     */
+    public void consume(String orderId, String stockId, Quantity quantity) {
+        Optional<InvalidStockOperationException> rejection = tryConsume(orderId, stockId, quantity);
+        if (rejection.isPresent()) {
+            throw rejection.get();
+        }
+    }
+
+    /**
+     * Same as {@link #consume}, but returns the rejection instead of throwing
+     * it. A rejection writes nothing, and since no exception crosses the
+     * transactional proxy the caller's transaction stays committable (a
+     * combined batch rejects one command and commits the others).
+     *
+     * @return The rejection, or empty if the quantity was taken
+     */
+    public Optional<InvalidStockOperationException> tryConsume(String orderId, String stockId, Quantity quantity) {
+        HoldKey key = new HoldKey(orderId, stockId);
+        Optional<Hold> found = reservationRepository.findForUpdate(key);
+        if (found.isEmpty()) {
+            log.warn("No active reservation: orderId={}, stockId={}", orderId, stockId);
+            return Optional.of(new InvalidStockOperationException(String.format(
+                    "No active reservation for order %s on stock %s (expired or never made)",
+                    orderId, stockId)));
+        }
+
+        Quantity held = Quantity.of(found.get().quantity());
+        if (!held.isGreaterThanOrEqual(quantity)) {
+            return Optional.of(new InvalidStockOperationException(String.format(
+                    "Order %s holds %s of stock %s, requested %s", orderId, held, stockId, quantity)));
+        }
+
+        if (held.equals(quantity)) {
+            reservationRepository.delete(key);
+            expiryScheduler.cancelAfterCommit(key);
+        } else {
+            reservationRepository.updateQuantity(key, held.subtract(quantity).value());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,59 @@
+package com.stockmanagement.inventory.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ActivityRingBuffer - Fixed-size buffer of the latest N items.
+ *
+ * add() overwrites the oldest slot, so memory and cost stay constant no
+ * matter how many movements happen.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+final class ActivityRingBuffer<T> {
+
+    private final Object[] slots;
+    private int next;
+    private int size;
+
+    ActivityRingBuffer(int capacity) {
+        this.slots = new Object[capacity];
+    }
+
+    synchronized void add(T item) {
+        slots[next] = item;
+        next = (next + 1) % slots.length;
+        if (size < slots.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Fills an empty buffer (e.g. from the database at startup).
+     *
+     * @param newestFirst Items ordered newest first
+     */
+    synchronized void seedIfEmpty(List<T> newestFirst) {
+        if (size > 0) {
+            return;
+        }
+        for (int i = Math.min(newestFirst.size(), slots.length) - 1; i >= 0; i--) {
+            add(newestFirst.get(i));
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized List<T> newestFirst() {
+        List<T> items = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            items.add((T) slots[Math.floorMod(next - i, slots.length)]);
+        }
+        return items;
+    }
+}
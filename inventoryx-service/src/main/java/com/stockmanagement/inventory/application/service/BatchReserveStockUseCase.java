@@ -0,0 +1,141 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.dto.command.BatchReserveStockCommand;
+import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
+import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import com.stockmanagement.inventory.domain.service.ReservationPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * BatchReserveStockUseCase - Reserves all lines of an order in one transaction.
+ *
+ * USE CASE: Checkout service reserves a whole order in a single round trip
+ *
+ * FLOW:
+ * 1. Convert lines to StockKey + Quantity
+ * 2. Load and lock all stocks with one query (deterministic lock order)
+ * 3. Check policy and reserve each line (domain logic)
+ * 4. Record the order's hold per line (expires after the reservation TTL)
+ * 5. Save all stocks and publish events (movements are batch-inserted)
+ *
+ * ATOMICITY:
+ * Any missing stock or insufficient quantity throws, which rolls back every
+ * line of the order.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-01-20
+ */
+@Slf4j
+@Service
+@Transactional
+public class BatchReserveStockUseCase {
+
+    private final StockRepository stockRepository;
+    private final ReservationPolicy reservationPolicy;
+    private final StockMapper stockMapper;
+    private final DomainEventPublisher eventPublisher;
+    private final ReservationHoldService reservationHolds;
+
+    public BatchReserveStockUseCase(
+            StockRepository stockRepository,
+            ReservationPolicy reservationPolicy,
+            StockMapper stockMapper,
+            DomainEventPublisher eventPublisher,
+            ReservationHoldService reservationHolds) {
+        this.stockRepository = stockRepository;
+        this.reservationPolicy = reservationPolicy;
+        this.stockMapper = stockMapper;
+        this.eventPublisher = eventPublisher;
+        this.reservationHolds = reservationHolds;
+    }
+
+    /**
+     * Executes batch reservation use case.
+     *
+     * @param command Batch reservation command
+     * @return Updated stocks, one per distinct SKU/location, in lock order
+     * @throws StockNotFoundException     if any line references a missing stock
+     * @throws InsufficientStockException if any line cannot be reserved
+     */
+    public List<StockResponse> execute(BatchReserveStockCommand command) {
+        log.info("Reserving stock batch: orderId={}, lines={}",
+                command.orderId(), command.lines().size());
+
+        // 1. Convert lines (sorted so domain logic runs in lock order too)
+        List<ReservationLine> lines = command.lines().stream()
+                .map(line -> new ReservationLine(
+                        StockKey.of(ProductSKU.of(line.sku()), LocationId.of(line.locationId())),
+                        Quantity.of(line.quantity())))
+                .sorted(Comparator.comparing(ReservationLine::key))
+                .toList();
+
+        // 2. Load and lock all stocks in one round trip
+        Map<StockKey, Stock> stocks = stockRepository
+                .findAllForUpdate(lines.stream().map(ReservationLine::key).toList())
+                .stream()
+                .collect(Collectors.toMap(
+                        stock -> StockKey.of(stock.getSku(), stock.getLocationId()),
+                        Function.identity(),
+                        (first, second) -> first,
+                        LinkedHashMap::new));
+
+        List<StockKey> missing = lines.stream()
+                .map(ReservationLine::key)
+                .filter(key -> !stocks.containsKey(key))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            log.warn("Stock not found for order {}: {}", command.orderId(), missing);
+            throw new StockNotFoundException("Stock not found for: " + missing);
+        }
+
+        // 3. Check policy and reserve line by line
+        for (ReservationLine line : lines) {
+            Stock stock = stocks.get(line.key());
+            if (!reservationPolicy.canReserve(stock, line.quantity())) {
+                log.warn("Insufficient stock for order {}: key={}, requested={}, available={}",
+                        command.orderId(), line.key(), line.quantity(), stock.getAvailableQuantity());
+                throw new InsufficientStockException(
+                        String.format("Cannot reserve %s of %s. Available: %s",
+                                line.quantity(), line.key(), stock.getAvailableQuantity()));
+            }
+            stock.reserve(line.quantity(), command.orderId());
+        }
+
+        // 4. Record holds
+        for (ReservationLine line : lines) {
+            reservationHolds.hold(command.orderId(), stocks.get(line.key()).getId().value(), line.quantity());
+        }
+
+        // 5. Save and publish
+        List<Stock> savedStocks = stockRepository.saveAll(List.copyOf(stocks.values()));
+        savedStocks.forEach(saved -> {
+            eventPublisher.publish(saved.getDomainEvents());
+            saved.clearDomainEvents();
+        });
+
+        log.info("Stock batch reserved successfully: orderId={}, stocks={}",
+                command.orderId(), savedStocks.size());
+
+        return stockMapper.toResponseList(savedStocks);
+    }
+
+    private record ReservationLine(StockKey key, Quantity quantity) {
+    }
+}
@@ -0,0 +1,330 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.application.dto.response.BulkReceiptResponse;
+import com.stockmanagement.inventory.application.dto.response.BulkReceiptResponse.LineResult;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.domain.event.StockBulkReceivedEvent;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.infrastructure.persistence.hotstock.HotStockStore;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.BulkReceiptWriter;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.BulkReceiptWriter.LineOutcome;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.BulkReceiptWriter.ReceiptLine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * BulkReceiveStockUseCase - Receives a whole delivery file in one go.
+ *
+ * USE CASE: Container / supplier delivery with thousands of lines
+ *
+ * FLOW:
+ * 1. Parse the upload (CSV with header row, or NDJSON) line by line
+ * 2. Validate each line like ReceiveStockCommand (SKU, location, positive
+ * quantity, unit of measure); invalid lines are rejected, not fatal
+ * 3. Hand the valid lines to BulkReceiptWriter (COPY + set-based upsert)
+ * 4. Merge both into a per-line report
+ * 5. Publish one StockBulkReceivedEvent with the touched stocks (the
+ * stock change stream sends them after commit)
+ *
+ * INPUT COLUMNS / FIELDS:
+ * sku, location_id (locationId), quantity, unit_of_measure (unitOfMeasure),
+ * reason (optional), reference_id (referenceId, optional)
+ *
+ * DIFFERENCES TO POST /stocks/receive:
+ * - No per-line domain events; the dashboard reloads and the stream sends
+ * each touched stock once (StockBulkReceivedEvent)
+ * - Hot stock keys are rejected (their counters live in memory)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Service
+public class BulkReceiveStockUseCase {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final int MAX_LOCATION_ID_LENGTH = 36;
+    private static final int MAX_REFERENCE_ID_LENGTH = 100;
+
+    private final BulkReceiptWriter bulkReceiptWriter;
+    private final HotStockStore hotStocks;
+    private final DomainEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int maxLines;
+
+    public BulkReceiveStockUseCase(
+            BulkReceiptWriter bulkReceiptWriter,
+            HotStockStore hotStocks,
+            DomainEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${inventory.bulk-receipt.max-lines:200000}") int maxLines) {
+        this.bulkReceiptWriter = bulkReceiptWriter;
+        this.hotStocks = hotStocks;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.maxLines = maxLines;
+    }
+
+    /**
+     * Executes the bulk receipt in a single transaction.
+     *
+     * @param input       Uploaded file (UTF-8)
+     * @param format      CSV or NDJSON
+     * @param performedBy User recorded on the movements
+     * @return Per-line result report
+     * @throws InvalidStockOperationException if the file is malformed or too large
+     */
+    @Transactional
+    public BulkReceiptResponse execute(InputStream input, Format format, String performedBy) throws IOException {
+        long started = System.nanoTime();
+        Parsed parsed = format == Format.CSV ? parseCsv(input) : parseNdjson(input);
+
+        List<LineOutcome> outcomes = bulkReceiptWriter.receive(parsed.accepted, performedBy);
+        List<LineResult> results = merge(parsed, outcomes);
+        publishReceived(outcomes, performedBy);
+
+        int received = (int) results.stream()
+                .filter(result -> BulkReceiptResponse.RECEIVED.equals(result.status()))
+                .count();
+        log.info("Bulk receipt: lines={}, received={}, rejected={}, took={}ms",
+                results.size(), received, results.size() - received, (System.nanoTime() - started) / 1_000_000);
+        return new BulkReceiptResponse(results.size(), received, results.size() - received, results);
+    }
+
+    /**
+     * One event for the whole upload, listing each touched stock once.
+     */
+    private void publishReceived(List<LineOutcome> outcomes, String performedBy) {
+        LinkedHashSet<StockId> stockIds = new LinkedHashSet<>();
+        for (LineOutcome outcome : outcomes) {
+            if (outcome.stockId() != null) {
+                stockIds.add(StockId.of(outcome.stockId()));
+            }
+        }
+        if (!stockIds.isEmpty()) {
+            eventPublisher.publish(List.of(StockBulkReceivedEvent.of(List.copyOf(stockIds), performedBy)));
+        }
+    }
+
+    // ==================== Parsing ====================
+
+    private Parsed parseCsv(InputStream input) throws IOException {
+        Parsed parsed = new Parsed();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return parsed;
+        }
+        List<String> header = splitCsv(stripBom(headerLine)).stream()
+                .map(BulkReceiveStockUseCase::normalizeName)
+                .toList();
+        for (String required : List.of("sku", "locationid", "quantity", "unitofmeasure")) {
+            if (!header.contains(required)) {
+                throw new InvalidStockOperationException("CSV header is missing column: " + required);
+            }
+        }
+
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = splitCsv(line);
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                fields.put(header.get(i), blankToNull(values.get(i)));
+            }
+            accept(parsed, lineNumber, fields);
+        }
+        return parsed;
+    }
+
+    private Parsed parseNdjson(InputStream input) throws IOException {
+        Parsed parsed = new Parsed();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(lineNumber == 1 ? stripBom(line) : line);
+            } catch (JsonProcessingException e) {
+                node = null;
+            }
+            if (node == null || !node.isObject()) {
+                checkLimit(parsed);
+                parsed.rejected.add(rejected(lineNumber, null, null, "Invalid JSON object"));
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(entry -> fields.put(normalizeName(entry.getKey()),
+                    entry.getValue().isNull() ? null : blankToNull(entry.getValue().asText())));
+            accept(parsed, lineNumber, fields);
+        }
+        return parsed;
+    }
+
+    /**
+     * Validates one line and files it as accepted or rejected.
+     */
+    private void accept(Parsed parsed, int lineNumber, Map<String, String> fields) {
+        checkLimit(parsed);
+        String rawSku = fields.get("sku");
+        String rawLocation = fields.get("locationid");
+
+        try {
+            ProductSKU sku = ProductSKU.of(rawSku);
+            LocationId locationId = LocationId.of(rawLocation);
+            if (locationId.value().length() > MAX_LOCATION_ID_LENGTH) {
+                throw new IllegalArgumentException("Location ID is too long");
+            }
+            String rawQuantity = fields.get("quantity");
+            if (rawQuantity == null) {
+                throw new IllegalArgumentException("Quantity is required");
+            }
+            Quantity quantity = Quantity.of(rawQuantity);
+            if (!quantity.isPositive()) {
+                throw new IllegalArgumentException("Quantity must be positive");
+            }
+            String rawUnit = fields.get("unitofmeasure");
+            if (rawUnit == null) {
+                throw new IllegalArgumentException("Unit of measure is required");
+            }
+            UnitOfMeasure unit = UnitOfMeasure.valueOf(rawUnit.toUpperCase(Locale.ROOT));
+            String referenceId = fields.get("referenceid");
+            if (referenceId != null && referenceId.length() > MAX_REFERENCE_ID_LENGTH) {
+                throw new IllegalArgumentException("Reference ID is too long");
+            }
+            if (hotStocks.isHotKey(StockKey.of(sku, locationId))) {
+                throw new IllegalArgumentException("Hot stock key, use POST /stocks/receive");
+            }
+
+            parsed.accepted.add(new ReceiptLine(lineNumber, sku.value(), locationId.value(), quantity.value(),
+                    unit.name(), fields.get("reason"), referenceId));
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            parsed.rejected.add(rejected(lineNumber, rawSku, rawLocation, e.getMessage()));
+        }
+    }
+
+    private void checkLimit(Parsed parsed) {
+        if (parsed.accepted.size() + parsed.rejected.size() >= maxLines) {
+            throw new InvalidStockOperationException("Bulk receipt is limited to " + maxLines + " lines");
+        }
+    }
+
+    // ==================== Report ====================
+
+    /**
+     * Merges writer outcomes (accepted lines) with parse rejections, in line order.
+     */
+    private static List<LineResult> merge(Parsed parsed, List<LineOutcome> outcomes) {
+        List<LineResult> booked = new ArrayList<>(outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            LineOutcome outcome = outcomes.get(i);
+            ReceiptLine line = parsed.accepted.get(i);
+            booked.add(outcome.error() == null
+                    ? new LineResult(line.lineNumber(), line.sku(), line.locationId(), BulkReceiptResponse.RECEIVED,
+                            outcome.stockId(), null)
+                    : rejected(line.lineNumber(), line.sku(), line.locationId(), outcome.error()));
+        }
+
+        List<LineResult> results = new ArrayList<>(booked.size() + parsed.rejected.size());
+        int a = 0;
+        int b = 0;
+        while (a < booked.size() || b < parsed.rejected.size()) {
+            if (b >= parsed.rejected.size()
+                    || (a < booked.size() && booked.get(a).line() < parsed.rejected.get(b).line())) {
+                results.add(booked.get(a++));
+            } else {
+                results.add(parsed.rejected.get(b++));
+            }
+        }
+        return results;
+    }
+
+    private static LineResult rejected(int lineNumber, String sku, String locationId, String message) {
+        return new LineResult(lineNumber, sku, locationId, BulkReceiptResponse.REJECTED, null, message);
+    }
+
+    // ==================== CSV Helpers ====================
+
+    /**
+     * Splits one CSV record (RFC 4180 quoting, no embedded line breaks).
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * location_id, locationId and "Location ID" all become "locationid".
+     */
+    private static String normalizeName(String name) {
+        return name.replaceAll("[_\\-\\s]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private static final class Parsed {
+        private final List<ReceiptLine> accepted = new ArrayList<>();
+        private final List<LineResult> rejected = new ArrayList<>();
+    }
+}
@@ -4,6 +4,8 @@ import com.stockmanagement.inventory.application.dto.command.ConfirmReservationC
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
 import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
@@ -20,8 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
  * 
  * FLOW:
  * 1. Find stock by ID
- * 2. Confirm reservation (domain logic)
- * 3. Save and publish events
+ * 2. Take the quantity out of the order's hold (rejected if it expired)
+ * 3. Confirm reservation (domain logic)
+ * 4. Save and publish events
  * 
  * @author InventoryX Development Team
  * @since 2026-01-12
@@ -34,14 +37,17 @@ public class ConfirmReservationUseCase {
     private final StockRepository stockRepository;
     private final StockMapper stockMapper;
     private final DomainEventPublisher eventPublisher;
+    private final ReservationHoldService reservationHolds;
 
     public ConfirmReservationUseCase(
             StockRepository stockRepository,
             StockMapper stockMapper,
-            DomainEventPublisher eventPublisher) {
+            DomainEventPublisher eventPublisher,
+            ReservationHoldService reservationHolds) {
         this.stockRepository = stockRepository;
         this.stockMapper = stockMapper;
         this.eventPublisher = eventPublisher;
+        this.reservationHolds = reservationHolds;
     }
 
     /**
@@ -49,7 +55,8 @@ public class ConfirmReservationUseCase {
      * 
      * @param command Confirm reservation command
      * @return Stock response with updated quantities
-     * @throws StockNotFoundException if stock not found
+     * @throws StockNotFoundException         if stock not found
+     * @throws InvalidStockOperationException if the order no longer holds the quantity
      */
     public StockResponse execute(ConfirmReservationCommand command) {
         log.info("Confirming reservation: stockId={}, quantity={}, orderId={}",
@@ -65,10 +72,13 @@ public class ConfirmReservationUseCase {
                     return new StockNotFoundException("Stock not found: " + command.stockId());
                 });
 
-        // 2. Execute domain logic
+        // 2. Consume hold
+        reservationHolds.consume(command.orderId(), command.stockId(), quantity);
+
+        // 3. Execute domain logic
         stock.confirmReservation(quantity, command.orderId());
 
-        // 3. Save and publish
+        // 4. Save and publish
         Stock savedStock = stockRepository.save(stock);
         eventPublisher.publish(savedStock.getDomainEvents());
         savedStock.clearDomainEvents();
@@ -0,0 +1,132 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.ExpiredHold;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.HoldKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ExpireReservationsUseCase - Returns expired reservation holds to available.
+ *
+ * USE CASE: Abandoned carts / orders that never confirm
+ *
+ * FLOW (one transaction per batch):
+ * 1. Lock the stock rows of the candidate holds, then delete the holds
+ * that are still expired (RETURNING their quantity). Stock before hold is
+ * the order reserve/confirm/release use, so expiry cannot deadlock with a
+ * reserve topping up the same hold
+ * 2. Load the affected stocks with one query (StockKey order, already locked)
+ * 3. Release each hold (domain logic, ReservationReleasedEvent)
+ * 4. Save all touched stocks and publish events (RELEASE movements)
+ *
+ * A hold that was confirmed, released or extended before step 1 is simply
+ * not returned, so expiry never races a late confirmation.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Service
+@Transactional
+public class ExpireReservationsUseCase {
+
+    private final StockReservationRepository reservationRepository;
+    private final StockRepository stockRepository;
+    private final DomainEventPublisher eventPublisher;
+
+    public ExpireReservationsUseCase(
+            StockReservationRepository reservationRepository,
+            StockRepository stockRepository,
+            DomainEventPublisher eventPublisher) {
+        this.reservationRepository = reservationRepository;
+        this.stockRepository = stockRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Expires the given holds (fired by the timing wheel).
+     *
+     * @return Number of holds expired
+     */
+    public int expire(Collection<HoldKey> keys) {
+        reservationRepository.lockStocksOf(keys);
+        return release(reservationRepository.deleteExpired(keys, Instant.now()));
+    }
+
+    /**
+     * Expires up to {@code limit} holds found in the table, oldest first.
+     *
+     * @return Number of holds expired
+     */
+    public int sweep(int limit) {
+        Instant now = Instant.now();
+        List<HoldKey> candidates = reservationRepository.findExpired(now, limit);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        reservationRepository.lockStocksOf(candidates);
+        return release(reservationRepository.deleteExpired(candidates, now));
+    }
+
+    private int release(List<ExpiredHold> expired) {
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // 2. Load (rows already locked by lockStocksOf)
+        List<StockKey> keys = expired.stream()
+                .map(hold -> StockKey.of(ProductSKU.of(hold.sku()), LocationId.of(hold.locationId())))
+                .distinct()
+                .sorted()
+                .toList();
+        Map<String, Stock> stocks = stockRepository.findAllForUpdate(keys).stream()
+                .collect(Collectors.toMap(
+                        stock -> stock.getId().value(),
+                        Function.identity(),
+                        (first, second) -> first,
+                        LinkedHashMap::new));
+
+        // 3. Release hold by hold
+        for (ExpiredHold hold : expired) {
+            Stock stock = stocks.get(hold.key().stockId());
+            Quantity quantity = Quantity.of(hold.quantity());
+            if (stock == null) {
+                continue;
+            }
+            if (!stock.getReservedQuantity().isGreaterThanOrEqual(quantity)) {
+                // Reserved was corrected by hand meanwhile; release what is left
+                log.warn("Expired hold exceeds reserved: stockId={}, orderId={}, hold={}, reserved={}",
+                        hold.key().stockId(), hold.key().orderId(), quantity, stock.getReservedQuantity());
+                quantity = stock.getReservedQuantity();
+                if (!quantity.isPositive()) {
+                    continue;
+                }
+            }
+            stock.releaseReservation(quantity, hold.key().orderId());
+        }
+
+        // 4. Save and publish
+        List<Stock> savedStocks = stockRepository.saveAll(List.copyOf(stocks.values()));
+        savedStocks.forEach(saved -> {
+            eventPublisher.publish(saved.getDomainEvents());
+            saved.clearDomainEvents();
+        });
+
+        log.debug("Expired {} reservation holds on {} stocks", expired.size(), savedStocks.size());
+        return expired.size();
+    }
+}
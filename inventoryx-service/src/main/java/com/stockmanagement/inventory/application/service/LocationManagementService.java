@@ -1,5 +1,9 @@
 package com.stockmanagement.inventory.application.service;
 
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.pagination.CursorCodec;
+import com.stockmanagement.inventory.domain.event.CatalogChangedEvent;
 import com.stockmanagement.inventory.domain.model.Location;
 import com.stockmanagement.inventory.domain.model.LocationRepository;
 import com.stockmanagement.inventory.domain.model.valueobject.LocationId;
@@ -13,12 +17,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 @Service
 @RequiredArgsConstructor
 public class LocationManagementService {
 
     private final LocationRepository locationRepository;
+    private final DomainEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<Location> getLocations(String search, Pageable pageable) {
@@ -28,6 +34,17 @@ public class LocationManagementService {
         return locationRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Location> scrollLocations(String search, String cursor, int size, boolean withTotal) {
+        boolean filtered = search != null && !search.isBlank();
+        // An estimate of the whole table would be wrong for a filtered list
+        return CursorCodec.toResponse(
+                locationRepository.scroll(filtered ? search.trim() : null, CursorCodec.decode(cursor),
+                        CursorCodec.clampSize(size)),
+                location -> location,
+                withTotal && !filtered ? locationRepository.estimateCount() : OptionalLong.empty());
+    }
+
     @Transactional(readOnly = true)
     public List<Location> getActiveLocations() {
         return locationRepository.findAllActive();
@@ -51,7 +68,7 @@ public class LocationManagementService {
                 request.getDescription(),
                 request.getAddress());
 
-        return locationRepository.save(location);
+        return published(locationRepository.save(location));
     }
 
     @Transactional
@@ -70,6 +87,14 @@ public class LocationManagementService {
                 request.getAddress(),
                 request.getStatus() != null ? request.getStatus() : location.getStatus());
 
-        return locationRepository.save(location);
+        return published(locationRepository.save(location));
+    }
+
+    /**
+     * Cached lookups of the location are evicted once the change commits.
+     */
+    private Location published(Location saved) {
+        eventPublisher.publish(List.of(CatalogChangedEvent.locationChanged(saved.getId().value())));
+        return saved;
     }
 }
@@ -1,5 +1,10 @@
 package com.stockmanagement.inventory.application.service;
 
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
+import com.stockmanagement.inventory.application.dto.response.SkuSuggestionResponse;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.pagination.CursorCodec;
+import com.stockmanagement.inventory.domain.event.CatalogChangedEvent;
 import com.stockmanagement.inventory.domain.exception.DuplicateSkuException;
 import com.stockmanagement.inventory.domain.exception.ProductNotFoundException;
 import com.stockmanagement.inventory.domain.model.Product;
@@ -13,6 +18,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 @Service
@@ -20,7 +27,11 @@ import java.util.UUID;
 @Slf4j
 public class ProductManagementService {
 
+    static final int MAX_SUGGESTIONS = 20;
+
     private final ProductRepository productRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final SkuAutocompleteIndex skuAutocompleteIndex;
 
     @Transactional
     public Product createProduct(CreateProductRequest request) {
@@ -39,7 +50,7 @@ public class ProductManagementService {
                 request.currency(),
                 request.unitOfMeasure());
 
-        return productRepository.save(product);
+        return published(productRepository.save(product));
     }
 
     @Transactional
@@ -52,7 +63,7 @@ public class ProductManagementService {
         product.updateDetails(request.name(), request.description(), request.category(), request.unitOfMeasure());
         product.updatePrice(request.price(), request.currency());
 
-        return productRepository.save(product);
+        return published(productRepository.save(product));
     }
 
     @Transactional(readOnly = true)
@@ -68,4 +79,45 @@ public class ProductManagementService {
         }
         return productRepository.findAll(pageable);
     }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Product> scrollProducts(String search, String cursor, int size, boolean withTotal) {
+        boolean filtered = search != null && !search.isBlank();
+        // An estimate of the whole table would be wrong for a filtered list
+        return CursorCodec.toResponse(
+                productRepository.scroll(filtered ? search.trim() : null, CursorCodec.decode(cursor),
+                        CursorCodec.clampSize(size)),
+                product -> product,
+                withTotal && !filtered ? productRepository.estimateCount() : OptionalLong.empty());
+    }
+
+    /**
+     * Product picker typeahead; a blank query suggests nothing.
+     */
+    @Transactional(readOnly = true)
+    public List<Product> suggestProducts(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return productRepository.suggest(query.trim(), Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * SKU prefix autocomplete (scanner stations, quick sale), served from
+     * memory.
+     */
+    public List<SkuSuggestionResponse> suggestSkus(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return skuAutocompleteIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * Cached lookups of the product are evicted once the change commits.
+     */
+    private Product published(Product saved) {
+        eventPublisher.publish(List.of(CatalogChangedEvent.productChanged(saved.getId().toString(), saved.getSku())));
+        return saved;
+    }
 }
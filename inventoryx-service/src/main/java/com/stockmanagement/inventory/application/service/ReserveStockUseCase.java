@@ -4,6 +4,7 @@ import com.stockmanagement.inventory.application.dto.command.ReserveStockCommand
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
 import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
 import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
 import com.stockmanagement.inventory.domain.model.Stock;
@@ -20,10 +21,16 @@ import org.springframework.transaction.annotation.Transactional;
  * USE CASE: Customer places order, stock allocation
  * 
  * FLOW:
- * 1. Find stock by SKU and location
- * 2. Check reservation policy
- * 3. Reserve stock (domain logic)
- * 4. Save and publish events
+ * 1. Atomically reserve via conditional UPDATE (no read-modify-write)
+ * 2. Check reservation policy on the pre-update snapshot
+ * 3. Replay reserve on the snapshot (domain invariants + events)
+ * 4. Record the order's hold (expires after the reservation TTL)
+ * 5. Publish events
+ * 
+ * CONCURRENCY:
+ * Contended reservations on a hot SKU serialize on the row lock instead of
+ * failing with optimistic lock conflicts. Any exception after step 1 rolls
+ * the UPDATE back with the transaction.
  * 
  * @author InventoryX Development Team
  * @since 2026-01-12
@@ -37,16 +44,19 @@ public class ReserveStockUseCase {
     private final ReservationPolicy reservationPolicy;
     private final StockMapper stockMapper;
     private final DomainEventPublisher eventPublisher;
+    private final ReservationHoldService reservationHolds;
 
     public ReserveStockUseCase(
             StockRepository stockRepository,
             ReservationPolicy reservationPolicy,
             StockMapper stockMapper,
-            DomainEventPublisher eventPublisher) {
+            DomainEventPublisher eventPublisher,
+            ReservationHoldService reservationHolds) {
         this.stockRepository = stockRepository;
         this.reservationPolicy = reservationPolicy;
         this.stockMapper = stockMapper;
         this.eventPublisher = eventPublisher;
+        this.reservationHolds = reservationHolds;
     }
 
     /**
@@ -61,19 +71,14 @@ public class ReserveStockUseCase {
         log.info("Reserving stock: SKU={}, location={}, quantity={}, orderId={}",
                 command.sku(), command.locationId(), command.quantity(), command.orderId());
 
-        // 1. Convert and find stock
+        // 1. Convert and reserve atomically
         ProductSKU sku = ProductSKU.of(command.sku());
         LocationId locationId = LocationId.of(command.locationId());
         Quantity quantity = Quantity.of(command.quantity());
 
         Stock stock = stockRepository
-                .findBySkuAndLocation(sku, locationId)
-                .orElseThrow(() -> {
-                    log.warn("Stock not found: SKU={}, location={}", command.sku(), command.locationId());
-                    return new StockNotFoundException(
-                            String.format("Stock not found for SKU: %s at location: %s",
-                                    sku, locationId));
-                });
+                .reserveAtomically(sku, locationId, quantity)
+                .orElseThrow(() -> rejectReservation(sku, locationId, quantity));
 
         // 2. Check policy
         if (!reservationPolicy.canReserve(stock, quantity)) {
@@ -84,17 +89,39 @@ public class ReserveStockUseCase {
                             quantity, stock.getAvailableQuantity()));
         }
 
-        // 3. Execute domain logic
+        // 3. Replay domain logic on the pre-update snapshot
         stock.reserve(quantity, command.orderId());
 
-        // 4. Save and publish
-        Stock savedStock = stockRepository.save(stock);
-        eventPublisher.publish(savedStock.getDomainEvents());
-        savedStock.clearDomainEvents();
+        // 4. Record hold
+        reservationHolds.hold(command.orderId(), stock.getId().value(), quantity);
+
+        // 5. Publish
+        eventPublisher.publish(stock.getDomainEvents());
+        stock.clearDomainEvents();
 
         log.info("Stock reserved successfully: id={}, reserved={}",
-                savedStock.getId(), savedStock.getReservedQuantity());
+                stock.getId(), stock.getReservedQuantity());
+
+        return stockMapper.toResponse(stock);
+    }
 
-        return stockMapper.toResponse(savedStock);
+    /**
+     * Explains why the conditional UPDATE matched no row.
+     */
+    private RuntimeException rejectReservation(ProductSKU sku, LocationId locationId, Quantity quantity) {
+        return stockRepository.findBySkuAndLocation(sku, locationId)
+                .<RuntimeException>map(current -> {
+                    log.warn("Insufficient stock: requested={}, available={}",
+                            quantity, current.getAvailableQuantity());
+                    return new InsufficientStockException(
+                            String.format("Cannot reserve %s. Available: %s",
+                                    quantity, current.getAvailableQuantity()));
+                })
+                .orElseGet(() -> {
+                    log.warn("Stock not found: SKU={}, location={}", sku, locationId);
+                    return new StockNotFoundException(
+                            String.format("Stock not found for SKU: %s at location: %s",
+                                    sku, locationId));
+                });
     }
 }
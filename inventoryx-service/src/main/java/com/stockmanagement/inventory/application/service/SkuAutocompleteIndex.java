@@ -0,0 +1,223 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.dto.response.SkuSuggestionResponse;
+import com.stockmanagement.inventory.domain.event.*;
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.ProductSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SkuAutocompleteIndex - In-memory SKU prefix lookup for scanner stations
+ * and quick sale.
+ *
+ * PROBLEM:
+ * Partial SKUs are resolved on every scan or keystroke; a database round
+ * trip per lookup is wasted on data that fits in memory.
+ *
+ * SOLUTION:
+ * - Every SKU with its product ID and available quantity (all locations)
+ * lives in a SkuTrie; suggest() walks the prefix and returns the first
+ * matches in SKU order - no database, no locks
+ * - New products and stock events are applied after commit (AFTER_COMMIT,
+ * so rolled back work never counts)
+ * - Built at startup from one streamed scan, not findAll(): rows go
+ * straight into the tree, no entity or list of 1M products in between
+ *
+ * RECONCILIATION:
+ * A scheduled scan ({@code reconcile-interval-ms}) corrects drift from
+ * writes that publish no event (bulk receipt, hot-stock flushes, direct
+ * SQL). SKUs that received events while the scan ran keep their live
+ * value, as in DashboardSnapshot.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class SkuAutocompleteIndex {
+
+    private final ProductSearchRepository searchRepository;
+    private final Object reconcileLock = new Object();
+
+    // Guarded by this
+    private boolean reconciling;
+    private final Set<String> touchedDuringReconcile = new HashSet<>();
+    private final List<CatalogChangedEvent> productsDuringLoad = new ArrayList<>();
+
+    // Null until the first load
+    private volatile SkuTrie trie;
+
+    public SkuAutocompleteIndex(ProductSearchRepository searchRepository) {
+        this.searchRepository = searchRepository;
+    }
+
+    // ==================== Read ====================
+
+    /**
+     * @param prefix SKU prefix, any case
+     * @return Up to limit SKUs starting with prefix, in SKU order
+     */
+    public List<SkuSuggestionResponse> suggest(String prefix, int limit) {
+        SkuTrie view = trie;
+        if (view == null) {
+            synchronized (reconcileLock) {
+                if (trie == null) {
+                    reconcile();
+                }
+            }
+            view = trie;
+        }
+
+        return view.withPrefix(prefix.trim().toUpperCase(Locale.ROOT), limit).stream()
+                .map(match -> new SkuSuggestionResponse(
+                        match.sku(),
+                        match.entry().productId().toString(),
+                        // A negative sum can only be transient drift
+                        Quantity.ofUnits(Math.max(0, match.entry().availableUnits())).toString()))
+                .toList();
+    }
+
+    // ==================== Events ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.kind() != CatalogChangedEvent.Kind.PRODUCT) {
+            return;
+        }
+        SkuTrie current;
+        synchronized (this) {
+            current = trie;
+            if (current == null) {
+                // The scan may already be past it; added once the load is published
+                productsDuringLoad.add(event);
+                return;
+            }
+        }
+        addProduct(current, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReceived(StockReceivedEvent event) {
+        apply(event.sku().value(), event.quantity().units());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReserved(StockReservedEvent event) {
+        apply(event.sku().value(), -event.quantity().units());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationReleased(ReservationReleasedEvent event) {
+        apply(event.sku().value(), event.quantity().units());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockAdjusted(StockAdjustedEvent event) {
+        apply(event.sku().value(), event.difference().units());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockWithdrawn(StockWithdrawnEvent event) {
+        apply(event.sku().value(), -event.quantity().units());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockSold(StockSoldEvent event) {
+        apply(event.sku().value(), -event.quantity().units());
+    }
+
+    // Reservation confirmations take reserved units out; available is unchanged.
+    // Transfers move available units between locations; the SKU total is unchanged.
+
+    private void apply(String sku, long deltaUnits) {
+        synchronized (this) {
+            if (reconciling) {
+                touchedDuringReconcile.add(sku);
+            }
+        }
+        SkuTrie current = trie;
+        SkuTrie.Entry entry = current != null ? current.get(sku) : null;
+        if (entry != null) {
+            entry.addAvailable(deltaUnits);
+        }
+    }
+
+    // ==================== Reconciliation ====================
+
+    /**
+     * Loads the index (first run) or corrects it from one streamed scan.
+     */
+    @Scheduled(initialDelay = 0,
+            fixedDelayString = "${inventory.sku-autocomplete.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            synchronized (this) {
+                reconciling = true;
+                touchedDuringReconcile.clear();
+            }
+            try {
+                SkuTrie current = trie;
+                if (current == null) {
+                    load();
+                } else {
+                    correct(current);
+                }
+            } finally {
+                synchronized (this) {
+                    reconciling = false;
+                    touchedDuringReconcile.clear();
+                }
+            }
+        }
+    }
+
+    private void load() {
+        long started = System.nanoTime();
+        SkuTrie.Builder builder = new SkuTrie.Builder();
+        searchRepository.forEachSkuSummary(row -> builder.add(row.sku(), UUID.fromString(row.productId()),
+                Quantity.of(row.availableQuantity()).units()));
+        SkuTrie loaded = builder.build();
+        synchronized (this) {
+            trie = loaded;
+            productsDuringLoad.forEach(event -> addProduct(loaded, event));
+            productsDuringLoad.clear();
+        }
+        log.info("SKU autocomplete index loaded: {} SKUs in {} ms", loaded.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static void addProduct(SkuTrie current, CatalogChangedEvent event) {
+        // SKUs never change, so an update finds its entry already present
+        current.insert(event.key(), UUID.fromString(event.id()), 0);
+    }
+
+    private void correct(SkuTrie current) {
+        int[] drifted = {0};
+        searchRepository.forEachSkuSummary(row -> {
+            long units = Quantity.of(row.availableQuantity()).units();
+            SkuTrie.Entry entry = current.insert(row.sku(), UUID.fromString(row.productId()), units);
+            if (entry != null && entry.availableUnits() != units && !touched(row.sku())) {
+                entry.setAvailable(units);
+                drifted[0]++;
+            }
+        });
+        if (drifted[0] > 0) {
+            log.info("SKU autocomplete index reconciled with drift on {} SKUs", drifted[0]);
+        }
+    }
+
+    private synchronized boolean touched(String sku) {
+        return touchedDuringReconcile.contains(sku);
+    }
+}
@@ -0,0 +1,342 @@
+package com.stockmanagement.inventory.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * SkuTrie - Radix tree over the SKU alphabet (A-Z, 0-9, hyphen).
+ *
+ * LAYOUT:
+ * - Characters are stored as one-byte codes 0..36 in SKU sort order
+ * ('-' < '0'..'9' < 'A'..'Z'), so a depth-first walk yields SKUs sorted
+ * - Single-child chains are collapsed into one edge label (radix), so a
+ * node exists only where SKUs branch or end
+ * - Children are a sorted byte[] of first codes plus a parallel Node[],
+ * sized to the actual fan-out instead of 37 slots
+ * - The SKU itself is not stored; it is rebuilt from the path on output
+ *
+ * CONCURRENCY:
+ * Readers are lock-free: they read the volatile root of an immutable tree.
+ * insert() copies the nodes on the path and publishes a new root
+ * (writers are serialized). Entries are shared between versions, so the
+ * available quantity is a volatile field updated with CAS, never copied.
+ * A Builder fills an unpublished tree in place for the bulk load.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+final class SkuTrie {
+
+    static final int MAX_SKU_LENGTH = 20;
+
+    private static final byte[] NO_LABEL = new byte[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private volatile Node root;
+    private volatile int size;
+
+    SkuTrie() {
+        this(new Node(NO_LABEL), 0);
+    }
+
+    private SkuTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Entry of the SKU, or null (also for SKUs outside the alphabet)
+     */
+    Entry get(String sku) {
+        byte[] key = encode(sku);
+        if (key == null) {
+            return null;
+        }
+        Node node = root;
+        int depth = 0;
+        while (true) {
+            if (!labelMatches(node.label, key, depth)) {
+                return null;
+            }
+            depth += node.label.length;
+            if (depth == key.length) {
+                return node.entry;
+            }
+            node = node.child(key[depth]);
+            if (node == null) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Adds the SKU unless present.
+     *
+     * @return The SKU's entry (existing or new); null if the SKU is invalid
+     */
+    synchronized Entry insert(String sku, UUID productId, long availableUnits) {
+        byte[] key = encode(sku);
+        if (key == null) {
+            return null;
+        }
+        Entry existing = get(sku);
+        if (existing != null) {
+            return existing;
+        }
+        Entry entry = new Entry(productId, availableUnits);
+        root = insert(root, key, 0, entry, true);
+        size++;
+        return entry;
+    }
+
+    /**
+     * SKUs starting with prefix, in SKU order.
+     */
+    List<Match> withPrefix(String prefix, int limit) {
+        List<Match> matches = new ArrayList<>(Math.min(limit, 64));
+        byte[] key = encode(prefix);
+        if (key == null || limit <= 0) {
+            return matches;
+        }
+
+        // Descend until the prefix is consumed, possibly in the middle of a label
+        Node node = root;
+        StringBuilder path = new StringBuilder(MAX_SKU_LENGTH);
+        int depth = 0;
+        while (true) {
+            int common = commonLength(node.label, key, depth);
+            if (depth + common == key.length) {
+                break;
+            }
+            if (common < node.label.length) {
+                return matches;
+            }
+            appendLabel(path, node.label);
+            depth += node.label.length;
+            node = node.child(key[depth]);
+            if (node == null) {
+                return matches;
+            }
+        }
+        collect(node, path, matches, limit);
+        return matches;
+    }
+
+    // ==================== Tree ====================
+
+    /**
+     * Inserts below node (key[depth..] not yet consumed by node's parents).
+     * With copy, changed nodes are replaced rather than modified.
+     */
+    private static Node insert(Node node, byte[] key, int depth, Entry entry, boolean copy) {
+        int common = commonLength(node.label, key, depth);
+
+        if (common < node.label.length) {
+            // Split: the label diverges from the key (or the key ends) inside it
+            Node split = new Node(Arrays.copyOf(node.label, common));
+            Node tail = node.withLabel(Arrays.copyOfRange(node.label, common, node.label.length));
+            split.keys = new byte[] {tail.label[0]};
+            split.children = new Node[] {tail};
+            if (depth + common == key.length) {
+                split.entry = entry;
+            } else {
+                split.addChild(leaf(key, depth + common, entry));
+            }
+            return split;
+        }
+
+        Node target = copy ? node.copy() : node;
+        int next = depth + common;
+        if (next == key.length) {
+            target.entry = entry;
+            return target;
+        }
+        int slot = target.slot(key[next]);
+        if (slot < 0) {
+            target.addChild(leaf(key, next, entry));
+        } else {
+            target.children[slot] = insert(target.children[slot], key, next, entry, copy);
+        }
+        return target;
+    }
+
+    private static Node leaf(byte[] key, int from, Entry entry) {
+        Node leaf = new Node(Arrays.copyOfRange(key, from, key.length));
+        leaf.entry = entry;
+        return leaf;
+    }
+
+    private static void collect(Node node, StringBuilder path, List<Match> matches, int limit) {
+        int mark = path.length();
+        appendLabel(path, node.label);
+        if (node.entry != null) {
+            matches.add(new Match(path.toString(), node.entry));
+        }
+        for (int i = 0; i < node.children.length && matches.size() < limit; i++) {
+            collect(node.children[i], path, matches, limit);
+        }
+        path.setLength(mark);
+    }
+
+    private static boolean labelMatches(byte[] label, byte[] key, int depth) {
+        return commonLength(label, key, depth) == label.length;
+    }
+
+    private static int commonLength(byte[] label, byte[] key, int depth) {
+        int max = Math.min(label.length, key.length - depth);
+        int i = 0;
+        while (i < max && label[i] == key[depth + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    // ==================== Alphabet ====================
+
+    /**
+     * @return Codes in SKU order, or null if a character is outside the alphabet
+     */
+    static byte[] encode(String sku) {
+        if (sku == null || sku.length() > MAX_SKU_LENGTH) {
+            return null;
+        }
+        byte[] codes = new byte[sku.length()];
+        for (int i = 0; i < codes.length; i++) {
+            char c = sku.charAt(i);
+            if (c == '-') {
+                codes[i] = 0;
+            } else if (c >= '0' && c <= '9') {
+                codes[i] = (byte) (1 + c - '0');
+            } else if (c >= 'A' && c <= 'Z') {
+                codes[i] = (byte) (11 + c - 'A');
+            } else {
+                return null;
+            }
+        }
+        return codes;
+    }
+
+    private static void appendLabel(StringBuilder path, byte[] label) {
+        for (byte code : label) {
+            path.append(code == 0 ? '-' : code <= 10 ? (char) ('0' + code - 1) : (char) ('A' + code - 11));
+        }
+    }
+
+    // ==================== Types ====================
+
+    /**
+     * Bulk load into a tree nobody reads yet: nodes are modified in place.
+     */
+    static final class Builder {
+
+        private final Node root = new Node(NO_LABEL);
+        private int size;
+
+        void add(String sku, UUID productId, long availableUnits) {
+            byte[] key = encode(sku);
+            if (key != null) {
+                insert(root, key, 0, new Entry(productId, availableUnits), false);
+                size++;
+            }
+        }
+
+        SkuTrie build() {
+            return new SkuTrie(root, size);
+        }
+    }
+
+    private static final class Node {
+
+        private final byte[] label;
+        private byte[] keys = NO_LABEL;
+        private Node[] children = NO_CHILDREN;
+        private Entry entry;
+
+        private Node(byte[] label) {
+            this.label = label;
+        }
+
+        private Node child(byte code) {
+            int slot = slot(code);
+            return slot < 0 ? null : children[slot];
+        }
+
+        private int slot(byte code) {
+            return Arrays.binarySearch(keys, code);
+        }
+
+        private void addChild(Node child) {
+            int at = -(slot(child.label[0]) + 1);
+            byte[] newKeys = new byte[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = child.label[0];
+            newChildren[at] = child;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private Node copy() {
+            return withLabel(label);
+        }
+
+        private Node withLabel(byte[] newLabel) {
+            Node copy = new Node(newLabel);
+            copy.keys = keys;
+            copy.children = children.clone();
+            copy.entry = entry;
+            return copy;
+        }
+    }
+
+    /**
+     * Product and available-quantity summary of one SKU.
+     */
+    static final class Entry {
+
+        private static final AtomicLongFieldUpdater<Entry> AVAILABLE = AtomicLongFieldUpdater
+                .newUpdater(Entry.class, "availableUnits");
+
+        private final long productIdHigh;
+        private final long productIdLow;
+        private volatile long availableUnits;
+
+        private Entry(UUID productId, long availableUnits) {
+            this.productIdHigh = productId.getMostSignificantBits();
+            this.productIdLow = productId.getLeastSignificantBits();
+            this.availableUnits = availableUnits;
+        }
+
+        UUID productId() {
+            return new UUID(productIdHigh, productIdLow);
+        }
+
+        /**
+         * Sum of available quantity over all locations, in 10^-4 units.
+         */
+        long availableUnits() {
+            return availableUnits;
+        }
+
+        void addAvailable(long deltaUnits) {
+            AVAILABLE.addAndGet(this, deltaUnits);
+        }
+
+        void setAvailable(long units) {
+            availableUnits = units;
+        }
+    }
+
+    record Match(String sku, Entry entry) {
+    }
+}
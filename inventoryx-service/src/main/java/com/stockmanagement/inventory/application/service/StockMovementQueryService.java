@@ -1,25 +1,43 @@
 package com.stockmanagement.inventory.application.service;
 
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
 import com.stockmanagement.inventory.application.dto.response.StockMovementResponse;
 import com.stockmanagement.inventory.application.mapper.StockMovementMapper;
-import com.stockmanagement.inventory.infrastructure.persistence.entity.StockMovementEntity;
-import com.stockmanagement.inventory.infrastructure.persistence.repository.JpaStockMovementRepository;
+import com.stockmanagement.inventory.application.pagination.CursorCodec;
+import com.stockmanagement.inventory.domain.exception.InvalidCursorException;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementHistoryRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementHistoryRepository.MovementRow;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementHistoryRepository.PageKey;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * StockMovementQueryService - Handles read-only stock movement queries.
- * 
+ *
  * CQRS Pattern: Query Service for READ operations only.
- * 
+ *
  * QUERIES:
- * - Get all movements for a stock (ordered by date desc)
- * 
+ * - Movement history of a stock: newest first, keyset (cursor) pages,
+ * optional time range [from, to) and movement type filters
+ *
+ * WHY KEYSET?
+ * History is append-only and unbounded. The cursor carries the
+ * (performedAt, id) of the last row, so page N costs the same as page 1
+ * and rows inserted meanwhile never shift a page.
+ *
  * READ-ONLY: No modifications, no events
- * 
+ *
  * @author InventoryX Development Team
  * @since 2026-01-15
  */
@@ -28,29 +46,97 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class StockMovementQueryService {
 
-    private final JpaStockMovementRepository movementRepository;
+    static final Set<String> MOVEMENT_TYPES = Set.of(
+            "RECEIPT", "RESERVATION", "RELEASE", "CONFIRMATION",
+            "SALE", "TRANSFER", "ADJUSTMENT", "WITHDRAWAL");
+
+    private static final String CURSOR_PERFORMED_AT = "performedAt";
+    private static final String CURSOR_ID = "id";
+
+    private final StockMovementHistoryRepository historyRepository;
     private final StockMovementMapper mapper;
 
     public StockMovementQueryService(
-            JpaStockMovementRepository movementRepository,
+            StockMovementHistoryRepository historyRepository,
             StockMovementMapper mapper) {
-        this.movementRepository = movementRepository;
+        this.historyRepository = historyRepository;
         this.mapper = mapper;
     }
 
     /**
-     * Gets all movements for a stock, ordered by date descending.
-     * 
+     * Gets one page of a stock's movements, ordered by date descending.
+     *
      * USE CASE: View movement history on Stock Detail page
-     * 
+     *
      * @param stockId Stock ID
-     * @return List of movements (newest first)
+     * @param from    Inclusive start of the time range (optional)
+     * @param to      Exclusive end of the time range (optional)
+     * @param types   Movement types to include (optional, empty = all)
+     * @param cursor  nextCursor of the previous page (optional)
+     * @param size    Page size (clamped to 1..100)
+     * @return Page of movements (newest first)
+     * @throws InvalidStockOperationException if the range or a type is invalid
+     * @throws InvalidCursorException         if the cursor is malformed
      */
-    public List<StockMovementResponse> getMovementsByStockId(String stockId) {
-        log.debug("Fetching movements for stockId: {}", stockId);
-        List<StockMovementEntity> movements = movementRepository
-                .findByStock_IdOrderByPerformedAtDesc(stockId);
-        log.debug("Found {} movements for stockId: {}", movements.size(), stockId);
-        return mapper.toResponseList(movements);
+    public CursorPageResponse<StockMovementResponse> getMovements(String stockId, Instant from, Instant to,
+            List<String> types, String cursor, int size) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidStockOperationException("'from' must be before 'to'");
+        }
+        Set<String> typeFilter = normalizeTypes(types);
+        int pageSize = CursorCodec.clampSize(size);
+
+        // One extra row tells whether another page exists
+        List<MovementRow> rows = historyRepository.findPage(stockId, from, to, typeFilter,
+                decodeCursor(cursor), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<MovementRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MovementRow last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(Map.of(
+                    CURSOR_PERFORMED_AT, last.performedAt().toString(),
+                    CURSOR_ID, last.id()));
+        }
+        log.debug("Fetched {} movements for stockId: {} (hasNext={})", page.size(), stockId, hasNext);
+
+        List<StockMovementResponse> content = page.stream().map(mapper::toResponse).toList();
+        return new CursorPageResponse<>(content, content.size(), nextCursor, hasNext, null);
+    }
+
+    private static Set<String> normalizeTypes(List<String> types) {
+        Set<String> normalized = new TreeSet<>();
+        if (types == null) {
+            return normalized;
+        }
+        for (String type : types) {
+            if (type == null || type.isBlank()) {
+                continue;
+            }
+            String value = type.trim().toUpperCase(Locale.ROOT);
+            if (!MOVEMENT_TYPES.contains(value)) {
+                throw new InvalidStockOperationException("Unknown movement type: " + type);
+            }
+            normalized.add(value);
+        }
+        return normalized;
+    }
+
+    private static PageKey decodeCursor(String cursor) {
+        if (!(CursorCodec.decode(cursor) instanceof KeysetScrollPosition position)
+                || position.isInitial()) {
+            return null;
+        }
+        Map<String, Object> keys = position.getKeys();
+        if (!(keys.get(CURSOR_PERFORMED_AT) instanceof String performedAt)
+                || !(keys.get(CURSOR_ID) instanceof String id)) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+        try {
+            return new PageKey(Instant.parse(performedAt), id);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
     }
 }
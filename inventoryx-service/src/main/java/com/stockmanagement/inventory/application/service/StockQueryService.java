@@ -1,7 +1,9 @@
 package com.stockmanagement.inventory.application.service;
 
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.pagination.CursorCodec;
 import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * StockQueryService - Handles read-only stock queries.
@@ -22,6 +25,7 @@ import java.util.List;
  * - Get stock by SKU and location
  * - Get all stock for a SKU (across locations)
  * - Get all stock at a location
+ * - Scroll all stock (keyset cursor)
  * 
  * READ-ONLY: No modifications, no events
  * 
@@ -142,4 +146,23 @@ public class StockQueryService {
         log.debug("Found {} of {} total stock records", content.size(), stockPage.getTotalElements());
         return com.stockmanagement.inventory.application.dto.response.PagedStockResponse.from(stockPage, content);
     }
+
+    /**
+     * Scrolls all stock with an opaque cursor (keyset pagination).
+     * 
+     * Unlike getAllPaged, cost does not grow with depth and no COUNT(*) runs.
+     * 
+     * @param cursor    Cursor from the previous page (null for the first page)
+     * @param size      Page size (clamped to 1..100)
+     * @param withTotal Include the planner row estimate
+     * @return Cursor page of stock responses
+     */
+    public CursorPageResponse<StockResponse> scroll(String cursor, int size, boolean withTotal) {
+        int limit = CursorCodec.clampSize(size);
+        log.debug("Scrolling stock: size={}, first={}", limit, cursor == null);
+        return CursorCodec.toResponse(
+                stockRepository.scroll(CursorCodec.decode(cursor), limit),
+                stockMapper::toResponse,
+                withTotal ? stockRepository.estimateCount() : OptionalLong.empty());
+    }
 }
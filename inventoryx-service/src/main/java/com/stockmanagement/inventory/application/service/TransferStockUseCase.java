@@ -0,0 +1,194 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.dto.command.BatchTransferStockCommand;
+import com.stockmanagement.inventory.application.dto.command.TransferStockCommand;
+import com.stockmanagement.inventory.application.dto.response.StockTransferResponse;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.domain.exception.LocationNotFoundException;
+import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
+import com.stockmanagement.inventory.domain.model.Location;
+import com.stockmanagement.inventory.domain.model.LocationRepository;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * TransferStockUseCase - Moves stock between locations in one transaction.
+ *
+ * USE CASE: Warehouse to store replenishment, rebalancing jobs (thousands of
+ * lines per call)
+ *
+ * FLOW:
+ * 1. Convert lines to source/destination StockKeys + Quantity
+ * 2. Load and lock every source and destination stock with one query
+ * (StockKey order, so concurrent transfers cannot deadlock)
+ * 3. Create destination stocks that do not exist yet (location must exist
+ * and be active)
+ * 4. Apply transferOut / transferIn line by line, in input order
+ * 5. Save all stocks; the paired TRANSFER movements of every line go out as
+ * one JDBC batch at commit (StockMovementLedgerWriter)
+ *
+ * ATOMICITY:
+ * Any missing source, unknown destination or insufficient quantity throws,
+ * which rolls back every line. Both movement rows share the transferId as
+ * reference.
+ *
+ * CONCURRENCY:
+ * A destination stock created here is not locked by step 2; a concurrent
+ * first receipt of the same SKU at that location makes one of the two
+ * transactions fail on uk_stock_sku_location (retry).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Service
+@Transactional
+public class TransferStockUseCase {
+
+    private final StockRepository stockRepository;
+    private final LocationRepository locationRepository;
+    private final StockMapper stockMapper;
+
+    public TransferStockUseCase(
+            StockRepository stockRepository,
+            LocationRepository locationRepository,
+            StockMapper stockMapper) {
+        this.stockRepository = stockRepository;
+        this.locationRepository = locationRepository;
+        this.stockMapper = stockMapper;
+    }
+
+    /**
+     * Transfers one SKU between two locations.
+     *
+     * @param command Transfer command
+     * @return Transfer reference with the source and destination stock
+     */
+    public StockTransferResponse execute(TransferStockCommand command) {
+        return transfer(List.of(new BatchTransferStockCommand.Line(command.sku(), command.fromLocationId(),
+                command.toLocationId(), command.quantity())), command.reason(), command.performedBy());
+    }
+
+    /**
+     * Transfers every line or none.
+     *
+     * @param command Batch transfer command
+     * @return Transfer reference with every changed stock, in lock order
+     * @throws StockNotFoundException         if a source stock is missing
+     * @throws LocationNotFoundException      if a destination location is unknown
+     * @throws InsufficientStockException     if a line cannot be moved
+     * @throws InvalidStockOperationException if a line moves to its own location or
+     *                                        to an inactive location
+     */
+    public StockTransferResponse execute(BatchTransferStockCommand command) {
+        return transfer(command.lines(), command.reason(), command.performedBy());
+    }
+
+    private StockTransferResponse transfer(List<BatchTransferStockCommand.Line> commandLines, String reason,
+            String performedBy) {
+        String transferId = UUID.randomUUID().toString();
+        log.info("Transferring stock: transferId={}, lines={}", transferId, commandLines.size());
+
+        // 1. Convert lines
+        List<TransferLine> lines = commandLines.stream()
+                .map(line -> {
+                    ProductSKU sku = ProductSKU.of(line.sku());
+                    TransferLine converted = new TransferLine(
+                            StockKey.of(sku, LocationId.of(line.fromLocationId())),
+                            StockKey.of(sku, LocationId.of(line.toLocationId())),
+                            Quantity.of(line.quantity()));
+                    if (converted.from().equals(converted.to())) {
+                        throw new InvalidStockOperationException(
+                                "Cannot transfer stock to its own location: " + converted.from());
+                    }
+                    return converted;
+                })
+                .toList();
+
+        // 2. Load and lock sources and destinations in one round trip
+        Map<StockKey, Stock> stocks = stockRepository
+                .findAllForUpdate(lines.stream().flatMap(line -> Stream.of(line.from(), line.to())).toList())
+                .stream()
+                .collect(Collectors.toMap(
+                        stock -> StockKey.of(stock.getSku(), stock.getLocationId()),
+                        Function.identity(),
+                        (first, second) -> first,
+                        LinkedHashMap::new));
+
+        // 3. Create missing destinations (same product and unit as the source),
+        // in input order so a later line may move on what an earlier one brought
+        List<StockKey> missing = new ArrayList<>();
+        int created = 0;
+        Map<LocationId, Location> checkedLocations = new LinkedHashMap<>();
+        for (TransferLine line : lines) {
+            Stock source = stocks.get(line.from());
+            if (source == null) {
+                missing.add(line.from());
+            } else if (!stocks.containsKey(line.to())) {
+                requireActiveLocation(line.to().locationId(), checkedLocations);
+                stocks.put(line.to(), Stock.create(source.getProductId(), source.getSku(),
+                        line.to().locationId(), source.getUnitOfMeasure()));
+                created++;
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.warn("Source stock not found for transfer {}: {}", transferId, missing);
+            throw new StockNotFoundException("Stock not found for: " + missing.stream().distinct().toList());
+        }
+
+        // 4. Move line by line
+        for (TransferLine line : lines) {
+            Stock source = stocks.get(line.from());
+            if (!source.getAvailableQuantity().isGreaterThanOrEqual(line.quantity())) {
+                log.warn("Insufficient stock for transfer {}: key={}, requested={}, available={}",
+                        transferId, line.from(), line.quantity(), source.getAvailableQuantity());
+                throw new InsufficientStockException(
+                        String.format("Cannot transfer %s of %s. Available: %s",
+                                line.quantity(), line.from(), source.getAvailableQuantity()));
+            }
+            source.transferOut(line.quantity(), line.to().locationId(), transferId, reason, performedBy);
+            stocks.get(line.to()).transferIn(line.quantity(), line.from().locationId(), transferId, reason,
+                    performedBy);
+        }
+
+        // 5. Save (the repository publishes the events): locked rows in lock
+        // order, then the new destinations
+        List<Stock> savedStocks = stockRepository.saveAll(List.copyOf(stocks.values()));
+
+        log.info("Stock transferred successfully: transferId={}, lines={}, stocks={}, created={}",
+                transferId, lines.size(), savedStocks.size(), created);
+
+        return new StockTransferResponse(transferId, lines.size(), stockMapper.toResponseList(savedStocks));
+    }
+
+    private void requireActiveLocation(LocationId locationId, Map<LocationId, Location> checked) {
+        Location location = checked.get(locationId);
+        if (location == null) {
+            location = locationRepository.findById(locationId)
+                    .orElseThrow(() -> new LocationNotFoundException(
+                            "Location not found with id: " + locationId.value()));
+            checked.put(locationId, location);
+        }
+        if (location.getStatus() != Location.LocationStatus.ACTIVE) {
+            throw new InvalidStockOperationException("Cannot transfer to inactive location: " + locationId.value());
+        }
+    }
+
+    private record TransferLine(StockKey from, StockKey to, Quantity quantity) {
+    }
+}
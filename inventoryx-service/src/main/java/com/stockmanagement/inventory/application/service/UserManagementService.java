@@ -1,9 +1,13 @@
 package com.stockmanagement.inventory.application.service;
 
 import com.stockmanagement.inventory.application.annotation.Auditable;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.dto.command.RegisterUserCommand;
 import com.stockmanagement.inventory.application.dto.command.UpdateUserCommand;
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
 import com.stockmanagement.inventory.application.dto.response.UserResponse;
+import com.stockmanagement.inventory.application.pagination.CursorCodec;
+import com.stockmanagement.inventory.domain.event.UserAccessChangedEvent;
 import com.stockmanagement.inventory.domain.model.Role;
 import com.stockmanagement.inventory.domain.model.User;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
@@ -19,6 +23,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 @Service
@@ -28,6 +34,7 @@ public class UserManagementService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DomainEventPublisher eventPublisher;
 
     @Transactional
     @Auditable(action = "REGISTER_USER", resource = "USER")
@@ -65,6 +72,17 @@ public class UserManagementService {
                 .map(this::mapToResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> scrollUsers(String search, String cursor, int size, boolean withTotal) {
+        boolean filtered = search != null && !search.isBlank();
+        // An estimate of the whole table would be wrong for a filtered list
+        return CursorCodec.toResponse(
+                userRepository.scroll(filtered ? search.trim() : null, CursorCodec.decode(cursor),
+                        CursorCodec.clampSize(size)),
+                this::mapToResponse,
+                withTotal && !filtered ? userRepository.estimateCount() : OptionalLong.empty());
+    }
+
     @Transactional
     @Auditable(action = "UPDATE_USER", resource = "USER")
     public void updateUser(UUID userId, UpdateUserCommand command) {
@@ -86,6 +104,11 @@ public class UserManagementService {
         }
 
         userRepository.save(user);
+
+        if (command.roleName() != null && !command.roleName().isBlank()) {
+            // Cached authorities are evicted after commit
+            eventPublisher.publish(List.of(new UserAccessChangedEvent(user.getUsername().value())));
+        }
     }
 
     @Transactional
@@ -100,6 +123,8 @@ public class UserManagementService {
             user.activate();
         }
         userRepository.save(user);
+
+        eventPublisher.publish(List.of(new UserAccessChangedEvent(user.getUsername().value())));
     }
 
     private UserResponse mapToResponse(User user) {
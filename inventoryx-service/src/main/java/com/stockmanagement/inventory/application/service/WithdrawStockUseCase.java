@@ -4,6 +4,7 @@ import com.stockmanagement.inventory.application.dto.command.WithdrawStockComman
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
 import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
@@ -18,12 +19,14 @@ import org.springframework.transaction.annotation.Transactional;
  * USE CASE: Department requisition, material consumption, internal usage
  * 
  * FLOW:
- * 1. Find stock by ID
- * 2. Validate sufficient available quantity
- * 3. Execute domain logic (stock.withdraw)
- * 4. Save aggregate
- * 5. Publish domain events
- * 6. Return response DTO
+ * 1. Atomically deduct via conditional UPDATE (no read-modify-write)
+ * 2. Replay domain logic (stock.withdraw) on the pre-update snapshot
+ * 3. Publish domain events
+ * 4. Return response DTO
+ * 
+ * CONCURRENCY:
+ * Contended requests on a hot SKU serialize on the row lock instead of
+ * failing with optimistic lock conflicts.
  * 
  * @author InventoryX Development Team
  * @since 2026-01-16
@@ -51,38 +54,50 @@ public class WithdrawStockUseCase {
      * 
      * @param command Withdraw stock command
      * @return Stock response with updated quantities
-     * @throws StockNotFoundException if stock not found
+     * @throws StockNotFoundException     if stock not found
+     * @throws InsufficientStockException if not enough stock available
      */
     public StockResponse execute(WithdrawStockCommand command) {
         log.info("Withdrawing stock: stockId={}, quantity={}, department={}",
                 command.stockId(), command.quantity(), command.department());
 
-        // 1. Find stock by ID
+        // 1. Convert and deduct atomically
         StockId stockId = StockId.of(command.stockId());
-        Stock stock = stockRepository.findById(stockId)
-                .orElseThrow(() -> {
-                    log.warn("Stock not found: {}", command.stockId());
-                    return new StockNotFoundException("Stock not found: " + command.stockId());
-                });
-
-        // 2. Convert quantity to Value Object
         Quantity quantity = Quantity.of(command.quantity());
 
-        // 3. Execute domain logic
+        Stock stock = stockRepository.deductAtomically(stockId, quantity)
+                .orElseThrow(() -> rejectDeduction(stockId, quantity));
+
+        // 2. Replay domain logic on the pre-update snapshot
         stock.withdraw(quantity, command.department(),
                 command.reason(), command.performedBy());
 
-        // 4. Save aggregate
-        Stock savedStock = stockRepository.save(stock);
-
-        // 5. Publish events
-        eventPublisher.publish(savedStock.getDomainEvents());
-        savedStock.clearDomainEvents();
+        // 3. Publish events
+        eventPublisher.publish(stock.getDomainEvents());
+        stock.clearDomainEvents();
 
         log.info("Stock withdrawn successfully: id={}, remainingAvailable={}",
-                savedStock.getId(), savedStock.getAvailableQuantity());
+                stock.getId(), stock.getAvailableQuantity());
 
-        // 6. Return DTO
-        return stockMapper.toResponse(savedStock);
+        // 4. Return DTO
+        return stockMapper.toResponse(stock);
+    }
+
+    /**
+     * Explains why the conditional UPDATE matched no row.
+     */
+    private RuntimeException rejectDeduction(StockId stockId, Quantity quantity) {
+        return stockRepository.findById(stockId)
+                .<RuntimeException>map(current -> {
+                    log.warn("Insufficient stock: requested={}, available={}",
+                            quantity, current.getAvailableQuantity());
+                    return new InsufficientStockException(
+                            String.format("Cannot withdraw %s. Available: %s",
+                                    quantity, current.getAvailableQuantity()));
+                })
+                .orElseGet(() -> {
+                    log.warn("Stock not found: {}", stockId);
+                    return new StockNotFoundException("Stock not found: " + stockId.value());
+                });
     }
 }
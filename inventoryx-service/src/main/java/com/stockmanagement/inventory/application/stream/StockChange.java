@@ -0,0 +1,33 @@
+package com.stockmanagement.inventory.application.stream;
+
+import java.time.Instant;
+
+/**
+ * StockChange - State of one stock after a committed change, as streamed
+ * to subscribers.
+ *
+ * Carries the full quantities rather than the delta, so a newer change of
+ * the same stock supersedes an older one that was not delivered yet.
+ *
+ * FIELDS:
+ * - eventId: Position in the change feed ("<epoch>-<sequence>"), sent as
+ * the SSE id and accepted back as Last-Event-ID
+ * - type: Last change (RECEIPT, RESERVATION, RELEASE, CONFIRMATION,
+ * ADJUSTMENT, WITHDRAWAL, SALE, TRANSFER)
+ * - availableQuantity / reservedQuantity: Quantities after the change
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record StockChange(
+        String eventId,
+        String type,
+        String stockId,
+        String sku,
+        String locationId,
+        String availableQuantity,
+        String reservedQuantity,
+        String unitOfMeasure,
+        Long version,
+        Instant occurredOn) {
+}
@@ -0,0 +1,487 @@
+package com.stockmanagement.inventory.application.stream;
+
+import com.stockmanagement.inventory.domain.event.*;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.StockId;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import com.stockmanagement.inventory.infrastructure.config.BackgroundThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * StockChangeFeed - Live stock changes for streaming clients (GET
+ * /stocks/stream).
+ *
+ * FLOW:
+ * 1. Stock domain events are queued after commit (AFTER_COMMIT, so rolled
+ * back work is never streamed); a bulk receipt queues each touched stock
+ * 2. The dispatcher thread takes them in batches, loads the current state
+ * of the touched stocks in one query (from the primary) and gives each
+ * change the next sequence number
+ * 3. Every subscription whose filter matches gets the change in its own
+ * bounded buffer; a delivery task writes the buffer to the client
+ *
+ * SLOW CONSUMERS:
+ * A buffer holds at most {@code buffer-size} stocks. A newer change of a
+ * stock still in the buffer replaces it (changes carry full quantities,
+ * so the older one is superseded). If a client falls behind on more
+ * distinct stocks than that, its buffer is dropped and it receives a
+ * reset: reload, then continue. Delivery blocks only the subscription's
+ * own task, never the dispatcher or other subscribers.
+ *
+ * RESUME:
+ * Event IDs are "<epoch>-<sequence>". The last {@code replay-size} changes
+ * are kept; a client reconnecting with Last-Event-ID from this instance
+ * within that window gets what it missed (latest per stock), otherwise a
+ * reset.
+ *
+ * IDLE CONNECTIONS:
+ * An idle subscription is a buffer and a parked async response - no
+ * thread. Delivery tasks always run on virtual threads, whatever
+ * spring.threads.virtual.enabled says: a send to a stalled client blocks
+ * until the socket times out, and on a fixed platform pool a few such
+ * clients would stall delivery to everyone else.
+ *
+ * METRICS:
+ * - inventory.stock-stream.subscribers (gauge)
+ * - inventory.stock-stream.changes (counter)
+ * - inventory.stock-stream.coalesced (counter, superseded before delivery)
+ * - inventory.stock-stream.resets (counter)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class StockChangeFeed {
+
+    static final int DISPATCH_BATCH_SIZE = 500;
+    private static final int PENDING_CAPACITY = 100_000;
+
+    private final StockRepository stockRepository;
+    private final TransactionTemplate primaryRead;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final boolean virtualThreads;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final BlockingQueue<PendingChange> pending = new LinkedBlockingQueue<>(PENDING_CAPACITY);
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final Counter changesCounter;
+    private final Counter coalescedCounter;
+    private final Counter resetsCounter;
+
+    // Guarded by this
+    private final StockChange[] replay;
+    private long sequence;
+
+    private volatile boolean pendingOverflowed;
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService delivery;
+
+    public StockChangeFeed(
+            StockRepository stockRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.stock-stream.replay-size:10000}") int replaySize,
+            @Value("${inventory.stock-stream.buffer-size:256}") int bufferSize,
+            @Value("${inventory.stock-stream.max-subscribers:10000}") int maxSubscribers,
+            @Value(BackgroundThreads.VIRTUAL_THREADS_PROPERTY) boolean virtualThreads) {
+        this.stockRepository = stockRepository;
+        // Not read-only: read-only transactions may go to a replica that has
+        // not replayed the change yet
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.replay = new StockChange[replaySize];
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.virtualThreads = virtualThreads;
+
+        Gauge.builder("inventory.stock-stream.subscribers", subscriptions, Set::size)
+                .description("Open stock change streams")
+                .register(meterRegistry);
+        this.changesCounter = Counter.builder("inventory.stock-stream.changes")
+                .description("Stock changes published to the stream")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("inventory.stock-stream.coalesced")
+                .description("Undelivered changes replaced by a newer change of the same stock")
+                .register(meterRegistry);
+        this.resetsCounter = Counter.builder("inventory.stock-stream.resets")
+                .description("Subscribers told to reload (buffer overflow, resume point lost)")
+                .register(meterRegistry);
+    }
+
+    // ==================== Lifecycle ====================
+
+    @PostConstruct
+    void start() {
+        delivery = Executors.newThreadPerTaskExecutor(BackgroundThreads.factory("stock-stream-delivery", true));
+        running = true;
+        dispatcher = BackgroundThreads.start("stock-stream-dispatcher", virtualThreads, this::dispatchLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        subscriptions.forEach(Subscription::close);
+        delivery.shutdownNow();
+    }
+
+    // ==================== Subscribe ====================
+
+    /**
+     * @param lastEventId Last-Event-ID of a reconnecting client, or null
+     * @return Empty when {@code max-subscribers} streams are already open
+     */
+    public synchronized Optional<Subscription> subscribe(StockChangeFilter filter, String lastEventId,
+            StockChangeSink sink) {
+        if (subscriptions.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+
+        Subscription subscription = new Subscription(filter, sink);
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            OptionalLong resumeAfter = parseEventId(lastEventId);
+            long oldestRetained = Math.max(1, sequence - replay.length + 1);
+            if (resumeAfter.isPresent() && resumeAfter.getAsLong() >= oldestRetained - 1
+                    && resumeAfter.getAsLong() <= sequence) {
+                for (long seq = resumeAfter.getAsLong() + 1; seq <= sequence; seq++) {
+                    StockChange change = replay[slot(seq)];
+                    if (filter.matches(change)) {
+                        subscription.offer(change);
+                    }
+                }
+            } else {
+                subscription.requestReset(eventId(sequence));
+            }
+        }
+        subscriptions.add(subscription);
+        return Optional.of(subscription);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.stock-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        // Keeps proxies from closing idle streams and detects dead clients
+        subscriptions.forEach(Subscription::requestHeartbeat);
+    }
+
+    // ==================== Events ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReceived(StockReceivedEvent event) {
+        enqueue(event.stockId(), "RECEIPT", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockReserved(StockReservedEvent event) {
+        enqueue(event.stockId(), "RESERVATION", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationReleased(ReservationReleasedEvent event) {
+        enqueue(event.stockId(), "RELEASE", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationConfirmed(ReservationConfirmedEvent event) {
+        enqueue(event.stockId(), "CONFIRMATION", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockAdjusted(StockAdjustedEvent event) {
+        enqueue(event.stockId(), "ADJUSTMENT", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockWithdrawn(StockWithdrawnEvent event) {
+        enqueue(event.stockId(), "WITHDRAWAL", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockSold(StockSoldEvent event) {
+        enqueue(event.stockId(), "SALE", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockTransferredOut(StockTransferredOutEvent event) {
+        enqueue(event.stockId(), "TRANSFER", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockTransferredIn(StockTransferredInEvent event) {
+        enqueue(event.stockId(), "TRANSFER", event.occurredOn());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockBulkReceived(StockBulkReceivedEvent event) {
+        event.stockIds().forEach(stockId -> enqueue(stockId, "RECEIPT", event.occurredOn()));
+    }
+
+    private void enqueue(StockId stockId, String type, Instant occurredOn) {
+        if (!pending.offer(new PendingChange(stockId, type, occurredOn))) {
+            // Never block the committing thread; subscribers reload instead
+            pendingOverflowed = true;
+        }
+    }
+
+    // ==================== Dispatch ====================
+
+    private void dispatchLoop() {
+        List<PendingChange> batch = new ArrayList<>(DISPATCH_BATCH_SIZE);
+        while (running) {
+            try {
+                PendingChange first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, DISPATCH_BATCH_SIZE - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Stock stream dispatch failed, subscribers will reload: {}", e.getMessage());
+                resetAll();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Publishes one batch of committed changes.
+     */
+    void dispatch(List<PendingChange> batch) {
+        // Latest change per stock, in order of its last change
+        Map<StockId, PendingChange> latest = new LinkedHashMap<>();
+        for (PendingChange change : batch) {
+            latest.remove(change.stockId());
+            latest.put(change.stockId(), change);
+        }
+        Map<StockId, Stock> stocks = primaryRead.execute(status -> stockRepository.findAllById(latest.keySet()))
+                .stream()
+                .collect(Collectors.toMap(Stock::getId, Function.identity()));
+
+        if (pendingOverflowed) {
+            pendingOverflowed = false;
+            resetAll();
+        }
+
+        synchronized (this) {
+            for (PendingChange change : latest.values()) {
+                Stock stock = stocks.get(change.stockId());
+                if (stock == null) {
+                    continue;
+                }
+                long seq = ++sequence;
+                StockChange published = new StockChange(
+                        eventId(seq),
+                        change.type(),
+                        stock.getId().value(),
+                        stock.getSku().value(),
+                        stock.getLocationId().value(),
+                        stock.getAvailableQuantity().toString(),
+                        stock.getReservedQuantity().toString(),
+                        stock.getUnitOfMeasure().name(),
+                        stock.getVersion(),
+                        change.occurredOn());
+                replay[slot(seq)] = published;
+                changesCounter.increment();
+                for (Subscription subscription : subscriptions) {
+                    if (subscription.filter.matches(published)) {
+                        subscription.offer(published);
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized void resetAll() {
+        String position = eventId(sequence);
+        subscriptions.forEach(subscription -> subscription.requestReset(position));
+    }
+
+    // ==================== Event IDs ====================
+
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    /**
+     * @return Sequence of an event ID issued by this instance
+     */
+    private OptionalLong parseEventId(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash <= 0 || !eventId.substring(0, dash).equals(epoch)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(eventId.substring(dash + 1)));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private int slot(long seq) {
+        return (int) (seq % replay.length);
+    }
+
+    record PendingChange(StockId stockId, String type, Instant occurredOn) {
+    }
+
+    // ==================== Subscription ====================
+
+    /**
+     * One client: a bounded, coalescing buffer and at most one delivery
+     * task at a time.
+     */
+    public final class Subscription {
+
+        private final StockChangeFilter filter;
+        private final StockChangeSink sink;
+
+        // Guarded by this; keyed by stock ID, ordered by latest change
+        private final LinkedHashMap<String, StockChange> buffer = new LinkedHashMap<>();
+        private String resetEventId;
+        private boolean heartbeatPending;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscription(StockChangeFilter filter, StockChangeSink sink) {
+            this.filter = filter;
+            this.sink = sink;
+        }
+
+        /**
+         * Ends the subscription (client gone, completed or timed out).
+         */
+        public void cancel() {
+            synchronized (this) {
+                closed = true;
+                buffer.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        private void offer(StockChange change) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.remove(change.stockId()) != null) {
+                    coalescedCounter.increment();
+                } else if (buffer.size() >= bufferSize) {
+                    // Too far behind: everything buffered is stale anyway
+                    buffer.clear();
+                    resetEventId = change.eventId();
+                    resetsCounter.increment();
+                    scheduleDelivery();
+                    return;
+                }
+                buffer.put(change.stockId(), change);
+                scheduleDelivery();
+            }
+        }
+
+        private void requestReset(String position) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                buffer.clear();
+                resetEventId = position;
+                resetsCounter.increment();
+                scheduleDelivery();
+            }
+        }
+
+        private void requestHeartbeat() {
+            synchronized (this) {
+                if (closed || draining) {
+                    return;
+                }
+                heartbeatPending = true;
+                scheduleDelivery();
+            }
+        }
+
+        // Caller holds this
+        private void scheduleDelivery() {
+            if (!draining && delivery != null) {
+                draining = true;
+                delivery.execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            while (true) {
+                List<StockChange> changes;
+                String reset;
+                boolean beat;
+                synchronized (this) {
+                    if (closed || (buffer.isEmpty() && resetEventId == null && !heartbeatPending)) {
+                        draining = false;
+                        return;
+                    }
+                    changes = new ArrayList<>(buffer.values());
+                    buffer.clear();
+                    reset = resetEventId;
+                    resetEventId = null;
+                    beat = heartbeatPending;
+                    heartbeatPending = false;
+                }
+                try {
+                    if (reset != null) {
+                        sink.reset(reset);
+                    }
+                    if (!changes.isEmpty()) {
+                        sink.send(changes);
+                    } else if (beat && reset == null) {
+                        sink.heartbeat();
+                    }
+                } catch (Exception e) {
+                    log.debug("Stock stream subscriber dropped: {}", e.getMessage());
+                    cancel();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            cancel();
+            sink.close();
+        }
+    }
+}
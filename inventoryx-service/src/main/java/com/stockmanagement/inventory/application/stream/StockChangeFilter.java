@@ -0,0 +1,28 @@
+package com.stockmanagement.inventory.application.stream;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * StockChangeFilter - Which changes a subscriber receives.
+ *
+ * An empty set does not restrict; SKU and location must both match.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record StockChangeFilter(Set<String> skus, Set<String> locationIds) {
+
+    public static final StockChangeFilter ALL = new StockChangeFilter(Set.of(), Set.of());
+
+    public static StockChangeFilter of(Collection<String> skus, Collection<String> locationIds) {
+        return new StockChangeFilter(
+                skus != null ? Set.copyOf(skus) : Set.of(),
+                locationIds != null ? Set.copyOf(locationIds) : Set.of());
+    }
+
+    public boolean matches(StockChange change) {
+        return (skus.isEmpty() || skus.contains(change.sku()))
+                && (locationIds.isEmpty() || locationIds.contains(change.locationId()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.stockmanagement.inventory.application.stream;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * StockChangeSink - Connection a subscription delivers to (e.g. an SSE
+ * response).
+ *
+ * Called by one delivery task at a time per subscription; a call may
+ * block on a slow client without holding up other subscribers. Throwing
+ * ends the subscription.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public interface StockChangeSink {
+
+    void send(List<StockChange> changes) throws IOException;
+
+    /**
+     * Changes were lost (buffer overflow, resume point no longer retained):
+     * the client must reload its state, then continue from eventId.
+     */
+    void reset(String eventId) throws IOException;
+
+    void heartbeat() throws IOException;
+
+    /**
+     * The feed shuts down.
+     */
+    void close();
+}
@@ -0,0 +1,40 @@
+package com.stockmanagement.inventory.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * CatalogChangedEvent - Domain event when a product or location was
+ * created or changed.
+ *
+ * RAISED WHEN:
+ * - Product created / updated (key = SKU)
+ * - Location created / updated (key = null)
+ *
+ * CONSUMERS:
+ * - Infrastructure: Evict cached catalog lookups (locally and on the other
+ * instances)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record CatalogChangedEvent(
+        String eventId,
+        Kind kind,
+        String id,
+        String key,
+        Instant occurredOn) implements DomainEvent {
+
+    public enum Kind {
+        PRODUCT,
+        LOCATION
+    }
+
+    public static CatalogChangedEvent productChanged(String productId, String sku) {
+        return new CatalogChangedEvent(UUID.randomUUID().toString(), Kind.PRODUCT, productId, sku, Instant.now());
+    }
+
+    public static CatalogChangedEvent locationChanged(String locationId) {
+        return new CatalogChangedEvent(UUID.randomUUID().toString(), Kind.LOCATION, locationId, null, Instant.now());
+    }
+}
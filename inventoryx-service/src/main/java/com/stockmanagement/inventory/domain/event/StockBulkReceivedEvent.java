@@ -0,0 +1,36 @@
+package com.stockmanagement.inventory.domain.event;
+
+import com.stockmanagement.inventory.domain.model.valueobject.StockId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * StockBulkReceivedEvent - Domain event when a bulk receipt file was booked.
+ *
+ * RAISED WHEN:
+ * - POST /stocks/receive/bulk committed at least one line (one event per
+ * upload, not per line; the rows were written set-based)
+ *
+ * CONSUMERS:
+ * - Stock change stream: publish the current state of every touched stock
+ * - Dashboard snapshot: reload the touched stocks (one query)
+ *
+ * Deliberately not a StockReceivedEvent per line: movements are already
+ * written by the bulk statement.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record StockBulkReceivedEvent(
+        String eventId,
+        List<StockId> stockIds,
+        String performedBy,
+        Instant occurredOn) implements DomainEvent {
+
+    public static StockBulkReceivedEvent of(List<StockId> stockIds, String performedBy) {
+        return new StockBulkReceivedEvent(UUID.randomUUID().toString(), List.copyOf(stockIds), performedBy,
+                Instant.now());
+    }
+}
@@ -0,0 +1,52 @@
+package com.stockmanagement.inventory.domain.event;
+
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * StockTransferredInEvent - Stock arrived from another location.
+ * 
+ * USE CASE: Inter-location transfer, warehouse rebalancing
+ * 
+ * BUSINESS CONTEXT:
+ * - Counterpart of StockTransferredOutEvent (same transferId, same
+ * transaction)
+ * - Available quantity increases here
+ * 
+ * CONSUMERS:
+ * - Audit: TRANSFER movement (positive quantity)
+ * - Dashboard: Per-location totals
+ * 
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record StockTransferredInEvent(
+        String eventId,
+        StockId stockId,
+        ProductSKU sku,
+        LocationId locationId,
+        LocationId fromLocationId,
+        Quantity quantity,
+        String transferId,
+        String reason,
+        String performedBy,
+        Instant occurredOn) implements DomainEvent {
+
+    /**
+     * Constructor with auto-generated event ID.
+     */
+    public StockTransferredInEvent(
+            StockId stockId,
+            ProductSKU sku,
+            LocationId locationId,
+            LocationId fromLocationId,
+            Quantity quantity,
+            String transferId,
+            String reason,
+            String performedBy,
+            Instant occurredOn) {
+        this(UUID.randomUUID().toString(), stockId, sku, locationId, fromLocationId,
+                quantity, transferId, reason, performedBy, occurredOn);
+    }
+}
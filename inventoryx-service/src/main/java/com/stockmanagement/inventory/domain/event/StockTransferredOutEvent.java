@@ -0,0 +1,52 @@
+package com.stockmanagement.inventory.domain.event;
+
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * StockTransferredOutEvent - Stock left this location for another one.
+ * 
+ * USE CASE: Inter-location transfer, warehouse rebalancing
+ * 
+ * BUSINESS CONTEXT:
+ * - Published by the source stock; the destination publishes a
+ * StockTransferredInEvent with the same transferId in the same transaction
+ * - Available quantity decreases here, the company-wide total is unchanged
+ * 
+ * CONSUMERS:
+ * - Audit: TRANSFER movement (negative quantity)
+ * - Dashboard: Per-location totals
+ * 
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record StockTransferredOutEvent(
+        String eventId,
+        StockId stockId,
+        ProductSKU sku,
+        LocationId locationId,
+        LocationId toLocationId,
+        Quantity quantity,
+        String transferId,
+        String reason,
+        String performedBy,
+        Instant occurredOn) implements DomainEvent {
+
+    /**
+     * Constructor with auto-generated event ID.
+     */
+    public StockTransferredOutEvent(
+            StockId stockId,
+            ProductSKU sku,
+            LocationId locationId,
+            LocationId toLocationId,
+            Quantity quantity,
+            String transferId,
+            String reason,
+            String performedBy,
+            Instant occurredOn) {
+        this(UUID.randomUUID().toString(), stockId, sku, locationId, toLocationId,
+                quantity, transferId, reason, performedBy, occurredOn);
+    }
+}
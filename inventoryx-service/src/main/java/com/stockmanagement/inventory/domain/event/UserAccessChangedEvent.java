@@ -0,0 +1,30 @@
+package com.stockmanagement.inventory.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * UserAccessChangedEvent - Domain event when what a user may do has changed.
+ *
+ * RAISED WHEN:
+ * - User activated / deactivated
+ * - User roles replaced
+ *
+ * CONSUMERS:
+ * - Security: Evict cached principals/authorities for the user
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record UserAccessChangedEvent(
+        String eventId,
+        String username,
+        Instant occurredOn) implements DomainEvent {
+
+    /**
+     * Constructor with auto-generated event ID.
+     */
+    public UserAccessChangedEvent(String username) {
+        this(UUID.randomUUID().toString(), username, Instant.now());
+    }
+}
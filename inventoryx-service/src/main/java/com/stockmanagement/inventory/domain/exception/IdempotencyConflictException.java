@@ -0,0 +1,19 @@
+package com.stockmanagement.inventory.domain.exception;
+
+/**
+ * IdempotencyConflictException - Thrown when an Idempotency-Key cannot be
+ * honoured.
+ * 
+ * WHEN THROWN:
+ * - The key was already used for a different request body
+ * - The original request with this key is still running too long to wait for
+ * 
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -3,8 +3,11 @@ package com.stockmanagement.inventory.domain.model;
 import com.stockmanagement.inventory.domain.model.valueobject.LocationId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.List;
 
 public interface LocationRepository {
@@ -16,6 +19,13 @@ public interface LocationRepository {
 
     Page<Location> findAll(String search, Pageable pageable);
 
+    /**
+     * Keyset scroll ordered by name; search is optional (same match as findAll).
+     */
+    Window<Location> scroll(String search, ScrollPosition position, int limit);
+
+    OptionalLong estimateCount();
+
     List<Location> findAllActive();
 
     boolean existsByName(String name);
@@ -2,8 +2,12 @@ package com.stockmanagement.inventory.domain.model;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 public interface ProductRepository {
@@ -18,4 +22,17 @@ public interface ProductRepository {
     boolean existsBySku(String sku);
 
     Page<Product> search(String query, Pageable pageable);
+
+    /**
+     * Keyset scroll ordered by SKU; query is optional (same match as search).
+     */
+    Window<Product> scroll(String query, ScrollPosition position, int limit);
+
+    /**
+     * Typeahead: best matches first (SKU prefix, name prefix, then substring
+     * by similarity).
+     */
+    List<Product> suggest(String query, int limit);
+
+    OptionalLong estimateCount();
 }
@@ -357,4 +357,72 @@ public class Stock {
         registerEvent(new StockSoldEvent(id, sku, locationId, quantity,
                 orderId, performedBy, Instant.now()));
     }
+
+    // ========================================================================
+    // TRANSFER METHODS (BETWEEN LOCATIONS)
+    // ========================================================================
+
+    /**
+     * Sends stock to another location (source side of a transfer).
+     * 
+     * USE CASE: Inter-location transfer, warehouse rebalancing
+     * BUSINESS RULE: Cannot send more than available, nor to the own location
+     * SIDE EFFECTS: Decreases availableQuantity; the caller applies
+     * transferIn on the destination stock in the same transaction
+     * 
+     * @param quantity     Amount to send
+     * @param toLocationId Destination location
+     * @param transferId   Reference shared by both sides of the transfer
+     * @param reason       Reason for transfer (audit trail)
+     * @param performedBy  Who performed the transfer
+     * @throws IllegalArgumentException if insufficient stock or same location
+     */
+    public void transferOut(Quantity quantity, LocationId toLocationId, String transferId, String reason,
+            String performedBy) {
+        if (quantity == null || !quantity.isPositive()) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+
+        if (this.locationId.equals(toLocationId)) {
+            throw new IllegalArgumentException("Cannot transfer stock to its own location: " + toLocationId.value());
+        }
+
+        if (!this.availableQuantity.isGreaterThanOrEqual(quantity)) {
+            throw new IllegalArgumentException(
+                    String.format("Insufficient stock for transfer. Available: %s, Requested: %s",
+                            availableQuantity, quantity));
+        }
+
+        this.availableQuantity = this.availableQuantity.subtract(quantity);
+        this.updatedAt = Instant.now();
+
+        registerEvent(new StockTransferredOutEvent(id, sku, locationId, toLocationId, quantity,
+                transferId, reason, performedBy, Instant.now()));
+    }
+
+    /**
+     * Receives stock from another location (destination side of a transfer).
+     * 
+     * BUSINESS RULE: Quantity must be positive
+     * SIDE EFFECTS: Increases availableQuantity
+     * 
+     * @param quantity       Amount received
+     * @param fromLocationId Source location
+     * @param transferId     Reference shared by both sides of the transfer
+     * @param reason         Reason for transfer (audit trail)
+     * @param performedBy    Who performed the transfer
+     * @throws IllegalArgumentException if quantity is not positive
+     */
+    public void transferIn(Quantity quantity, LocationId fromLocationId, String transferId, String reason,
+            String performedBy) {
+        if (quantity == null || !quantity.isPositive()) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+
+        this.availableQuantity = this.availableQuantity.add(quantity);
+        this.updatedAt = Instant.now();
+
+        registerEvent(new StockTransferredInEvent(id, sku, locationId, fromLocationId, quantity,
+                transferId, reason, performedBy, Instant.now()));
+    }
 }
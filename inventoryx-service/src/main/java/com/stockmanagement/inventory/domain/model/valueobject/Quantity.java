@@ -5,57 +5,107 @@ import java.math.RoundingMode;
 
 /**
  * Quantity - Numeric quantity with business rules.
- * 
+ *
  * DDD PATTERN: Value Object
  * - Immutable
  * - Non-negative (>= 0)
- * - BigDecimal for precision (4 decimal places)
+ * - Fixed precision (4 decimal places)
  * - Domain operations (add, subtract, compare)
- * 
+ *
  * WHY NOT PRIMITIVE?
  * - Prevents precision errors (0.1 + 0.2 != 0.3 in double)
  * - Enforces business rules (no negative quantities)
  * - Type-safe and expressive
- * 
+ *
+ * REPRESENTATION: Scaled long
+ * The amount is stored as a long count of 10^-4 units (1.5 → 15000).
+ * add/subtract/compare are plain overflow-checked long arithmetic, so
+ * Stock business methods allocate nothing but the result object (and
+ * nothing at all for zero). BigDecimal only appears at the API/DB boundary
+ * ({@link #of(BigDecimal)}, {@link #value()}).
+ *
+ * RANGE: 0 .. 922,337,203,685,477.5807 (Long.MAX_VALUE units)
+ *
  * @author InventoryX Development Team
  * @since 2026-01-12
  */
-public record Quantity(BigDecimal value) {
+public final class Quantity implements Comparable<Quantity> {
 
     private static final int SCALE = 4;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+    private static final long UNITS_PER_ONE = 10_000L;
+
+    private static final Quantity ZERO = new Quantity(0L);
+
+    private final long units;
 
     /**
-     * Validates and normalizes quantity.
+     * Validates and normalizes quantity (boundary constructor).
      * BUSINESS RULE: Must be >= 0
      */
-    public Quantity {
+    public Quantity(BigDecimal value) {
+        this(toUnits(value));
+    }
+
+    private Quantity(long units) {
+        this.units = units;
+    }
+
+    // Factory Methods
+
+    public static Quantity of(String value) {
         if (value == null) {
             throw new IllegalArgumentException(
                     "Quantity cannot be null. Use Quantity.zero() for zero.");
         }
+        return of(new BigDecimal(value));
+    }
 
-        if (value.compareTo(BigDecimal.ZERO) < 0) {
+    public static Quantity of(BigDecimal value) {
+        return ofUnits(toUnits(value));
+    }
+
+    public static Quantity of(long value) {
+        if (value < 0) {
             throw new IllegalArgumentException(
                     String.format("Quantity cannot be negative: %s", value));
         }
-
-        // Normalize scale for consistent comparisons
-        value = value.setScale(SCALE, ROUNDING_MODE);
+        try {
+            return ofUnits(Math.multiplyExact(value, UNITS_PER_ONE));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Quantity out of range: " + value, e);
+        }
     }
 
-    // Factory Methods
+    /**
+     * Creates a quantity from raw 10^-4 units (e.g. 15000 = 1.5).
+     */
+    public static Quantity ofUnits(long units) {
+        if (units < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Quantity cannot be negative: %s", BigDecimal.valueOf(units, SCALE)));
+        }
+        return units == 0 ? ZERO : new Quantity(units);
+    }
 
-    public static Quantity of(String value) {
-        return new Quantity(new BigDecimal(value));
+    public static Quantity zero() {
+        return ZERO;
     }
 
-    public static Quantity of(long value) {
-        return new Quantity(BigDecimal.valueOf(value));
+    // Accessors
+
+    /**
+     * Decimal value with scale 4 (allocates - use at API/DB boundary only).
+     */
+    public BigDecimal value() {
+        return BigDecimal.valueOf(units, SCALE);
     }
 
-    public static Quantity zero() {
-        return new Quantity(BigDecimal.ZERO);
+    /**
+     * Raw amount in 10^-4 units.
+     */
+    public long units() {
+        return units;
     }
 
     // Arithmetic Operations
@@ -68,7 +118,15 @@ public record Quantity(BigDecimal value) {
         if (other == null) {
             throw new IllegalArgumentException("Cannot add null quantity");
         }
-        return new Quantity(this.value.add(other.value));
+        if (other.units == 0) {
+            return this;
+        }
+        try {
+            return new Quantity(Math.addExact(this.units, other.units));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    String.format("Cannot add %s to %s: result out of range", other, this), e);
+        }
     }
 
     /**
@@ -81,14 +139,15 @@ public record Quantity(BigDecimal value) {
             throw new IllegalArgumentException("Cannot subtract null quantity");
         }
 
-        BigDecimal result = this.value.subtract(other.value);
-        if (result.compareTo(BigDecimal.ZERO) < 0) {
+        // Both operands are non-negative, so this cannot overflow
+        long result = this.units - other.units;
+        if (result < 0) {
             throw new IllegalArgumentException(
                     String.format("Cannot subtract %s from %s: result would be negative",
-                            other.value, this.value));
+                            other, this));
         }
 
-        return new Quantity(result);
+        return ofUnits(result);
     }
 
     /**
@@ -99,29 +158,66 @@ public record Quantity(BigDecimal value) {
         if (factor == null) {
             throw new IllegalArgumentException("Cannot multiply by null factor");
         }
-        return new Quantity(this.value.multiply(factor));
+        return of(value().multiply(factor));
     }
 
     // Comparison Operations
 
     public boolean isGreaterThan(Quantity other) {
-        return other != null && this.value.compareTo(other.value) > 0;
+        return other != null && this.units > other.units;
     }
 
     public boolean isGreaterThanOrEqual(Quantity other) {
-        return other != null && this.value.compareTo(other.value) >= 0;
+        return other != null && this.units >= other.units;
     }
 
     public boolean isZero() {
-        return this.value.compareTo(BigDecimal.ZERO) == 0;
+        return this.units == 0;
     }
 
     public boolean isPositive() {
-        return this.value.compareTo(BigDecimal.ZERO) > 0;
+        return this.units > 0;
+    }
+
+    @Override
+    public int compareTo(Quantity other) {
+        return Long.compare(this.units, other.units);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Quantity other && this.units == other.units);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units);
     }
 
     @Override
     public String toString() {
-        return value.toPlainString();
+        return value().toPlainString();
+    }
+
+    /**
+     * Normalizes a decimal to 10^-4 units.
+     * BUSINESS RULE: Must be >= 0 and within range
+     */
+    private static long toUnits(BigDecimal value) {
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Quantity cannot be null. Use Quantity.zero() for zero.");
+        }
+
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Quantity cannot be negative: %s", value));
+        }
+
+        try {
+            return value.setScale(SCALE, ROUNDING_MODE).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Quantity out of range: " + value, e);
+        }
     }
 }
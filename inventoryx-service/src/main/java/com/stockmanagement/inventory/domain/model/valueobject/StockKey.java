@@ -0,0 +1,47 @@
+package com.stockmanagement.inventory.domain.model.valueobject;
+
+import java.util.Comparator;
+
+/**
+ * StockKey - Natural key of a Stock record (SKU + Location).
+ *
+ * DDD PATTERN: Value Object
+ * - Immutable
+ * - Mirrors the uk_stock_sku_location unique constraint
+ *
+ * ORDERING:
+ * Sorted by SKU, then location. Multi-row operations lock stocks in this
+ * order so two concurrent batches can never wait on each other in a cycle.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-01-20
+ */
+public record StockKey(ProductSKU sku, LocationId locationId) implements Comparable<StockKey> {
+
+    private static final Comparator<StockKey> ORDER = Comparator
+            .comparing((StockKey key) -> key.sku().value())
+            .thenComparing(key -> key.locationId().value());
+
+    /**
+     * Validates that both parts are present.
+     */
+    public StockKey {
+        if (sku == null || locationId == null) {
+            throw new IllegalArgumentException("StockKey requires both SKU and location");
+        }
+    }
+
+    public static StockKey of(ProductSKU sku, LocationId locationId) {
+        return new StockKey(sku, locationId);
+    }
+
+    @Override
+    public int compareTo(StockKey other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return sku.value() + "@" + locationId.value();
+    }
+}
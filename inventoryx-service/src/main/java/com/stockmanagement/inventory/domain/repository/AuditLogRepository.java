@@ -2,6 +2,14 @@ package com.stockmanagement.inventory.domain.repository;
 
 import com.stockmanagement.inventory.domain.model.AuditLog;
 
+import java.util.List;
+
 public interface AuditLogRepository {
     void save(AuditLog auditLog);
+
+    /**
+     * Inserts all rows in one batch. Rows whose id already exists are skipped
+     * (spill replay may re-send them).
+     */
+    void saveAll(List<AuditLog> auditLogs);
 }
@@ -3,8 +3,11 @@ package com.stockmanagement.inventory.domain.repository;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.LocationId;
 import com.stockmanagement.inventory.domain.model.valueobject.ProductSKU;
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
 import com.stockmanagement.inventory.domain.model.valueobject.StockId;
+import com.stockmanagement.inventory.domain.model.valueobject.StockKey;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,6 +58,77 @@ public interface StockRepository {
      */
     Stock save(Stock stock);
 
+    /**
+     * Saves several Stock aggregates in one unit of work.
+     *
+     * USE CASE: Batch reservation of a whole order
+     * PERFORMANCE: Updates are flushed together as a JDBC batch at commit
+     *
+     * @param stocks Stock aggregates to save
+     * @return Saved stocks with updated versions (same order as input)
+     */
+    List<Stock> saveAll(List<Stock> stocks);
+
+    /**
+     * Loads and row-locks every Stock matching the given keys in one query.
+     *
+     * CONCURRENCY:
+     * Rows are locked (SELECT ... FOR UPDATE) in StockKey order, so concurrent
+     * callers always acquire locks in the same sequence and cannot deadlock.
+     * Must be called inside a transaction.
+     *
+     * @param keys SKU + location pairs (duplicates are ignored)
+     * @return Locked stocks sorted by StockKey; missing keys are simply absent
+     */
+    List<Stock> findAllForUpdate(Collection<StockKey> keys);
+
+    /**
+     * Loads one Stock by ID and row-locks it until the transaction ends.
+     *
+     * USE CASE: Applying several commands to one stock and saving it once
+     * (StockCommandCombiner); concurrent writers wait instead of failing
+     * the version check. Must be called inside a transaction.
+     *
+     * @param id Stock identifier
+     * @return Locked stock, or empty if not found
+     */
+    Optional<Stock> findByIdForUpdate(StockId id);
+
+    /**
+     * Atomically moves quantity from available to reserved.
+     *
+     * CONCURRENCY: Single conditional UPDATE (... WHERE available >= quantity).
+     * There is no read-modify-write, so concurrent reservations on a hot SKU
+     * never fail with an optimistic lock conflict - they simply queue on the
+     * row lock and each one either succeeds or finds insufficient stock.
+     *
+     * RETURN VALUE:
+     * The stock as it was immediately BEFORE the update (with the new
+     * version). Callers replay the domain operation (Stock.reserve) on it so
+     * business invariants are re-checked and domain events are registered;
+     * the replayed state equals the persisted row. Must run in a transaction
+     * so the update is rolled back if the replay fails.
+     *
+     * @param sku        Product SKU
+     * @param locationId Storage location
+     * @param quantity   Amount to reserve
+     * @return Pre-update snapshot, or empty if stock is missing or insufficient
+     */
+    Optional<Stock> reserveAtomically(ProductSKU sku, LocationId locationId, Quantity quantity);
+
+    /**
+     * Atomically deducts quantity from available (withdrawal, quick sale).
+     *
+     * Same contract as {@link #reserveAtomically}: single conditional UPDATE,
+     * returns the pre-update snapshot for the caller to replay
+     * (Stock.withdraw / Stock.quickSale).
+     *
+     * @param id       Stock identifier
+     * @param quantity Amount to deduct
+     * @return Pre-update snapshot, or empty if stock is missing or insufficient
+     */
+    Optional<Stock> deductAtomically(StockId id, Quantity quantity);
+
     /**
      * Finds Stock by ID.
      * 
@@ -63,6 +137,16 @@ public interface StockRepository {
      */
     Optional<Stock> findById(StockId id);
 
+    /**
+     * Finds the Stock records with the given IDs (one query).
+     * 
+     * USE CASE: Current state of the stocks a batch of events touched
+     * 
+     * @param ids Stock identifiers
+     * @return Stocks found, in no particular order (missing IDs are skipped)
+     */
+    List<Stock> findAllById(Collection<StockId> ids);
+
     /**
      * Finds Stock by SKU and location.
      * 
@@ -115,6 +199,26 @@ public interface StockRepository {
      */
     org.springframework.data.domain.Page<Stock> findAll(org.springframework.data.domain.Pageable pageable);
 
+    /**
+     * Scrolls Stock records ordered by SKU, location and ID (keyset pagination).
+     * 
+     * USE CASE: Deep paging / full listing of large stock tables
+     * PERFORMANCE: Seeks past the last row via the index - no OFFSET, no COUNT
+     * 
+     * @param position Position after the last row of the previous window
+     * @param limit    Maximum number of records
+     * @return Window of stock records
+     */
+    org.springframework.data.domain.Window<Stock> scroll(org.springframework.data.domain.ScrollPosition position,
+            int limit);
+
+    /**
+     * Approximate number of Stock records (planner statistics, no table scan).
+     * 
+     * @return Estimate, or empty if statistics are not available
+     */
+    java.util.OptionalLong estimateCount();
+
     /**
      * Deletes Stock by ID.
      * 
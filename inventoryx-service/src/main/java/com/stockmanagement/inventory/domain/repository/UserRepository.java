@@ -21,4 +21,12 @@ public interface UserRepository {
 
     org.springframework.data.domain.Page<User> findAll(String search,
             org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * Keyset scroll ordered by username; search is optional (same match as findAll).
+     */
+    org.springframework.data.domain.Window<User> scroll(String search,
+            org.springframework.data.domain.ScrollPosition position, int limit);
+
+    java.util.OptionalLong estimateCount();
 }
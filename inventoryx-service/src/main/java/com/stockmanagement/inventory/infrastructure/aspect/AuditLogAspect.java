@@ -1,12 +1,10 @@
 package com.stockmanagement.inventory.infrastructure.aspect;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stockmanagement.inventory.application.annotation.Auditable;
-import com.stockmanagement.inventory.domain.model.AuditLog;
 import com.stockmanagement.inventory.domain.model.valueobject.UserId;
-import com.stockmanagement.inventory.domain.repository.AuditLogRepository;
-import com.stockmanagement.inventory.domain.repository.UserRepository;
+import com.stockmanagement.inventory.infrastructure.audit.AuditEntry;
+import com.stockmanagement.inventory.infrastructure.audit.AuditLogPipeline;
+import com.stockmanagement.inventory.infrastructure.security.AuthenticatedUser;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +17,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Aspect
@@ -27,58 +26,17 @@ import java.util.UUID;
 @Slf4j
 public class AuditLogAspect {
 
-    private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
-    private final ObjectMapper objectMapper;
+    private final AuditLogPipeline auditLogPipeline;
 
     @Around("@annotation(auditable)")
     public Object logAudit(ProceedingJoinPoint joinPoint, Auditable auditable) throws Throwable {
-        String action = auditable.action();
-        String resource = auditable.resource();
-        String userIdStr = null;
+        // Capture User ID from Security Context (the principal carries it, no lookup)
+        UserId userId = currentUserId();
         String status = "SUCCESS";
-        String details = "";
         String errorMessage = null;
 
         try {
-            // Capture User ID from Security Context
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()
-                    && !"anonymousUser".equals(authentication.getPrincipal())) {
-                String username = null;
-                if (authentication
-                        .getPrincipal() instanceof org.springframework.security.core.userdetails.UserDetails) {
-                    username = ((org.springframework.security.core.userdetails.UserDetails) authentication
-                            .getPrincipal()).getUsername();
-                } else if (authentication.getPrincipal() instanceof String) {
-                    username = (String) authentication.getPrincipal();
-                }
-
-                if (username != null) {
-                    // We need UserId, but SecurityContext usually has UserDetails which might not
-                    // have ID ideally.
-                    // But our CustomUserDetailsService loads UserDetails. ideally we should put
-                    // UserId in it or look it up.
-                    // Lookup by username is safe.
-                    userIdStr = userRepository
-                            .findByUsername(
-                                    new com.stockmanagement.inventory.domain.model.valueobject.Username(username))
-                            .map(u -> u.getId().value().toString())
-                            .orElse(null);
-                }
-            }
-
-            // Capture Arguments as Details
-            try {
-                if (joinPoint.getArgs().length > 0) {
-                    details = objectMapper.writeValueAsString(joinPoint.getArgs()[0]); // First arg usually command
-                }
-            } catch (JsonProcessingException e) {
-                details = "Could not serialize arguments";
-            }
-
-            Object result = joinPoint.proceed();
-            return result;
+            return joinPoint.proceed();
 
         } catch (Exception e) {
             status = "FAILURE";
@@ -88,53 +46,45 @@ public class AuditLogAspect {
             try {
                 // Try to capture User ID again (useful for Login success case where context is
                 // updated inside method)
-                if (userIdStr == null) {
-                    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                    if (authentication != null && authentication.isAuthenticated()
-                            && !"anonymousUser".equals(authentication.getPrincipal())) {
-                        String username = null;
-                        if (authentication
-                                .getPrincipal() instanceof org.springframework.security.core.userdetails.UserDetails) {
-                            username = ((org.springframework.security.core.userdetails.UserDetails) authentication
-                                    .getPrincipal()).getUsername();
-                        } else if (authentication.getPrincipal() instanceof String) {
-                            username = (String) authentication.getPrincipal();
-                        }
-
-                        if (username != null) {
-                            userIdStr = userRepository
-                                    .findByUsername(new com.stockmanagement.inventory.domain.model.valueobject.Username(
-                                            username))
-                                    .map(u -> u.getId().value().toString())
-                                    .orElse(null);
-                        }
-                    }
+                if (userId == null) {
+                    userId = currentUserId();
                 }
 
-                HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
-                        .getRequest();
-                String ipAddress = request.getRemoteAddr();
-                String userAgent = request.getHeader("User-Agent");
-
-                String finalDetails = details + (errorMessage != null ? " | Error: " + errorMessage : "");
-
-                AuditLog logEntry = AuditLog.builder()
-                        .id(UUID.randomUUID())
-                        .userId(userIdStr != null ? new UserId(UUID.fromString(userIdStr)) : null)
-                        // ... rest of builder
-                        .action(action)
-                        .resource(resource)
-                        .details(finalDetails.length() > 500 ? finalDetails.substring(0, 500) + "..." : finalDetails)
-                        .ipAddress(ipAddress)
-                        .userAgent(userAgent)
-                        .status(status)
-                        .build();
+                String ipAddress = null;
+                String userAgent = null;
+                if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+                    HttpServletRequest request = attributes.getRequest();
+                    ipAddress = request.getRemoteAddr();
+                    userAgent = request.getHeader("User-Agent");
+                }
 
-                auditLogRepository.save(logEntry);
+                // First arg usually command; serialized later by the audit writer
+                Object argument = joinPoint.getArgs().length > 0 ? joinPoint.getArgs()[0] : null;
+
+                auditLogPipeline.submit(new AuditEntry(
+                        UUID.randomUUID(),
+                        userId,
+                        auditable.action(),
+                        auditable.resource(),
+                        argument,
+                        errorMessage,
+                        ipAddress,
+                        userAgent,
+                        status,
+                        LocalDateTime.now()));
 
             } catch (Exception ex) {
-                log.error("Failed to save audit log", ex);
+                log.error("Failed to queue audit log", ex);
             }
         }
     }
+
+    private UserId currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getUserId();
+        }
+        return null;
+    }
 }
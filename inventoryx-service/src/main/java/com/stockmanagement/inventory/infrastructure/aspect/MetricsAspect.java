@@ -0,0 +1,113 @@
+package com.stockmanagement.inventory.infrastructure.aspect;
+
+import com.stockmanagement.inventory.infrastructure.monitoring.SkuMetricTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * MetricsAspect - Times use cases, repositories and the movement ledger.
+ *
+ * METERS (tags: class, method, outcome = "success" or the exception's
+ * simple name):
+ * - inventory.usecase: *UseCase and StockCommandCombiner methods, including
+ * their transaction (this aspect runs outside @Transactional)
+ * - inventory.repository: *RepositoryImpl methods
+ * - inventory.ledger: StockMovementEventListener handlers (the batch insert
+ * at commit is timed by StockMovementLedgerWriter itself)
+ *
+ * Histogram buckets (SLOs) are configured per meter name under
+ * management.metrics.distribution.slo.
+ *
+ * REJECTIONS PER SKU:
+ * When a use case fails, the SKU tag of its command (SkuMetricTags) is
+ * left on the request for GlobalExceptionHandler, which counts the
+ * rejection by type and SKU.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class MetricsAspect {
+
+    /**
+     * Request attribute holding the SKU tag of a failed command.
+     */
+    public static final String REJECTED_SKU_ATTRIBUTE = MetricsAspect.class.getName() + ".sku";
+
+    private final MeterRegistry meterRegistry;
+    private final SkuMetricTags skuTags;
+
+    public MetricsAspect(MeterRegistry meterRegistry, SkuMetricTags skuTags) {
+        this.meterRegistry = meterRegistry;
+        this.skuTags = skuTags;
+    }
+
+    @Around("execution(public * com.stockmanagement.inventory.application.service.*UseCase.*(..)) "
+            + "|| execution(public * com.stockmanagement.inventory.application.service.StockCommandCombiner.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return time("inventory.usecase", joinPoint);
+        } catch (RuntimeException e) {
+            rememberSku(joinPoint);
+            throw e;
+        }
+    }
+
+    @Around("execution(public * com.stockmanagement.inventory.infrastructure.persistence..*RepositoryImpl.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("inventory.repository", joinPoint);
+    }
+
+    @Around("execution(public * com.stockmanagement.inventory.application.listener.StockMovementEventListener.*(..))")
+    public Object timeLedger(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("inventory.ledger", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * First failure wins (the combiner and the use case it delegates to see
+     * the same command).
+     */
+    private void rememberSku(ProceedingJoinPoint joinPoint) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null || joinPoint.getArgs().length == 0
+                || request.getAttribute(REJECTED_SKU_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        try {
+            request.setAttribute(REJECTED_SKU_ATTRIBUTE, skuTags.forCommand(joinPoint.getArgs()[0]),
+                    RequestAttributes.SCOPE_REQUEST);
+        } catch (RuntimeException e) {
+            // Never mask the command's own failure
+            log.debug("Could not resolve SKU tag for rejected command", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.stockmanagement.inventory.infrastructure.audit;
+
+import com.stockmanagement.inventory.domain.model.valueobject.UserId;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * AuditEntry - Raw audit data captured on the request thread.
+ *
+ * The argument is kept as-is (commands are immutable records) and only
+ * serialized by the background writer, off the request path.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public record AuditEntry(
+        UUID id,
+        UserId userId,
+        String action,
+        String resource,
+        Object argument,
+        String errorMessage,
+        String ipAddress,
+        String userAgent,
+        String status,
+        LocalDateTime performedAt) {
+}
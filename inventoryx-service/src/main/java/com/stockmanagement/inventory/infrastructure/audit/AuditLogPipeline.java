@@ -0,0 +1,285 @@
+package com.stockmanagement.inventory.infrastructure.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.domain.model.AuditLog;
+import com.stockmanagement.inventory.domain.repository.AuditLogRepository;
+import com.stockmanagement.inventory.infrastructure.config.BackgroundThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuditLogPipeline - Bounded in-memory queue plus a background writer that
+ * batch-inserts audit rows.
+ *
+ * PROBLEM:
+ * AuditLogAspect serialized the command, looked the user up and inserted one
+ * audit_logs row synchronously on every audited request.
+ *
+ * FLOW:
+ * 1. Request thread: submit() places an AuditEntry in a fixed-size ring
+ * buffer (ArrayBlockingQueue) - no I/O, no serialization
+ * 2. Writer thread: takes up to {@code batch-size} entries, serializes
+ * arguments and writes them with one JDBC batch
+ * 3. When idle, the writer replays spilled rows (SPILL policy)
+ *
+ * BACK-PRESSURE (queue full): see AuditOverflowPolicy.
+ * A failed batch insert is spilled under SPILL, otherwise counted as dropped.
+ *
+ * METRICS:
+ * - inventory.audit.queue.depth (gauge)
+ * - inventory.audit.dropped (counter, tag reason=full|oldest|write|spill)
+ * - inventory.audit.spilled (counter)
+ * - inventory.audit.written (counter)
+ *
+ * SHUTDOWN:
+ * The writer is stopped and whatever is still queued is written before the
+ * context closes.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class AuditLogPipeline {
+
+    private static final int MAX_DETAILS_LENGTH = 500;
+
+    private final AuditLogRepository auditLogRepository;
+    private final ObjectMapper objectMapper;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final AuditSpillFile spillFile;
+    private final boolean virtualThreads;
+    private final BlockingQueue<AuditEntry> queue;
+
+    private final Counter droppedFull;
+    private final Counter droppedOldest;
+    private final Counter droppedWrite;
+    private final Counter droppedSpill;
+    private final Counter spilled;
+    private final Counter written;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditLogPipeline(
+            @Value("${inventory.audit.queue-capacity:8192}") int queueCapacity,
+            @Value("${inventory.audit.batch-size:200}") int batchSize,
+            @Value("${inventory.audit.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${inventory.audit.overflow-policy:BLOCK}") AuditOverflowPolicy overflowPolicy,
+            @Value("${inventory.audit.block-timeout-ms:1000}") long blockTimeoutMs,
+            @Value("${inventory.audit.spill-directory:./data/audit-spill}") String spillDirectory,
+            @Value(BackgroundThreads.VIRTUAL_THREADS_PROPERTY) boolean virtualThreads,
+            AuditLogRepository auditLogRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.spillFile = new AuditSpillFile(Path.of(spillDirectory), objectMapper);
+        this.virtualThreads = virtualThreads;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("inventory.audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        this.droppedFull = dropCounter(meterRegistry, "full");
+        this.droppedOldest = dropCounter(meterRegistry, "oldest");
+        this.droppedWrite = dropCounter(meterRegistry, "write");
+        this.droppedSpill = dropCounter(meterRegistry, "spill");
+        this.spilled = Counter.builder("inventory.audit.spilled")
+                .description("Audit entries written to the local spill file")
+                .register(meterRegistry);
+        this.written = Counter.builder("inventory.audit.written")
+                .description("Audit rows inserted into audit_logs")
+                .register(meterRegistry);
+    }
+
+    // ==================== Lifecycle ====================
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = BackgroundThreads.start("audit-writer", virtualThreads, this::runWriter);
+        log.info("Audit pipeline started: policy={}, batchSize={}", overflowPolicy, batchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        drain();
+    }
+
+    // ==================== Request Side ====================
+
+    /**
+     * Hands an entry to the writer. Never throws; only BLOCK may wait.
+     */
+    public void submit(AuditEntry entry) {
+        if (queue.offer(entry)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(entry, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        droppedFull.increment();
+                        log.warn("Audit queue full, dropped {} {}", entry.action(), entry.id());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedFull.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                // Retry: the writer may free a slot between poll and offer
+                while (!queue.offer(entry)) {
+                    if (queue.poll() != null) {
+                        droppedOldest.increment();
+                    }
+                }
+            }
+            case SPILL -> spill(List.of(toAuditLog(entry)));
+        }
+    }
+
+    // ==================== Writer Side ====================
+
+    private void runWriter() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditEntry first = queue.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpilled();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // stop() drains the rest
+                return;
+            } catch (Exception e) {
+                log.error("Audit writer iteration failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes everything currently queued (shutdown, tests).
+     */
+    void drain() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        List<AuditLog> logs = batch.stream().map(this::toAuditLog).toList();
+        try {
+            auditLogRepository.saveAll(logs);
+            written.increment(logs.size());
+        } catch (RuntimeException e) {
+            if (overflowPolicy == AuditOverflowPolicy.SPILL) {
+                log.warn("Audit batch insert failed, spilling {} rows: {}", logs.size(), e.getMessage());
+                spill(logs);
+            } else {
+                log.error("Audit batch insert failed, dropped {} rows", logs.size(), e);
+                droppedWrite.increment(logs.size());
+            }
+        }
+    }
+
+    private void spill(List<AuditLog> logs) {
+        try {
+            spillFile.append(logs);
+            spilled.increment(logs.size());
+        } catch (IOException e) {
+            log.error("Failed to spill {} audit rows", logs.size(), e);
+            droppedSpill.increment(logs.size());
+        }
+    }
+
+    private void replaySpilled() {
+        if (overflowPolicy != AuditOverflowPolicy.SPILL) {
+            return;
+        }
+        try {
+            for (Path file : spillFile.takeForReplay()) {
+                List<AuditLog> logs = spillFile.read(file);
+                for (int from = 0; from < logs.size(); from += batchSize) {
+                    auditLogRepository.saveAll(logs.subList(from, Math.min(from + batchSize, logs.size())));
+                }
+                written.increment(logs.size());
+                spillFile.delete(file);
+                log.info("Replayed {} spilled audit rows from {}", logs.size(), file.getFileName());
+            }
+        } catch (Exception e) {
+            // Files stay on disk and are retried on the next idle poll
+            log.warn("Audit spill replay failed: {}", e.getMessage());
+        }
+    }
+
+    private AuditLog toAuditLog(AuditEntry entry) {
+        String details = "";
+        if (entry.argument() != null) {
+            try {
+                details = objectMapper.writeValueAsString(entry.argument());
+            } catch (JsonProcessingException e) {
+                details = "Could not serialize arguments";
+            }
+        }
+        if (entry.errorMessage() != null) {
+            details = details + " | Error: " + entry.errorMessage();
+        }
+
+        return AuditLog.builder()
+                .id(entry.id())
+                .userId(entry.userId())
+                .action(entry.action())
+                .resource(entry.resource())
+                .details(details.length() > MAX_DETAILS_LENGTH
+                        ? details.substring(0, MAX_DETAILS_LENGTH) + "..."
+                        : details)
+                .ipAddress(entry.ipAddress())
+                .userAgent(entry.userAgent())
+                .status(entry.status())
+                .performedAt(entry.performedAt())
+                .build();
+    }
+
+    private static Counter dropCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("inventory.audit.dropped")
+                .description("Audit entries lost to back-pressure or write failures")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
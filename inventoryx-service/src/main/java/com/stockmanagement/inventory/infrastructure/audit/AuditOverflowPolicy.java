@@ -0,0 +1,17 @@
+package com.stockmanagement.inventory.infrastructure.audit;
+
+/**
+ * AuditOverflowPolicy - What a request thread does when the audit queue is full.
+ *
+ * - BLOCK: wait up to {@code block-timeout-ms} for space, then drop (counted)
+ * - DROP_OLDEST: evict the oldest queued entry to make room (counted)
+ * - SPILL: append the entry to a local file, replayed once the queue drains
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public enum AuditOverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    SPILL
+}
@@ -0,0 +1,145 @@
+package com.stockmanagement.inventory.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.domain.model.AuditLog;
+import com.stockmanagement.inventory.domain.model.valueobject.UserId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * AuditSpillFile - Local overflow file for audit rows (SPILL policy).
+ *
+ * FORMAT:
+ * One JSON line per audit row in {@code audit-spill.jsonl}.
+ *
+ * REPLAY:
+ * takeForReplay() atomically renames the active file to
+ * {@code audit-spill-<millis>.replay}; new spills start a fresh file. A
+ * replay file is deleted only after its rows are written, so a crash
+ * mid-replay re-sends them (audit ids are primary keys, duplicates are
+ * skipped on insert).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+final class AuditSpillFile {
+
+    private static final String ACTIVE_FILE = "audit-spill.jsonl";
+    private static final String REPLAY_SUFFIX = ".replay";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    AuditSpillFile(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    synchronized void append(List<AuditLog> logs) throws IOException {
+        Files.createDirectories(directory);
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(ACTIVE_FILE),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (AuditLog log : logs) {
+                writer.write(objectMapper.writeValueAsString(SpilledAuditLog.from(log)));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Seals the active file (if any) and returns all files awaiting replay, oldest first.
+     */
+    synchronized List<Path> takeForReplay() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        Path active = directory.resolve(ACTIVE_FILE);
+        if (Files.exists(active)) {
+            Files.move(active, directory.resolve("audit-spill-" + System.currentTimeMillis() + REPLAY_SUFFIX),
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(REPLAY_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    List<AuditLog> read(Path file) throws IOException {
+        List<AuditLog> logs = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                logs.add(objectMapper.readValue(line, SpilledAuditLog.class).toAuditLog());
+            } catch (IOException e) {
+                // Torn last line after a crash
+                log.warn("Skipping unreadable audit spill line in {}", file.getFileName());
+            }
+        }
+        return logs;
+    }
+
+    void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * On-disk shape of one audit row.
+     */
+    record SpilledAuditLog(
+            String id,
+            String userId,
+            String action,
+            String resource,
+            String resourceId,
+            String details,
+            String ipAddress,
+            String userAgent,
+            String status,
+            String performedAt) {
+
+        static SpilledAuditLog from(AuditLog log) {
+            return new SpilledAuditLog(
+                    log.getId().toString(),
+                    log.getUserId() != null ? log.getUserId().value().toString() : null,
+                    log.getAction(),
+                    log.getResource(),
+                    log.getResourceId(),
+                    log.getDetails(),
+                    log.getIpAddress(),
+                    log.getUserAgent(),
+                    log.getStatus(),
+                    log.getPerformedAt() != null ? log.getPerformedAt().toString() : null);
+        }
+
+        AuditLog toAuditLog() {
+            return AuditLog.builder()
+                    .id(UUID.fromString(id))
+                    .userId(userId != null ? new UserId(UUID.fromString(userId)) : null)
+                    .action(action)
+                    .resource(resource)
+                    .resourceId(resourceId)
+                    .details(details)
+                    .ipAddress(ipAddress)
+                    .userAgent(userAgent)
+                    .status(status)
+                    .performedAt(performedAt != null ? LocalDateTime.parse(performedAt) : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.stockmanagement.inventory.infrastructure.config;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * BackgroundThreads - Thread factory for the service's own background
+ * workers (hot stock flusher, audit writer, reservation expiry).
+ *
+ * Follows spring.threads.virtual.enabled, like Tomcat, the application
+ * task executor and the @Scheduled scheduler: virtual threads when the
+ * mode is on, named daemon platform threads otherwise.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public final class BackgroundThreads {
+
+    /**
+     * Property that switches the whole service to virtual threads.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "${spring.threads.virtual.enabled:false}";
+
+    private BackgroundThreads() {
+    }
+
+    public static ThreadFactory factory(String name, boolean virtual) {
+        return virtual
+                ? Thread.ofVirtual().name(name).factory()
+                : Thread.ofPlatform().name(name).daemon().factory();
+    }
+
+    public static Thread start(String name, boolean virtual, Runnable task) {
+        Thread thread = factory(name, virtual).newThread(task);
+        thread.start();
+        return thread;
+    }
+}
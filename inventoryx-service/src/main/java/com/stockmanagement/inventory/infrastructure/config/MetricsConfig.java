@@ -0,0 +1,29 @@
+package com.stockmanagement.inventory.infrastructure.config;
+
+import com.stockmanagement.inventory.infrastructure.monitoring.SkuMetricTags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * MetricsConfig - Registry-wide meter filters.
+ *
+ * The SKU allow-list filter only needs the property, so it is ready before
+ * the first meter is registered (filters added later do not apply to
+ * existing meters).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter skuAllowListMeterFilter(
+            @Value("${inventory.metrics.sku-allow-list:}") List<String> allowList) {
+        return SkuMetricTags.meterFilter(allowList);
+    }
+}
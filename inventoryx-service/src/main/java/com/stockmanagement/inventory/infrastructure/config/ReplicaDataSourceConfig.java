@@ -0,0 +1,92 @@
+package com.stockmanagement.inventory.infrastructure.config;
+
+import com.stockmanagement.inventory.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.stockmanagement.inventory.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * ReplicaDataSourceConfig - Sends read-only transactions to a streaming
+ * replica (inventory.datasource.replica.enabled=true).
+ *
+ * WIRING:
+ * DataSource (primary bean) = LazyConnectionDataSourceProxy
+ * - target: primary pool (spring.datasource.*)
+ * - read-only target: ReplicaRoutingDataSource → replica pool, or the
+ * primary pool when the replica lags, fails or has not replayed the
+ * request's consistency token
+ *
+ * The proxy defers fetching the physical connection until the first
+ * statement, after the transaction manager marked it read-only, so
+ * @Transactional(readOnly = true) alone selects the route. Command
+ * transactions, Flyway and non-transactional JDBC always use the primary.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPool(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        return pool("primary", url, username, password);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("inventory.datasource.replica.hikari")
+    public HikariDataSource replicaPool(
+            @Value("${inventory.datasource.replica.url}") String url,
+            @Value("${inventory.datasource.replica.username}") String username,
+            @Value("${inventory.datasource.replica.password}") String password) {
+        HikariDataSource pool = pool("replica", url, username, password);
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryPool") DataSource primaryPool,
+            @Qualifier("replicaPool") DataSource replicaPool,
+            @Value("${inventory.datasource.replica.max-lag:2s}") Duration maxLag,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryPool, replicaPool, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryPool") DataSource primaryPool,
+            @Qualifier("replicaPool") DataSource replicaPool,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryPool);
+        dataSource.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primaryPool, replicaPool, replicaLagMonitor, meterRegistry));
+        return dataSource;
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        return pool;
+    }
+}
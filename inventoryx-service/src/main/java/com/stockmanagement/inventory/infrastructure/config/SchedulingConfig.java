@@ -0,0 +1,16 @@
+package com.stockmanagement.inventory.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig - Enables @Scheduled background jobs
+ * (e.g. dashboard reconciliation).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
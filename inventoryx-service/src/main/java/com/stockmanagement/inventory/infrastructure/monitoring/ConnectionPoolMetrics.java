@@ -0,0 +1,83 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * ConnectionPoolMetrics - Saturation gauges for every Hikari pool (the
+ * primary pool, and the replica pool when routing is on).
+ *
+ * Hikari's own hikaricp.connections.* meters give the raw counts; these
+ * gauges put them against the pool size so one alert threshold fits every
+ * pool size:
+ * - inventory.datasource.pool.utilization = active / maximum (0..1)
+ * - inventory.datasource.pool.saturation = (active + pending) / maximum;
+ * above 1 means requests are waiting for a connection
+ *
+ * Tag: pool (Hikari pool name). NaN until the pool has started. Pools are
+ * found through wrappers (QueryCountingDataSource, the routing proxy).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Component
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private final ObjectProvider<DataSource> dataSources;
+
+    public ConnectionPoolMetrics(ObjectProvider<DataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        dataSources.orderedStream()
+                .map(ConnectionPoolMetrics::pool)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(pool -> {
+                    String name = Objects.requireNonNullElse(pool.getPoolName(), "default");
+                    Gauge.builder("inventory.datasource.pool.utilization", pool,
+                            ds -> ratio(ds, false))
+                            .tag("pool", name)
+                            .description("Active connections / maximum pool size")
+                            .register(registry);
+                    Gauge.builder("inventory.datasource.pool.saturation", pool,
+                            ds -> ratio(ds, true))
+                            .tag("pool", name)
+                            .description("(Active + waiting) / maximum pool size; above 1 means requests wait")
+                            .register(registry);
+                });
+    }
+
+    /**
+     * @return The Hikari pool behind a DataSource, or null if there is none
+     */
+    static HikariDataSource pool(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    static double ratio(HikariDataSource pool, boolean includePending) {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        if (bean == null || pool.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        int busy = bean.getActiveConnections() + (includePending ? bean.getThreadsAwaitingConnection() : 0);
+        return (double) busy / pool.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,72 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * QueryCountFilter - Warns about requests that run too many SQL statements
+ * (development aid).
+ *
+ * Opens a QueryCounter scope around each request (outermost filter, so
+ * authentication lookups count too). Every statement on the request thread
+ * counts, Hibernate and JdbcTemplate alike (QueryCountingDataSource). Above
+ * inventory.query-count.warn-threshold a WARN names the request, the
+ * statement mix and the statement repeated most often, which is where an
+ * N+1 shows up.
+ *
+ * Threshold 0 (default) disables the filter; the dev profile enables it.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final int warnThreshold;
+
+    public QueryCountFilter(@Value("${inventory.query-count.warn-threshold:0}") int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return warnThreshold <= 0;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            filterChain.doFilter(request, response);
+            if (scope.total() > warnThreshold) {
+                scope.mostRepeated().ifPresent(statement -> log.warn(
+                        "{} {} ran {} (threshold {}); most repeated ({}x): {}",
+                        request.getMethod(), request.getRequestURI(), scope, warnThreshold,
+                        statement.getValue(), abbreviate(statement.getKey())));
+            }
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").strip();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH
+                ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
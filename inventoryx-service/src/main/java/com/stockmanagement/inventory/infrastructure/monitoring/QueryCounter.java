@@ -0,0 +1,141 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * QueryCounter - Counts the SQL statements the current thread sends to
+ * the database.
+ *
+ * PROBLEM:
+ * N+1 patterns (a lazy association or an EAGER collection loaded once per
+ * row) do not fail anything; they only multiply round trips, and nothing
+ * notices until a listing is slow in production.
+ *
+ * SOLUTION:
+ * Fed by QueryCountingDataSource, which wraps the application DataSource,
+ * so Hibernate and JdbcTemplate statements are both seen. Statements are
+ * only counted while a {@link Scope} is open on the thread; otherwise
+ * record() is a single ThreadLocal read.
+ *
+ * USAGE:
+ * <pre>
+ * try (QueryCounter.Scope scope = QueryCounter.start()) {
+ *     userManagementService.getUsersPaged(null, pageable);
+ *     assertEquals(4, scope.total()); // page, count, roles, permissions
+ * }
+ * </pre>
+ * In the dev profile QueryCountFilter opens a scope per request and warns
+ * above inventory.query-count.warn-threshold.
+ *
+ * LIMITS:
+ * A JDBC batch is prepared once and counts once. COPY (bulk receipts) and
+ * connections taken straight from a pool bean (replica lag probe) are not
+ * seen.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Opens a counting scope on the current thread. Scopes nest: statements
+     * count towards the inner scope and every enclosing one.
+     */
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Counts one statement in every scope open on the current thread.
+     */
+    public static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.add(sql);
+        }
+    }
+
+    public enum Kind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static Kind of(String sql) {
+            String statement = sql.strip();
+            // Skip a leading /* comment */ (hibernate.use_sql_comments)
+            if (statement.startsWith("/*") && statement.contains("*/")) {
+                statement = statement.substring(statement.indexOf("*/") + 2).strip();
+            }
+            String keyword = statement.split("\\s", 2)[0].toUpperCase(Locale.ROOT);
+            return switch (keyword) {
+                case "SELECT", "WITH" -> SELECT;
+                case "INSERT" -> INSERT;
+                case "UPDATE" -> UPDATE;
+                case "DELETE" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+
+    /**
+     * Statements counted on one thread between start() and close().
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<Kind, Integer> byKind = new LinkedHashMap<>();
+        private final Map<String, Integer> bySql = new LinkedHashMap<>();
+        private int total;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(String sql) {
+            total++;
+            byKind.merge(Kind.of(sql), 1, Integer::sum);
+            bySql.merge(sql, 1, Integer::sum);
+        }
+
+        public int total() {
+            return total;
+        }
+
+        public int count(Kind kind) {
+            return byKind.getOrDefault(kind, 0);
+        }
+
+        /**
+         * The statement prepared most often (the N+1 candidate), if any.
+         */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return bySql.entrySet().stream()
+                    .max(Comparator.comparingInt(Map.Entry::getValue))
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()));
+        }
+
+        @Override
+        public String toString() {
+            return total + " statements " + byKind;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * QueryCountingDataSource - Reports every SQL statement sent through the
+ * application's DataSource to {@link QueryCounter}.
+ *
+ * Sits below both Hibernate and JdbcTemplate, so native writes (reserve /
+ * deduct, ledger batches, hold and idempotency queries, NOTIFY) count the
+ * same as entity loads.
+ *
+ * COUNTED:
+ * - Connection.prepareStatement / prepareCall (once per prepare, so a JDBC
+ * batch counts once)
+ * - Statement.execute* / addBatch with SQL text, on statements from
+ * createStatement
+ *
+ * Connections are wrapped in a JDK proxy; unwrap() still reaches the pool's
+ * connection (COPY in BulkReceiptWriter unwraps to PGConnection and is not
+ * counted). close() closes the target, so the pool still shuts down with
+ * the context.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public class QueryCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection counting(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            if (PREPARE_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                QueryCounter.record(sql);
+            }
+            Object result = invoke(method, target, args);
+            if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+                return counting(statement);
+            }
+            return result;
+        });
+    }
+
+    private static Statement counting(Statement target) {
+        return proxy(Statement.class, (proxy, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                QueryCounter.record(sql);
+            }
+            return invoke(method, target, args);
+        });
+    }
+
+    /**
+     * Proxy with identity equals/hashCode (the target would not consider
+     * the proxy equal to itself).
+     */
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * QueryCountingPostProcessor - Wraps the application DataSource in a
+ * {@link QueryCountingDataSource}.
+ *
+ * Only the bean named "dataSource" (Boot's pool, or the routing proxy of
+ * ReplicaDataSourceConfig) is wrapped; the pools behind the routing proxy
+ * stay unwrapped so nothing is counted twice.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Component
+public class QueryCountingPostProcessor implements BeanPostProcessor {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                && !(bean instanceof QueryCountingDataSource)) {
+            return new QueryCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
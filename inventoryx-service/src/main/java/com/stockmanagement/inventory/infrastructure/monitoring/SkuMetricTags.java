@@ -0,0 +1,114 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmanagement.inventory.application.dto.command.*;
+import com.stockmanagement.inventory.domain.model.valueobject.StockId;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SkuMetricTags - Keeps the "sku" meter tag bounded.
+ *
+ * PROBLEM:
+ * A tag per SKU creates one time series per SKU and meter; with a full
+ * catalog that overwhelms Prometheus.
+ *
+ * SOLUTION:
+ * Only SKUs on inventory.metrics.sku-allow-list keep their own value,
+ * everything else is reported as "other". The same rule is installed as a
+ * MeterFilter (see {@link #meterFilter}), so no meter can bypass it.
+ *
+ * Commands that only carry a stock ID are resolved to their SKU (cached;
+ * the SKU of a stock never changes), and only while the allow-list is not
+ * empty.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Component
+public class SkuMetricTags {
+
+    public static final String TAG = "sku";
+    public static final String OTHER = "other";
+
+    private final Set<String> allowList;
+    // Lazy: the metrics aspect needs this bean before the repositories exist
+    private final ObjectProvider<StockRepository> stockRepository;
+    private final Cache<String, String> skuByStockId = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public SkuMetricTags(
+            @Value("${inventory.metrics.sku-allow-list:}") List<String> allowList,
+            ObjectProvider<StockRepository> stockRepository) {
+        this.allowList = normalize(allowList);
+        this.stockRepository = stockRepository;
+    }
+
+    /**
+     * Meter filter applying the allow-list to every meter with a "sku" tag.
+     */
+    public static MeterFilter meterFilter(List<String> allowList) {
+        Set<String> allowed = normalize(allowList);
+        return MeterFilter.replaceTagValues(TAG, sku -> allowed.contains(sku) ? sku : OTHER);
+    }
+
+    /**
+     * Tag value for a SKU (as entered or normalized).
+     */
+    public String forSku(String sku) {
+        if (sku == null) {
+            return OTHER;
+        }
+        String normalized = sku.trim().toUpperCase(Locale.ROOT);
+        return allowList.contains(normalized) ? normalized : OTHER;
+    }
+
+    /**
+     * Tag value for the SKU of a stock.
+     */
+    public String forStock(String stockId) {
+        if (allowList.isEmpty() || stockId == null) {
+            return OTHER;
+        }
+        String sku = skuByStockId.get(stockId, id -> stockRepository.getObject()
+                .findById(StockId.of(id))
+                .map(stock -> stock.getSku().value())
+                .orElse(null));
+        return forSku(sku);
+    }
+
+    /**
+     * Tag value for the SKU a stock command targets.
+     */
+    public String forCommand(Object command) {
+        return switch (command) {
+            case ReceiveStockCommand receive -> forSku(receive.sku());
+            case ReserveStockCommand reserve -> forSku(reserve.sku());
+            case TransferStockCommand transfer -> forSku(transfer.sku());
+            case ReleaseReservationCommand release -> forStock(release.stockId());
+            case ConfirmReservationCommand confirm -> forStock(confirm.stockId());
+            case AdjustStockCommand adjust -> forStock(adjust.stockId());
+            case WithdrawStockCommand withdraw -> forStock(withdraw.stockId());
+            case QuickSaleCommand sale -> forStock(sale.stockId());
+            case null, default -> OTHER;
+        };
+    }
+
+    private static Set<String> normalize(List<String> allowList) {
+        return allowList.stream()
+                .map(String::trim)
+                .filter(sku -> !sku.isEmpty())
+                .map(sku -> sku.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
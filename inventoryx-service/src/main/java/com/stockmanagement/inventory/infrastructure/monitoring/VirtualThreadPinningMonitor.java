@@ -0,0 +1,162 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import com.stockmanagement.inventory.infrastructure.config.BackgroundThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * VirtualThreadPinningMonitor - Reports virtual threads that block while
+ * pinned to their carrier thread.
+ *
+ * PROBLEM:
+ * A virtual thread that blocks inside a native frame or a pinning monitor
+ * keeps its carrier (platform) thread. With only one carrier per core, a
+ * few pinned JDBC calls stall every other request.
+ *
+ * SOLUTION:
+ * In virtual-thread mode, an in-process JFR stream subscribes to
+ * jdk.VirtualThreadPinned (pinned longer than {@code threshold}) and
+ * jdk.VirtualThreadSubmitFailed. Each pinning is attributed to the first
+ * non-JDK frame of its stack, so the source tag stays low-cardinality.
+ * The first pinning per frame is logged with its stack.
+ *
+ * METRICS:
+ * - inventory.threads.virtual.pinned (timer, tag source=jdbc-driver|
+ * connection-pool|hibernate|application|other|jdk)
+ * - inventory.threads.virtual.submit-failed (counter)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private static final int MAX_LOGGED_FRAMES = 100;
+    private static final int STACK_DEPTH_LOGGED = 20;
+
+    private static final List<Map.Entry<String, String>> SOURCES = List.of(
+            Map.entry("org.postgresql.", "jdbc-driver"),
+            Map.entry("com.zaxxer.hikari.", "connection-pool"),
+            Map.entry("org.hibernate.", "hibernate"),
+            Map.entry("com.stockmanagement.", "application"));
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final MeterRegistry meterRegistry;
+    private final Counter submitFailed;
+    private final Set<String> loggedFrames = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value(BackgroundThreads.VIRTUAL_THREADS_PROPERTY) boolean virtualThreads,
+            @Value("${inventory.threads.pinning-monitor-enabled:true}") boolean monitorEnabled,
+            @Value("${inventory.threads.pinning-threshold:20ms}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        this.enabled = virtualThreads && monitorEnabled;
+        this.threshold = threshold;
+        this.meterRegistry = meterRegistry;
+        this.submitFailed = Counter.builder("inventory.threads.virtual.submit-failed")
+                .description("Virtual threads that could not be scheduled on a carrier")
+                .register(meterRegistry);
+    }
+
+    // ==================== Lifecycle ====================
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.setMaxAge(Duration.ofSeconds(30));
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.increment());
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started: threshold={}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    // ==================== Events ====================
+
+    private void onPinned(RecordedEvent event) {
+        List<String> frames = frames(event.getStackTrace());
+        Timer.builder("inventory.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .tag("source", source(frames))
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String frame = firstNonJdkFrame(frames);
+        if (loggedFrames.size() < MAX_LOGGED_FRAMES && loggedFrames.add(frame)) {
+            log.warn("Virtual thread pinned for {}ms at {}:\n\t{}", event.getDuration().toMillis(), frame,
+                    frames.stream().limit(STACK_DEPTH_LOGGED).collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    /**
+     * Classifies a pinning by the first frame outside the JDK.
+     *
+     * @param frames Stack, innermost first, as "class.method:line"
+     */
+    static String source(List<String> frames) {
+        String frame = firstNonJdkFrame(frames);
+        return SOURCES.stream()
+                .filter(source -> frame.startsWith(source.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(frame.equals("jdk") ? "jdk" : "other");
+    }
+
+    private static String firstNonJdkFrame(List<String> frames) {
+        return frames.stream()
+                .filter(frame -> !isJdkFrame(frame))
+                .findFirst()
+                .orElse("jdk");
+    }
+
+    private static boolean isJdkFrame(String frame) {
+        return frame.startsWith("java.") || frame.startsWith("javax.") || frame.startsWith("jdk.")
+                || frame.startsWith("sun.") || frame.startsWith("com.sun.");
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .toList();
+    }
+}
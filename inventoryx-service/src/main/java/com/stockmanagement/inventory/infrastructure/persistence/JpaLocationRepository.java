@@ -2,7 +2,11 @@ package com.stockmanagement.inventory.infrastructure.persistence;
 
 import com.stockmanagement.inventory.infrastructure.persistence.entity.LocationEntity;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -17,4 +21,9 @@ public interface JpaLocationRepository extends JpaRepository<LocationEntity, Str
 
         Page<LocationEntity> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name,
                         String description, Pageable pageable);
+
+        Window<LocationEntity> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+        Window<LocationEntity> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name,
+                        String description, ScrollPosition position, Sort sort, Limit limit);
 }
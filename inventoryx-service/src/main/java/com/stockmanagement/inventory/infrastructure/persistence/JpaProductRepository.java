@@ -2,7 +2,11 @@ package com.stockmanagement.inventory.infrastructure.persistence;
 
 import com.stockmanagement.inventory.infrastructure.persistence.entity.ProductEntity;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +18,13 @@ public interface JpaProductRepository extends JpaRepository<ProductEntity, Strin
 
     boolean existsBySku(String sku);
 
-    Page<ProductEntity> findBySkuContainingIgnoreCaseOrNameContainingIgnoreCaseOrCategoryContainingIgnoreCase(
-            String sku, String name, String category, Pageable pageable);
+    /**
+     * Substring match on the lower-cased search_text (GIN trigram index);
+     * the query must already be lower case.
+     */
+    Page<ProductEntity> findBySearchTextContaining(String query, Pageable pageable);
+
+    Window<ProductEntity> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<ProductEntity> findBySearchTextContaining(String query, ScrollPosition position, Sort sort, Limit limit);
 }
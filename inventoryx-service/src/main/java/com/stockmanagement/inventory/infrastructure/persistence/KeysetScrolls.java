@@ -0,0 +1,44 @@
+package com.stockmanagement.inventory.infrastructure.persistence;
+
+import com.stockmanagement.inventory.domain.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * KeysetScrolls - Guards for keyset scrolling on JPA repositories.
+ *
+ * A cursor carries the sort-key values of the last row. Spring Data builds
+ * the WHERE clause from exactly those keys, so a cursor issued for another
+ * resource (or edited by hand) is rejected here instead of failing in SQL.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public final class KeysetScrolls {
+
+    private KeysetScrolls() {
+    }
+
+    /**
+     * @param sort Scroll sort; must end with a unique property (id)
+     * @throws InvalidCursorException if the position does not match the sort
+     */
+    public static ScrollPosition checked(ScrollPosition position, Sort sort) {
+        if (position.isInitial()) {
+            return position;
+        }
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+        Set<String> expected = new HashSet<>();
+        sort.forEach(order -> expected.add(order.getProperty()));
+        if (!keyset.getKeys().keySet().equals(expected)) {
+            throw new InvalidCursorException("Cursor does not belong to this list");
+        }
+        return position;
+    }
+}
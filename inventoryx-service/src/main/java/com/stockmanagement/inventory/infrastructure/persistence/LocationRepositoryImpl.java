@@ -3,14 +3,20 @@ package com.stockmanagement.inventory.infrastructure.persistence;
 import com.stockmanagement.inventory.domain.model.Location;
 import com.stockmanagement.inventory.domain.model.LocationRepository;
 import com.stockmanagement.inventory.domain.model.valueobject.LocationId;
+import com.stockmanagement.inventory.infrastructure.persistence.cache.CatalogCache;
 import com.stockmanagement.inventory.infrastructure.persistence.entity.LocationEntity;
 import com.stockmanagement.inventory.domain.model.Location.LocationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,7 +24,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LocationRepositoryImpl implements LocationRepository {
 
+    // Keyset order: names are unique, id keeps the key stable regardless
+    private static final Sort SCROLL_SORT = Sort.by("name", "id");
+
     private final JpaLocationRepository jpaRepository;
+    private final RowCountEstimator rowCountEstimator;
+    private final CatalogCache catalogCache;
 
     @Override
     public Location save(Location location) {
@@ -29,7 +40,11 @@ public class LocationRepositoryImpl implements LocationRepository {
 
     @Override
     public Optional<Location> findById(LocationId id) {
-        return jpaRepository.findById(id.value()).map(this::toDomain);
+        if (CatalogCache.inWriteTransaction()) {
+            return jpaRepository.findById(id.value()).map(this::toDomain);
+        }
+        return catalogCache.locationById(id.value(), () -> jpaRepository.findById(id.value()).map(this::detach))
+                .map(this::toDomain);
     }
 
     @Override
@@ -43,9 +58,27 @@ public class LocationRepositoryImpl implements LocationRepository {
                 .map(this::toDomain);
     }
 
+    @Override
+    public Window<Location> scroll(String search, ScrollPosition position, int limit) {
+        ScrollPosition checked = KeysetScrolls.checked(position, SCROLL_SORT);
+        Window<LocationEntity> window = search == null || search.isBlank()
+                ? jpaRepository.findAllBy(checked, SCROLL_SORT, Limit.of(limit))
+                : jpaRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(search, search,
+                        checked, SCROLL_SORT, Limit.of(limit));
+        return window.map(this::toDomain);
+    }
+
+    @Override
+    public OptionalLong estimateCount() {
+        return rowCountEstimator.estimate("inventory.locations");
+    }
+
     @Override
     public List<Location> findAllActive() {
-        return jpaRepository.findByStatus(LocationStatus.ACTIVE).stream()
+        return catalogCache.activeLocations(() -> jpaRepository.findByStatus(LocationStatus.ACTIVE).stream()
+                .map(this::detach)
+                .toList())
+                .stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
@@ -55,6 +88,13 @@ public class LocationRepositoryImpl implements LocationRepository {
         return jpaRepository.existsByName(name);
     }
 
+    /**
+     * Unmanaged copy for the cache (a managed entity changes on merge).
+     */
+    private LocationEntity detach(LocationEntity entity) {
+        return toEntity(toDomain(entity));
+    }
+
     private LocationEntity toEntity(Location domain) {
         return new LocationEntity(
                 domain.getId().value(),
@@ -2,22 +2,37 @@ package com.stockmanagement.inventory.infrastructure.persistence;
 
 import com.stockmanagement.inventory.domain.model.Product;
 import com.stockmanagement.inventory.domain.model.ProductRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.cache.CatalogCache;
 import com.stockmanagement.inventory.infrastructure.persistence.entity.ProductEntity;
 import com.stockmanagement.inventory.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.ProductSearchRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
+    // Keyset order: SKU is unique, id keeps the key stable regardless
+    private static final Sort SCROLL_SORT = Sort.by("sku", "id");
+
     private final JpaProductRepository jpaRepository;
     private final ProductEntityMapper mapper;
+    private final RowCountEstimator rowCountEstimator;
+    private final CatalogCache catalogCache;
+    private final ProductSearchRepository searchRepository;
 
     @Override
     public Product save(Product product) {
@@ -28,13 +43,17 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     @Override
     public Optional<Product> findById(UUID id) {
-        return jpaRepository.findById(id.toString())
+        if (CatalogCache.inWriteTransaction()) {
+            return jpaRepository.findById(id.toString())
+                    .map(mapper::toDomain);
+        }
+        return catalogCache.productById(id.toString(), () -> jpaRepository.findById(id.toString()).map(this::detach))
                 .map(mapper::toDomain);
     }
 
     @Override
     public Optional<Product> findBySku(String sku) {
-        return jpaRepository.findBySku(sku)
+        return catalogCache.productBySku(sku, () -> jpaRepository.findBySku(sku).map(this::detach))
                 .map(mapper::toDomain);
     }
 
@@ -51,9 +70,42 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     @Override
     public Page<Product> search(String query, Pageable pageable) {
-        return jpaRepository
-                .findBySkuContainingIgnoreCaseOrNameContainingIgnoreCaseOrCategoryContainingIgnoreCase(query, query,
-                        query, pageable)
+        return jpaRepository.findBySearchTextContaining(normalize(query), pageable)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public Window<Product> scroll(String query, ScrollPosition position, int limit) {
+        ScrollPosition checked = KeysetScrolls.checked(position, SCROLL_SORT);
+        Window<ProductEntity> window = query == null || query.isBlank()
+                ? jpaRepository.findAllBy(checked, SCROLL_SORT, Limit.of(limit))
+                : jpaRepository.findBySearchTextContaining(normalize(query), checked, SCROLL_SORT, Limit.of(limit));
+        return window.map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Product> suggest(String query, int limit) {
+        return searchRepository.suggest(query, limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public OptionalLong estimateCount() {
+        return rowCountEstimator.estimate("inventory.products");
+    }
+
+    /**
+     * search_text is lower case, so the query is too.
+     */
+    private static String normalize(String query) {
+        return query.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Unmanaged copy for the cache (a managed entity changes on merge).
+     */
+    private ProductEntity detach(ProductEntity entity) {
+        return mapper.toEntity(mapper.toDomain(entity));
+    }
 }
@@ -0,0 +1,40 @@
+package com.stockmanagement.inventory.infrastructure.persistence;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * RowCountEstimator - Table size from planner statistics instead of COUNT(*).
+ *
+ * pg_class.reltuples is maintained by VACUUM/ANALYZE (autovacuum), so it is
+ * approximate but costs one catalog lookup regardless of table size. Empty
+ * when the table has never been analyzed.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Component
+public class RowCountEstimator {
+
+    private static final String ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class "
+            + "WHERE oid = to_regclass(:table) AND reltuples >= 0";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RowCountEstimator(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param table Schema-qualified table name, e.g. inventory.stocks
+     */
+    public OptionalLong estimate(String table) {
+        List<Long> rows = jdbcTemplate.queryForList(ESTIMATE_SQL, new MapSqlParameterSource("table", table),
+                Long.class);
+        return rows.isEmpty() || rows.get(0) == null ? OptionalLong.empty() : OptionalLong.of(rows.get(0));
+    }
+}
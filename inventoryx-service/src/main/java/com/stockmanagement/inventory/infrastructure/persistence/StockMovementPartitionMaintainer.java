@@ -0,0 +1,58 @@
+package com.stockmanagement.inventory.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * StockMovementPartitionMaintainer - Keeps monthly stock_movements partitions
+ * ahead of the clock.
+ *
+ * stock_movements is range-partitioned by performed_at (V6). Rows for a month
+ * without a partition fall into the DEFAULT partition, which every query has
+ * to scan, so the next months are created well before they start.
+ *
+ * Runs at startup and then every check interval. Creation is idempotent and
+ * serialized in the database (advisory lock), so several instances may run
+ * it at the same time.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class StockMovementPartitionMaintainer {
+
+    private static final String ENSURE_SQL = "SELECT inventory.ensure_stock_movement_partitions(:monthsAhead)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public StockMovementPartitionMaintainer(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${inventory.movements.partition-months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates any missing partition from the current month to monthsAhead.
+     */
+    @Scheduled(initialDelay = 0,
+            fixedDelayString = "${inventory.movements.partition-check-interval-ms:21600000}")
+    public void ensurePartitions() {
+        try {
+            Integer created = jdbcTemplate.queryForObject(ENSURE_SQL,
+                    new MapSqlParameterSource("monthsAhead", monthsAhead), Integer.class);
+            if (created != null && created > 0) {
+                log.info("Created {} stock_movements partition(s), {} month(s) ahead", created, monthsAhead);
+            }
+        } catch (RuntimeException e) {
+            // Writes still succeed through the DEFAULT partition; retry next run
+            log.error("Stock movement partition maintenance failed", e);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.stockmanagement.inventory.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmanagement.inventory.domain.event.CatalogChangedEvent;
+import com.stockmanagement.inventory.infrastructure.config.BackgroundThreads;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.LocationEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.ProductEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * CatalogCache - In-process near cache for product and location lookups.
+ *
+ * PROBLEM:
+ * Catalog data changes rarely, yet every receipt and nearly every UI page
+ * resolved products and locations from PostgreSQL.
+ *
+ * CACHED (size-bounded, expire after {@code ttl} at the latest):
+ * - products by id and by SKU
+ * - locations by id, and the list of active locations
+ * Entries are detached entity copies never handed out; callers get fresh
+ * domain objects. Misses (not found) are not cached.
+ *
+ * INVALIDATION:
+ * 1. ProductManagementService / LocationManagementService publish
+ * CatalogChangedEvent
+ * 2. Before commit: pg_notify on {@value #CHANNEL} (delivered to every
+ * instance only if the transaction commits)
+ * 3. After commit: local eviction
+ * 4. Listener thread (own connection, LISTEN): evicts on notifications from
+ * other instances; after a reconnect it clears everything it may have missed
+ *
+ * A load that overlapped an eviction is not stored (generation check), nor
+ * is one that started within the replica's max-lag of the last eviction
+ * (it may have read a replica that had not replayed the change yet).
+ *
+ * METRICS:
+ * - cache.gets{cache=catalog.*, result=hit|miss}, cache.size, cache.evictions
+ * - inventory.catalog-cache.invalidations (counter, tag source=local|remote|reconnect)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+
+    static final String CHANNEL = "inventory_catalog";
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(:channel, :payload)";
+    private static final String ACTIVE = "active";
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final Cache<String, ProductEntity> productsById;
+    private final Cache<String, ProductEntity> productsBySku;
+    private final Cache<String, LocationEntity> locationsById;
+    private final Cache<String, List<LocationEntity>> activeLocations;
+
+    private final Generation products = new Generation();
+    private final Generation locations = new Generation();
+    private final long quietPeriodNanos;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean listenEnabled;
+    private final boolean virtualThreads;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+    private final Counter reconnectInvalidations;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public CatalogCache(
+            @Value("${inventory.catalog-cache.maximum-size:10000}") long maximumSize,
+            @Value("${inventory.catalog-cache.ttl:10m}") Duration ttl,
+            @Value("${inventory.catalog-cache.listen-enabled:true}") boolean listenEnabled,
+            @Value("${inventory.datasource.replica.enabled:false}") boolean replicaEnabled,
+            @Value("${inventory.datasource.replica.max-lag:2s}") Duration replicaMaxLag,
+            @Value(BackgroundThreads.VIRTUAL_THREADS_PROPERTY) boolean virtualThreads,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry) {
+        this.productsById = cache(maximumSize, ttl, meterRegistry, "catalog.products.by-id");
+        this.productsBySku = cache(maximumSize, ttl, meterRegistry, "catalog.products.by-sku");
+        this.locationsById = cache(maximumSize, ttl, meterRegistry, "catalog.locations.by-id");
+        this.activeLocations = cache(1, ttl, meterRegistry, "catalog.locations.active");
+        this.quietPeriodNanos = replicaEnabled ? replicaMaxLag.toNanos() : 0;
+        this.listenEnabled = listenEnabled;
+        this.virtualThreads = virtualThreads;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.jdbcTemplate = jdbcTemplate;
+        this.localInvalidations = invalidationCounter(meterRegistry, "local");
+        this.remoteInvalidations = invalidationCounter(meterRegistry, "remote");
+        this.reconnectInvalidations = invalidationCounter(meterRegistry, "reconnect");
+    }
+
+    // ==================== Lifecycle ====================
+
+    @PostConstruct
+    void start() {
+        if (!listenEnabled) {
+            return;
+        }
+        running = true;
+        listener = BackgroundThreads.start("catalog-cache-listener", virtualThreads, this::listen);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener.join(POLL_TIMEOUT_MS * 2L);
+        }
+    }
+
+    // ==================== Lookups ====================
+
+    public Optional<ProductEntity> productById(String id, Supplier<Optional<ProductEntity>> loader) {
+        return lookup(productsById, id, products, loader);
+    }
+
+    public Optional<ProductEntity> productBySku(String sku, Supplier<Optional<ProductEntity>> loader) {
+        return lookup(productsBySku, sku, products, loader);
+    }
+
+    public Optional<LocationEntity> locationById(String id, Supplier<Optional<LocationEntity>> loader) {
+        return lookup(locationsById, id, locations, loader);
+    }
+
+    public List<LocationEntity> activeLocations(Supplier<List<LocationEntity>> loader) {
+        return lookup(activeLocations, ACTIVE, locations, () -> Optional.of(List.copyOf(loader.get())))
+                .orElseThrow();
+    }
+
+    /**
+     * True inside a read-write transaction. Rows loaded there are about to be
+     * modified and must not come from the cache (a stale version would fail
+     * the optimistic lock or overwrite a newer change).
+     */
+    public static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private <V> Optional<V> lookup(Cache<String, V> cache, String key, Generation generation,
+            Supplier<Optional<V>> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long startedAt = System.nanoTime();
+        long before = generation.current();
+        Optional<V> loaded = loader.get();
+        if (loaded.isPresent() && generation.current() == before
+                && startedAt - generation.invalidatedAt() >= quietPeriodNanos) {
+            cache.put(key, loaded.get());
+            // An eviction between the check and the put must win
+            if (generation.current() != before) {
+                cache.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    // ==================== Invalidation ====================
+
+    /**
+     * Tells the other instances, if and when the change commits.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void notifyCatalogChanged(CatalogChangedEvent event) {
+        jdbcTemplate.query(NOTIFY_SQL, new MapSqlParameterSource()
+                .addValue("channel", CHANNEL)
+                .addValue("payload", toPayload(event)), rs -> null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        evict(event.kind(), event.id(), event.key());
+        localInvalidations.increment();
+    }
+
+    public void invalidateAll() {
+        products.bump();
+        locations.bump();
+        productsById.invalidateAll();
+        productsBySku.invalidateAll();
+        locationsById.invalidateAll();
+        activeLocations.invalidateAll();
+    }
+
+    void evict(CatalogChangedEvent.Kind kind, String id, String key) {
+        switch (kind) {
+            case PRODUCT -> {
+                products.bump();
+                productsById.invalidate(id);
+                if (key != null) {
+                    productsBySku.invalidate(key);
+                }
+            }
+            case LOCATION -> {
+                locations.bump();
+                locationsById.invalidate(id);
+                activeLocations.invalidateAll();
+            }
+        }
+        log.debug("Evicted catalog entry: {} {}", kind, id);
+    }
+
+    static String toPayload(CatalogChangedEvent event) {
+        return event.kind() + ":" + event.id() + (event.key() != null ? ":" + event.key() : "");
+    }
+
+    /**
+     * Applies a notification payload ("KIND:id[:key]"); unknown payloads
+     * clear everything.
+     */
+    void apply(String payload) {
+        String[] parts = payload.split(":", 3);
+        try {
+            evict(CatalogChangedEvent.Kind.valueOf(parts[0]), parts[1], parts.length > 2 ? parts[2] : null);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.warn("Unknown catalog notification '{}', clearing catalog cache", payload);
+            invalidateAll();
+        }
+    }
+
+    // ==================== Listener ====================
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Changes made while not listening were never delivered
+                invalidateAll();
+                reconnectInvalidations.increment();
+                log.info("Listening for catalog changes on channel {}", CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        apply(notification.getParameter());
+                        remoteInvalidations.increment();
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Catalog change listener disconnected, retrying in {}ms: {}",
+                        RECONNECT_DELAY_MS, e.getMessage());
+                invalidateAll();
+                try {
+                    TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static <V> Cache<String, V> cache(long maximumSize, Duration ttl, MeterRegistry meterRegistry,
+            String name) {
+        Cache<String, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("inventory.catalog-cache.invalidations")
+                .description("Catalog cache evictions by origin of the change")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bumped on every eviction of its kind; loads that overlap a bump are
+     * not cached.
+     */
+    private static final class Generation {
+
+        private final AtomicLong value = new AtomicLong();
+        private volatile long invalidatedAt = System.nanoTime() - Long.MAX_VALUE / 2;
+
+        long current() {
+            return value.get();
+        }
+
+        long invalidatedAt() {
+            return invalidatedAt;
+        }
+
+        void bump() {
+            invalidatedAt = System.nanoTime();
+            value.incrementAndGet();
+        }
+    }
+}
@@ -26,6 +26,10 @@ public class ProductEntity {
 
     private String category;
 
+    // Generated by PostgreSQL (lower-cased SKU, name, category), search only
+    @Column(name = "search_text", insertable = false, updatable = false)
+    private String searchText;
+
     @Column(name = "price_amount", nullable = false)
     private BigDecimal priceAmount;
 
@@ -0,0 +1,87 @@
+package com.stockmanagement.inventory.infrastructure.persistence.hotstock;
+
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
+import com.stockmanagement.inventory.domain.model.valueobject.StockKey;
+import com.stockmanagement.inventory.domain.model.valueobject.UnitOfMeasure;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.StockEntity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HotStockCounter - In-memory source of truth for one hot stocks row.
+ *
+ * Quantities are held as scaled longs in units of 10^-4 (Quantity's scale),
+ * so every update is a primitive CAS instead of BigDecimal arithmetic.
+ * Immutable row attributes are captured once when the counter is created.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+final class HotStockCounter {
+
+    static final int SCALE = 4;
+
+    private final String stockId;
+    private final StockKey key;
+    private final String productId;
+    private final UnitOfMeasure unitOfMeasure;
+    private final Instant createdAt;
+
+    final StripedCounter available;
+    final StripedCounter reserved;
+    private final AtomicLong version;
+
+    HotStockCounter(StockEntity row, StockKey key, int stripes) {
+        this.stockId = row.getId();
+        this.key = key;
+        this.productId = row.getProductId();
+        this.unitOfMeasure = row.getUnitOfMeasure();
+        this.createdAt = row.getCreatedAt();
+        this.available = new StripedCounter(stripes, toUnits(row.getAvailableQuantity()));
+        this.reserved = new StripedCounter(stripes, toUnits(row.getReservedQuantity()));
+        this.version = new AtomicLong(row.getVersion() == null ? 0 : row.getVersion());
+    }
+
+    String stockId() {
+        return stockId;
+    }
+
+    StockKey key() {
+        return key;
+    }
+
+    long nextVersion() {
+        return version.incrementAndGet();
+    }
+
+    /**
+     * Builds a detached row image from the current counters.
+     *
+     * @param availableAdjustment Units added to available (pre-update images)
+     * @param reservedAdjustment  Units added to reserved (pre-update images)
+     */
+    StockEntity snapshot(long availableAdjustment, long reservedAdjustment) {
+        StockEntity entity = new StockEntity();
+        entity.setId(stockId);
+        entity.setProductId(productId);
+        entity.setSku(key.sku().value());
+        entity.setLocationId(key.locationId().value());
+        entity.setAvailableQuantity(fromUnits(available.sum() + availableAdjustment));
+        entity.setReservedQuantity(fromUnits(reserved.sum() + reservedAdjustment));
+        entity.setUnitOfMeasure(unitOfMeasure);
+        entity.setVersion(version.get());
+        entity.setCreatedAt(createdAt);
+        entity.setUpdatedAt(Instant.now());
+        return entity;
+    }
+
+    static long toUnits(BigDecimal value) {
+        return Quantity.of(value).units();
+    }
+
+    static BigDecimal fromUnits(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+}
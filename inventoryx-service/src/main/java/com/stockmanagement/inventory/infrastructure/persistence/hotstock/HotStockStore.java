@@ -0,0 +1,641 @@
+package com.stockmanagement.inventory.infrastructure.persistence.hotstock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.domain.model.valueobject.LocationId;
+import com.stockmanagement.inventory.domain.model.valueobject.ProductSKU;
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
+import com.stockmanagement.inventory.domain.model.valueobject.StockKey;
+import com.stockmanagement.inventory.infrastructure.config.BackgroundThreads;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.StockEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.JpaStockRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HotStockStore - Optional in-memory mode for high-contention SKU/locations.
+ *
+ * PROBLEM:
+ * A handful of SKUs take most reserve/quickSale traffic and every request
+ * serializes on the same inventory.stocks row lock.
+ *
+ * SOLUTION (write-behind):
+ * For configured keys (inventory.hot-stock.keys) available/reserved live in
+ * striped CAS counters. Each transaction's changes are appended to a local
+ * write-ahead file and fsynced (group commit) before the database commit,
+ * so a failed append or fsync rolls the transaction back. Committed changes
+ * are flushed to the stocks row and stock_movements in one batch every
+ * flush interval.
+ *
+ * VISIBILITY RULE:
+ * Decrements are applied immediately (they claim quantity, undone on
+ * rollback); increments are applied only after commit, once the record is
+ * queued. Memory never shows quantity that might roll back, and any flushed
+ * prefix of the queue keeps both columns non-negative in PostgreSQL.
+ *
+ * CRASH SAFETY:
+ * A flushed segment is recorded in inventory.hot_stock_checkpoints in the
+ * same transaction as its rows. At startup, remaining segments without a
+ * checkpoint are replayed before counters are loaded. A record whose
+ * database commit failed after the append is followed by an abort marker
+ * and skipped on replay.
+ *
+ * A transaction keeps the WAL read lock from its append to completion, so
+ * a flush never seals a segment while a record in it is still undecided.
+ * Flushes wait at most ROTATE_WAIT_MS for that lock and otherwise retry on
+ * the next interval (a committing transaction may itself wait on database
+ * locks).
+ *
+ * TRADE-OFF:
+ * Plain SQL readers (dashboard, reports) see hot rows up to one flush
+ * interval late. Reads through StockRepository are always current.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class HotStockStore {
+
+    private static final String APPLY_DELTA_SQL = "UPDATE inventory.stocks "
+            + "SET available_quantity = available_quantity + :available, "
+            + "reserved_quantity = reserved_quantity + :reserved, "
+            + "version = version + 1 "
+            + "WHERE id = :id";
+
+    static final String INSERT_MOVEMENT_SQL = "INSERT INTO inventory.stock_movements "
+            + "(id, stock_id, movement_type, quantity, reason, reference_id, performed_by, performed_at) "
+            + "VALUES (:id, :stockId, :movementType, :quantity, :reason, :referenceId, :performedBy, :performedAt) "
+            + "ON CONFLICT (id, performed_at) DO NOTHING"; // V6 primary key
+
+    private static final String INSERT_CHECKPOINT_SQL = "INSERT INTO inventory.hot_stock_checkpoints (segment) "
+            + "VALUES (:segment)";
+
+    private static final String CHECKPOINT_EXISTS_SQL = "SELECT COUNT(*) FROM inventory.hot_stock_checkpoints "
+            + "WHERE segment = :segment";
+
+    private static final String PRUNE_CHECKPOINTS_SQL = "DELETE FROM inventory.hot_stock_checkpoints "
+            + "WHERE flushed_at < now() - interval '7 days'";
+
+    private static final long ROTATE_WAIT_MS = 100;
+
+    private final boolean enabled;
+    private final Set<StockKey> hotKeys;
+    private final int stripes;
+    private final long flushIntervalMs;
+    private final Path walDirectory;
+    private final boolean walSync;
+    private final boolean virtualThreads;
+
+    private final JpaStockRepository jpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, HotStockCounter> countersById = new ConcurrentHashMap<>();
+    private final Map<StockKey, HotStockCounter> countersByKey = new ConcurrentHashMap<>();
+    private final Queue<HotStockWalRecord> pending = new ConcurrentLinkedQueue<>();
+    private final Deque<SealedBatch> backlog = new ArrayDeque<>();
+
+    // Readers: commit (append + enqueue). Writer: flush (rotate + drain).
+    private final ReentrantReadWriteLock walLock = new ReentrantReadWriteLock();
+    private final Object flushLock = new Object();
+
+    private HotStockWriteAheadLog wal;
+    private ScheduledExecutorService flusher;
+
+    public HotStockStore(
+            @Value("${inventory.hot-stock.enabled:false}") boolean enabled,
+            @Value("${inventory.hot-stock.keys:}") List<String> keys,
+            @Value("${inventory.hot-stock.stripes:8}") int stripes,
+            @Value("${inventory.hot-stock.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${inventory.hot-stock.wal-directory:./data/hot-stock-wal}") String walDirectory,
+            @Value("${inventory.hot-stock.wal-sync:true}") boolean walSync,
+            @Value(BackgroundThreads.VIRTUAL_THREADS_PROPERTY) boolean virtualThreads,
+            JpaStockRepository jpaRepository,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.hotKeys = enabled ? parseKeys(keys) : Set.of();
+        this.stripes = stripes;
+        this.flushIntervalMs = flushIntervalMs;
+        this.walDirectory = Path.of(walDirectory);
+        this.walSync = walSync;
+        this.virtualThreads = virtualThreads;
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+    }
+
+    // ==================== Lifecycle ====================
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        wal = new HotStockWriteAheadLog(walDirectory, objectMapper, walSync);
+        recover(wal.existingSegments());
+        wal.open();
+
+        for (StockKey key : hotKeys) {
+            jpaRepository.findBySkuAndLocationId(key.sku().value(), key.locationId().value())
+                    .ifPresent(this::register);
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                BackgroundThreads.factory("hot-stock-flusher", virtualThreads));
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("Hot stock mode enabled: keys={}, tracked={}, flushInterval={}ms, wal={}",
+                hotKeys, countersById.size(), flushIntervalMs, walDirectory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        wal.close();
+    }
+
+    // ==================== Routing ====================
+
+    /**
+     * Is this key configured as hot (tracked or not yet created)?
+     */
+    public boolean isHotKey(StockKey key) {
+        return hotKeys.contains(key);
+    }
+
+    public boolean tracks(StockKey key) {
+        return countersByKey.containsKey(key);
+    }
+
+    public boolean tracks(String stockId) {
+        return countersById.containsKey(stockId);
+    }
+
+    // ==================== Reads ====================
+
+    /**
+     * Replaces a (possibly stale) row image with the in-memory state.
+     * Non-hot rows are returned unchanged.
+     */
+    public StockEntity overlay(StockEntity row) {
+        HotStockCounter counter = countersById.get(row.getId());
+        if (counter == null) {
+            return row;
+        }
+        StockEntity current = counter.snapshot(0, 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentUnitOfWork().bases.put(counter.stockId(), new long[] {
+                    HotStockCounter.toUnits(current.getAvailableQuantity()),
+                    HotStockCounter.toUnits(current.getReservedQuantity()) });
+        }
+        return current;
+    }
+
+    // ==================== Writes ====================
+
+    /**
+     * Moves quantity from available to reserved.
+     *
+     * @return Pre-update image, or empty if available is insufficient
+     */
+    public Optional<StockEntity> reserve(StockKey key, Quantity quantity) {
+        HotStockCounter counter = countersByKey.get(key);
+        long units = quantity.units();
+        UnitOfWork unitOfWork = currentUnitOfWork();
+
+        if (!counter.available.tryDecrement(units)) {
+            return Optional.empty();
+        }
+        unitOfWork.undo.add(() -> counter.available.add(units));
+        unitOfWork.record(counter, -units, units);
+        counter.nextVersion();
+
+        // Reserved increment is deferred to commit, so only available needs restoring
+        return Optional.of(counter.snapshot(units, 0));
+    }
+
+    /**
+     * Deducts quantity from available (withdrawal, quick sale).
+     *
+     * @return Pre-update image, or empty if available is insufficient
+     */
+    public Optional<StockEntity> deduct(String stockId, Quantity quantity) {
+        HotStockCounter counter = countersById.get(stockId);
+        long units = quantity.units();
+        UnitOfWork unitOfWork = currentUnitOfWork();
+
+        if (!counter.available.tryDecrement(units)) {
+            return Optional.empty();
+        }
+        unitOfWork.undo.add(() -> counter.available.add(units));
+        unitOfWork.record(counter, -units, 0);
+        counter.nextVersion();
+
+        return Optional.of(counter.snapshot(units, 0));
+    }
+
+    /**
+     * Applies a saved aggregate as a delta against the image it was loaded
+     * from in this transaction (see {@link #overlay}).
+     *
+     * Deltas commute, so concurrent receive/release/confirm on a hot stock
+     * do not conflict. A decrement that no longer fits fails like an
+     * optimistic lock conflict would.
+     *
+     * @return Row image as saved, with the next version
+     */
+    public StockEntity applyChanges(StockEntity updated) {
+        HotStockCounter counter = countersById.get(updated.getId());
+        UnitOfWork unitOfWork = currentUnitOfWork();
+        long[] base = unitOfWork.bases.get(counter.stockId());
+        if (base == null) {
+            throw new IllegalStateException("Hot stock saved without being loaded in this transaction: "
+                    + counter.key());
+        }
+
+        long newAvailable = HotStockCounter.toUnits(updated.getAvailableQuantity());
+        long newReserved = HotStockCounter.toUnits(updated.getReservedQuantity());
+        long availableDelta = newAvailable - base[0];
+        long reservedDelta = newReserved - base[1];
+
+        if (availableDelta < 0) {
+            claim(counter.available, -availableDelta, counter, unitOfWork);
+        }
+        if (reservedDelta < 0) {
+            try {
+                claim(counter.reserved, -reservedDelta, counter, unitOfWork);
+            } catch (RuntimeException e) {
+                if (availableDelta < 0) {
+                    counter.available.add(-availableDelta);
+                    unitOfWork.undo.removeLast();
+                }
+                throw e;
+            }
+        }
+
+        unitOfWork.record(counter, availableDelta, reservedDelta);
+        unitOfWork.bases.put(counter.stockId(), new long[] { newAvailable, newReserved });
+
+        updated.setVersion(counter.nextVersion());
+        return updated;
+    }
+
+    /**
+     * Queues a movement row to be written with the next flush.
+     */
+    public void recordMovement(String stockId, String movementType, BigDecimal quantity, String reason,
+            String referenceId, String performedBy, Instant performedAt) {
+        currentUnitOfWork().movements.add(new HotStockWalRecord.Movement(
+                UUID.randomUUID().toString(), stockId, movementType, quantity,
+                reason, referenceId, performedBy, performedAt.toString()));
+    }
+
+    /**
+     * Starts tracking a newly inserted hot row once its transaction commits.
+     */
+    public void registerAfterCommit(StockEntity inserted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(inserted);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(inserted);
+            }
+        });
+    }
+
+    public void forget(String stockId) {
+        HotStockCounter counter = countersById.remove(stockId);
+        if (counter != null) {
+            countersByKey.remove(counter.key());
+        }
+    }
+
+    // ==================== Commit / Flush ====================
+
+    private void claim(StripedCounter target, long units, HotStockCounter counter, UnitOfWork unitOfWork) {
+        if (!target.tryDecrement(units)) {
+            throw new ObjectOptimisticLockingFailureException(StockEntity.class, counter.stockId());
+        }
+        unitOfWork.undo.add(() -> target.add(units));
+    }
+
+    /**
+     * Before the database commit: makes the transaction's record durable.
+     * Any failure here rolls the transaction back. The WAL read lock stays
+     * held until completion.
+     */
+    private void writeAhead(UnitOfWork unitOfWork) {
+        if (unitOfWork.deltas.isEmpty() && unitOfWork.movements.isEmpty()) {
+            return;
+        }
+
+        HotStockWalRecord record = unitOfWork.toRecord();
+        walLock.readLock().lock();
+        unitOfWork.walLocked = true;
+        try {
+            long offset = wal.write(record);
+            unitOfWork.written = record;
+            wal.sync(offset);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(
+                    "Hot stock WAL append failed (tx=" + record.txId() + ")", e);
+        }
+    }
+
+    /**
+     * After the database commit: queues the record for the next flush.
+     */
+    private void commit(UnitOfWork unitOfWork) {
+        if (unitOfWork.written == null) {
+            return;
+        }
+        pending.add(unitOfWork.written);
+
+        // Increments become visible only now - after the record is queued
+        unitOfWork.increments.forEach((stockId, increment) -> {
+            HotStockCounter counter = countersById.get(stockId);
+            if (counter != null) {
+                counter.available.add(increment[0]);
+                counter.reserved.add(increment[1]);
+            }
+        });
+    }
+
+    /**
+     * The database did not commit a transaction whose record is already in
+     * the WAL: mark it aborted so replay skips it.
+     */
+    private void abort(UnitOfWork unitOfWork) {
+        if (unitOfWork.written == null) {
+            return;
+        }
+        String txId = unitOfWork.written.txId();
+        try {
+            wal.sync(wal.write(HotStockWalRecord.abortOf(txId)));
+        } catch (IOException e) {
+            log.error("Hot stock WAL abort marker failed (tx={}); a replay would apply the rolled-back change",
+                    txId, e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Hot stock flush failed; will retry", e);
+        }
+    }
+
+    /**
+     * Seals the current WAL segment and writes its records to PostgreSQL.
+     * Failed batches stay in the backlog (and on disk) and are retried first.
+     */
+    void flush() throws IOException {
+        synchronized (flushLock) {
+            if (!pending.isEmpty() && tryLockForRotation()) {
+                List<HotStockWalRecord> batch = new ArrayList<>();
+                Path sealed;
+                try {
+                    sealed = wal.rotate();
+                    HotStockWalRecord record;
+                    while ((record = pending.poll()) != null) {
+                        batch.add(record);
+                    }
+                } finally {
+                    walLock.writeLock().unlock();
+                }
+                backlog.addLast(new SealedBatch(sealed, batch));
+            }
+
+            while (!backlog.isEmpty()) {
+                SealedBatch next = backlog.peekFirst();
+                apply(next.records(), next.segment().getFileName().toString());
+                wal.delete(next.segment());
+                backlog.removeFirst();
+            }
+        }
+    }
+
+    private boolean tryLockForRotation() {
+        try {
+            if (walLock.writeLock().tryLock(ROTATE_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.debug("Hot stock flush postponed: transactions still committing");
+        return false;
+    }
+
+    private void apply(List<HotStockWalRecord> records, String segment) {
+        // Net delta per row, in id order (consistent lock order)
+        Map<String, long[]> deltas = new TreeMap<>();
+        List<MapSqlParameterSource> movements = new ArrayList<>();
+        for (HotStockWalRecord record : records) {
+            for (HotStockWalRecord.Delta delta : record.deltas()) {
+                long[] total = deltas.computeIfAbsent(delta.stockId(), id -> new long[2]);
+                total[0] += delta.availableUnits();
+                total[1] += delta.reservedUnits();
+            }
+            for (HotStockWalRecord.Movement movement : record.movements()) {
+                movements.add(new MapSqlParameterSource()
+                        .addValue("id", movement.id())
+                        .addValue("stockId", movement.stockId())
+                        .addValue("movementType", movement.movementType())
+                        .addValue("quantity", movement.quantity())
+                        .addValue("reason", movement.reason())
+                        .addValue("referenceId", movement.referenceId())
+                        .addValue("performedBy", movement.performedBy())
+                        .addValue("performedAt", Timestamp.from(Instant.parse(movement.performedAt()))));
+            }
+        }
+
+        MapSqlParameterSource[] updates = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("available", HotStockCounter.fromUnits(entry.getValue()[0]))
+                        .addValue("reserved", HotStockCounter.fromUnits(entry.getValue()[1])))
+                .toArray(MapSqlParameterSource[]::new);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, updates);
+            jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, movements.toArray(MapSqlParameterSource[]::new));
+            jdbcTemplate.update(INSERT_CHECKPOINT_SQL, new MapSqlParameterSource("segment", segment));
+        });
+
+        log.debug("Flushed hot stock segment {}: records={}, rows={}, movements={}",
+                segment, records.size(), updates.length, movements.size());
+    }
+
+    private void recover(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            String name = segment.getFileName().toString();
+            Integer flushed = jdbcTemplate.queryForObject(CHECKPOINT_EXISTS_SQL,
+                    new MapSqlParameterSource("segment", name), Integer.class);
+            if (flushed == null || flushed == 0) {
+                List<HotStockWalRecord> records = committedOnly(wal.read(segment));
+                apply(records, name);
+                log.warn("Replayed hot stock WAL segment {} ({} records)", name, records.size());
+            }
+            wal.delete(segment);
+        }
+        jdbcTemplate.update(PRUNE_CHECKPOINTS_SQL, new MapSqlParameterSource());
+    }
+
+    private static List<HotStockWalRecord> committedOnly(List<HotStockWalRecord> records) {
+        Set<String> aborted = new HashSet<>();
+        for (HotStockWalRecord record : records) {
+            if (record.aborted()) {
+                aborted.add(record.txId());
+            }
+        }
+        return records.stream()
+                .filter(record -> !record.aborted() && !aborted.contains(record.txId()))
+                .toList();
+    }
+
+    // ==================== Internals ====================
+
+    private void register(StockEntity row) {
+        StockKey key = StockKey.of(ProductSKU.of(row.getSku()), LocationId.of(row.getLocationId()));
+        if (!hotKeys.contains(key)) {
+            return;
+        }
+        HotStockCounter counter = countersByKey.computeIfAbsent(key, k -> new HotStockCounter(row, k, stripes));
+        countersById.putIfAbsent(counter.stockId(), counter);
+    }
+
+    private UnitOfWork currentUnitOfWork() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Hot stock updates require an active transaction");
+        }
+        UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+        if (unitOfWork == null) {
+            unitOfWork = new UnitOfWork();
+            TransactionSynchronizationManager.bindResource(this, unitOfWork);
+            TransactionSynchronizationManager.registerSynchronization(unitOfWork);
+        }
+        return unitOfWork;
+    }
+
+    private static Set<StockKey> parseKeys(List<String> keys) {
+        Set<StockKey> parsed = new HashSet<>();
+        for (String raw : keys) {
+            String key = raw.trim();
+            if (key.isEmpty()) {
+                continue;
+            }
+            int separator = key.lastIndexOf('@');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Hot stock key must be SKU@locationId: " + key);
+            }
+            parsed.add(StockKey.of(
+                    ProductSKU.of(key.substring(0, separator)),
+                    LocationId.of(key.substring(separator + 1))));
+        }
+        return Set.copyOf(parsed);
+    }
+
+    private record SealedBatch(Path segment, List<HotStockWalRecord> records) {
+    }
+
+    /**
+     * Per-transaction collector of hot stock work.
+     */
+    private final class UnitOfWork implements TransactionSynchronization {
+
+        private final Map<String, long[]> deltas = new LinkedHashMap<>();
+        private final Map<String, long[]> increments = new HashMap<>();
+        private final Map<String, long[]> bases = new HashMap<>();
+        private final List<HotStockWalRecord.Movement> movements = new ArrayList<>();
+        private final List<Runnable> undo = new ArrayList<>();
+
+        // Set by writeAhead(); the read lock is released at completion
+        private HotStockWalRecord written;
+        private boolean walLocked;
+
+        void record(HotStockCounter counter, long availableDelta, long reservedDelta) {
+            long[] total = deltas.computeIfAbsent(counter.stockId(), id -> new long[2]);
+            total[0] += availableDelta;
+            total[1] += reservedDelta;
+
+            // Decrements were already claimed; increments wait for commit
+            long[] deferred = increments.computeIfAbsent(counter.stockId(), id -> new long[2]);
+            deferred[0] += Math.max(0, availableDelta);
+            deferred[1] += Math.max(0, reservedDelta);
+        }
+
+        HotStockWalRecord toRecord() {
+            List<HotStockWalRecord.Delta> list = new ArrayList<>();
+            deltas.forEach((stockId, delta) -> list.add(new HotStockWalRecord.Delta(stockId, delta[0], delta[1])));
+            return new HotStockWalRecord(UUID.randomUUID().toString(), list, List.copyOf(movements));
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writeAhead(this);
+        }
+
+        @Override
+        public void afterCommit() {
+            commit(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(HotStockStore.this);
+            try {
+                if (status != STATUS_COMMITTED) {
+                    abort(this);
+                }
+            } finally {
+                if (walLocked) {
+                    walLocked = false;
+                    walLock.readLock().unlock();
+                }
+            }
+            if (status != STATUS_COMMITTED) {
+                undo.forEach(Runnable::run);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.stockmanagement.inventory.infrastructure.persistence.hotstock;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * HotStockWalRecord - Everything one transaction did to hot stocks.
+ *
+ * One record = one line in the write-ahead file = one unit of write-behind.
+ * Quantities in deltas are scaled longs (units of 10^-4, Quantity's scale).
+ *
+ * Records are written before the database commit. If that commit then
+ * fails, an abort marker with the same txId follows in the same segment and
+ * replay skips the record.
+ *
+ * @param txId      Unique id of the originating transaction
+ * @param deltas    Counter changes per stock
+ * @param movements Movement rows to insert (ids make replay idempotent)
+ * @param aborted   true for the abort marker of txId (no deltas/movements)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+record HotStockWalRecord(String txId, List<Delta> deltas, List<Movement> movements, boolean aborted) {
+
+    HotStockWalRecord(String txId, List<Delta> deltas, List<Movement> movements) {
+        this(txId, deltas, movements, false);
+    }
+
+    static HotStockWalRecord abortOf(String txId) {
+        return new HotStockWalRecord(txId, List.of(), List.of(), true);
+    }
+
+    /**
+     * Net change applied to one stocks row.
+     */
+    record Delta(String stockId, long availableUnits, long reservedUnits) {
+    }
+
+    /**
+     * One stock_movements row (performedAt as ISO-8601 instant).
+     */
+    record Movement(String id, String stockId, String movementType, BigDecimal quantity,
+            String reason, String referenceId, String performedBy, String performedAt) {
+    }
+}
@@ -0,0 +1,199 @@
+package com.stockmanagement.inventory.infrastructure.persistence.hotstock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * HotStockWriteAheadLog - Local append-only file of hot-stock work, written
+ * before the database commit (see HotStockWalRecord for aborts).
+ *
+ * FORMAT:
+ * One JSON line per HotStockWalRecord, in segment files named
+ * {@code hot-stock-<millis>-<seq>.wal} (lexicographic = creation order).
+ *
+ * DURABILITY (group commit):
+ * write() appends under a short lock and returns a logical offset; sync()
+ * fsyncs once for every writer waiting at that moment, so N concurrent
+ * commits cost one fsync instead of N.
+ *
+ * LIFECYCLE:
+ * rotate() seals the current segment; the owner deletes a sealed segment
+ * only after its records are committed to PostgreSQL. Whatever is left on
+ * disk at startup is replayed.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+final class HotStockWriteAheadLog implements Closeable {
+
+    private static final String SUFFIX = ".wal";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final boolean syncEnabled;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+    private Path currentSegment;
+    private long writtenOffset;
+    private volatile long syncedOffset;
+
+    HotStockWriteAheadLog(Path directory, ObjectMapper objectMapper, boolean syncEnabled) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.syncEnabled = syncEnabled;
+    }
+
+    /**
+     * Lists segments left by a previous run. Call before open().
+     */
+    List<Path> existingSegments() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Opens a fresh segment for appending.
+     */
+    void open() throws IOException {
+        synchronized (writeLock) {
+            openNewSegment();
+        }
+    }
+
+    /**
+     * Appends a record (not yet durable). A failed append is truncated away
+     * so it cannot corrupt the lines written after it.
+     *
+     * @return Logical offset to pass to {@link #sync(long)}
+     */
+    long write(HotStockWalRecord record) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(record);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+
+        synchronized (writeLock) {
+            long start = channel.size();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                try {
+                    channel.truncate(start);
+                } catch (IOException truncateFailure) {
+                    e.addSuppressed(truncateFailure);
+                }
+                throw e;
+            }
+            writtenOffset += json.length + 1;
+            return writtenOffset;
+        }
+    }
+
+    /**
+     * Blocks until everything up to offset is on disk.
+     */
+    void sync(long offset) throws IOException {
+        if (!syncEnabled || syncedOffset >= offset) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedOffset >= offset) {
+                return; // another writer's fsync covered us
+            }
+            long target;
+            FileChannel toForce;
+            synchronized (writeLock) {
+                target = writtenOffset;
+                toForce = channel;
+            }
+            toForce.force(false);
+            syncedOffset = target;
+        }
+    }
+
+    /**
+     * Seals the current segment and starts a new one.
+     *
+     * @return The sealed segment (fully synced)
+     */
+    Path rotate() throws IOException {
+        synchronized (syncLock) {
+            synchronized (writeLock) {
+                Path sealed = currentSegment;
+                channel.force(false);
+                channel.close();
+                syncedOffset = writtenOffset;
+                openNewSegment();
+                return sealed;
+            }
+        }
+    }
+
+    /**
+     * Reads a segment. A torn trailing line (crash mid-write) is ignored.
+     */
+    List<HotStockWalRecord> read(Path segment) throws IOException {
+        List<HotStockWalRecord> records = new ArrayList<>();
+        List<String> lines = Files.readAllLines(segment, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                records.add(objectMapper.readValue(line, HotStockWalRecord.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e; // corruption in the middle is not a torn write
+                }
+                log.warn("Ignoring torn record at end of {}", segment.getFileName());
+            }
+        }
+        return records;
+    }
+
+    void delete(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            if (channel != null && channel.isOpen()) {
+                channel.force(false);
+                channel.close();
+            }
+        }
+    }
+
+    private void openNewSegment() throws IOException {
+        Files.createDirectories(directory);
+        String name = String.format("hot-stock-%013d-%06d%s",
+                System.currentTimeMillis(), sequence.incrementAndGet(), SUFFIX);
+        currentSegment = directory.resolve(name);
+        channel = FileChannel.open(currentSegment,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
@@ -71,8 +71,8 @@ public class StockEntityMapper {
                 entity.getProductId(),
                 ProductSKU.of(entity.getSku()),
                 LocationId.of(entity.getLocationId()),
-                Quantity.of(entity.getAvailableQuantity().toString()),
-                Quantity.of(entity.getReservedQuantity().toString()),
+                Quantity.of(entity.getAvailableQuantity()),
+                Quantity.of(entity.getReservedQuantity()),
                 entity.getUnitOfMeasure(),
                 entity.getVersion(),
                 entity.getCreatedAt(),
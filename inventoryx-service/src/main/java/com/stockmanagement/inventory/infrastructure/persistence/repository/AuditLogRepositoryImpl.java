@@ -4,13 +4,25 @@ import com.stockmanagement.inventory.domain.model.AuditLog;
 import com.stockmanagement.inventory.domain.repository.AuditLogRepository;
 import com.stockmanagement.inventory.infrastructure.persistence.entity.AuditLogEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class AuditLogRepositoryImpl implements AuditLogRepository {
 
+    private static final String INSERT_SQL = "INSERT INTO inventory.audit_logs "
+            + "(id, user_id, action, resource, resource_id, details, ip_address, user_agent, status, performed_at) "
+            + "VALUES (:id, :userId, :action, :resource, :resourceId, :details, :ipAddress, :userAgent, :status, "
+            + ":performedAt) ON CONFLICT (id) DO NOTHING";
+
     private final JpaAuditLogRepository jpaAuditLogRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public void save(AuditLog auditLog) {
@@ -28,4 +40,30 @@ public class AuditLogRepositoryImpl implements AuditLogRepository {
 
         jpaAuditLogRepository.save(entity);
     }
+
+    @Override
+    public void saveAll(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] rows = auditLogs.stream()
+                .map(auditLog -> new MapSqlParameterSource()
+                        .addValue("id", auditLog.getId().toString())
+                        .addValue("userId", auditLog.getUserId() != null
+                                ? auditLog.getUserId().value().toString()
+                                : null)
+                        .addValue("action", auditLog.getAction())
+                        .addValue("resource", auditLog.getResource())
+                        .addValue("resourceId", auditLog.getResourceId())
+                        .addValue("details", auditLog.getDetails())
+                        .addValue("ipAddress", auditLog.getIpAddress())
+                        .addValue("userAgent", auditLog.getUserAgent())
+                        .addValue("status", auditLog.getStatus())
+                        .addValue("performedAt", Timestamp.valueOf(auditLog.getPerformedAt() != null
+                                ? auditLog.getPerformedAt()
+                                : LocalDateTime.now())))
+                .toArray(MapSqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
 }
@@ -0,0 +1,230 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BulkReceiptWriter - Applies thousands of stock receipts with a handful of
+ * set-based statements.
+ *
+ * PROBLEM:
+ * One receipt = lookup stock, maybe lookup product, save stock, insert
+ * movement. 100k receipt lines meant 300k+ round trips.
+ *
+ * FLOW (one transaction, fixed number of statements):
+ * 1. COPY all lines into a temporary staging table (ON COMMIT DROP)
+ * 2. Mark lines with unknown locations, lines that would create a stock
+ * for an unknown product, and lines whose unit of measure disagrees with
+ * the stock (or, for a new stock, with the other lines) as rejected
+ * 3. Upsert stocks: quantities summed per (sku, location_id), inserted or
+ * added with INSERT ... ON CONFLICT, locked in (sku, location_id) order
+ * 4. Insert one RECEIPT movement per accepted line
+ * 5. Read back the outcome of every line
+ *
+ * CONCURRENCY:
+ * Updated rows get version + 1, so concurrent JPA writers holding an older
+ * image fail their optimistic check instead of overwriting the receipt.
+ * Hot stock keys are not handled here (the caller rejects them).
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class BulkReceiptWriter {
+
+    private static final String CREATE_STAGE_SQL = "CREATE TEMPORARY TABLE bulk_receipt_stage ("
+            + "line_no INT NOT NULL, "
+            + "sku VARCHAR(20) NOT NULL, "
+            + "location_id VARCHAR(36) NOT NULL, "
+            + "quantity NUMERIC(19,4) NOT NULL, "
+            + "unit_of_measure VARCHAR(10) NOT NULL, "
+            + "reason TEXT, "
+            + "reference_id VARCHAR(100), "
+            + "stock_id VARCHAR(36), "
+            + "error TEXT"
+            + ") ON COMMIT DROP";
+
+    private static final String COPY_SQL = "COPY bulk_receipt_stage "
+            + "(line_no, sku, location_id, quantity, unit_of_measure, reason, reference_id) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String ANALYZE_STAGE_SQL = "ANALYZE bulk_receipt_stage";
+
+    private static final String REJECT_UNKNOWN_LOCATION_SQL = "UPDATE bulk_receipt_stage st "
+            + "SET error = 'Location not found: ' || st.location_id "
+            + "WHERE NOT EXISTS (SELECT 1 FROM inventory.locations l WHERE l.id = st.location_id)";
+
+    // Same rule as ReceiveStockUseCase: the product is only needed for a new stock
+    private static final String REJECT_UNKNOWN_PRODUCT_SQL = "UPDATE bulk_receipt_stage st "
+            + "SET error = 'Product not found with SKU: ' || st.sku "
+            + "WHERE st.error IS NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM inventory.stocks s "
+            + "WHERE s.sku = st.sku AND s.location_id = st.location_id) "
+            + "AND NOT EXISTS (SELECT 1 FROM inventory.products p WHERE p.sku = st.sku)";
+
+    // A stock's unit never changes; quantities in another unit are not addable
+    private static final String REJECT_UNIT_MISMATCH_SQL = "UPDATE bulk_receipt_stage st "
+            + "SET error = 'Unit of measure ' || st.unit_of_measure || ' does not match stock unit ' "
+            + "|| s.unit_of_measure "
+            + "FROM inventory.stocks s "
+            + "WHERE st.error IS NULL AND s.sku = st.sku AND s.location_id = st.location_id "
+            + "AND s.unit_of_measure <> st.unit_of_measure";
+
+    // New stock: no unit to trust, so the whole group is rejected
+    private static final String REJECT_MIXED_UNITS_SQL = "UPDATE bulk_receipt_stage st "
+            + "SET error = 'Conflicting units of measure for new stock ' || st.sku || ' at ' || st.location_id "
+            + "WHERE st.error IS NULL "
+            + "AND EXISTS (SELECT 1 FROM bulk_receipt_stage o "
+            + "WHERE o.error IS NULL AND o.sku = st.sku AND o.location_id = st.location_id "
+            + "AND o.unit_of_measure <> st.unit_of_measure)";
+
+    private static final String UPSERT_STOCKS_SQL = "INSERT INTO inventory.stocks AS s "
+            + "(id, product_id, sku, location_id, available_quantity, reserved_quantity, unit_of_measure, version) "
+            + "SELECT gen_random_uuid()::text, p.id, g.sku, g.location_id, g.quantity, 0, g.unit_of_measure, 0 "
+            + "FROM (SELECT sku, location_id, SUM(quantity) AS quantity, unit_of_measure "
+            + "FROM bulk_receipt_stage WHERE error IS NULL GROUP BY sku, location_id, unit_of_measure) g "
+            + "LEFT JOIN inventory.products p ON p.sku = g.sku "
+            + "ORDER BY g.sku, g.location_id "
+            + "ON CONFLICT (sku, location_id) DO UPDATE "
+            + "SET available_quantity = s.available_quantity + EXCLUDED.available_quantity, "
+            + "version = s.version + 1";
+
+    private static final String ASSIGN_STOCK_IDS_SQL = "UPDATE bulk_receipt_stage st "
+            + "SET stock_id = s.id "
+            + "FROM inventory.stocks s "
+            + "WHERE st.error IS NULL AND s.sku = st.sku AND s.location_id = st.location_id";
+
+    private static final String INSERT_MOVEMENTS_SQL = "INSERT INTO inventory.stock_movements "
+            + "(id, stock_id, movement_type, quantity, reason, reference_id, performed_by, performed_at) "
+            + "SELECT gen_random_uuid()::text, st.stock_id, 'RECEIPT', st.quantity, st.reason, st.reference_id, "
+            + ":performedBy, :performedAt "
+            + "FROM bulk_receipt_stage st WHERE st.stock_id IS NOT NULL "
+            + "ORDER BY st.line_no";
+
+    private static final String OUTCOMES_SQL = "SELECT line_no, stock_id, error FROM bulk_receipt_stage "
+            + "ORDER BY line_no";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    public BulkReceiptWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = jdbcTemplate.getJdbcTemplate().getDataSource();
+    }
+
+    /**
+     * Receives all lines in the caller's transaction.
+     *
+     * @param lines       Validated receipt lines (unique line numbers)
+     * @param performedBy User recorded on the movements
+     * @return Outcome of every line, ordered by line number
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<LineOutcome> receive(List<ReceiptLine> lines, String performedBy) {
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+
+        var jdbc = jdbcTemplate.getJdbcTemplate();
+        jdbc.execute(CREATE_STAGE_SQL);
+        copyIntoStage(lines);
+        jdbc.execute(ANALYZE_STAGE_SQL);
+
+        int unknownLocations = jdbc.update(REJECT_UNKNOWN_LOCATION_SQL);
+        int unknownProducts = jdbc.update(REJECT_UNKNOWN_PRODUCT_SQL);
+        int unitMismatches = jdbc.update(REJECT_UNIT_MISMATCH_SQL) + jdbc.update(REJECT_MIXED_UNITS_SQL);
+        int stocks = jdbc.update(UPSERT_STOCKS_SQL);
+        jdbc.update(ASSIGN_STOCK_IDS_SQL);
+        int movements = jdbcTemplate.update(INSERT_MOVEMENTS_SQL, new MapSqlParameterSource()
+                .addValue("performedBy", performedBy)
+                .addValue("performedAt", Timestamp.from(Instant.now())));
+
+        log.info("Bulk receipt staged {} lines: {} stocks upserted, {} movements, {} unknown locations, "
+                + "{} unknown products, {} unit mismatches", lines.size(), stocks, movements, unknownLocations,
+                unknownProducts, unitMismatches);
+
+        List<LineOutcome> outcomes = new ArrayList<>(lines.size());
+        jdbc.query(OUTCOMES_SQL, (RowCallbackHandler) rs -> {
+            outcomes.add(new LineOutcome(rs.getInt("line_no"), rs.getString("stock_id"), rs.getString("error")));
+        });
+        return outcomes;
+    }
+
+    /**
+     * Streams the lines into the staging table over the transaction's connection.
+     */
+    private void copyIntoStage(List<ReceiptLine> lines) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, COPY_SQL, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                for (ReceiptLine line : lines) {
+                    writer.write(Integer.toString(line.lineNumber()));
+                    writeField(writer, line.sku());
+                    writeField(writer, line.locationId());
+                    writeField(writer, line.quantity().toPlainString());
+                    writeField(writer, line.unitOfMeasure());
+                    writeField(writer, line.reason());
+                    writeField(writer, line.referenceId());
+                    writer.write('\n');
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Bulk receipt COPY failed", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Bulk receipt COPY failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * CSV field for COPY: null stays unquoted (NULL), text is always quoted.
+     */
+    private static void writeField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value != null) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    public record ReceiptLine(int lineNumber, String sku, String locationId, BigDecimal quantity,
+            String unitOfMeasure, String reason, String referenceId) {
+    }
+
+    /**
+     * @param stockId Stock the line was booked to, null if rejected
+     * @param error   Rejection reason, null if received
+     */
+    public record LineOutcome(int lineNumber, String stockId, String error) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * DashboardQueryRepository - Read-only scans behind the dashboard snapshot.
+ *
+ * Plain JDBC: rows are streamed into the caller (no entity hydration, no
+ * persistence context for 200k stocks) and recent activity comes from one
+ * join instead of a lazy stock load per movement.
+ *
+ * The stock scan runs in a read-only transaction with a fetch size, so the
+ * PostgreSQL driver uses a cursor instead of buffering the whole table.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Repository
+public class DashboardQueryRepository {
+
+    private static final String STOCK_LINES_SQL = "SELECT s.id, s.sku, s.location_id, s.available_quantity, "
+            + "p.price_amount "
+            + "FROM inventory.stocks s "
+            + "LEFT JOIN inventory.products p ON s.sku = p.sku";
+
+    private static final String STOCK_LINES_BY_ID_SQL = STOCK_LINES_SQL + " WHERE s.id IN (:ids)";
+
+    private static final String COUNT_LOCATIONS_SQL = "SELECT COUNT(*) FROM inventory.locations";
+
+    private static final String RECENT_ACTIVITY_SQL = "SELECT m.id, m.movement_type, m.quantity, s.sku, "
+            + "s.location_id, m.performed_by, m.performed_at "
+            + "FROM inventory.stock_movements m "
+            + "LEFT JOIN inventory.stocks s ON s.id = m.stock_id "
+            + "ORDER BY m.performed_at DESC "
+            + "LIMIT :limit";
+
+    private static final int SCAN_FETCH_SIZE = 1000;
+
+    // Well below PostgreSQL's 65535 bind parameters per statement
+    private static final int MAX_IDS_PER_QUERY = 10_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate scanTemplate;
+
+    public DashboardQueryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scanTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        this.scanTemplate.setFetchSize(SCAN_FETCH_SIZE);
+    }
+
+    /**
+     * Streams every stock row with its product price (null if no product).
+     */
+    @Transactional(readOnly = true)
+    public void forEachStockLine(Consumer<StockLineRow> consumer) {
+        scanTemplate.query(STOCK_LINES_SQL, (RowCallbackHandler) rs -> {
+            consumer.accept(new StockLineRow(
+                    rs.getString("id"),
+                    rs.getString("sku"),
+                    rs.getString("location_id"),
+                    rs.getBigDecimal("available_quantity"),
+                    rs.getBigDecimal("price_amount")));
+        });
+    }
+
+    /**
+     * The same rows for selected stocks (one query per 10,000 ids).
+     */
+    public List<StockLineRow> findStockLines(Collection<String> stockIds) {
+        List<String> ids = List.copyOf(stockIds);
+        List<StockLineRow> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_QUERY));
+            rows.addAll(jdbcTemplate.query(STOCK_LINES_BY_ID_SQL, new MapSqlParameterSource("ids", chunk),
+                    (rs, rowNum) -> new StockLineRow(
+                            rs.getString("id"),
+                            rs.getString("sku"),
+                            rs.getString("location_id"),
+                            rs.getBigDecimal("available_quantity"),
+                            rs.getBigDecimal("price_amount"))));
+        }
+        return rows;
+    }
+
+    public long countLocations() {
+        Long count = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_LOCATIONS_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Latest movements, newest first, with SKU and location in the same query.
+     */
+    public List<ActivityRow> findRecentActivity(int limit) {
+        return jdbcTemplate.query(RECENT_ACTIVITY_SQL, new MapSqlParameterSource("limit", limit),
+                (rs, rowNum) -> new ActivityRow(
+                        rs.getString("id"),
+                        rs.getString("movement_type"),
+                        rs.getBigDecimal("quantity"),
+                        rs.getString("sku"),
+                        rs.getString("location_id"),
+                        rs.getString("performed_by"),
+                        rs.getTimestamp("performed_at").toInstant()));
+    }
+
+    public record StockLineRow(String id, String sku, String locationId, BigDecimal availableQuantity,
+            BigDecimal priceAmount) {
+    }
+
+    public record ActivityRow(String id, String movementType, BigDecimal quantity, String sku,
+            String locationId, String performedBy, Instant performedAt) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * IdempotencyKeyRepository - Stored results of idempotent stock commands
+ * (inventory.idempotency_keys).
+ *
+ * CLAIM:
+ * INSERT ... ON CONFLICT DO UPDATE (only if the existing row expired). If
+ * another transaction holds the same uncommitted key, PostgreSQL waits for
+ * it; after its commit the claim returns false and the stored response can
+ * be read. After its rollback the claim succeeds.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+    private static final String CLAIM_SQL = "INSERT INTO inventory.idempotency_keys AS k "
+            + "(principal, endpoint, idempotency_key, request_hash, created_at, expires_at) "
+            + "VALUES (:principal, :endpoint, :key, :requestHash, :now, :expiresAt) "
+            + "ON CONFLICT (principal, endpoint, idempotency_key) DO UPDATE "
+            + "SET request_hash = EXCLUDED.request_hash, response_body = NULL, "
+            + "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at "
+            + "WHERE k.expires_at <= :now";
+
+    private static final String COMPLETE_SQL = "UPDATE inventory.idempotency_keys SET response_body = :response "
+            + "WHERE principal = :principal AND endpoint = :endpoint AND idempotency_key = :key";
+
+    private static final String FIND_SQL = "SELECT request_hash, response_body FROM inventory.idempotency_keys "
+            + "WHERE principal = :principal AND endpoint = :endpoint AND idempotency_key = :key "
+            + "AND expires_at > :now";
+
+    private static final String PURGE_SQL = "DELETE FROM inventory.idempotency_keys WHERE expires_at <= :now";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims the key for this transaction.
+     *
+     * @return true if claimed, false if a live row already exists (committed)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean claim(RequestKey key, String requestHash, Instant now, Instant expiresAt) {
+        return jdbcTemplate.update(CLAIM_SQL, keyParams(key)
+                .addValue("requestHash", requestHash)
+                .addValue("now", Timestamp.from(now))
+                .addValue("expiresAt", Timestamp.from(expiresAt))) == 1;
+    }
+
+    /**
+     * Stores the response of a claimed key (same transaction as the claim).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(RequestKey key, String responseJson) {
+        jdbcTemplate.update(COMPLETE_SQL, keyParams(key).addValue("response", responseJson));
+    }
+
+    public Optional<StoredResponse> find(RequestKey key, Instant now) {
+        return jdbcTemplate.query(FIND_SQL, keyParams(key).addValue("now", Timestamp.from(now)),
+                (rs, rowNum) -> new StoredResponse(rs.getString("request_hash"), rs.getString("response_body")))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * @return Number of expired keys deleted
+     */
+    public int purgeExpired(Instant now) {
+        return jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource("now", Timestamp.from(now)));
+    }
+
+    private static MapSqlParameterSource keyParams(RequestKey key) {
+        return new MapSqlParameterSource()
+                .addValue("principal", key.principal())
+                .addValue("endpoint", key.endpoint())
+                .addValue("key", key.key());
+    }
+
+    /**
+     * Keys are scoped per user and endpoint.
+     */
+    public record RequestKey(String principal, String endpoint, String key) {
+    }
+
+    /**
+     * @param responseJson Null while the owning transaction has not completed it
+     */
+    public record StoredResponse(String requestHash, String responseJson) {
+    }
+}
@@ -4,8 +4,6 @@ import com.stockmanagement.inventory.infrastructure.persistence.entity.StockMove
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 /**
  * JpaStockMovementRepository - Spring Data JPA repository for stock movements.
  * 
@@ -18,33 +16,14 @@ import java.util.List;
  * - findBy... → SELECT WHERE
  * - OrderBy...Desc → ORDER BY ... DESC
  * 
+ * HISTORY QUERIES:
+ * Unbounded finders (whole history of a stock, latest N across all
+ * partitions) were removed; paged history is read through
+ * StockMovementHistoryRepository.
+ * 
  * @author InventoryX Development Team
  * @since 2026-01-15
  */
 @Repository
 public interface JpaStockMovementRepository extends JpaRepository<StockMovementEntity, String> {
-
-    /**
-     * Finds all movements for a stock, ordered by date descending (newest first).
-     * 
-     * GENERATED SQL:
-     * SELECT * FROM stock_movements WHERE stock_id = ? ORDER BY performed_at DESC
-     * 
-     * @param stockId Stock ID
-     * @return List of movements (newest first)
-     */
-    List<StockMovementEntity> findByStock_IdOrderByPerformedAtDesc(String stockId);
-
-    /**
-     * Finds all movements for a stock (no ordering).
-     * 
-     * @param stockId Stock ID
-     * @return List of movements
-     */
-    List<StockMovementEntity> findByStock_Id(String stockId);
-
-    /**
-     * Finds top 10 most recent movements across all stocks.
-     */
-    List<StockMovementEntity> findTop10ByOrderByPerformedAtDesc();
 }
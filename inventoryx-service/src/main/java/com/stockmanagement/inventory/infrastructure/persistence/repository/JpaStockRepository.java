@@ -61,6 +61,47 @@ public interface JpaStockRepository extends JpaRepository<StockEntity, String> {
      */
     boolean existsBySkuAndLocationId(String sku, String locationId);
 
+    /**
+     * Keyset scroll over all stock (no OFFSET, no COUNT).
+     * 
+     * GENERATED SQL (next window, sort sku, location_id, id):
+     * SELECT * FROM stocks WHERE (sku, location_id, id) > (?, ?, ?) ... LIMIT ?
+     */
+    org.springframework.data.domain.Window<StockEntity> findAllBy(
+            org.springframework.data.domain.ScrollPosition position,
+            org.springframework.data.domain.Sort sort,
+            org.springframework.data.domain.Limit limit);
+
+    /**
+     * Loads and locks stocks for a set of (sku, location_id) pairs.
+     *
+     * The pairs are passed as two parallel arrays and joined with unnest(), so
+     * a whole order is resolved by one index-driven query. ORDER BY before
+     * FOR UPDATE makes PostgreSQL lock the rows in a deterministic order.
+     *
+     * GENERATED SQL:
+     * SELECT s.* FROM stocks s JOIN unnest(?, ?) k(sku, location_id) ...
+     * ORDER BY s.sku, s.location_id FOR UPDATE OF s
+     */
+    @org.springframework.data.jpa.repository.Query(value = "SELECT s.* FROM inventory.stocks s "
+            + "JOIN unnest(CAST(:skus AS varchar[]), CAST(:locationIds AS varchar[])) AS k(sku, location_id) "
+            + "ON s.sku = k.sku AND s.location_id = k.location_id "
+            + "ORDER BY s.sku, s.location_id "
+            + "FOR UPDATE OF s", nativeQuery = true)
+    List<StockEntity> findAllBySkuAndLocationIdForUpdate(
+            @org.springframework.data.repository.query.Param("skus") String[] skus,
+            @org.springframework.data.repository.query.Param("locationIds") String[] locationIds);
+
+    /**
+     * Finds one stock by ID and locks its row.
+     *
+     * GENERATED SQL:
+     * SELECT * FROM stocks WHERE id = ? FOR UPDATE
+     */
+    @org.springframework.data.jpa.repository.Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
+    @org.springframework.data.jpa.repository.Query("SELECT s FROM StockEntity s WHERE s.id = :id")
+    Optional<StockEntity> findByIdForUpdate(@org.springframework.data.repository.query.Param("id") String id);
+
     /**
      * Counts stocks with available quantity less than threshold.
      */
@@ -17,4 +17,15 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, String> {
     org.springframework.data.domain.Page<UserEntity> findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCaseOrFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
             String username, String email, String firstName, String lastName,
             org.springframework.data.domain.Pageable pageable);
+
+    org.springframework.data.domain.Window<UserEntity> findAllBy(
+            org.springframework.data.domain.ScrollPosition position,
+            org.springframework.data.domain.Sort sort,
+            org.springframework.data.domain.Limit limit);
+
+    org.springframework.data.domain.Window<UserEntity> findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCaseOrFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
+            String username, String email, String firstName, String lastName,
+            org.springframework.data.domain.ScrollPosition position,
+            org.springframework.data.domain.Sort sort,
+            org.springframework.data.domain.Limit limit);
 }
@@ -0,0 +1,156 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import com.stockmanagement.inventory.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * ProductSearchRepository - Ranked product typeahead.
+ *
+ * RANKING (one statement, three index-bounded branches of at most
+ * {@code limit} rows each):
+ * 1. SKU prefix (lower(sku) text_pattern_ops), shortest SKU first - an
+ * exact SKU always ranks first
+ * 2. Name prefix (lower(name) text_pattern_ops)
+ * 3. Substring of SKU, name or category, by word similarity to the query
+ * (GiST trigram KNN on search_text; {@code search_text <->> q} is
+ * {@code q <<-> search_text} with the indexed column on the left); only for
+ * queries of 3+ characters, shorter ones produce no trigram to search with
+ *
+ * Prefixes are matched as a range (text_pattern_ops compares code point
+ * order) rather than LIKE 'q%', which only uses the index when the plan
+ * is built for the literal value - not in a cached generic plan.
+ *
+ * Every branch stops after {@code limit} index entries, so the cost does
+ * not grow with the number of matching products. A product matching
+ * several branches is returned once, at its best rank.
+ *
+ * Also streams the SKU summaries the SKU autocomplete index is built from.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Repository
+public class ProductSearchRepository {
+
+    public static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private static final String COLUMNS = "p.id, p.sku, p.name, p.description, p.category, p.price_amount, "
+            + "p.price_currency, p.unit_of_measure, p.version, p.created_at, p.updated_at";
+
+    private static final String SUGGEST_SQL = "SELECT * FROM ("
+            + "(SELECT 0 AS tier, 0::real AS distance, lower(p.sku) AS tie_break, " + COLUMNS + " "
+            + "FROM inventory.products p "
+            + "WHERE lower(p.sku) ~>=~ :prefixFrom AND lower(p.sku) ~<~ :prefixTo "
+            + "ORDER BY lower(p.sku) "
+            + "LIMIT :limit) "
+            + "UNION ALL "
+            + "(SELECT 1, 0::real, lower(p.name), " + COLUMNS + " "
+            + "FROM inventory.products p "
+            + "WHERE lower(p.name) ~>=~ :prefixFrom AND lower(p.name) ~<~ :prefixTo "
+            + "ORDER BY lower(p.name) "
+            + "LIMIT :limit) "
+            + "UNION ALL "
+            + "(SELECT 2, p.search_text <->> CAST(:query AS text), p.search_text, " + COLUMNS + " "
+            + "FROM inventory.products p "
+            + "WHERE :trigram AND p.search_text LIKE :pattern "
+            + "ORDER BY p.search_text <->> CAST(:query AS text) "
+            + "LIMIT :limit)"
+            + ") ranked "
+            + "ORDER BY tier, distance, length(tie_break), tie_break";
+
+    private static final String SKU_SUMMARIES_SQL = "SELECT p.id, p.sku, COALESCE(s.available, 0) AS available "
+            + "FROM inventory.products p "
+            + "LEFT JOIN (SELECT sku, SUM(available_quantity) AS available "
+            + "FROM inventory.stocks GROUP BY sku) s ON s.sku = p.sku";
+
+    private static final int SCAN_FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate scanTemplate;
+
+    public ProductSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scanTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        this.scanTemplate.setFetchSize(SCAN_FETCH_SIZE);
+    }
+
+    /**
+     * @param query Raw user input (not blank)
+     * @return Up to {@code limit} products, best match first
+     */
+    public List<ProductEntity> suggest(String query, int limit) {
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", normalized)
+                .addValue("prefixFrom", normalized)
+                .addValue("prefixTo", prefixUpperBound(normalized))
+                .addValue("pattern", "%" + escapeLike(normalized) + "%")
+                .addValue("trigram", normalized.length() >= MIN_TRIGRAM_LENGTH)
+                .addValue("limit", limit);
+
+        Map<String, ProductEntity> ranked = new LinkedHashMap<>();
+        jdbcTemplate.query(SUGGEST_SQL, params, (rs, rowNum) -> {
+            ProductEntity entity = new ProductEntity();
+            entity.setId(rs.getString("id"));
+            entity.setSku(rs.getString("sku"));
+            entity.setName(rs.getString("name"));
+            entity.setDescription(rs.getString("description"));
+            entity.setCategory(rs.getString("category"));
+            entity.setPriceAmount(rs.getBigDecimal("price_amount"));
+            entity.setPriceCurrency(rs.getString("price_currency"));
+            entity.setUnitOfMeasure(rs.getString("unit_of_measure"));
+            entity.setVersion(rs.getLong("version"));
+            entity.setCreatedAt(rs.getTimestamp("created_at").toInstant());
+            entity.setUpdatedAt(rs.getTimestamp("updated_at").toInstant());
+            return entity;
+        }).forEach(entity -> ranked.putIfAbsent(entity.getId(), entity));
+
+        List<ProductEntity> result = new ArrayList<>(ranked.values());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * Streams every product's SKU with its available quantity summed over
+     * all locations (cursor-based, not buffered).
+     */
+    @Transactional(readOnly = true)
+    public void forEachSkuSummary(Consumer<SkuSummaryRow> consumer) {
+        scanTemplate.query(SKU_SUMMARIES_SQL, (RowCallbackHandler) rs -> consumer.accept(new SkuSummaryRow(
+                rs.getString("id"),
+                rs.getString("sku"),
+                rs.getBigDecimal("available"))));
+    }
+
+    /**
+     * Smallest string after every string starting with prefix: the prefix
+     * with its last code point incremented.
+     */
+    static String prefixUpperBound(String prefix) {
+        int last = prefix.codePointBefore(prefix.length());
+        return prefix.substring(0, prefix.length() - Character.charCount(last))
+                + Character.toString(last + 1);
+    }
+
+    /**
+     * Makes % and _ in user input match literally (default escape: backslash).
+     */
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record SkuSummaryRow(String productId, String sku, BigDecimal availableQuantity) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * StockExportQueryRepository - Row source for the stock export.
+ *
+ * One flat query joins product and location names; rows are handed to the
+ * caller one at a time and never collected. The read-only transaction plus
+ * fetch size make the PostgreSQL driver read through a server-side cursor
+ * ({@code EXPORT_FETCH_SIZE} rows per round trip) instead of buffering the
+ * whole result.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Repository
+public class StockExportQueryRepository {
+
+    private static final String EXPORT_SQL = "SELECT s.id, s.sku, p.name AS product_name, s.location_id, "
+            + "l.name AS location_name, s.available_quantity, s.reserved_quantity, s.unit_of_measure, "
+            + "s.updated_at "
+            + "FROM inventory.stocks s "
+            + "LEFT JOIN inventory.products p ON p.sku = s.sku "
+            + "LEFT JOIN inventory.locations l ON l.id = s.location_id "
+            + "ORDER BY s.sku, s.location_id";
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate exportTemplate;
+
+    public StockExportQueryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.exportTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        this.exportTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams every stock row, ordered by SKU and location.
+     *
+     * Exceptions thrown by the consumer abort the query and propagate.
+     */
+    @Transactional(readOnly = true)
+    public void forEachRow(Consumer<StockExportRow> consumer) {
+        exportTemplate.query(EXPORT_SQL, (RowCallbackHandler) rs -> {
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            consumer.accept(new StockExportRow(
+                    rs.getString("id"),
+                    rs.getString("sku"),
+                    rs.getString("product_name"),
+                    rs.getString("location_id"),
+                    rs.getString("location_name"),
+                    rs.getBigDecimal("available_quantity"),
+                    rs.getBigDecimal("reserved_quantity"),
+                    rs.getString("unit_of_measure"),
+                    updatedAt != null ? updatedAt.toInstant() : null));
+        });
+    }
+
+    public record StockExportRow(String stockId, String sku, String productName, String locationId,
+            String locationName, BigDecimal availableQuantity, BigDecimal reservedQuantity,
+            String unitOfMeasure, Instant updatedAt) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * StockMovementHistoryRepository - Keyset pages of one stock's movements.
+ *
+ * QUERY SHAPE:
+ * WHERE stock_id = ? [AND performed_at >= from] [AND performed_at < to]
+ * [AND movement_type IN (...)] [AND (performed_at, id) < (last row)]
+ * ORDER BY performed_at DESC, id DESC LIMIT n
+ *
+ * Only the filters that were given are added to the SQL, so the time range
+ * prunes partitions at plan time and every remaining partition answers with
+ * a short range scan on idx_movements_stock_performed_at. Cost depends on
+ * the page size, not on how much history the stock has.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Repository
+public class StockMovementHistoryRepository {
+
+    private static final String SELECT_SQL = "SELECT m.id, m.stock_id, m.movement_type, m.quantity, m.reason, "
+            + "m.reference_id, m.performed_by, m.performed_at "
+            + "FROM inventory.stock_movements m "
+            + "WHERE m.stock_id = :stockId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public StockMovementHistoryRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Finds up to {@code limit} movements, newest first.
+     *
+     * @param stockId Stock ID
+     * @param from    Inclusive lower bound on performed_at (null = open)
+     * @param to      Exclusive upper bound on performed_at (null = open)
+     * @param types   Movement types to include (empty = all)
+     * @param after   Last row of the previous page (null = first page)
+     * @param limit   Maximum rows
+     */
+    public List<MovementRow> findPage(String stockId, Instant from, Instant to, Collection<String> types,
+            PageKey after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        MapSqlParameterSource params = new MapSqlParameterSource("stockId", stockId);
+
+        if (from != null) {
+            sql.append(" AND m.performed_at >= :from");
+            params.addValue("from", Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" AND m.performed_at < :to");
+            params.addValue("to", Timestamp.from(to));
+        }
+        if (!types.isEmpty()) {
+            sql.append(" AND m.movement_type IN (:types)");
+            params.addValue("types", types);
+        }
+        if (after != null) {
+            sql.append(" AND (m.performed_at, m.id) < (:afterPerformedAt, :afterId)");
+            params.addValue("afterPerformedAt", Timestamp.from(after.performedAt()));
+            params.addValue("afterId", after.id());
+        }
+        sql.append(" ORDER BY m.performed_at DESC, m.id DESC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new MovementRow(
+                rs.getString("id"),
+                rs.getString("stock_id"),
+                rs.getString("movement_type"),
+                rs.getBigDecimal("quantity"),
+                rs.getString("reason"),
+                rs.getString("reference_id"),
+                rs.getString("performed_by"),
+                rs.getTimestamp("performed_at").toInstant()));
+    }
+
+    /**
+     * Sort key of a row; pages continue strictly after it.
+     */
+    public record PageKey(Instant performedAt, String id) {
+    }
+
+    public record MovementRow(String id, String stockId, String movementType, BigDecimal quantity,
+            String reason, String referenceId, String performedBy, Instant performedAt) {
+    }
+}
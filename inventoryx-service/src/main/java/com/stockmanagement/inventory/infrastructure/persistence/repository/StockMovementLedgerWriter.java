@@ -0,0 +1,125 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * StockMovementLedgerWriter - Buffers movement rows and writes them once per
+ * transaction as a single JDBC batch.
+ *
+ * PROBLEM:
+ * Saving each movement through JPA cost a SELECT of the parent stock plus a
+ * merge SELECT and an INSERT - per event, inside the command's hot path.
+ *
+ * SOLUTION (group commit within the transaction):
+ * append() only adds to a transaction-bound buffer. In beforeCommit the
+ * persistence context is flushed (so a just-created stock row exists for the
+ * FK) and all buffered rows go out as one batched INSERT on the same
+ * connection. Atomicity is unchanged: a rollback discards the buffer, a
+ * failed insert fails the commit.
+ *
+ * METRICS:
+ * inventory.ledger.flush (timer: flush + batch insert at commit),
+ * inventory.ledger.batch-size (rows per batch)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class StockMovementLedgerWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO inventory.stock_movements "
+            + "(id, stock_id, movement_type, quantity, reason, reference_id, performed_by, performed_at) "
+            + "VALUES (:id, :stockId, :movementType, :quantity, :reason, :referenceId, :performedBy, :performedAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSize;
+
+    public StockMovementLedgerWriter(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.flushTimer = Timer.builder("inventory.ledger.flush")
+                .description("Persistence context flush + movement batch insert at commit")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("inventory.ledger.batch-size")
+                .description("Movement rows written per transaction")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers one movement row for the current transaction.
+     *
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void append(String stockId, String movementType, BigDecimal quantity, String reason,
+            String referenceId, String performedBy, Instant performedAt) {
+        currentBuffer().add(new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID().toString())
+                .addValue("stockId", stockId)
+                .addValue("movementType", movementType)
+                .addValue("quantity", quantity)
+                .addValue("reason", reason)
+                .addValue("referenceId", referenceId)
+                .addValue("performedBy", performedBy)
+                .addValue("performedAt", Timestamp.from(performedAt)));
+    }
+
+    private List<MapSqlParameterSource> currentBuffer() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Stock movements must be written inside a transaction");
+        }
+        Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new Buffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        return buffer.rows;
+    }
+
+    /**
+     * Transaction-bound buffer, drained in beforeCommit.
+     */
+    private final class Buffer implements TransactionSynchronization {
+
+        private final List<MapSqlParameterSource> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            flushTimer.record(() -> {
+                entityManager.flush();
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows.toArray(MapSqlParameterSource[]::new));
+            });
+            batchSize.record(rows.size());
+            log.debug("Wrote {} stock movements in one batch", rows.size());
+            rows.clear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StockMovementLedgerWriter.this);
+        }
+    }
+}
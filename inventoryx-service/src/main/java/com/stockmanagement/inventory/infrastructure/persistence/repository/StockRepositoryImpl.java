@@ -3,12 +3,20 @@ package com.stockmanagement.inventory.infrastructure.persistence.repository;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
 import com.stockmanagement.inventory.domain.repository.StockRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.KeysetScrolls;
+import com.stockmanagement.inventory.infrastructure.persistence.RowCountEstimator;
 import com.stockmanagement.inventory.infrastructure.persistence.entity.StockEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.hotstock.HotStockStore;
 import com.stockmanagement.inventory.infrastructure.persistence.mapper.StockEntityMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * StockRepositoryImpl - Implementation of domain's StockRepository interface.
@@ -22,6 +30,15 @@ import java.util.Optional;
  * 2. Call JPA repository
  * 3. Convert entity → domain
  * 
+ * ATOMIC FAST PATH:
+ * reserveAtomically/deductAtomically bypass JPA and issue a single
+ * conditional UPDATE ... RETURNING through JDBC (same transaction/connection).
+ * 
+ * HOT STOCK MODE:
+ * Rows tracked by HotStockStore are read and written through in-memory
+ * counters (write-behind). Loaded rows are overlaid with the live counters,
+ * and save() of a hot stock becomes a delta against the loaded image.
+ * 
  * TRANSACTION MANAGEMENT:
  * Handled by @Transactional in Application Layer (Use Cases).
  * 
@@ -31,17 +48,46 @@ import java.util.Optional;
 @Repository
 public class StockRepositoryImpl implements StockRepository {
 
+    private static final String RETURNING_COLUMNS = " RETURNING id, product_id, sku, location_id, "
+            + "available_quantity, reserved_quantity, unit_of_measure, version, created_at, updated_at";
+
+    private static final String RESERVE_SQL = "UPDATE inventory.stocks "
+            + "SET available_quantity = available_quantity - :quantity, "
+            + "reserved_quantity = reserved_quantity + :quantity, "
+            + "version = version + 1 "
+            + "WHERE sku = :sku AND location_id = :locationId AND available_quantity >= :quantity"
+            + RETURNING_COLUMNS;
+
+    private static final String DEDUCT_SQL = "UPDATE inventory.stocks "
+            + "SET available_quantity = available_quantity - :quantity, "
+            + "version = version + 1 "
+            + "WHERE id = :id AND available_quantity >= :quantity"
+            + RETURNING_COLUMNS;
+
+    // Keyset order: matches the (sku, location_id) unique index, id as tie-breaker
+    private static final org.springframework.data.domain.Sort SCROLL_SORT = org.springframework.data.domain.Sort
+            .by("sku", "locationId", "id");
+
     private final JpaStockRepository jpaRepository;
     private final StockEntityMapper mapper;
     private final org.springframework.context.ApplicationEventPublisher eventPublisher;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final HotStockStore hotStocks;
+    private final RowCountEstimator rowCountEstimator;
 
     public StockRepositoryImpl(
             JpaStockRepository jpaRepository,
             StockEntityMapper mapper,
-            org.springframework.context.ApplicationEventPublisher eventPublisher) {
+            org.springframework.context.ApplicationEventPublisher eventPublisher,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            HotStockStore hotStocks,
+            RowCountEstimator rowCountEstimator) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
         this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.hotStocks = hotStocks;
+        this.rowCountEstimator = rowCountEstimator;
     }
 
     @Override
@@ -55,6 +101,12 @@ public class StockRepositoryImpl implements StockRepository {
             // New entity - let JPA generate version
             entity.setVersion(null);
             savedEntity = jpaRepository.save(entity);
+            if (hotStocks.isHotKey(StockKey.of(stock.getSku(), stock.getLocationId()))) {
+                hotStocks.registerAfterCommit(savedEntity);
+            }
+        } else if (hotStocks.tracks(entity.getId())) {
+            // Hot stock - counters are the source of truth, row is written behind
+            savedEntity = hotStocks.applyChanges(entity);
         } else {
             // Existing entity - JPA will handle optimistic locking
             savedEntity = jpaRepository.save(entity);
@@ -68,10 +120,113 @@ public class StockRepositoryImpl implements StockRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Stock> saveAll(List<Stock> stocks) {
+        // Each save() only merges into the persistence context; Hibernate
+        // flushes the pending UPDATEs/INSERTs together as a JDBC batch.
+        return stocks.stream()
+                .map(this::save)
+                .toList();
+    }
+
+    @Override
+    public List<Stock> findAllForUpdate(Collection<StockKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<StockKey> sortedKeys = keys.stream()
+                .distinct()
+                .sorted()
+                .toList();
+        String[] skus = sortedKeys.stream().map(key -> key.sku().value()).toArray(String[]::new);
+        String[] locationIds = sortedKeys.stream().map(key -> key.locationId().value()).toArray(String[]::new);
+
+        List<StockEntity> entities = jpaRepository.findAllBySkuAndLocationIdForUpdate(skus, locationIds);
+        return toDomainList(entities);
+    }
+
+    @Override
+    public Optional<Stock> findByIdForUpdate(StockId id) {
+        return jpaRepository.findByIdForUpdate(id.value())
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Optional<Stock> reserveAtomically(ProductSKU sku, LocationId locationId, Quantity quantity) {
+        StockKey key = StockKey.of(sku, locationId);
+        if (hotStocks.tracks(key)) {
+            return hotStocks.reserve(key, quantity).map(mapper::toDomain);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("sku", sku.value())
+                .addValue("locationId", locationId.value())
+                .addValue("quantity", quantity.value());
+
+        // Pre-update image: available was higher and reserved lower by quantity
+        return jdbcTemplate.query(RESERVE_SQL, params, updatedRowMapper()).stream()
+                .findFirst()
+                .map(entity -> {
+                    entity.setAvailableQuantity(entity.getAvailableQuantity().add(quantity.value()));
+                    entity.setReservedQuantity(entity.getReservedQuantity().subtract(quantity.value()));
+                    return mapper.toDomain(entity);
+                });
+    }
+
+    @Override
+    public Optional<Stock> deductAtomically(StockId id, Quantity quantity) {
+        if (hotStocks.tracks(id.value())) {
+            return hotStocks.deduct(id.value(), quantity).map(mapper::toDomain);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id.value())
+                .addValue("quantity", quantity.value());
+
+        // Pre-update image: available was higher by quantity
+        return jdbcTemplate.query(DEDUCT_SQL, params, updatedRowMapper()).stream()
+                .findFirst()
+                .map(entity -> {
+                    entity.setAvailableQuantity(entity.getAvailableQuantity().add(quantity.value()));
+                    return mapper.toDomain(entity);
+                });
+    }
+
+    /**
+     * Maps a RETURNING row to a detached StockEntity (never attached to JPA).
+     */
+    private RowMapper<StockEntity> updatedRowMapper() {
+        return (rs, rowNum) -> {
+            StockEntity entity = new StockEntity();
+            entity.setId(rs.getString("id"));
+            entity.setProductId(rs.getString("product_id"));
+            entity.setSku(rs.getString("sku"));
+            entity.setLocationId(rs.getString("location_id"));
+            entity.setAvailableQuantity(rs.getBigDecimal("available_quantity"));
+            entity.setReservedQuantity(rs.getBigDecimal("reserved_quantity"));
+            entity.setUnitOfMeasure(UnitOfMeasure.valueOf(rs.getString("unit_of_measure")));
+            entity.setVersion(rs.getLong("version"));
+            entity.setCreatedAt(rs.getTimestamp("created_at").toInstant());
+            entity.setUpdatedAt(rs.getTimestamp("updated_at").toInstant());
+            return entity;
+        };
+    }
+
     @Override
     public Optional<Stock> findById(StockId id) {
         return jpaRepository.findById(id.value())
-                .map(mapper::toDomain);
+                .map(this::toDomain);
+    }
+
+    @Override
+    public List<Stock> findAllById(Collection<StockId> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(jpaRepository.findAllById(ids.stream()
+                .map(StockId::value)
+                .toList()));
     }
 
     @Override
@@ -79,24 +234,25 @@ public class StockRepositoryImpl implements StockRepository {
         return jpaRepository.findBySkuAndLocationId(
                 sku.value(),
                 locationId.value())
-                .map(mapper::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
     public List<Stock> findBySku(ProductSKU sku) {
         List<StockEntity> entities = jpaRepository.findBySku(sku.value());
-        return mapper.toDomainList(entities);
+        return toDomainList(entities);
     }
 
     @Override
     public List<Stock> findByLocation(LocationId locationId) {
         List<StockEntity> entities = jpaRepository.findByLocationId(locationId.value());
-        return mapper.toDomainList(entities);
+        return toDomainList(entities);
     }
 
     @Override
     public void delete(StockId id) {
         jpaRepository.deleteById(id.value());
+        hotStocks.forget(id.value());
     }
 
     @Override
@@ -109,16 +265,44 @@ public class StockRepositoryImpl implements StockRepository {
     @Override
     public List<Stock> findAll() {
         List<StockEntity> entities = jpaRepository.findAll();
-        return mapper.toDomainList(entities);
+        return toDomainList(entities);
     }
 
     @Override
     public org.springframework.data.domain.Page<Stock> findAll(org.springframework.data.domain.Pageable pageable) {
         org.springframework.data.domain.Page<StockEntity> entityPage = jpaRepository.findAll(pageable);
-        List<Stock> domainList = mapper.toDomainList(entityPage.getContent());
+        List<Stock> domainList = toDomainList(entityPage.getContent());
         return new org.springframework.data.domain.PageImpl<>(
                 domainList,
                 pageable,
                 entityPage.getTotalElements());
     }
+
+    @Override
+    public org.springframework.data.domain.Window<Stock> scroll(
+            org.springframework.data.domain.ScrollPosition position, int limit) {
+        return jpaRepository.findAllBy(
+                KeysetScrolls.checked(position, SCROLL_SORT),
+                SCROLL_SORT,
+                org.springframework.data.domain.Limit.of(limit))
+                .map(this::toDomain);
+    }
+
+    @Override
+    public OptionalLong estimateCount() {
+        return rowCountEstimator.estimate("inventory.stocks");
+    }
+
+    /**
+     * Maps a loaded row, overlaying live counters for hot stocks.
+     */
+    private Stock toDomain(StockEntity entity) {
+        return mapper.toDomain(hotStocks.overlay(entity));
+    }
+
+    private List<Stock> toDomainList(List<StockEntity> entities) {
+        return entities.stream()
+                .map(this::toDomain)
+                .toList();
+    }
 }
@@ -0,0 +1,206 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * StockReservationRepository - Outstanding reservation holds
+ * (inventory.stock_reservations).
+ *
+ * One row per (order_id, stock_id) while quantity is held for the order.
+ * The row is removed when the hold is fully confirmed, released or expired;
+ * the primary key makes every confirm/release lookup a single index probe.
+ *
+ * EXPIRY RACES:
+ * Expiry deletes with "expires_at <= now" and RETURNING, confirm/release
+ * lock the row first (FOR UPDATE). Whichever commits first wins; the other
+ * sees no row.
+ *
+ * LOCK ORDER:
+ * Stock row first, then hold row - on every path. Reserve / confirm /
+ * release lock the stock before touching the hold; expiry calls
+ * lockStocksOf() before deleteExpired(). The opposite order on one path
+ * would deadlock against a reserve topping up the same hold.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Repository
+public class StockReservationRepository {
+
+    private static final String HOLD_SQL = "INSERT INTO inventory.stock_reservations AS r "
+            + "(order_id, stock_id, quantity, created_at, expires_at) "
+            + "VALUES (:orderId, :stockId, :quantity, :now, :expiresAt) "
+            + "ON CONFLICT (order_id, stock_id) DO UPDATE "
+            + "SET quantity = r.quantity + EXCLUDED.quantity, "
+            + "expires_at = GREATEST(r.expires_at, EXCLUDED.expires_at) "
+            + "RETURNING r.expires_at";
+
+    private static final String FIND_FOR_UPDATE_SQL = "SELECT order_id, stock_id, quantity, expires_at "
+            + "FROM inventory.stock_reservations "
+            + "WHERE order_id = :orderId AND stock_id = :stockId "
+            + "FOR UPDATE";
+
+    private static final String UPDATE_QUANTITY_SQL = "UPDATE inventory.stock_reservations "
+            + "SET quantity = :quantity "
+            + "WHERE order_id = :orderId AND stock_id = :stockId";
+
+    private static final String DELETE_SQL = "DELETE FROM inventory.stock_reservations "
+            + "WHERE order_id = :orderId AND stock_id = :stockId";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM inventory.stock_reservations r "
+            + "USING inventory.stocks s "
+            + "WHERE s.id = r.stock_id AND r.expires_at <= :now "
+            + "AND (r.order_id, r.stock_id) IN (:keys) "
+            + "RETURNING r.order_id, r.stock_id, r.quantity, s.sku, s.location_id";
+
+    // Holds created on other instances (no lock: deleteExpired re-checks)
+    private static final String FIND_EXPIRED_SQL = "SELECT order_id, stock_id "
+            + "FROM inventory.stock_reservations "
+            + "WHERE expires_at <= :now ORDER BY expires_at LIMIT :limit";
+
+    // Same order as JpaStockRepository.findAllBySkuAndLocationIdForUpdate
+    private static final String LOCK_STOCKS_SQL = "SELECT s.id FROM inventory.stocks s "
+            + "WHERE s.id IN (:stockIds) "
+            + "ORDER BY s.sku, s.location_id "
+            + "FOR UPDATE";
+
+    private static final String SCAN_SQL = "SELECT order_id, stock_id, quantity, expires_at "
+            + "FROM inventory.stock_reservations ORDER BY expires_at";
+
+    private static final int SCAN_FETCH_SIZE = 5000;
+
+    private static final RowMapper<ExpiredHold> EXPIRED_MAPPER = (rs, rowNum) -> new ExpiredHold(
+            new HoldKey(rs.getString("order_id"), rs.getString("stock_id")),
+            rs.getBigDecimal("quantity"),
+            rs.getString("sku"),
+            rs.getString("location_id"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcTemplate scanTemplate;
+
+    public StockReservationRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scanTemplate = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        this.scanTemplate.setFetchSize(SCAN_FETCH_SIZE);
+    }
+
+    /**
+     * Creates the hold, or adds to an existing hold of the same order on the
+     * same stock (expiry moves to the later of both).
+     *
+     * @return Effective expiry of the hold
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Instant hold(HoldKey key, BigDecimal quantity, Instant now, Instant expiresAt) {
+        Timestamp effective = jdbcTemplate.queryForObject(HOLD_SQL, keyParams(key)
+                .addValue("quantity", quantity)
+                .addValue("now", Timestamp.from(now))
+                .addValue("expiresAt", Timestamp.from(expiresAt)), Timestamp.class);
+        return effective != null ? effective.toInstant() : expiresAt;
+    }
+
+    /**
+     * Locks and returns the hold, if it still exists.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Hold> findForUpdate(HoldKey key) {
+        return jdbcTemplate.query(FIND_FOR_UPDATE_SQL, keyParams(key), (rs, rowNum) -> new Hold(
+                key,
+                rs.getBigDecimal("quantity"),
+                rs.getTimestamp("expires_at").toInstant()))
+                .stream()
+                .findFirst();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updateQuantity(HoldKey key, BigDecimal quantity) {
+        jdbcTemplate.update(UPDATE_QUANTITY_SQL, keyParams(key).addValue("quantity", quantity));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(HoldKey key) {
+        jdbcTemplate.update(DELETE_SQL, keyParams(key));
+    }
+
+    /**
+     * Deletes the given holds if they are still expired and returns them.
+     * Holds that were extended, confirmed or released meanwhile are skipped.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<ExpiredHold> deleteExpired(Collection<HoldKey> keys, Instant now) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> tuples = keys.stream()
+                .map(key -> new Object[] { key.orderId(), key.stockId() })
+                .toList();
+        return jdbcTemplate.query(DELETE_EXPIRED_SQL, new MapSqlParameterSource()
+                .addValue("keys", tuples)
+                .addValue("now", Timestamp.from(now)), EXPIRED_MAPPER);
+    }
+
+    /**
+     * Up to {@code limit} expired holds, oldest first (not locked).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<HoldKey> findExpired(Instant now, int limit) {
+        return jdbcTemplate.query(FIND_EXPIRED_SQL, new MapSqlParameterSource()
+                .addValue("now", Timestamp.from(now))
+                .addValue("limit", limit),
+                (rs, rowNum) -> new HoldKey(rs.getString("order_id"), rs.getString("stock_id")));
+    }
+
+    /**
+     * Locks the stock rows of the given holds (FOR UPDATE, sku/location
+     * order). Call before deleting or changing the holds.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockStocksOf(Collection<HoldKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> stockIds = keys.stream().map(HoldKey::stockId).distinct().toList();
+        jdbcTemplate.queryForList(LOCK_STOCKS_SQL, new MapSqlParameterSource("stockIds", stockIds), String.class);
+    }
+
+    /**
+     * Streams every hold in expiry order (idx_reservations_expires_at).
+     */
+    @Transactional(readOnly = true)
+    public void forEachHold(Consumer<Hold> consumer) {
+        scanTemplate.query(SCAN_SQL, (RowCallbackHandler) rs -> consumer.accept(new Hold(
+                new HoldKey(rs.getString("order_id"), rs.getString("stock_id")),
+                rs.getBigDecimal("quantity"),
+                rs.getTimestamp("expires_at").toInstant())));
+    }
+
+    private static MapSqlParameterSource keyParams(HoldKey key) {
+        return new MapSqlParameterSource()
+                .addValue("orderId", key.orderId())
+                .addValue("stockId", key.stockId());
+    }
+
+    public record HoldKey(String orderId, String stockId) {
+    }
+
+    public record Hold(HoldKey key, BigDecimal quantity, Instant expiresAt) {
+    }
+
+    public record ExpiredHold(HoldKey key, BigDecimal quantity, String sku, String locationId) {
+    }
+}
@@ -4,19 +4,30 @@ import com.stockmanagement.inventory.domain.model.User;
 import com.stockmanagement.inventory.domain.model.valueobject.UserId;
 import com.stockmanagement.inventory.domain.model.valueobject.Username;
 import com.stockmanagement.inventory.domain.repository.UserRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.KeysetScrolls;
+import com.stockmanagement.inventory.infrastructure.persistence.RowCountEstimator;
 import com.stockmanagement.inventory.infrastructure.persistence.entity.UserEntity;
 import com.stockmanagement.inventory.infrastructure.persistence.mapper.UserEntityMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
 
+    // Keyset order: usernames are unique, id keeps the key stable regardless
+    private static final Sort SCROLL_SORT = Sort.by("username", "id");
+
     private final JpaUserRepository jpaUserRepository;
     private final UserEntityMapper mapper;
+    private final RowCountEstimator rowCountEstimator;
 
     @Override
     public Optional<User> findById(UserId id) {
@@ -61,4 +72,20 @@ public class UserRepositoryImpl implements UserRepository {
                         search, search, search, search, pageable)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public Window<User> scroll(String search, ScrollPosition position, int limit) {
+        ScrollPosition checked = KeysetScrolls.checked(position, SCROLL_SORT);
+        Window<UserEntity> window = search == null || search.isBlank()
+                ? jpaUserRepository.findAllBy(checked, SCROLL_SORT, Limit.of(limit))
+                : jpaUserRepository
+                        .findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCaseOrFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
+                                search, search, search, search, checked, SCROLL_SORT, Limit.of(limit));
+        return window.map(mapper::toDomain);
+    }
+
+    @Override
+    public OptionalLong estimateCount() {
+        return rowCountEstimator.estimate("inventory.users");
+    }
 }
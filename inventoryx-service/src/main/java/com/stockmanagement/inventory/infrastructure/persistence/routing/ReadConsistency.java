@@ -0,0 +1,55 @@
+package com.stockmanagement.inventory.infrastructure.persistence.routing;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * ReadConsistency - Read-your-writes requirement of the current request.
+ *
+ * The client echoes the consistency token (primary WAL position, e.g.
+ * "0/16B3748") it received from its last write. Read-only transactions in
+ * this request may use the replica only once it has replayed that position.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Long> REQUIRED_LSN = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static void require(long lsn) {
+        REQUIRED_LSN.set(lsn);
+    }
+
+    public static OptionalLong required() {
+        Long lsn = REQUIRED_LSN.get();
+        return lsn == null ? OptionalLong.empty() : OptionalLong.of(lsn);
+    }
+
+    public static void clear() {
+        REQUIRED_LSN.remove();
+    }
+
+    /**
+     * Parses a PostgreSQL LSN ("X/Y", both hex) into a comparable number.
+     *
+     * @return Empty if the text is not an LSN
+     */
+    public static Optional<Long> parseLsn(String text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        int slash = text.indexOf('/');
+        if (slash <= 0 || slash > 8 || text.lastIndexOf('/') != slash
+                || slash == text.length() - 1 || text.length() - slash - 1 > 8
+                || !text.chars().allMatch(c -> c == '/' || Character.digit(c, 16) >= 0)) {
+            return Optional.empty();
+        }
+        long high = Long.parseLong(text.substring(0, slash), 16);
+        long low = Long.parseLong(text.substring(slash + 1), 16);
+        return Optional.of((high << 32) | low);
+    }
+}
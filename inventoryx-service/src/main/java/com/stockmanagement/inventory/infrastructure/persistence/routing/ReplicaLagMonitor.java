@@ -0,0 +1,139 @@
+package com.stockmanagement.inventory.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * ReplicaLagMonitor - Decides whether a read-only transaction may use the
+ * replica.
+ *
+ * Every {@code lag-check-interval-ms} the replica is asked how far its
+ * replay is behind (seconds since the last replayed commit, 0 when it has
+ * replayed everything it received) and up to which WAL position it has
+ * replayed. The replica is used while:
+ * - the last check succeeded and no connection attempt failed since
+ * - lag is within {@code max-lag}
+ * - it has replayed the request's consistency token, if one was sent
+ *
+ * METRICS:
+ * - inventory.datasource.replica.lag (gauge, seconds; -1 while unreachable)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_SQL = "SELECT pg_is_in_recovery() AS in_recovery, "
+            + "pg_last_wal_replay_lsn()::text AS replay_lsn, "
+            + "CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END AS lag_seconds";
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    private static final Status UNREACHABLE = new Status(false, Double.NaN, -1);
+
+    private final JdbcTemplate primaryJdbc;
+    private final JdbcTemplate replicaJdbc;
+    private final double maxLagSeconds;
+
+    private volatile Status status = UNREACHABLE;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primaryJdbc = new JdbcTemplate(primary);
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Gauge.builder("inventory.datasource.replica.lag", this, monitor -> monitor.status.reachable()
+                        ? monitor.status.lagSeconds()
+                        : -1)
+                .description("Replica replay lag in seconds (-1 while unreachable)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Refreshes lag and replay position.
+     */
+    @Scheduled(fixedDelayString = "${inventory.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        Status previous = status;
+        try {
+            status = replicaJdbc.queryForObject(REPLICA_STATUS_SQL, (rs, rowNum) -> new Status(true,
+                    rs.getDouble("lag_seconds"),
+                    rs.getBoolean("in_recovery")
+                            ? ReadConsistency.parseLsn(rs.getString("replay_lsn")).orElse(-1L)
+                            : -1));
+        } catch (DataAccessException e) {
+            status = UNREACHABLE;
+            if (previous.reachable()) {
+                log.warn("Replica unreachable, reads fall back to primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if (!previous.reachable()) {
+            log.info("Replica reachable: lag={}s", status.lagSeconds());
+        }
+    }
+
+    /**
+     * @return Where a read-only transaction should go right now
+     */
+    public Route route() {
+        Status current = status;
+        if (!current.reachable()) {
+            return Route.PRIMARY_UNAVAILABLE;
+        }
+        if (current.lagSeconds() > maxLagSeconds) {
+            return Route.PRIMARY_LAG;
+        }
+        OptionalLong required = ReadConsistency.required();
+        if (required.isPresent() && current.replayLsn() < required.getAsLong()) {
+            return Route.PRIMARY_TOKEN;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * Takes the replica out of rotation until the next successful check.
+     */
+    public void markUnavailable(Exception cause) {
+        if (status.reachable()) {
+            log.warn("Replica connection failed, reads fall back to primary: {}", cause.getMessage());
+        }
+        status = UNREACHABLE;
+    }
+
+    /**
+     * @return Current primary WAL position, as a consistency token
+     */
+    public Optional<String> primaryLsn() {
+        try {
+            return Optional.ofNullable(primaryJdbc.queryForObject(PRIMARY_LSN_SQL, String.class));
+        } catch (DataAccessException e) {
+            log.debug("Could not read primary WAL position: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public enum Route {
+        REPLICA,
+        PRIMARY_LAG,
+        PRIMARY_TOKEN,
+        PRIMARY_UNAVAILABLE
+    }
+
+    /**
+     * @param replayLsn -1 if unknown (not a streaming replica)
+     */
+    record Status(boolean reachable, double lagSeconds, long replayLsn) {
+    }
+}
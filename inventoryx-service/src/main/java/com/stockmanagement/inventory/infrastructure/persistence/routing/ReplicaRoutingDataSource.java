@@ -0,0 +1,72 @@
+package com.stockmanagement.inventory.infrastructure.persistence.routing;
+
+import com.stockmanagement.inventory.infrastructure.persistence.routing.ReplicaLagMonitor.Route;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ReplicaRoutingDataSource - Connections for read-only transactions.
+ *
+ * Installed as the read-only data source of LazyConnectionDataSourceProxy,
+ * so it is asked only for connections marked read-only before first use
+ * (@Transactional(readOnly = true)). Hands out a replica connection when
+ * ReplicaLagMonitor allows it, otherwise - and when the replica refuses
+ * the connection - a primary one.
+ *
+ * METRICS:
+ * - inventory.datasource.reads (counter, tag route=replica|primary-lag|
+ * primary-token|primary-unavailable)
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<Route, Counter> reads = new EnumMap<>(Route.class);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        for (Route route : Route.values()) {
+            reads.put(route, Counter.builder("inventory.datasource.reads")
+                    .description("Read-only transactions by the data source they were routed to")
+                    .tag("route", route.name().toLowerCase().replace('_', '-'))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Route route = lagMonitor.route();
+        if (route == Route.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                reads.get(Route.REPLICA).increment();
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.markUnavailable(e);
+                route = Route.PRIMARY_UNAVAILABLE;
+            }
+        }
+        reads.get(route).increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Credentials belong to the pools
+        return getConnection();
+    }
+}
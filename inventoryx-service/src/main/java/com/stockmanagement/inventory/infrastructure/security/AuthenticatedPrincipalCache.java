@@ -0,0 +1,106 @@
+package com.stockmanagement.inventory.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockmanagement.inventory.domain.event.UserAccessChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * AuthenticatedPrincipalCache - Bounded, TTL-evicting cache of the
+ * UserDetails (with authorities) behind a JWT.
+ *
+ * PROBLEM:
+ * Every authenticated request loaded the user with EAGER roles and
+ * permissions just to rebuild the same authority set.
+ *
+ * KEY: username + token ID (jti)
+ * A new login gets a new entry, so a fresh token always starts from the
+ * database. Entries expire after {@code ttl-seconds} at the latest.
+ *
+ * INVALIDATION:
+ * UserManagementService publishes UserAccessChangedEvent on status/role
+ * changes. After commit all entries of that user are evicted and the
+ * invalidation time is remembered, so a load that read the old rows
+ * concurrently is discarded instead of being served.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@Slf4j
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<TokenKey, CachedPrincipal> principals;
+    private final Cache<String, Long> invalidatedAt;
+
+    public AuthenticatedPrincipalCache(
+            UserDetailsService userDetailsService,
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.userDetailsService = userDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        // Only needs to outlive the entries it guards
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Returns the principal for a verified token, loading it on a miss.
+     *
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if the user no longer exists
+     */
+    public UserDetails get(String username, String tokenId) {
+        TokenKey key = new TokenKey(username, tokenId);
+        CachedPrincipal cached = principals.getIfPresent(key);
+        if (cached != null && isCurrent(cached)) {
+            return cached.details();
+        }
+
+        long loadStartedAt = System.nanoTime();
+        UserDetails details = userDetailsService.loadUserByUsername(username);
+        CachedPrincipal loaded = new CachedPrincipal(details, loadStartedAt);
+        if (isCurrent(loaded)) {
+            principals.put(key, loaded);
+        }
+        return details;
+    }
+
+    /**
+     * Evicts every cached principal of the user once the change is committed
+     * (immediately when published outside a transaction).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        invalidate(event.username());
+    }
+
+    public void invalidate(String username) {
+        invalidatedAt.put(username, System.nanoTime());
+        principals.asMap().keySet().removeIf(key -> key.username().equals(username));
+        log.debug("Evicted cached principals for user: {}", username);
+    }
+
+    private boolean isCurrent(CachedPrincipal principal) {
+        Long invalidated = invalidatedAt.getIfPresent(principal.details().getUsername());
+        return invalidated == null || principal.loadStartedAt() - invalidated > 0;
+    }
+
+    private record TokenKey(String username, String tokenId) {
+    }
+
+    private record CachedPrincipal(UserDetails details, long loadStartedAt) {
+    }
+}
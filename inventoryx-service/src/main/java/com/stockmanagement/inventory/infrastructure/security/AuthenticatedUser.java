@@ -0,0 +1,31 @@
+package com.stockmanagement.inventory.infrastructure.security;
+
+import com.stockmanagement.inventory.domain.model.valueobject.UserId;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * AuthenticatedUser - Spring Security principal that also carries the UserId.
+ *
+ * Lets request-scoped code (audit, ownership checks) identify the user
+ * without another lookup by username.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+public class AuthenticatedUser extends User {
+
+    private final UserId userId;
+
+    public AuthenticatedUser(UserId userId, String username, String password, boolean enabled,
+            boolean accountNonLocked, Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, enabled, true, true, accountNonLocked, authorities);
+        this.userId = userId;
+    }
+
+    public UserId getUserId() {
+        return userId;
+    }
+}
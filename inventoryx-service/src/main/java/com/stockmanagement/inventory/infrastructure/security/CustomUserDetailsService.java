@@ -33,14 +33,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         // Add Roles as Authorities (ROLE_PREFIX)
         user.getRoles().forEach(role -> authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName())));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername().value())
-                .password(user.getPassword().value())
-                .disabled(!user.isActive())
-                .accountLocked(user.isLocked())
-                .credentialsExpired(false)
-                .accountExpired(false)
-                .authorities(authorities)
-                .build();
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getUsername().value(),
+                user.getPassword().value(),
+                user.isActive(),
+                !user.isLocked(),
+                authorities);
     }
 }
@@ -0,0 +1,81 @@
+package com.stockmanagement.inventory.presentation.config;
+
+import com.stockmanagement.inventory.infrastructure.persistence.routing.ReadConsistency;
+import com.stockmanagement.inventory.infrastructure.persistence.routing.ReplicaLagMonitor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * ConsistencyTokenAdvice - Read-your-writes across the replica.
+ *
+ * WRITE (POST/PUT/PATCH/DELETE): the response carries Consistency-Token,
+ * the primary WAL position after the command committed.
+ * READ: a request that sends the token back is served by the replica only
+ * once the replica has replayed that position, otherwise by the primary.
+ *
+ * The web client keeps the latest token for the session, so the refresh
+ * after a write never shows the old state. Without a replica
+ * (inventory.datasource.replica.enabled=false) no token is issued.
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+@RestControllerAdvice
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+    public static final String CONSISTENCY_TOKEN = "Consistency-Token";
+
+    private static final Set<HttpMethod> WRITE_METHODS = Set.of(
+            HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+
+    public ConsistencyTokenAdvice(ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    // ==================== Read Side ====================
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Malformed tokens are ignored: the request is served as if none was sent
+        ReadConsistency.parseLsn(request.getHeader(CONSISTENCY_TOKEN)).ifPresent(ReadConsistency::require);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        ReadConsistency.clear();
+    }
+
+    // ==================== Write Side ====================
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            replicaLagMonitor.ifAvailable(monitor -> monitor.primaryLsn()
+                    .ifPresent(lsn -> response.getHeaders().set(CONSISTENCY_TOKEN, lsn)));
+        }
+        return body;
+    }
+}
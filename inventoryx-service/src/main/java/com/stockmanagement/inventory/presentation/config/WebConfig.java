@@ -2,6 +2,7 @@ package com.stockmanagement.inventory.presentation.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -18,12 +19,21 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * - Update allowedOrigins to production domain
  * - Consider using environment variables
  * 
+ * INTERCEPTORS:
+ * - ConsistencyTokenAdvice: read-your-writes token for replica reads
+ * 
  * @author InventoryX Development Team
  * @since 2026-01-12
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ConsistencyTokenAdvice consistencyTokenAdvice;
+
+    public WebConfig(ConsistencyTokenAdvice consistencyTokenAdvice) {
+        this.consistencyTokenAdvice = consistencyTokenAdvice;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -33,4 +43,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(consistencyTokenAdvice);
+    }
 }
@@ -1,13 +1,22 @@
 package com.stockmanagement.inventory.presentation.exception;
 
 import com.stockmanagement.inventory.domain.exception.*;
+import com.stockmanagement.inventory.infrastructure.aspect.MetricsAspect;
+import com.stockmanagement.inventory.infrastructure.monitoring.SkuMetricTags;
 import com.stockmanagement.inventory.presentation.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
 import java.util.stream.Collectors;
@@ -26,6 +35,11 @@ import java.util.stream.Collectors;
  * - WARN: Expected business errors (not found, insufficient stock)
  * - ERROR: Unexpected system errors (internal error)
  * 
+ * METRICS:
+ * inventory.rejections (counter, tags: code, status, sku). The sku tag is
+ * the allow-listed SKU of the failed stock command (MetricsAspect), else
+ * "other".
+ * 
  * @author InventoryX Development Team
  * @since 2026-01-12
  */
@@ -33,6 +47,12 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+        private final MeterRegistry meterRegistry;
+
+        public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+                this.meterRegistry = meterRegistry;
+        }
+
         /**
          * Handles StockNotFoundException.
          * Returns 404 NOT FOUND.
@@ -41,11 +61,7 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ErrorResponse> handleStockNotFound(
                         StockNotFoundException ex) {
                 log.warn("Stock not found: {}", ex.getMessage());
-                ErrorResponse error = new ErrorResponse(
-                                "STOCK_NOT_FOUND",
-                                ex.getMessage(),
-                                Instant.now());
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+                return reject(HttpStatus.NOT_FOUND, "STOCK_NOT_FOUND", ex.getMessage());
         }
 
         /**
@@ -56,11 +72,30 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ErrorResponse> handleInsufficientStock(
                         InsufficientStockException ex) {
                 log.warn("Insufficient stock: {}", ex.getMessage());
-                ErrorResponse error = new ErrorResponse(
-                                "INSUFFICIENT_STOCK",
-                                ex.getMessage(),
-                                Instant.now());
-                return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+                return reject(HttpStatus.CONFLICT, "INSUFFICIENT_STOCK", ex.getMessage());
+        }
+
+        /**
+         * Handles optimistic lock conflicts (stock changed since it was read).
+         * Returns 409 CONFLICT; the client may retry.
+         */
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ResponseEntity<ErrorResponse> handleOptimisticLock(
+                        OptimisticLockingFailureException ex) {
+                log.warn("Concurrent modification: {}", ex.getMessage());
+                return reject(HttpStatus.CONFLICT, "CONCURRENT_MODIFICATION",
+                                "The stock was changed by another request, please retry");
+        }
+
+        /**
+         * Handles lock timeouts (stock command queue or row lock busy).
+         * Returns 503 SERVICE UNAVAILABLE; the client may retry.
+         */
+        @ExceptionHandler(CannotAcquireLockException.class)
+        public ResponseEntity<ErrorResponse> handleLockTimeout(CannotAcquireLockException ex) {
+                log.warn("Lock not acquired: {}", ex.getMessage());
+                return reject(HttpStatus.SERVICE_UNAVAILABLE, "STOCK_BUSY",
+                                "The stock is busy, please retry");
         }
 
         /**
@@ -71,11 +106,18 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ErrorResponse> handleInvalidOperation(
                         InvalidStockOperationException ex) {
                 log.warn("Invalid stock operation: {}", ex.getMessage());
-                ErrorResponse error = new ErrorResponse(
-                                "INVALID_OPERATION",
-                                ex.getMessage(),
-                                Instant.now());
-                return ResponseEntity.badRequest().body(error);
+                return reject(HttpStatus.BAD_REQUEST, "INVALID_OPERATION", ex.getMessage());
+        }
+
+        /**
+         * Handles InvalidCursorException (tampered or foreign cursor).
+         * Returns 400 BAD REQUEST.
+         */
+        @ExceptionHandler(InvalidCursorException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidCursor(
+                        InvalidCursorException ex) {
+                log.warn("Invalid cursor: {}", ex.getMessage());
+                return reject(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", ex.getMessage());
         }
 
         /**
@@ -90,39 +132,41 @@ public class GlobalExceptionHandler {
                                 .collect(Collectors.joining(", "));
 
                 log.warn("Validation failed: {}", message);
-                ErrorResponse error = new ErrorResponse(
-                                "VALIDATION_ERROR",
-                                message,
-                                Instant.now());
-                return ResponseEntity.badRequest().body(error);
+                return reject(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", message);
+        }
+
+        /**
+         * Handles unparseable query/path parameters (e.g. ?from=yesterday).
+         * Returns 400 BAD REQUEST.
+         */
+        @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+        public ResponseEntity<ErrorResponse> handleTypeMismatch(
+                        MethodArgumentTypeMismatchException ex) {
+                String message = "Invalid value for parameter '" + ex.getName() + "'";
+                log.warn("Type mismatch: {}", message);
+                return reject(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", message);
         }
 
         /**
          * Handles UserNotFoundException, RoleNotFoundException.
          * Returns 404 NOT FOUND.
          */
-        @ExceptionHandler({ UserNotFoundException.class, RoleNotFoundException.class, ProductNotFoundException.class })
+        @ExceptionHandler({ UserNotFoundException.class, RoleNotFoundException.class, ProductNotFoundException.class,
+                        LocationNotFoundException.class })
         public ResponseEntity<ErrorResponse> handleResourceNotFound(RuntimeException ex) {
                 log.warn("Resource not found: {}", ex.getMessage());
-                ErrorResponse error = new ErrorResponse(
-                                "NOT_FOUND",
-                                ex.getMessage(),
-                                Instant.now());
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+                return reject(HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage());
         }
 
         /**
          * Handles UserAlreadyExistsException.
          * Returns 409 CONFLICT.
          */
-        @ExceptionHandler({ UserAlreadyExistsException.class, DuplicateSkuException.class })
+        @ExceptionHandler({ UserAlreadyExistsException.class, DuplicateSkuException.class,
+                        IdempotencyConflictException.class })
         public ResponseEntity<ErrorResponse> handleConflictException(RuntimeException ex) {
                 log.warn("Conflict: {}", ex.getMessage());
-                ErrorResponse error = new ErrorResponse(
-                                "CONFLICT",
-                                ex.getMessage(),
-                                Instant.now());
-                return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+                return reject(HttpStatus.CONFLICT, "CONFLICT", ex.getMessage());
         }
 
         /**
@@ -133,11 +177,7 @@ public class GlobalExceptionHandler {
         public ResponseEntity<ErrorResponse> handleAuthenticationException(
                         org.springframework.security.core.AuthenticationException ex) {
                 log.warn("Authentication failed: {}", ex.getMessage());
-                ErrorResponse error = new ErrorResponse(
-                                "UNAUTHORIZED",
-                                ex.getMessage(),
-                                Instant.now());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+                return reject(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", ex.getMessage());
         }
 
         /**
@@ -149,10 +189,29 @@ public class GlobalExceptionHandler {
                 // Log the exception with full stack trace for debugging
                 log.error("Unexpected error occurred: {}", ex.getMessage(), ex);
 
-                ErrorResponse error = new ErrorResponse(
-                                "INTERNAL_ERROR",
-                                "An unexpected error occurred",
-                                Instant.now());
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+                return reject(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "An unexpected error occurred");
+        }
+
+        /**
+         * Counts the rejection and builds the error response.
+         */
+        private ResponseEntity<ErrorResponse> reject(HttpStatus status, String code, String message) {
+                Counter.builder("inventory.rejections")
+                                .description("Requests rejected with an error response")
+                                .tag("code", code)
+                                .tag("status", String.valueOf(status.value()))
+                                .tag(SkuMetricTags.TAG, rejectedSku())
+                                .register(meterRegistry)
+                                .increment();
+                return ResponseEntity.status(status).body(new ErrorResponse(code, message, Instant.now()));
+        }
+
+        private static String rejectedSku() {
+                RequestAttributes request = RequestContextHolder.getRequestAttributes();
+                Object sku = request != null
+                                ? request.getAttribute(MetricsAspect.REJECTED_SKU_ATTRIBUTE,
+                                                RequestAttributes.SCOPE_REQUEST)
+                                : null;
+                return sku != null ? sku.toString() : SkuMetricTags.OTHER;
         }
 }
@@ -1,5 +1,6 @@
 package com.stockmanagement.inventory.presentation.rest;
 
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
 import com.stockmanagement.inventory.application.service.LocationManagementService;
 import com.stockmanagement.inventory.domain.model.Location;
 import com.stockmanagement.inventory.presentation.dto.CreateLocationRequest;
@@ -35,6 +36,17 @@ public class LocationController {
         return ResponseEntity.ok(locations);
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+    public ResponseEntity<CursorPageResponse<LocationResponse>> scrollLocations(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(locationService.scrollLocations(search, cursor, size, withTotal)
+                .map(LocationResponse::fromDomain));
+    }
+
     @GetMapping("/active")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
     public ResponseEntity<List<LocationResponse>> getActiveLocations() {
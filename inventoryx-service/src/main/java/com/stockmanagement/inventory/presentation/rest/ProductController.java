@@ -1,5 +1,7 @@
 package com.stockmanagement.inventory.presentation.rest;
 
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
+import com.stockmanagement.inventory.application.dto.response.SkuSuggestionResponse;
 import com.stockmanagement.inventory.application.service.ProductManagementService;
 import com.stockmanagement.inventory.domain.model.Product;
 import com.stockmanagement.inventory.presentation.dto.CreateProductRequest;
@@ -15,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +36,32 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> scrollProducts(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(productService.scrollProducts(search, cursor, size, withTotal)
+                .map(ProductResponse::fromDomain));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductResponse>> suggestProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.suggestProducts(q, limit).stream()
+                .map(ProductResponse::fromDomain)
+                .toList());
+    }
+
+    @GetMapping("/sku-suggest")
+    public ResponseEntity<List<SkuSuggestionResponse>> suggestSkus(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.suggestSkus(prefix, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> getProduct(@PathVariable UUID id) {
         Product product = productService.getProduct(id);
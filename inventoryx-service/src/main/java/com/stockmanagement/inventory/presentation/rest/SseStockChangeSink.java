@@ -0,0 +1,59 @@
+package com.stockmanagement.inventory.presentation.rest;
+
+import com.stockmanagement.inventory.application.stream.StockChange;
+import com.stockmanagement.inventory.application.stream.StockChangeSink;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SseStockChangeSink - Writes a stock change subscription as Server-Sent
+ * Events.
+ *
+ * EVENTS:
+ * - "stock": one StockChange (JSON), id = its eventId
+ * - "reset": {"eventId": ...}; reload stocks, changes continue after eventId
+ * - Comment line ": keepalive" on idle streams
+ *
+ * @author InventoryX Development Team
+ * @since 2026-10-16
+ */
+class SseStockChangeSink implements StockChangeSink {
+
+    private final SseEmitter emitter;
+
+    SseStockChangeSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(List<StockChange> changes) throws IOException {
+        for (StockChange change : changes) {
+            emitter.send(SseEmitter.event()
+                    .id(change.eventId())
+                    .name("stock")
+                    .data(change, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Override
+    public void reset(String eventId) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(eventId)
+                .name("reset")
+                .data(Map.of("eventId", eventId), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("keepalive"));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
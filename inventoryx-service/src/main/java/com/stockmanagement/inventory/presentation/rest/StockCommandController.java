@@ -1,12 +1,26 @@
 package com.stockmanagement.inventory.presentation.rest;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.stockmanagement.inventory.application.dto.command.*;
+import com.stockmanagement.inventory.application.dto.response.BulkReceiptResponse;
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.application.dto.response.StockTransferResponse;
+import com.stockmanagement.inventory.application.idempotency.IdempotentCommandExecutor;
 import com.stockmanagement.inventory.application.service.*;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.IdempotencyKeyRepository.RequestKey;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Supplier;
+
 /**
  * StockCommandController - REST API for stock write operations (CQRS Command
  * side).
@@ -15,12 +29,28 @@ import org.springframework.web.bind.annotation.*;
  * 
  * ENDPOINTS (POST - Write operations):
  * - POST /receive - Receive stock into warehouse
+ * - POST /receive/bulk - Receive a whole delivery file (CSV / NDJSON)
  * - POST /reserve - Reserve stock for order
+ * - POST /reserve/batch - Reserve all lines of an order (all-or-nothing)
  * - POST /release - Release reservation
  * - POST /confirm - Confirm reservation (sale)
  * - POST /adjust - Adjust stock quantity
  * - POST /withdraw - Withdraw stock for internal use
  * - POST /sale - Quick sale (POS)
+ * - POST /transfer - Move stock between locations
+ * - POST /transfer/batch - Move many lines between locations (all-or-nothing)
+ * 
+ * IDEMPOTENCY:
+ * Every endpoint except /receive/bulk accepts an optional Idempotency-Key
+ * header. A retry with the same key (same user, endpoint and body) gets the
+ * first response back, marked with Idempotent-Replayed: true, without
+ * running the command again.
+ * 
+ * COMBINING:
+ * Reserve, release, confirm, withdraw and sale without Idempotency-Key go
+ * through StockCommandCombiner. When combining is enabled, concurrent
+ * commands on one stock share a transaction; otherwise the use case runs
+ * directly (see there).
  * 
  * @author InventoryX Development Team
  * @since 2026-01-17
@@ -29,29 +59,39 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/stocks")
 public class StockCommandController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final TypeReference<StockResponse> STOCK = new TypeReference<>() {
+    };
+    private static final TypeReference<List<StockResponse>> STOCKS = new TypeReference<>() {
+    };
+    private static final TypeReference<StockTransferResponse> TRANSFER = new TypeReference<>() {
+    };
+
     private final ReceiveStockUseCase receiveStockUseCase;
-    private final ReserveStockUseCase reserveStockUseCase;
-    private final ReleaseReservationUseCase releaseReservationUseCase;
-    private final ConfirmReservationUseCase confirmReservationUseCase;
+    private final BulkReceiveStockUseCase bulkReceiveStockUseCase;
+    private final BatchReserveStockUseCase batchReserveStockUseCase;
     private final AdjustStockUseCase adjustStockUseCase;
-    private final WithdrawStockUseCase withdrawStockUseCase;
-    private final QuickSaleUseCase quickSaleUseCase;
+    private final TransferStockUseCase transferStockUseCase;
+    private final StockCommandCombiner stockCommandCombiner;
+    private final IdempotentCommandExecutor idempotentExecutor;
 
     public StockCommandController(
             ReceiveStockUseCase receiveStockUseCase,
-            ReserveStockUseCase reserveStockUseCase,
-            ReleaseReservationUseCase releaseReservationUseCase,
-            ConfirmReservationUseCase confirmReservationUseCase,
+            BulkReceiveStockUseCase bulkReceiveStockUseCase,
+            BatchReserveStockUseCase batchReserveStockUseCase,
             AdjustStockUseCase adjustStockUseCase,
-            WithdrawStockUseCase withdrawStockUseCase,
-            QuickSaleUseCase quickSaleUseCase) {
+            TransferStockUseCase transferStockUseCase,
+            StockCommandCombiner stockCommandCombiner,
+            IdempotentCommandExecutor idempotentExecutor) {
         this.receiveStockUseCase = receiveStockUseCase;
-        this.reserveStockUseCase = reserveStockUseCase;
-        this.releaseReservationUseCase = releaseReservationUseCase;
-        this.confirmReservationUseCase = confirmReservationUseCase;
+        this.bulkReceiveStockUseCase = bulkReceiveStockUseCase;
+        this.batchReserveStockUseCase = batchReserveStockUseCase;
         this.adjustStockUseCase = adjustStockUseCase;
-        this.withdrawStockUseCase = withdrawStockUseCase;
-        this.quickSaleUseCase = quickSaleUseCase;
+        this.transferStockUseCase = transferStockUseCase;
+        this.stockCommandCombiner = stockCommandCombiner;
+        this.idempotentExecutor = idempotentExecutor;
     }
 
     /**
@@ -62,8 +102,32 @@ public class StockCommandController {
      */
     @PostMapping("/receive")
     public ResponseEntity<StockResponse> receiveStock(
-            @Valid @RequestBody ReceiveStockCommand command) {
-        return ResponseEntity.ok(receiveStockUseCase.execute(command));
+            @Valid @RequestBody ReceiveStockCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("receive", idempotencyKey, authentication, command, STOCK,
+                () -> receiveStockUseCase.execute(command));
+    }
+
+    /**
+     * Receive a whole delivery file.
+     * 
+     * POST /api/v1/stocks/receive/bulk
+     * Content-Type: text/csv (header row) or application/x-ndjson
+     * USE CASE: Container / supplier delivery with thousands of lines
+     * 
+     * Invalid lines are reported back, the rest is received in one transaction.
+     */
+    @PostMapping(value = "/receive/bulk", consumes = { "text/csv", "application/x-ndjson" })
+    @PreAuthorize("hasAuthority('STOCK_RECEIVE')")
+    public ResponseEntity<BulkReceiptResponse> receiveStockBulk(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            Authentication authentication) throws IOException {
+        BulkReceiveStockUseCase.Format format = TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? BulkReceiveStockUseCase.Format.CSV
+                : BulkReceiveStockUseCase.Format.NDJSON;
+        return ResponseEntity.ok(bulkReceiveStockUseCase.execute(body, format, authentication.getName()));
     }
 
     /**
@@ -74,8 +138,26 @@ public class StockCommandController {
      */
     @PostMapping("/reserve")
     public ResponseEntity<StockResponse> reserveStock(
-            @Valid @RequestBody ReserveStockCommand command) {
-        return ResponseEntity.ok(reserveStockUseCase.execute(command));
+            @Valid @RequestBody ReserveStockCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("reserve", idempotencyKey, authentication, command, STOCK,
+                () -> stockCommandCombiner.reserve(command));
+    }
+
+    /**
+     * Reserve every line of an order in one transaction.
+     * 
+     * POST /api/v1/stocks/reserve/batch
+     * USE CASE: Checkout places a multi-line order (all-or-nothing)
+     */
+    @PostMapping("/reserve/batch")
+    public ResponseEntity<List<StockResponse>> reserveStockBatch(
+            @Valid @RequestBody BatchReserveStockCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("reserve/batch", idempotencyKey, authentication, command, STOCKS,
+                () -> batchReserveStockUseCase.execute(command));
     }
 
     /**
@@ -86,8 +168,11 @@ public class StockCommandController {
      */
     @PostMapping("/release")
     public ResponseEntity<StockResponse> releaseReservation(
-            @Valid @RequestBody ReleaseReservationCommand command) {
-        return ResponseEntity.ok(releaseReservationUseCase.execute(command));
+            @Valid @RequestBody ReleaseReservationCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("release", idempotencyKey, authentication, command, STOCK,
+                () -> stockCommandCombiner.release(command));
     }
 
     /**
@@ -98,8 +183,11 @@ public class StockCommandController {
      */
     @PostMapping("/confirm")
     public ResponseEntity<StockResponse> confirmReservation(
-            @Valid @RequestBody ConfirmReservationCommand command) {
-        return ResponseEntity.ok(confirmReservationUseCase.execute(command));
+            @Valid @RequestBody ConfirmReservationCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("confirm", idempotencyKey, authentication, command, STOCK,
+                () -> stockCommandCombiner.confirm(command));
     }
 
     /**
@@ -110,8 +198,11 @@ public class StockCommandController {
      */
     @PostMapping("/adjust")
     public ResponseEntity<StockResponse> adjustStock(
-            @Valid @RequestBody AdjustStockCommand command) {
-        return ResponseEntity.ok(adjustStockUseCase.execute(command));
+            @Valid @RequestBody AdjustStockCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("adjust", idempotencyKey, authentication, command, STOCK,
+                () -> adjustStockUseCase.execute(command));
     }
 
     /**
@@ -122,8 +213,11 @@ public class StockCommandController {
      */
     @PostMapping("/withdraw")
     public ResponseEntity<StockResponse> withdrawStock(
-            @Valid @RequestBody WithdrawStockCommand command) {
-        return ResponseEntity.ok(withdrawStockUseCase.execute(command));
+            @Valid @RequestBody WithdrawStockCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("withdraw", idempotencyKey, authentication, command, STOCK,
+                () -> stockCommandCombiner.withdraw(command));
     }
 
     /**
@@ -134,7 +228,59 @@ public class StockCommandController {
      */
     @PostMapping("/sale")
     public ResponseEntity<StockResponse> quickSale(
-            @Valid @RequestBody QuickSaleCommand command) {
-        return ResponseEntity.ok(quickSaleUseCase.execute(command));
+            @Valid @RequestBody QuickSaleCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("sale", idempotencyKey, authentication, command, STOCK,
+                () -> stockCommandCombiner.quickSale(command));
+    }
+
+    /**
+     * Transfer stock between locations.
+     * 
+     * POST /api/v1/stocks/transfer
+     * USE CASE: Warehouse to store replenishment
+     * 
+     * Source and destination change in one transaction; the destination stock
+     * is created if the SKU is new there.
+     */
+    @PostMapping("/transfer")
+    public ResponseEntity<StockTransferResponse> transferStock(
+            @Valid @RequestBody TransferStockCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("transfer", idempotencyKey, authentication, command, TRANSFER,
+                () -> transferStockUseCase.execute(command));
+    }
+
+    /**
+     * Transfer many lines between locations in one transaction.
+     * 
+     * POST /api/v1/stocks/transfer/batch
+     * USE CASE: Rebalancing job (up to 10000 lines, all-or-nothing)
+     */
+    @PostMapping("/transfer/batch")
+    public ResponseEntity<StockTransferResponse> transferStockBatch(
+            @Valid @RequestBody BatchTransferStockCommand command,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Authentication authentication) {
+        return idempotent("transfer/batch", idempotencyKey, authentication, command, TRANSFER,
+                () -> transferStockUseCase.execute(command));
+    }
+
+    /**
+     * Runs the command, once per Idempotency-Key if the client sent one.
+     */
+    private <T> ResponseEntity<T> idempotent(String endpoint, String idempotencyKey,
+            Authentication authentication, Object command, TypeReference<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(action.get());
+        }
+        IdempotentCommandExecutor.Result<T> result = idempotentExecutor.execute(
+                new RequestKey(authentication.getName(), endpoint, idempotencyKey),
+                command, responseType, action);
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(result.replayed()))
+                .body(result.value());
     }
 }
@@ -1,15 +1,30 @@
 package com.stockmanagement.inventory.presentation.rest;
 
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
 import com.stockmanagement.inventory.application.dto.response.PagedStockResponse;
 import com.stockmanagement.inventory.application.dto.response.StockMovementResponse;
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.application.export.StockExportFormat;
+import com.stockmanagement.inventory.application.export.StockExportService;
 import com.stockmanagement.inventory.application.service.StockMovementQueryService;
 import com.stockmanagement.inventory.application.service.StockQueryService;
+import com.stockmanagement.inventory.application.stream.StockChangeFeed;
+import com.stockmanagement.inventory.application.stream.StockChangeFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -19,10 +34,13 @@ import java.util.List;
  * 
  * ENDPOINTS (GET - Read operations):
  * - GET /{id} - Get stock by ID
- * - GET /{id}/movements - Get stock movement history
+ * - GET /{id}/movements - Stock movement history (time range, type, cursor)
  * - GET ?sku=X - Query stocks by SKU
  * - GET ?locationId=X - Query stocks by location
  * - GET /paged - Paginated stock list
+ * - GET /scroll - Cursor (keyset) stock list
+ * - GET /export - Streamed CSV/NDJSON export (REPORT_EXPORT)
+ * - GET /stream - Live stock changes (Server-Sent Events)
  * 
  * @author InventoryX Development Team
  * @since 2026-01-17
@@ -33,12 +51,21 @@ public class StockQueryController {
 
     private final StockQueryService stockQueryService;
     private final StockMovementQueryService stockMovementQueryService;
+    private final StockExportService stockExportService;
+    private final StockChangeFeed stockChangeFeed;
+    private final long streamTimeoutMs;
 
     public StockQueryController(
             StockQueryService stockQueryService,
-            StockMovementQueryService stockMovementQueryService) {
+            StockMovementQueryService stockMovementQueryService,
+            StockExportService stockExportService,
+            StockChangeFeed stockChangeFeed,
+            @Value("${inventory.stock-stream.timeout-ms:1800000}") long streamTimeoutMs) {
         this.stockQueryService = stockQueryService;
         this.stockMovementQueryService = stockMovementQueryService;
+        this.stockExportService = stockExportService;
+        this.stockChangeFeed = stockChangeFeed;
+        this.streamTimeoutMs = streamTimeoutMs;
     }
 
     /**
@@ -52,14 +79,24 @@ public class StockQueryController {
     }
 
     /**
-     * Get stock movement history.
+     * Get stock movement history (newest first, cursor pages).
      * 
-     * GET /api/v1/stocks/{id}/movements
+     * GET /api/v1/stocks/{id}/movements?size=50
+     * GET /api/v1/stocks/{id}/movements?from=2026-10-01T00:00:00Z&to=2026-11-01T00:00:00Z
+     * GET /api/v1/stocks/{id}/movements?type=RECEIPT,SALE&cursor={nextCursor}
      * USE CASE: View movement history on Stock Detail page
+     * 
+     * from is inclusive, to is exclusive (ISO-8601 instants).
      */
     @GetMapping("/{id}/movements")
-    public ResponseEntity<List<StockMovementResponse>> getStockMovements(@PathVariable String id) {
-        return ResponseEntity.ok(stockMovementQueryService.getMovementsByStockId(id));
+    public ResponseEntity<CursorPageResponse<StockMovementResponse>> getStockMovements(
+            @PathVariable String id,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(name = "type", required = false) List<String> types,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(stockMovementQueryService.getMovements(id, from, to, types, cursor, size));
     }
 
     /**
@@ -104,4 +141,81 @@ public class StockQueryController {
 
         return ResponseEntity.ok(stockQueryService.getAllPaged(pageable));
     }
+
+    /**
+     * Query all stocks with cursor pagination.
+     * 
+     * GET /api/v1/stocks/scroll?size=20
+     * GET /api/v1/stocks/scroll?cursor={nextCursor}&size=20
+     * 
+     * Constant cost per page at any depth; withTotal=true adds an estimated
+     * row count instead of an exact COUNT(*).
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<StockResponse>> scrollStocks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(stockQueryService.scroll(cursor, size, withTotal));
+    }
+
+    /**
+     * Export all stocks (with product and location names).
+     * 
+     * GET /api/v1/stocks/export?format=csv
+     * GET /api/v1/stocks/export?format=ndjson&gzip=true
+     * 
+     * Streamed from a database cursor while the response is written, so
+     * memory use does not depend on the number of rows.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('REPORT_EXPORT')")
+    public ResponseEntity<StreamingResponseBody> exportStocks(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        StockExportFormat exportFormat = StockExportFormat.fromParameter(format);
+        String filename = "stocks-" + LocalDate.now() + "." + exportFormat.fileExtension() + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = out -> stockExportService.export(exportFormat, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Stream stock changes as they are committed (Server-Sent Events).
+     * 
+     * GET /api/v1/stocks/stream
+     * GET /api/v1/stocks/stream?sku=PROD-001&sku=PROD-002
+     * GET /api/v1/stocks/stream?locationId=WH-01
+     * 
+     * Each "stock" event carries the stock's quantities after the change.
+     * Reconnecting with Last-Event-ID resumes after that event; if it is no
+     * longer retained (or the client fell too far behind) a "reset" event
+     * asks the client to reload. The stream ends after timeout-ms; clients
+     * reconnect with Last-Event-ID.
+     * 
+     * 503 when max-subscribers streams are open.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStockChanges(
+            @RequestParam(required = false) List<String> sku,
+            @RequestParam(required = false) List<String> locationId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        return stockChangeFeed
+                .subscribe(StockChangeFilter.of(sku, locationId), lastEventId, new SseStockChangeSink(emitter))
+                .map(subscription -> {
+                    emitter.onCompletion(subscription::cancel);
+                    emitter.onTimeout(subscription::cancel);
+                    emitter.onError(error -> subscription.cancel());
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                            .header("X-Accel-Buffering", "no")
+                            .body(emitter);
+                })
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
 }
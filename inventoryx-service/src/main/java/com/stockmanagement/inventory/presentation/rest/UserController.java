@@ -34,6 +34,16 @@ public class UserController {
         return ResponseEntity.ok(userManagementService.getUsersPaged(search, pageable));
     }
 
+    @org.springframework.web.bind.annotation.GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<com.stockmanagement.inventory.application.dto.response.CursorPageResponse<com.stockmanagement.inventory.application.dto.response.UserResponse>> scrollUsers(
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String search,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String cursor,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "20") int size,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(userManagementService.scrollUsers(search, cursor, size, withTotal));
+    }
+
     @org.springframework.web.bind.annotation.PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> updateUser(
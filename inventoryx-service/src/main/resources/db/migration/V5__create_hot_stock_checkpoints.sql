@@ -0,0 +1,22 @@
+-- ============================================================================
+-- Flyway Migration: V5__create_hot_stock_checkpoints.sql
+-- ============================================================================
+-- PURPOSE: Bookkeeping for hot stock write-behind (HotStockStore).
+--
+-- Each flushed write-ahead segment is recorded here in the SAME transaction
+-- as its stocks/stock_movements writes. On startup, a segment file that is
+-- still on disk but already listed here was flushed before a crash and must
+-- not be replayed again.
+--
+-- AUTHOR: InventoryX Development Team
+-- DATE: 2026-10-16
+-- ============================================================================
+
+CREATE TABLE inventory.hot_stock_checkpoints (
+    segment VARCHAR(100) PRIMARY KEY,          -- WAL segment file name
+    flushed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Pruning old checkpoints (> 7 days) at startup
+CREATE INDEX idx_hot_stock_checkpoints_flushed_at
+    ON inventory.hot_stock_checkpoints(flushed_at);
@@ -0,0 +1,174 @@
+-- ============================================================================
+-- Flyway Migration: V6__partition_stock_movements.sql
+-- ============================================================================
+-- PURPOSE: Monthly range partitioning of stock_movements by performed_at.
+--
+-- stock_movements is append-only and grows without bound. Partitioning by
+-- month keeps each partition (and its indexes) small, lets time-range
+-- queries skip whole months, and allows old months to be detached/archived
+-- without a bulk DELETE.
+--
+-- CHANGES:
+-- - stock_movements becomes a partitioned table; PRIMARY KEY (id, performed_at)
+--   because the partition key must be part of every unique constraint
+-- - Partitions are named stock_movements_YYYY_MM; a DEFAULT partition catches
+--   rows outside the created months so writes never fail
+-- - inventory.ensure_stock_movement_partition(month) creates one month
+--   (moving matching rows out of the DEFAULT partition first);
+--   inventory.ensure_stock_movement_partitions(months_ahead) is called by
+--   StockMovementPartitionMaintainer at startup and every 6 hours
+--   (inventory.movements.partition-check-interval-ms)
+-- - History index (stock_id, performed_at DESC, id DESC) replaces the
+--   single-column stock_id and movement_type indexes
+-- - chk_movement_type now allows WITHDRAWAL (written by
+--   StockMovementEventListener)
+--
+-- AUTHOR: InventoryX Development Team
+-- DATE: 2026-10-16
+-- ============================================================================
+
+-- ============================================================================
+-- STEP 1: Move the existing table aside
+-- ============================================================================
+ALTER TABLE inventory.stock_movements RENAME TO stock_movements_legacy;
+ALTER INDEX inventory.stock_movements_pkey RENAME TO stock_movements_legacy_pkey;
+
+-- ============================================================================
+-- STEP 2: Partitioned table
+-- ============================================================================
+CREATE TABLE inventory.stock_movements (
+    -- Identity
+    id VARCHAR(36) NOT NULL,
+
+    -- Aggregate relationship
+    stock_id VARCHAR(36) NOT NULL,
+
+    -- Movement details
+    movement_type VARCHAR(20) NOT NULL,
+    quantity NUMERIC(19,4) NOT NULL,
+    reason TEXT,
+    reference_id VARCHAR(100),
+
+    -- Audit
+    performed_by VARCHAR(36),
+    performed_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT stock_movements_pkey PRIMARY KEY (id, performed_at),
+
+    -- Foreign key with cascade delete (movements deleted with stock)
+    CONSTRAINT fk_stock FOREIGN KEY (stock_id)
+        REFERENCES inventory.stocks(id) ON DELETE CASCADE,
+
+    -- Valid movement types
+    CONSTRAINT chk_movement_type CHECK (movement_type IN
+        ('RECEIPT', 'RESERVATION', 'RELEASE', 'CONFIRMATION',
+         'SALE', 'TRANSFER', 'ADJUSTMENT', 'WITHDRAWAL'))
+) PARTITION BY RANGE (performed_at);
+
+-- Safety net: rows for months that have no partition yet
+CREATE TABLE inventory.stock_movements_default
+    PARTITION OF inventory.stock_movements DEFAULT;
+
+-- ============================================================================
+-- STEP 3: Partition management functions
+-- ============================================================================
+
+-- Creates the partition for the month containing p_month.
+-- Returns TRUE if a partition was created, FALSE if it already existed.
+CREATE OR REPLACE FUNCTION inventory.ensure_stock_movement_partition(p_month DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month);
+    v_to TIMESTAMP := date_trunc('month', p_month) + INTERVAL '1 month';
+    v_name TEXT := 'stock_movements_' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    -- Serialize concurrent callers (several application instances)
+    PERFORM pg_advisory_xact_lock(hashtext('inventory.stock_movements'));
+
+    IF to_regclass('inventory.' || v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM inventory.stock_movements_default
+               WHERE performed_at >= v_from AND performed_at < v_to) THEN
+        -- Rows already landed in DEFAULT: a new partition cannot overlap them,
+        -- so build the month as a plain table, move the rows, then attach it
+        EXECUTE format('CREATE TABLE inventory.%I '
+            || '(LIKE inventory.stock_movements INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+        EXECUTE format('WITH moved AS (DELETE FROM inventory.stock_movements_default '
+            || 'WHERE performed_at >= %L AND performed_at < %L RETURNING *) '
+            || 'INSERT INTO inventory.%I SELECT * FROM moved', v_from, v_to, v_name);
+        EXECUTE format('ALTER TABLE inventory.stock_movements ATTACH PARTITION inventory.%I '
+            || 'FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    ELSE
+        EXECUTE format('CREATE TABLE inventory.%I PARTITION OF inventory.stock_movements '
+            || 'FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    END IF;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Ensures partitions exist from the current month through p_months_ahead
+-- months ahead. Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION inventory.ensure_stock_movement_partitions(p_months_ahead INT)
+RETURNS INT AS $$
+DECLARE
+    v_created INT := 0;
+    v_month DATE;
+BEGIN
+    FOR i IN 0..GREATEST(p_months_ahead, 0) LOOP
+        v_month := (date_trunc('month', CURRENT_DATE) + make_interval(months => i))::DATE;
+        IF inventory.ensure_stock_movement_partition(v_month) THEN
+            v_created := v_created + 1;
+        END IF;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================================
+-- STEP 4: Partitions for existing history and the next months
+-- ============================================================================
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    SELECT date_trunc('month', MIN(performed_at))::DATE INTO v_month
+    FROM inventory.stock_movements_legacy;
+
+    WHILE v_month IS NOT NULL AND v_month < date_trunc('month', CURRENT_DATE) LOOP
+        PERFORM inventory.ensure_stock_movement_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+
+    PERFORM inventory.ensure_stock_movement_partitions(3);
+END;
+$$;
+
+-- ============================================================================
+-- STEP 5: Copy history and drop the old table
+-- ============================================================================
+INSERT INTO inventory.stock_movements
+    (id, stock_id, movement_type, quantity, reason, reference_id, performed_by, performed_at)
+SELECT id, stock_id, movement_type, quantity, reason, reference_id, performed_by, performed_at
+FROM inventory.stock_movements_legacy;
+
+DROP TABLE inventory.stock_movements_legacy;
+
+-- ============================================================================
+-- STEP 6: Indexes (created on every partition, present and future)
+-- ============================================================================
+
+-- History of one stock, newest first, keyset by (performed_at, id)
+CREATE INDEX idx_movements_stock_performed_at
+    ON inventory.stock_movements(stock_id, performed_at DESC, id DESC);
+
+-- Recent activity across all stocks
+CREATE INDEX idx_movements_performed_at
+    ON inventory.stock_movements(performed_at DESC);
+
+-- Lookup by order / transfer reference
+CREATE INDEX idx_movements_reference
+    ON inventory.stock_movements(reference_id);
+
+ANALYZE inventory.stock_movements;
@@ -0,0 +1,63 @@
+-- ============================================================================
+-- Flyway Migration: V7__create_stock_reservations.sql
+-- ============================================================================
+-- PURPOSE: Reservation holds with expiry.
+--
+-- stocks.reserved_quantity says how much is reserved, not for whom. Each
+-- row here is the part of it held by one order on one stock, until it is
+-- confirmed, released or expires (ReservationExpiryScheduler releases
+-- expired holds back to available).
+--
+-- BACKFILL: Orders reserved before this migration get their hold rebuilt
+-- from stock_movements (RESERVATION - RELEASE - CONFIRMATION per order and
+-- stock, where positive), expiring one TTL after the migration
+-- (placeholder reservation-ttl = inventory.reservations.ttl), so in-flight
+-- orders can still be confirmed or released.
+--
+-- AUTHOR: InventoryX Development Team
+-- DATE: 2026-10-16
+-- ============================================================================
+
+CREATE TABLE inventory.stock_reservations (
+    order_id VARCHAR(100) NOT NULL,
+    stock_id VARCHAR(36) NOT NULL,
+    quantity NUMERIC(19,4) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+
+    -- Confirm/release look holds up by order + stock
+    CONSTRAINT pk_stock_reservations PRIMARY KEY (order_id, stock_id),
+
+    -- Holds disappear with their stock
+    CONSTRAINT fk_reservation_stock FOREIGN KEY (stock_id)
+        REFERENCES inventory.stocks(id) ON DELETE CASCADE,
+
+    CONSTRAINT chk_reservation_quantity CHECK (quantity > 0)
+);
+
+-- Expiry sweep and timing wheel rebuild at startup
+CREATE INDEX idx_reservations_expires_at ON inventory.stock_reservations(expires_at);
+
+-- FK lookups on stock delete
+CREATE INDEX idx_reservations_stock ON inventory.stock_reservations(stock_id);
+
+-- Backfill holds of orders reserved before this migration
+INSERT INTO inventory.stock_reservations (order_id, stock_id, quantity, created_at, expires_at)
+SELECT m.reference_id,
+       m.stock_id,
+       SUM(CASE m.movement_type
+               WHEN 'RESERVATION' THEN ABS(m.quantity)
+               ELSE -ABS(m.quantity)
+           END),
+       now(),
+       now() + INTERVAL '${reservation-ttl}'
+FROM inventory.stock_movements m
+JOIN inventory.stocks s ON s.id = m.stock_id
+WHERE m.movement_type IN ('RESERVATION', 'RELEASE', 'CONFIRMATION')
+  AND m.reference_id IS NOT NULL
+  AND s.reserved_quantity > 0
+GROUP BY m.reference_id, m.stock_id
+HAVING SUM(CASE m.movement_type
+               WHEN 'RESERVATION' THEN ABS(m.quantity)
+               ELSE -ABS(m.quantity)
+           END) > 0;
@@ -0,0 +1,30 @@
+-- ============================================================================
+-- Flyway Migration: V8__create_idempotency_keys.sql
+-- ============================================================================
+-- PURPOSE: Exactly-once stock commands for clients that retry.
+--
+-- A command sent with an Idempotency-Key header claims a row here in the
+-- same transaction as its stock changes; the response is stored in that
+-- transaction too. A retry with the same key gets the stored response
+-- instead of running the command again. Rows expire after
+-- inventory.idempotency.ttl and are purged periodically.
+--
+-- AUTHOR: InventoryX Development Team
+-- DATE: 2026-10-16
+-- ============================================================================
+
+CREATE TABLE inventory.idempotency_keys (
+    principal VARCHAR(100) NOT NULL,          -- Authenticated username
+    endpoint VARCHAR(50) NOT NULL,            -- e.g. POST /stocks/reserve
+    idempotency_key VARCHAR(100) NOT NULL,    -- Client-supplied header value
+    request_hash VARCHAR(64) NOT NULL,        -- SHA-256 of the request body
+    response_body TEXT,                       -- JSON, set when the command commits
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+
+    -- Keys are scoped per user and endpoint
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (principal, endpoint, idempotency_key)
+);
+
+-- Purge of expired keys
+CREATE INDEX idx_idempotency_keys_expires_at ON inventory.idempotency_keys(expires_at);
@@ -0,0 +1,44 @@
+-- ============================================================================
+-- Flyway Migration: V9__index_product_search.sql
+-- ============================================================================
+-- PURPOSE: Indexed product search and typeahead.
+--
+-- Search used to be LOWER(sku|name|category) LIKE '%q%' on three columns,
+-- which no B-tree index can serve: every keystroke in the product picker
+-- was a sequential scan plus a count query.
+--
+-- search_text: one lower-cased document per product (SKU, name, category),
+-- maintained by PostgreSQL, so a search is a single indexable predicate.
+--
+-- INDEXES:
+-- - GIN trigram: substring filter of the paged/scrolled product list
+-- - GiST trigram: typeahead - returns matches in word-similarity order
+-- straight from the index (KNN), so the top 10 never sort all matches
+-- - lower(sku|name) text_pattern_ops: prefix matches, including queries
+-- shorter than a trigram
+--
+-- pg_trgm lives in public so its functions and operators resolve on the
+-- default search_path.
+--
+-- AUTHOR: InventoryX Development Team
+-- DATE: 2026-10-16
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+ALTER TABLE inventory.products
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(sku || ' ' || name || ' ' || COALESCE(category, ''))
+    ) STORED;
+
+-- Substring filter (LIKE '%q%')
+CREATE INDEX idx_products_search_gin
+    ON inventory.products USING gin (search_text public.gin_trgm_ops);
+
+-- Ranked typeahead (ORDER BY q <<-> search_text LIMIT n)
+CREATE INDEX idx_products_search_gist
+    ON inventory.products USING gist (search_text public.gist_trgm_ops(siglen = 64));
+
+-- Prefix matches (LIKE 'q%')
+CREATE INDEX idx_products_sku_prefix ON inventory.products (lower(sku) text_pattern_ops);
+CREATE INDEX idx_products_name_prefix ON inventory.products (lower(name) text_pattern_ops);
@@ -0,0 +1,133 @@
+package com.stockmanagement.inventory.application.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockExportQueryRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockExportQueryRepository.StockExportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class StockExportServiceTest {
+
+    @Mock
+    private StockExportQueryRepository exportRepository;
+
+    private StockExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new StockExportService(exportRepository, new ObjectMapper());
+    }
+
+    @Test
+    void shouldWriteCsvWithHeaderAndQuoting() throws IOException {
+        // Arrange
+        givenRows(
+                row("SKU-001", "Widget, large", "Main \"A\""),
+                row("SKU-002", "Bolt", null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = exportService.export(StockExportFormat.CSV, false, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, rows);
+        assertEquals(3, lines.length);
+        assertEquals(String.join(",", StockExportService.CSV_HEADER), lines[0]);
+        assertEquals("stock-SKU-001,SKU-001,\"Widget, large\",LOC-1,\"Main \"\"A\"\"\",10.5000,2,PCS,"
+                + "2026-10-16T08:00:00Z", lines[1]);
+        assertEquals("stock-SKU-002,SKU-002,Bolt,LOC-1,,10.5000,2,PCS,2026-10-16T08:00:00Z", lines[2]);
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        // Arrange
+        givenRows(row("SKU-001", "Widget", "Main"), row("SKU-002", "Bolt", "Main"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.export(StockExportFormat.NDJSON, false, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("SKU-001", first.get("sku").asText());
+        assertEquals("Widget", first.get("productName").asText());
+        assertTrue(lines[0].contains("\"availableQuantity\":10.5000")); // scale kept, no double round trip
+    }
+
+    @Test
+    void shouldCompressWhenRequested() throws IOException {
+        // Arrange
+        givenRows(row("SKU-001", "Widget", "Main"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.export(StockExportFormat.CSV, true, out);
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(csv.startsWith("stock_id,sku,"));
+            assertTrue(csv.contains("SKU-001,Widget"));
+        }
+    }
+
+    @Test
+    void shouldPropagateClientDisconnect() {
+        // Arrange
+        givenRows(row("SKU-001", "Widget", "Main"));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> exportService.export(StockExportFormat.CSV, false, broken));
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        assertEquals(StockExportFormat.NDJSON, StockExportFormat.fromParameter("ndjson"));
+        assertThrows(InvalidStockOperationException.class, () -> StockExportFormat.fromParameter("xlsx"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(StockExportRow... rows) {
+        doAnswer(invocation -> {
+            Consumer<StockExportRow> consumer = invocation.getArgument(0);
+            for (StockExportRow row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(exportRepository).forEachRow(any(Consumer.class));
+    }
+
+    private static StockExportRow row(String sku, String productName, String locationName) {
+        return new StockExportRow("stock-" + sku, sku, productName, "LOC-1", locationName,
+                new BigDecimal("10.5000"), new BigDecimal("2"), "PCS", Instant.parse("2026-10-16T08:00:00Z"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.stockmanagement.inventory.application.idempotency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.application.dto.command.ReserveStockCommand;
+import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.domain.exception.IdempotencyConflictException;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.IdempotencyKeyRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.IdempotencyKeyRepository.RequestKey;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.IdempotencyKeyRepository.StoredResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentCommandExecutorTest {
+
+    private static final RequestKey KEY = new RequestKey("cashier", "reserve", "order-1001-attempt");
+    private static final TypeReference<StockResponse> STOCK = new TypeReference<>() {
+    };
+
+    @Mock
+    private IdempotencyKeyRepository keyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotentCommandExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new IdempotentCommandExecutor(keyRepository, transactionManager, objectMapper,
+                Duration.ofHours(24), 1_000, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldRunOnceAndReplayRetryFromCache() {
+        // Arrange
+        when(keyRepository.claim(eq(KEY), anyString(), any(Instant.class), any(Instant.class))).thenReturn(true);
+        ReserveStockCommand command = command("5");
+
+        // Act
+        IdempotentCommandExecutor.Result<StockResponse> first = executor.execute(KEY, command, STOCK, this::reserve);
+        IdempotentCommandExecutor.Result<StockResponse> retry = executor.execute(KEY, command, STOCK, this::reserve);
+
+        // Assert
+        assertEquals(1, executions.get());
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(first.value(), retry.value());
+        verify(keyRepository).claim(eq(KEY), anyString(), any(Instant.class), any(Instant.class));
+        verify(keyRepository).complete(eq(KEY), anyString());
+    }
+
+    @Test
+    void shouldReplayResponseCommittedByAnotherInstance() {
+        // Arrange: the claim loses, the row holds the first response
+        ReserveStockCommand command = command("5");
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(keyRepository.claim(eq(KEY), hash.capture(), any(Instant.class), any(Instant.class))).thenReturn(false);
+        when(keyRepository.find(eq(KEY), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(new StoredResponse(hash.getValue(),
+                        objectMapper.writeValueAsString(response(1)))));
+
+        // Act
+        IdempotentCommandExecutor.Result<StockResponse> result = executor.execute(KEY, command, STOCK, this::reserve);
+
+        // Assert
+        assertEquals(0, executions.get());
+        assertTrue(result.replayed());
+        assertEquals(response(1), result.value());
+        verify(keyRepository, never()).complete(any(), any());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentDuplicateOntoRunningExecution() throws Exception {
+        // Arrange
+        when(keyRepository.claim(eq(KEY), anyString(), any(Instant.class), any(Instant.class))).thenReturn(true);
+        ReserveStockCommand command = command("5");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<IdempotentCommandExecutor.Result<StockResponse>> leader = threads.submit(() ->
+                    executor.execute(KEY, command, STOCK, () -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                        return reserve();
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<IdempotentCommandExecutor.Result<StockResponse>> duplicate = threads.submit(() ->
+                    executor.execute(KEY, command, STOCK, this::reserve));
+            release.countDown();
+
+            // Assert
+            assertFalse(leader.get(5, TimeUnit.SECONDS).replayed());
+            assertTrue(duplicate.get(5, TimeUnit.SECONDS).replayed());
+            assertEquals(leader.get().value(), duplicate.get().value());
+            assertEquals(1, executions.get());
+            verify(keyRepository).claim(eq(KEY), anyString(), any(Instant.class), any(Instant.class));
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() {
+        // Arrange
+        when(keyRepository.claim(eq(KEY), anyString(), any(Instant.class), any(Instant.class))).thenReturn(true);
+        executor.execute(KEY, command("5"), STOCK, this::reserve);
+
+        // Act & Assert
+        assertThrows(IdempotencyConflictException.class,
+                () -> executor.execute(KEY, command("7"), STOCK, this::reserve));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void shouldRunAgainAfterFailedAttempt() {
+        // Arrange
+        when(keyRepository.claim(eq(KEY), anyString(), any(Instant.class), any(Instant.class))).thenReturn(true);
+        ReserveStockCommand command = command("5");
+
+        // Act
+        assertThrows(InvalidStockOperationException.class, () -> executor.execute(KEY, command, STOCK, () -> {
+            throw new InvalidStockOperationException("Insufficient stock");
+        }));
+        IdempotentCommandExecutor.Result<StockResponse> retry = executor.execute(KEY, command, STOCK, this::reserve);
+
+        // Assert
+        assertFalse(retry.replayed());
+        assertEquals(1, executions.get());
+        verify(keyRepository, times(1)).complete(eq(KEY), anyString());
+    }
+
+    @Test
+    void shouldRejectMalformedKey() {
+        // Act & Assert
+        assertThrows(InvalidStockOperationException.class, () -> executor.execute(
+                new RequestKey("cashier", "reserve", "has space"), command("5"), STOCK, this::reserve));
+        verifyNoInteractions(keyRepository);
+    }
+
+    private StockResponse reserve() {
+        return response(executions.incrementAndGet());
+    }
+
+    private static StockResponse response(long version) {
+        return new StockResponse("stock-1", "SKU-001", "WH-01", "95", "5", "PIECE", version,
+                "2026-10-16T09:00:00Z", "2026-10-16T09:00:00Z");
+    }
+
+    private static ReserveStockCommand command(String quantity) {
+        return new ReserveStockCommand("SKU-001", "WH-01", quantity, "ORDER-1001");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.stockmanagement.inventory.application.pagination;
+
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
+import com.stockmanagement.inventory.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @Test
+    void shouldRoundTripKeysetPosition() {
+        // Arrange
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("sku", "SKU-001");
+        keys.put("locationId", "LOC-1");
+        keys.put("id", "6f1c2c1e-0000-0000-0000-000000000001");
+
+        // Act
+        ScrollPosition decoded = CursorCodec.decode(CursorCodec.encode(keys));
+
+        // Assert
+        KeysetScrollPosition keyset = assertInstanceOf(KeysetScrollPosition.class, decoded);
+        assertEquals(keys, keyset.getKeys());
+        assertEquals(ScrollPosition.Direction.FORWARD, keyset.getDirection());
+    }
+
+    @Test
+    void shouldTreatMissingCursorAsFirstPage() {
+        // Act & Assert
+        assertTrue(CursorCodec.decode(null).isInitial());
+        assertTrue(CursorCodec.decode(" ").isInitial());
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        // Arrange
+        String notBase64 = "%%%";
+        String notJson = Base64.getUrlEncoder().encodeToString("hello".getBytes(StandardCharsets.UTF_8));
+        String nonStringKey = Base64.getUrlEncoder().encodeToString("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(notBase64));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(notJson));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(nonStringKey));
+    }
+
+    @Test
+    void shouldOmitNextCursorOnLastPage() {
+        // Arrange
+        Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.keyset(), false);
+
+        // Act
+        CursorPageResponse<String> response = CursorCodec.toResponse(window, String::toUpperCase,
+                OptionalLong.of(2));
+
+        // Assert
+        assertEquals(List.of("A", "B"), response.content());
+        assertEquals(2, response.size());
+        assertFalse(response.hasNext());
+        assertNull(response.nextCursor());
+        assertEquals(2L, response.estimatedTotal());
+    }
+
+    @Test
+    void shouldClampPageSize() {
+        // Act & Assert
+        assertEquals(1, CursorCodec.clampSize(0));
+        assertEquals(20, CursorCodec.clampSize(20));
+        assertEquals(CursorCodec.MAX_SIZE, CursorCodec.clampSize(10_000));
+    }
+}
@@ -0,0 +1,103 @@
+package com.stockmanagement.inventory.application.reservation;
+
+import com.stockmanagement.inventory.application.reservation.HierarchicalTimingWheel.Timeout;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 100;
+    private static final long START = 1_000_000;
+
+    @Test
+    void shouldFireOnlyOnceDeadlinePassed() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        wheel.schedule("a", START + 250);
+        List<String> fired = new ArrayList<>();
+
+        // Act & Assert
+        wheel.advance(START + 200, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advance(START + 300, fired::add);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFirePastDeadlinesOnNextAdvance() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        wheel.schedule("late", START - 5_000);
+        List<String> fired = new ArrayList<>();
+
+        // Act
+        wheel.advance(START + TICK, fired::add);
+
+        // Assert
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void shouldNotFireCancelledTimeouts() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        Timeout<String> cancelled = wheel.schedule("cancelled", START + 1_000);
+        wheel.schedule("kept", START + 1_000);
+        List<String> fired = new ArrayList<>();
+
+        // Act
+        cancelled.cancel();
+        cancelled.cancel();
+        wheel.advance(START + 2_000, fired::add);
+
+        // Assert
+        assertEquals(List.of("kept"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldCascadeDistantDeadlinesInOrder() {
+        // Arrange: deadlines spread over all levels, and past the wheel's span
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, START);
+        Random random = new Random(42);
+        long span = TICK * (1L << (HierarchicalTimingWheel.SLOT_BITS * HierarchicalTimingWheel.LEVELS));
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long delay = switch (i % 4) {
+                case 0 -> random.nextLong(TICK * 64);
+                case 1 -> random.nextLong(TICK * 64 * 64);
+                case 2 -> random.nextLong(span);
+                default -> span + random.nextLong(span);
+            };
+            deadlines.add(START + delay);
+        }
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+        // Act: advance in uneven steps, checking every item fires within one tick
+        List<Long> fired = new ArrayList<>();
+        long now = START;
+        long end = START + 2 * span + TICK;
+        while (now < end) {
+            now = Math.min(end, now + TICK * (1 + random.nextLong(5_000_000)));
+            long at = now;
+            wheel.advance(at, deadline -> {
+                assertTrue(deadline <= at, "fired early");
+                fired.add(deadline);
+            });
+        }
+
+        // Assert
+        assertEquals(deadlines.size(), fired.size());
+        assertEquals(0, wheel.size());
+        for (int i = 1; i < fired.size(); i++) {
+            assertTrue(fired.get(i - 1) / TICK <= Math.ceilDiv(fired.get(i), TICK), "out of order");
+        }
+    }
+}
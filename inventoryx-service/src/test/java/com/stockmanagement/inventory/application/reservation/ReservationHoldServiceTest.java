@@ -0,0 +1,76 @@
+package com.stockmanagement.inventory.application.reservation;
+
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.Hold;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.HoldKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationHoldServiceTest {
+
+    private static final HoldKey LEGACY_ORDER = new HoldKey("ORDER-LEGACY", "stock-1");
+
+    @Mock
+    private StockReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationExpiryScheduler expiryScheduler;
+
+    private ReservationHoldService holdService;
+
+    @BeforeEach
+    void setUp() {
+        holdService = new ReservationHoldService(reservationRepository, expiryScheduler, Duration.ofMinutes(30));
+    }
+
+    @Test
+    void shouldSettleOrderReservedBeforeHoldsExisted() {
+        // Arrange: V7 rebuilt the hold from the order's movements (reserved 10)
+        when(reservationRepository.findForUpdate(LEGACY_ORDER))
+                .thenReturn(Optional.of(new Hold(LEGACY_ORDER, new BigDecimal("10"),
+                        Instant.now().plus(Duration.ofMinutes(30)))))
+                .thenReturn(Optional.of(new Hold(LEGACY_ORDER, new BigDecimal("6"),
+                        Instant.now().plus(Duration.ofMinutes(30)))));
+
+        // Act: confirm part, release the rest
+        holdService.consume("ORDER-LEGACY", "stock-1", Quantity.of(4));
+        holdService.consume("ORDER-LEGACY", "stock-1", Quantity.of(6));
+
+        // Assert
+        verify(reservationRepository).updateQuantity(eq(LEGACY_ORDER),
+                argThat(quantity -> quantity.compareTo(BigDecimal.valueOf(6)) == 0));
+        verify(reservationRepository).delete(LEGACY_ORDER);
+        verify(expiryScheduler).cancelAfterCommit(LEGACY_ORDER);
+    }
+
+    @Test
+    void shouldRejectWithoutHoldAndWriteNothing() {
+        // Arrange
+        when(reservationRepository.findForUpdate(any(HoldKey.class))).thenReturn(Optional.empty());
+
+        // Act
+        Optional<InvalidStockOperationException> rejection =
+                holdService.tryConsume("ORDER-EXPIRED", "stock-1", Quantity.of(1));
+
+        // Assert
+        assertTrue(rejection.isPresent());
+        verify(reservationRepository, never()).delete(any());
+        verify(reservationRepository, never()).updateQuantity(any(), any());
+        verifyNoInteractions(expiryScheduler);
+    }
+}
@@ -0,0 +1,153 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.dto.DashboardDataResponse;
+import com.stockmanagement.inventory.domain.event.StockBulkReceivedEvent;
+import com.stockmanagement.inventory.domain.event.StockReceivedEvent;
+import com.stockmanagement.inventory.domain.event.StockSoldEvent;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.DashboardQueryRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.DashboardQueryRepository.StockLineRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardSnapshotTest {
+
+    @Mock
+    private DashboardQueryRepository queryRepository;
+
+    private DashboardSnapshot snapshot;
+
+    private final StockId stockId = StockId.generate();
+    private final ProductSKU sku = new ProductSKU("SKU-001");
+    private final LocationId locationId = new LocationId("L001");
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new DashboardSnapshot(queryRepository, new BigDecimal("10"));
+    }
+
+    @Test
+    void shouldBuildTotalsFromReconciliation() {
+        // Arrange
+        stubScan(List.of(
+                new StockLineRow(stockId.value(), "SKU-001", "L001", new BigDecimal("20"), new BigDecimal("2.5")),
+                new StockLineRow("other", "SKU-002", "L001", new BigDecimal("3"), null)));
+
+        // Act
+        DashboardDataResponse result = snapshot.current();
+
+        // Assert
+        assertEquals(0, new BigDecimal("50").compareTo(result.totalStockValue()));
+        assertEquals(2, result.totalItems());
+        assertEquals(1, result.lowStockItems());
+        assertEquals(2, result.totalLocations());
+    }
+
+    @Test
+    void shouldApplyEventsWithoutQuerying() {
+        // Arrange
+        stubScan(List.of(
+                new StockLineRow(stockId.value(), "SKU-001", "L001", new BigDecimal("12"), new BigDecimal("2"))));
+        snapshot.current();
+        clearInvocations(queryRepository);
+
+        // Act - sale drops available from 12 to 9 (below threshold 10)
+        snapshot.onStockSold(new StockSoldEvent(stockId, sku, locationId, Quantity.of(3), "ORD-1", "cashier",
+                Instant.now()));
+        DashboardDataResponse result = snapshot.current();
+
+        // Assert
+        assertEquals(0, new BigDecimal("18").compareTo(result.totalStockValue()));
+        assertEquals(1, result.lowStockItems());
+        assertEquals("SALE", result.recentActivities().get(0).type());
+        assertEquals(0, new BigDecimal("-3").compareTo(result.recentActivities().get(0).quantity()));
+        verifyNoInteractions(queryRepository);
+    }
+
+    @Test
+    void shouldKeepOnlyLatestActivitiesNewestFirst() {
+        // Arrange
+        stubScan(List.of());
+        snapshot.current();
+
+        // Act
+        for (int i = 1; i <= 15; i++) {
+            snapshot.onStockReceived(new StockReceivedEvent(stockId, sku, locationId, Quantity.of(i),
+                    "Receipt " + i, "admin", Instant.now()));
+        }
+        DashboardDataResponse result = snapshot.current();
+
+        // Assert
+        assertEquals(DashboardSnapshot.RECENT_ACTIVITY_SIZE, result.recentActivities().size());
+        assertEquals(0, new BigDecimal("15").compareTo(result.recentActivities().get(0).quantity()));
+        assertEquals(0, new BigDecimal("6").compareTo(result.recentActivities().get(9).quantity()));
+        assertEquals(1, result.totalItems());
+    }
+
+    @Test
+    void shouldLoadStocksCreatedByBulkReceipt() {
+        // Arrange
+        stubScan(List.of());
+        snapshot.current();
+        when(queryRepository.findStockLines(List.of(stockId.value()))).thenReturn(List.of(
+                new StockLineRow(stockId.value(), "SKU-001", "L001", new BigDecimal("30"), new BigDecimal("2"))));
+
+        // Act
+        snapshot.onStockBulkReceived(StockBulkReceivedEvent.of(List.of(stockId), "admin"));
+        snapshot.onStockSold(new StockSoldEvent(stockId, sku, locationId, Quantity.of(3), "ORD-1", "cashier",
+                Instant.now()));
+        DashboardDataResponse result = snapshot.current();
+
+        // Assert - 27 left, not -3 from an assumed base of 0
+        assertEquals(0, new BigDecimal("54").compareTo(result.totalStockValue()));
+        assertEquals(1, result.totalItems());
+        assertEquals(0, result.lowStockItems());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPreferScannedRowOverLineWithUnknownBase() {
+        // Arrange - an unseen stock is sold from while the scan runs
+        stubScan(List.of());
+        snapshot.current();
+        doAnswer(invocation -> {
+            snapshot.onStockSold(new StockSoldEvent(stockId, sku, locationId, Quantity.of(3), "ORD-1", "cashier",
+                    Instant.now()));
+            invocation.<Consumer<StockLineRow>>getArgument(0).accept(new StockLineRow(
+                    stockId.value(), "SKU-001", "L001", new BigDecimal("20"), new BigDecimal("2")));
+            return null;
+        }).when(queryRepository).forEachStockLine(any());
+
+        // Act
+        snapshot.reconcile();
+        DashboardDataResponse result = snapshot.current();
+
+        // Assert
+        assertEquals(0, new BigDecimal("40").compareTo(result.totalStockValue()));
+        assertEquals(0, result.lowStockItems());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScan(List<StockLineRow> rows) {
+        doAnswer(invocation -> {
+            rows.forEach(invocation.<Consumer<StockLineRow>>getArgument(0));
+            return null;
+        }).when(queryRepository).forEachStockLine(any());
+        when(queryRepository.countLocations()).thenReturn(2L);
+        when(queryRepository.findRecentActivity(anyInt())).thenReturn(List.of());
+    }
+}
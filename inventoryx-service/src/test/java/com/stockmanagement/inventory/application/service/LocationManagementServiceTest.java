@@ -1,5 +1,7 @@
 package com.stockmanagement.inventory.application.service;
 
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.domain.event.CatalogChangedEvent;
 import com.stockmanagement.inventory.domain.model.Location;
 import com.stockmanagement.inventory.domain.model.Location.LocationType;
 import com.stockmanagement.inventory.domain.model.LocationRepository;
@@ -30,6 +32,9 @@ class LocationManagementServiceTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @InjectMocks
     private LocationManagementService locationManagementService;
 
@@ -90,6 +95,10 @@ class LocationManagementServiceTest {
         // Assert
         assertEquals("Warehouse A Updated", updated.getName());
         assertEquals("Updated Description", updated.getDescription());
+        verify(eventPublisher).publish(argThat(events -> events.size() == 1
+                && events.get(0) instanceof CatalogChangedEvent event
+                && event.kind() == CatalogChangedEvent.Kind.LOCATION
+                && event.id().equals(locationId)));
     }
 
     @Test
@@ -1,5 +1,8 @@
 package com.stockmanagement.inventory.application.service;
 
+import com.stockmanagement.inventory.application.dto.response.SkuSuggestionResponse;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.domain.event.CatalogChangedEvent;
 import com.stockmanagement.inventory.domain.model.Product;
 import com.stockmanagement.inventory.domain.model.ProductRepository;
 import com.stockmanagement.inventory.domain.exception.DuplicateSkuException;
@@ -31,6 +34,12 @@ class ProductManagementServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private SkuAutocompleteIndex skuAutocompleteIndex;
+
     @InjectMocks
     private ProductManagementService productManagementService;
 
@@ -91,6 +100,11 @@ class ProductManagementServiceTest {
         // Assert
         assertEquals("Updated Product", updated.getName());
         assertEquals(new BigDecimal("150.00"), updated.getPrice());
+        verify(eventPublisher).publish(argThat(events -> events.size() == 1
+                && events.get(0) instanceof CatalogChangedEvent event
+                && event.kind() == CatalogChangedEvent.Kind.PRODUCT
+                && event.id().equals(productId.toString())
+                && event.key().equals("SKU-001")));
     }
 
     @Test
@@ -106,4 +120,41 @@ class ProductManagementServiceTest {
         // Assert
         assertEquals(1, result.getTotalElements());
     }
+
+    @Test
+    void shouldSuggestProductsWithClampedLimit() {
+        // Arrange
+        when(productRepository.suggest("sku", ProductManagementService.MAX_SUGGESTIONS))
+                .thenReturn(List.of(product));
+
+        // Act
+        List<Product> result = productManagementService.suggestProducts("  sku ", 500);
+
+        // Assert
+        assertEquals(List.of(product), result);
+    }
+
+    @Test
+    void shouldNotSuggestForBlankQuery() {
+        // Act
+        List<Product> result = productManagementService.suggestProducts("   ", 10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void shouldSuggestSkusFromIndex() {
+        // Arrange
+        List<SkuSuggestionResponse> suggestions = List.of(
+                new SkuSuggestionResponse("SKU-001", product.getId().toString(), "12.5"));
+        when(skuAutocompleteIndex.suggest("sku-0", 10)).thenReturn(suggestions);
+
+        // Act
+        List<SkuSuggestionResponse> result = productManagementService.suggestSkus("sku-0", 10);
+
+        // Assert
+        assertEquals(suggestions, result);
+    }
 }
@@ -0,0 +1,108 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.dto.response.SkuSuggestionResponse;
+import com.stockmanagement.inventory.domain.event.CatalogChangedEvent;
+import com.stockmanagement.inventory.domain.event.StockReceivedEvent;
+import com.stockmanagement.inventory.domain.event.StockSoldEvent;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.ProductSearchRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.ProductSearchRepository.SkuSummaryRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkuAutocompleteIndexTest {
+
+    @Mock
+    private ProductSearchRepository searchRepository;
+
+    private SkuAutocompleteIndex index;
+
+    private final String productId = UUID.randomUUID().toString();
+    private final ProductSKU sku = new ProductSKU("SKU-001");
+    private final LocationId locationId = new LocationId("L001");
+
+    @BeforeEach
+    void setUp() {
+        index = new SkuAutocompleteIndex(searchRepository);
+    }
+
+    @Test
+    void shouldLoadFromStreamedScanOnFirstUse() {
+        // Arrange
+        stubScan(List.of(
+                new SkuSummaryRow(productId, "SKU-001", new BigDecimal("12.5")),
+                new SkuSummaryRow(UUID.randomUUID().toString(), "SKU-002", BigDecimal.ZERO),
+                new SkuSummaryRow(UUID.randomUUID().toString(), "OTHER-1", BigDecimal.ONE)));
+
+        // Act
+        List<SkuSuggestionResponse> result = index.suggest("sku", 10);
+
+        // Assert
+        assertEquals(List.of("SKU-001", "SKU-002"), result.stream().map(SkuSuggestionResponse::sku).toList());
+        assertEquals(productId, result.get(0).productId());
+        assertEquals(0, new BigDecimal("12.5").compareTo(new BigDecimal(result.get(0).availableQuantity())));
+    }
+
+    @Test
+    void shouldApplyEventsWithoutQuerying() {
+        // Arrange
+        stubScan(List.of(new SkuSummaryRow(productId, "SKU-001", new BigDecimal("10"))));
+        index.suggest("SKU", 10);
+        clearInvocations(searchRepository);
+        String newProductId = UUID.randomUUID().toString();
+
+        // Act
+        index.onStockReceived(new StockReceivedEvent(StockId.generate(), sku, locationId, Quantity.of(5),
+                "Receipt", "admin", Instant.now()));
+        index.onStockSold(new StockSoldEvent(StockId.generate(), sku, locationId, Quantity.of(3), "ORD-1",
+                "cashier", Instant.now()));
+        index.onCatalogChanged(CatalogChangedEvent.productChanged(newProductId, "SKU-002"));
+        List<SkuSuggestionResponse> result = index.suggest("SKU-00", 10);
+
+        // Assert
+        assertEquals(0, new BigDecimal("12").compareTo(new BigDecimal(result.get(0).availableQuantity())));
+        assertEquals("SKU-002", result.get(1).sku());
+        assertEquals(newProductId, result.get(1).productId());
+        verifyNoInteractions(searchRepository);
+    }
+
+    @Test
+    void shouldCorrectDriftOnReconcile() {
+        // Arrange
+        stubScan(List.of(new SkuSummaryRow(productId, "SKU-001", new BigDecimal("10"))));
+        index.suggest("SKU", 10);
+        stubScan(List.of(
+                new SkuSummaryRow(productId, "SKU-001", new BigDecimal("4")),
+                new SkuSummaryRow(UUID.randomUUID().toString(), "SKU-003", new BigDecimal("7"))));
+
+        // Act
+        index.reconcile();
+        List<SkuSuggestionResponse> result = index.suggest("SKU", 10);
+
+        // Assert
+        assertEquals(List.of("SKU-001", "SKU-003"), result.stream().map(SkuSuggestionResponse::sku).toList());
+        assertEquals(0, new BigDecimal("4").compareTo(new BigDecimal(result.get(0).availableQuantity())));
+        assertEquals(0, new BigDecimal("7").compareTo(new BigDecimal(result.get(1).availableQuantity())));
+    }
+
+    private void stubScan(List<SkuSummaryRow> rows) {
+        doAnswer(invocation -> {
+            rows.forEach(invocation.<Consumer<SkuSummaryRow>>getArgument(0));
+            return null;
+        }).when(searchRepository).forEachSkuSummary(any());
+    }
+}
@@ -0,0 +1,98 @@
+package com.stockmanagement.inventory.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkuTrieTest {
+
+    @Test
+    void shouldReturnPrefixMatchesInSkuOrder() {
+        // Arrange
+        SkuTrie trie = new SkuTrie();
+        for (String sku : List.of("PROD-010", "PROD-001", "PROD-0011", "LAPTOP-HP-001", "PROD-002", "PROD")) {
+            trie.insert(sku, UUID.randomUUID(), 0);
+        }
+
+        // Act & Assert
+        assertEquals(List.of("PROD", "PROD-001", "PROD-0011", "PROD-002", "PROD-010"), skus(trie, "PROD", 10));
+        assertEquals(List.of("PROD-001", "PROD-0011"), skus(trie, "PROD-001", 10));
+        assertEquals(List.of("PROD-001", "PROD-0011"), skus(trie, "PROD-00", 2));
+        assertEquals(List.of("LAPTOP-HP-001"), skus(trie, "LAP", 10));
+        assertEquals(List.of(), skus(trie, "PROX", 10));
+        assertEquals(List.of(), skus(trie, "prod", 10));
+    }
+
+    @Test
+    void shouldSortHyphenBeforeDigitsBeforeLetters() {
+        // Arrange
+        SkuTrie trie = new SkuTrie();
+        trie.insert("ABA", UUID.randomUUID(), 0);
+        trie.insert("AB1", UUID.randomUUID(), 0);
+        trie.insert("AB-", UUID.randomUUID(), 0);
+
+        // Act & Assert
+        assertEquals(List.of("AB-", "AB1", "ABA"), skus(trie, "AB", 10));
+    }
+
+    @Test
+    void shouldSplitEdgeWhenSkuEndsInsideIt() {
+        // Arrange
+        SkuTrie trie = new SkuTrie();
+        trie.insert("SKU-100", UUID.randomUUID(), 0);
+
+        // Act
+        trie.insert("SKU-1", UUID.randomUUID(), 0);
+
+        // Assert
+        assertNotNull(trie.get("SKU-100"));
+        assertEquals(List.of("SKU-1", "SKU-100"), skus(trie, "SKU", 10));
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void shouldShareEntryBetweenVersions() {
+        // Arrange
+        SkuTrie trie = new SkuTrie();
+        UUID productId = UUID.randomUUID();
+        SkuTrie.Entry entry = trie.insert("SKU-001", productId, 10_000);
+
+        // Act
+        trie.insert("SKU-002", UUID.randomUUID(), 0);
+        trie.get("SKU-001").addAvailable(5_000);
+
+        // Assert
+        assertSame(entry, trie.insert("SKU-001", UUID.randomUUID(), 0));
+        assertEquals(15_000, entry.availableUnits());
+        assertEquals(productId, trie.get("SKU-001").productId());
+        assertNull(trie.get("SKU-00"));
+        assertNull(trie.get("SKU-0011"));
+    }
+
+    @Test
+    void shouldBuildSameTreeInPlace() {
+        // Arrange
+        SkuTrie.Builder builder = new SkuTrie.Builder();
+        for (int i = 0; i < 1000; i++) {
+            builder.add(String.format("SKU-%04d", i), UUID.randomUUID(), i);
+        }
+        builder.add("not a sku", UUID.randomUUID(), 0);
+
+        // Act
+        SkuTrie trie = builder.build();
+
+        // Assert
+        assertEquals(1000, trie.size());
+        assertEquals(List.of("SKU-0420", "SKU-0421", "SKU-0422"), skus(trie, "SKU-042", 3));
+        assertEquals(421, trie.get("SKU-0421").availableUnits());
+    }
+
+    private static List<String> skus(SkuTrie trie, String prefix, int limit) {
+        return trie.withPrefix(prefix, limit).stream()
+                .map(SkuTrie.Match::sku)
+                .toList();
+    }
+}
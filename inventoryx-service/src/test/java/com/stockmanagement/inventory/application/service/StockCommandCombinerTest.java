@@ -0,0 +1,254 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.dto.command.QuickSaleCommand;
+import com.stockmanagement.inventory.application.dto.command.ReleaseReservationCommand;
+import com.stockmanagement.inventory.application.dto.response.StockResponse;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import com.stockmanagement.inventory.domain.service.ReservationPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockCommandCombinerTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private ReservationHoldService reservationHolds;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private QuickSaleUseCase quickSaleUseCase;
+
+    private final ExecutorService clients = Executors.newFixedThreadPool(16);
+    private Stock stock;
+
+    @BeforeEach
+    void setUp() {
+        stock = Stock.reconstitute(StockId.generate(), "P001", new ProductSKU("SKU-001"), new LocationId("L001"),
+                Quantity.of(100), Quantity.of(10), UnitOfMeasure.PIECE, 1L, Instant.now(), Instant.now());
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    void shouldApplyQueuedCommandsInOneBatch() throws Exception {
+        // Arrange: the first transaction waits until every client has queued
+        when(stockRepository.findByIdForUpdate(stock.getId())).thenReturn(Optional.of(stock));
+        CountDownLatch queued = new CountDownLatch(16);
+        blockFirstTransactionUntil(queued);
+        StockCommandCombiner combiner = combiner(true);
+
+        // Act
+        List<Future<StockResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            String orderId = "INV-" + i;
+            responses.add(clients.submit(() -> {
+                queued.countDown();
+                return combiner.quickSale(new QuickSaleCommand(stock.getId().value(), "2", orderId, "cashier"));
+            }));
+        }
+        for (Future<StockResponse> response : responses) {
+            assertEquals(stock.getId().value(), response.get(5, TimeUnit.SECONDS).id());
+        }
+
+        // Assert
+        assertEquals(0, BigDecimal.valueOf(68).compareTo(stock.getAvailableQuantity().value()));
+        verify(stockRepository, atMost(15)).save(stock);
+        verify(transactionManager, atMost(15)).commit(any());
+    }
+
+    @Test
+    void shouldRejectOnlyTheFailingCommandOfABatch() throws Exception {
+        // Arrange
+        when(stockRepository.findByIdForUpdate(stock.getId())).thenReturn(Optional.of(stock));
+        CountDownLatch queued = new CountDownLatch(3);
+        blockFirstTransactionUntil(queued);
+        StockCommandCombiner combiner = combiner(true);
+
+        // Act
+        Future<StockResponse> first = sale(combiner, queued, "1");
+        Future<StockResponse> tooMuch = sale(combiner, queued, "500");
+        Future<StockResponse> last = sale(combiner, queued, "3");
+
+        // Assert
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> tooMuch.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InsufficientStockException.class, rejected.getCause());
+        assertNotNull(last.get(5, TimeUnit.SECONDS));
+        assertEquals(0, BigDecimal.valueOf(96).compareTo(stock.getAvailableQuantity().value()));
+    }
+
+    @Test
+    void shouldFailWithStockNotFound() {
+        // Arrange
+        StockId missing = StockId.generate();
+        when(stockRepository.findByIdForUpdate(missing)).thenReturn(Optional.empty());
+        StockCommandCombiner combiner = combiner(true);
+
+        // Act & Assert
+        assertThrows(StockNotFoundException.class, () -> combiner.quickSale(
+                new QuickSaleCommand(missing.value(), "1", "INV-1", "cashier")));
+        verify(stockRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldLeaveStockUntouchedWhenHoldIsMissing() {
+        // Arrange
+        when(stockRepository.findByIdForUpdate(stock.getId())).thenReturn(Optional.of(stock));
+        when(reservationHolds.tryConsume("ORDER-1", stock.getId().value(), Quantity.of(5)))
+                .thenReturn(Optional.of(new InvalidStockOperationException("No active reservation")));
+        StockCommandCombiner combiner = combiner(true);
+
+        // Act & Assert
+        assertThrows(InvalidStockOperationException.class, () -> combiner.release(
+                new ReleaseReservationCommand(stock.getId().value(), "5", "ORDER-1")));
+        assertEquals(0, BigDecimal.TEN.compareTo(stock.getReservedQuantity().value()));
+        assertTrue(stock.getDomainEvents().isEmpty());
+        verify(stockRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldNotHoldOtherStocksBehindABusyOne() throws Exception {
+        // Arrange: the batch on the first stock stays inside its transaction
+        Stock other = Stock.reconstitute(StockId.generate(), "P002", new ProductSKU("SKU-002"),
+                new LocationId("L001"), Quantity.of(100), Quantity.zero(), UnitOfMeasure.PIECE, 1L,
+                Instant.now(), Instant.now());
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(stockRepository.findByIdForUpdate(stock.getId())).thenAnswer(invocation -> {
+            locked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(stock);
+        });
+        when(stockRepository.findByIdForUpdate(other.getId())).thenReturn(Optional.of(other));
+        StockCommandCombiner combiner = combiner(true);
+        Future<StockResponse> busy = clients.submit(() -> combiner.quickSale(
+                new QuickSaleCommand(stock.getId().value(), "1", "INV-1", "cashier")));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // Act
+        Future<StockResponse> unrelated = clients.submit(() -> combiner.quickSale(
+                new QuickSaleCommand(other.getId().value(), "1", "INV-2", "cashier")));
+
+        // Assert
+        assertEquals(other.getId().value(), unrelated.get(2, TimeUnit.SECONDS).id());
+        assertFalse(busy.isDone());
+        release.countDown();
+        assertEquals(stock.getId().value(), busy.get(5, TimeUnit.SECONDS).id());
+    }
+
+    @Test
+    void shouldFailCommandStillQueuedAfterMaxWait() throws Exception {
+        // Arrange: the first command holds the lane inside its transaction
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(stockRepository.findByIdForUpdate(stock.getId())).thenAnswer(invocation -> {
+            locked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(stock);
+        });
+        StockCommandCombiner combiner = combiner(true, Duration.ofMillis(100));
+        Future<StockResponse> first = clients.submit(() -> combiner.quickSale(
+                new QuickSaleCommand(stock.getId().value(), "1", "INV-1", "cashier")));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // Act
+        Future<StockResponse> queued = clients.submit(() -> combiner.quickSale(
+                new QuickSaleCommand(stock.getId().value(), "5", "INV-2", "cashier")));
+
+        // Assert: the queued command gives up and is never applied
+        ExecutionException timedOut = assertThrows(ExecutionException.class,
+                () -> queued.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CannotAcquireLockException.class, timedOut.getCause());
+        release.countDown();
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, BigDecimal.valueOf(99).compareTo(stock.getAvailableQuantity().value()));
+        verify(stockRepository, times(1)).findByIdForUpdate(stock.getId());
+    }
+
+    @Test
+    void shouldRunUseCaseDirectlyWhenDisabled() {
+        // Arrange
+        QuickSaleCommand command = new QuickSaleCommand(stock.getId().value(), "1", "INV-1", "cashier");
+        StockCommandCombiner combiner = combiner(false);
+
+        // Act
+        combiner.quickSale(command);
+
+        // Assert
+        verify(quickSaleUseCase).execute(command);
+        verifyNoInteractions(stockRepository, transactionManager);
+    }
+
+    private StockCommandCombiner combiner(boolean enabled) {
+        return combiner(enabled, Duration.ofSeconds(5));
+    }
+
+    private StockCommandCombiner combiner(boolean enabled, Duration maxWait) {
+        return new StockCommandCombiner(stockRepository, new ReservationPolicy(), reservationHolds,
+                new StockMapper(), transactionManager, new SimpleMeterRegistry(),
+                null, null, quickSaleUseCase, null, null, enabled, 256, maxWait);
+    }
+
+    private Future<StockResponse> sale(StockCommandCombiner combiner, CountDownLatch queued, String quantity) {
+        return clients.submit(() -> {
+            queued.countDown();
+            return combiner.quickSale(new QuickSaleCommand(stock.getId().value(), quantity, "INV-" + quantity,
+                    "cashier"));
+        });
+    }
+
+    /**
+     * Holds the first combiner inside its transaction until all clients have
+     * submitted, so the others queue up behind it.
+     */
+    private void blockFirstTransactionUntil(CountDownLatch queued) {
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                queued.await(5, TimeUnit.SECONDS);
+                Thread.sleep(100);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.stockmanagement.inventory.application.service;
+
+import com.stockmanagement.inventory.application.dto.response.CursorPageResponse;
+import com.stockmanagement.inventory.application.dto.response.StockMovementResponse;
+import com.stockmanagement.inventory.application.mapper.StockMovementMapper;
+import com.stockmanagement.inventory.domain.exception.InvalidCursorException;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementHistoryRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementHistoryRepository.MovementRow;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockMovementHistoryRepository.PageKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockMovementQueryServiceTest {
+
+    private static final String STOCK_ID = "stock-1";
+    private static final Instant FROM = Instant.parse("2026-10-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-11-01T00:00:00Z");
+
+    @Mock
+    private StockMovementHistoryRepository historyRepository;
+
+    private StockMovementQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        queryService = new StockMovementQueryService(historyRepository, new StockMovementMapper());
+    }
+
+    @Test
+    void shouldReturnPageAndCursorWhenMoreRowsExist() {
+        // Arrange
+        when(historyRepository.findPage(eq(STOCK_ID), eq(FROM), eq(TO), eq(Set.of("RECEIPT", "SALE")),
+                isNull(), eq(3)))
+                .thenReturn(List.of(
+                        row("m3", "2026-10-16T10:00:00Z", "RECEIPT", "5"),
+                        row("m2", "2026-10-16T09:00:00Z", "SALE", "2"),
+                        row("m1", "2026-10-15T09:00:00Z", "RECEIPT", "1")));
+
+        // Act
+        CursorPageResponse<StockMovementResponse> page = queryService.getMovements(
+                STOCK_ID, FROM, TO, List.of("receipt", " SALE "), null, 2);
+
+        // Assert
+        assertEquals(2, page.size());
+        assertTrue(page.hasNext());
+        assertNotNull(page.nextCursor());
+        assertEquals("m3", page.content().get(0).id());
+        assertEquals("+5", page.content().get(0).quantity());
+        assertEquals("-2", page.content().get(1).quantity());
+    }
+
+    @Test
+    void shouldContinueAfterCursorOfPreviousPage() {
+        // Arrange
+        when(historyRepository.findPage(eq(STOCK_ID), isNull(), isNull(), eq(Set.of()), isNull(), anyInt()))
+                .thenReturn(List.of(
+                        row("m3", "2026-10-16T10:00:00Z", "RECEIPT", "5"),
+                        row("m2", "2026-10-16T09:00:00.123456Z", "SALE", "2"),
+                        row("m1", "2026-10-15T09:00:00Z", "RECEIPT", "1")));
+        String cursor = queryService.getMovements(STOCK_ID, null, null, null, null, 2).nextCursor();
+        when(historyRepository.findPage(eq(STOCK_ID), isNull(), isNull(), eq(Set.of()), any(PageKey.class),
+                anyInt()))
+                .thenReturn(List.of(row("m1", "2026-10-15T09:00:00Z", "RECEIPT", "1")));
+
+        // Act
+        CursorPageResponse<StockMovementResponse> next = queryService.getMovements(
+                STOCK_ID, null, null, null, cursor, 2);
+
+        // Assert
+        verify(historyRepository).findPage(STOCK_ID, null, null, Set.of(),
+                new PageKey(Instant.parse("2026-10-16T09:00:00.123456Z"), "m2"), 3);
+        assertEquals(1, next.size());
+        assertFalse(next.hasNext());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    void shouldRejectInvalidFilters() {
+        // Act & Assert
+        assertThrows(InvalidStockOperationException.class,
+                () -> queryService.getMovements(STOCK_ID, TO, FROM, null, null, 20));
+        assertThrows(InvalidStockOperationException.class,
+                () -> queryService.getMovements(STOCK_ID, null, null, List.of("THEFT"), null, 20));
+        assertThrows(InvalidCursorException.class,
+                () -> queryService.getMovements(STOCK_ID, null, null, null, "not-a-cursor", 20));
+        verifyNoInteractions(historyRepository);
+    }
+
+    private static MovementRow row(String id, String performedAt, String type, String quantity) {
+        return new MovementRow(id, STOCK_ID, type, new BigDecimal(quantity), null, null, "admin",
+                Instant.parse(performedAt));
+    }
+}
@@ -1,8 +1,10 @@
 package com.stockmanagement.inventory.application.service;
 
 import com.stockmanagement.inventory.application.dto.command.RegisterUserCommand;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.dto.command.UpdateUserCommand;
 import com.stockmanagement.inventory.application.dto.response.UserResponse;
+import com.stockmanagement.inventory.domain.event.UserAccessChangedEvent;
 import com.stockmanagement.inventory.domain.model.Role;
 import com.stockmanagement.inventory.domain.model.User;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
@@ -28,6 +30,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +45,9 @@ class UserManagementServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @InjectMocks
     private UserManagementService userManagementService;
 
@@ -109,6 +115,10 @@ class UserManagementServiceTest {
         // Assert
         assertEquals(1, result.getTotalElements());
         assertEquals("testuser", result.getContent().get(0).username());
+        // Round trips: one page query; roles come with the users, not per user
+        verify(userRepository).findAll(pageable);
+        verifyNoMoreInteractions(userRepository);
+        verifyNoInteractions(roleRepository);
     }
 
     @Test
@@ -128,6 +138,9 @@ class UserManagementServiceTest {
         assertEquals("Updated", user.getFirstName());
         assertEquals("updated@example.com", user.getEmail().value());
         verify(userRepository).save(user);
+        verify(eventPublisher).publish(argThat(events -> events.size() == 1
+                && events.get(0) instanceof UserAccessChangedEvent e
+                && e.username().equals("testuser")));
     }
 
     @Test
@@ -143,5 +156,8 @@ class UserManagementServiceTest {
         // Assert
         assertNotEquals(initialStatus, user.isActive());
         verify(userRepository).save(user);
+        verify(eventPublisher).publish(argThat(events -> events.size() == 1
+                && events.get(0) instanceof UserAccessChangedEvent e
+                && e.username().equals("testuser")));
     }
 }
@@ -0,0 +1,259 @@
+package com.stockmanagement.inventory.application.stream;
+
+import com.stockmanagement.inventory.application.stream.StockChangeFeed.PendingChange;
+import com.stockmanagement.inventory.domain.event.StockBulkReceivedEvent;
+import com.stockmanagement.inventory.domain.event.StockSoldEvent;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockChangeFeedTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<StockId, Stock> stocks = new HashMap<>();
+    private StockChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stockRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<StockId> ids = invocation.getArgument(0);
+            return ids.stream().filter(stocks::containsKey).map(stocks::get).toList();
+        });
+        feed = new StockChangeFeed(stockRepository, transactionManager, new SimpleMeterRegistry(),
+                100, 2, 2, false);
+        feed.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        feed.stop();
+    }
+
+    @Test
+    void shouldDeliverOnlyMatchingChanges() throws InterruptedException {
+        // Arrange
+        StockId first = stock("SKU-001", "L001", 10);
+        StockId second = stock("SKU-002", "L001", 20);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(StockChangeFilter.of(List.of("SKU-002"), null), null, sink);
+
+        // Act
+        feed.dispatch(List.of(pending(first, "RECEIPT"), pending(second, "SALE")));
+
+        // Assert
+        StockChange change = sink.nextChange();
+        assertEquals("SKU-002", change.sku());
+        assertEquals("SALE", change.type());
+        assertEquals("20.0000", change.availableQuantity());
+        assertNull(sink.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldPublishLatestChangePerStockInBatch() throws InterruptedException {
+        // Arrange
+        StockId stockId = stock("SKU-001", "L001", 7);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(StockChangeFilter.ALL, null, sink);
+
+        // Act
+        feed.dispatch(List.of(pending(stockId, "RECEIPT"), pending(stockId, "SALE")));
+
+        // Assert
+        assertEquals("SALE", sink.nextChange().type());
+        assertNull(sink.events.poll(100, TimeUnit.MILLISECONDS));
+        verify(stockRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void shouldReplayChangesAfterLastEventId() throws InterruptedException {
+        // Arrange
+        StockId first = stock("SKU-001", "L001", 1);
+        StockId second = stock("SKU-002", "L001", 2);
+        RecordingSink earlier = new RecordingSink();
+        StockChangeFeed.Subscription subscription = feed.subscribe(StockChangeFilter.ALL, null, earlier)
+                .orElseThrow();
+        feed.dispatch(List.of(pending(first, "RECEIPT")));
+        String lastEventId = earlier.nextChange().eventId();
+        subscription.cancel();
+        feed.dispatch(List.of(pending(second, "RECEIPT")));
+
+        // Act
+        RecordingSink resumed = new RecordingSink();
+        feed.subscribe(StockChangeFilter.ALL, lastEventId, resumed);
+
+        // Assert
+        assertEquals("SKU-002", resumed.nextChange().sku());
+        assertNull(resumed.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldResetWhenLastEventIdIsUnknown() throws InterruptedException {
+        // Arrange
+        RecordingSink sink = new RecordingSink();
+
+        // Act
+        feed.subscribe(StockChangeFilter.ALL, "other-instance-42", sink);
+
+        // Assert
+        assertTrue(sink.events.poll(1, TimeUnit.SECONDS) instanceof String);
+    }
+
+    @Test
+    void shouldCoalesceAndResetForSlowSubscriber() throws InterruptedException {
+        // Arrange: the first send blocks until released
+        StockId first = stock("SKU-001", "L001", 1);
+        StockId second = stock("SKU-002", "L001", 2);
+        StockId third = stock("SKU-003", "L001", 3);
+        RecordingSink sink = new RecordingSink();
+        sink.blockFirstSend();
+        feed.subscribe(StockChangeFilter.ALL, null, sink);
+        feed.dispatch(List.of(pending(first, "RECEIPT")));
+        assertTrue(sink.sending.await(1, TimeUnit.SECONDS));
+
+        // Act: same stock twice (coalesced), then more distinct stocks than the buffer holds
+        feed.dispatch(List.of(pending(second, "RECEIPT")));
+        feed.dispatch(List.of(pending(second, "SALE")));
+        feed.dispatch(List.of(pending(first, "SALE")));
+        feed.dispatch(List.of(pending(third, "SALE")));
+        sink.release.countDown();
+
+        // Assert
+        assertEquals("SKU-001", sink.nextChange().sku());
+        assertTrue(sink.events.poll(1, TimeUnit.SECONDS) instanceof String);
+        assertNull(sink.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldRejectSubscribersOverLimit() {
+        // Arrange
+        feed.subscribe(StockChangeFilter.ALL, null, new RecordingSink());
+        feed.subscribe(StockChangeFilter.ALL, null, new RecordingSink());
+
+        // Act & Assert
+        assertTrue(feed.subscribe(StockChangeFilter.ALL, null, new RecordingSink()).isEmpty());
+    }
+
+    @Test
+    void shouldStreamCommittedEvents() throws InterruptedException {
+        // Arrange
+        StockId stockId = stock("SKU-001", "L001", 4);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(StockChangeFilter.of(null, List.of("L001")), null, sink);
+
+        // Act
+        feed.onStockSold(new StockSoldEvent(stockId, new ProductSKU("SKU-001"), new LocationId("L001"),
+                Quantity.of(1), "ORD-1", "cashier", Instant.now()));
+
+        // Assert
+        StockChange change = sink.nextChange();
+        assertEquals(stockId.value(), change.stockId());
+        assertEquals("SALE", change.type());
+    }
+
+    @Test
+    void shouldStreamEveryStockOfBulkReceipt() throws InterruptedException {
+        // Arrange
+        StockId first = stock("SKU-001", "L001", 5);
+        StockId second = stock("SKU-002", "L001", 6);
+        RecordingSink sink = new RecordingSink();
+        feed.subscribe(StockChangeFilter.ALL, null, sink);
+
+        // Act
+        feed.onStockBulkReceived(StockBulkReceivedEvent.of(List.of(first, second), "admin"));
+
+        // Assert
+        Set<String> received = Set.of(sink.nextChange().sku(), sink.nextChange().sku());
+        assertEquals(Set.of("SKU-001", "SKU-002"), received);
+        assertNull(sink.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private StockId stock(String sku, String locationId, int available) {
+        StockId id = StockId.generate();
+        stocks.put(id, Stock.reconstitute(id, "product-" + sku, new ProductSKU(sku), new LocationId(locationId),
+                Quantity.of(available), Quantity.zero(), UnitOfMeasure.PIECE, 1L, Instant.now(), Instant.now()));
+        return id;
+    }
+
+    private static PendingChange pending(StockId stockId, String type) {
+        return new PendingChange(stockId, type, Instant.now());
+    }
+
+    /**
+     * Records deliveries: StockChange for changes, the event ID (String)
+     * for resets.
+     */
+    private static final class RecordingSink implements StockChangeSink {
+
+        private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean block;
+
+        void blockFirstSend() {
+            block = true;
+        }
+
+        StockChange nextChange() throws InterruptedException {
+            Object event = events.poll(1, TimeUnit.SECONDS);
+            assertInstanceOf(StockChange.class, event);
+            return (StockChange) event;
+        }
+
+        @Override
+        public void send(List<StockChange> changes) throws IOException {
+            events.addAll(changes);
+            if (block) {
+                block = false;
+                sending.countDown();
+                try {
+                    release.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void reset(String eventId) {
+            events.add(eventId);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
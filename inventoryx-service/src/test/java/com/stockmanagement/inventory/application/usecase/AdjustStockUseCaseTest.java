@@ -65,5 +65,8 @@ class AdjustStockUseCaseTest {
         // Assert
         verify(stockRepository).save(stock);
         verify(eventPublisher).publish(any());
+        // Round trips: one load, one save
+        verify(stockRepository).findById(any(StockId.class));
+        verifyNoMoreInteractions(stockRepository);
     }
 }
@@ -0,0 +1,120 @@
+package com.stockmanagement.inventory.application.usecase;
+
+import com.stockmanagement.inventory.application.dto.command.BatchReserveStockCommand;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
+import com.stockmanagement.inventory.application.service.BatchReserveStockUseCase;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
+import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import com.stockmanagement.inventory.domain.service.ReservationPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchReserveStockUseCaseTest {
+
+        @Mock
+        private StockRepository stockRepository;
+
+        @Spy
+        private ReservationPolicy reservationPolicy = new ReservationPolicy();
+
+        @Mock
+        private StockMapper stockMapper;
+
+        @Mock
+        private DomainEventPublisher eventPublisher;
+
+        @Mock
+        private ReservationHoldService reservationHolds;
+
+        @InjectMocks
+        private BatchReserveStockUseCase batchReserveStockUseCase;
+
+        private Stock stockA;
+        private Stock stockB;
+
+        @BeforeEach
+        void setUp() {
+                stockA = Stock.create("P001", new ProductSKU("SKU-001"), new LocationId("L001"), UnitOfMeasure.PIECE);
+                stockA.receiveStock(Quantity.of(100), "Initial", "Admin");
+                stockA.clearDomainEvents();
+
+                stockB = Stock.create("P002", new ProductSKU("SKU-002"), new LocationId("L001"), UnitOfMeasure.PIECE);
+                stockB.receiveStock(Quantity.of(5), "Initial", "Admin");
+                stockB.clearDomainEvents();
+        }
+
+        @Test
+        void shouldReserveAllLinesInOneBatch() {
+                // Arrange
+                BatchReserveStockCommand command = new BatchReserveStockCommand("ORDER-1", List.of(
+                                new BatchReserveStockCommand.Line("SKU-002", "L001", "5"),
+                                new BatchReserveStockCommand.Line("SKU-001", "L001", "10"),
+                                new BatchReserveStockCommand.Line("SKU-001", "L001", "15")));
+
+                when(stockRepository.findAllForUpdate(anyList())).thenReturn(List.of(stockA, stockB));
+                when(stockRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // Act
+                batchReserveStockUseCase.execute(command);
+
+                // Assert
+                assertThat(stockA.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(75));
+                assertThat(stockA.getReservedQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(25));
+                assertThat(stockB.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.ZERO);
+                verify(stockRepository, times(1)).findAllForUpdate(anyList());
+                verify(stockRepository).saveAll(List.of(stockA, stockB));
+                verify(stockRepository, never()).save(any(Stock.class));
+        }
+
+        @Test
+        void shouldRejectWholeOrderWhenOneLineIsInsufficient() {
+                // Arrange
+                BatchReserveStockCommand command = new BatchReserveStockCommand("ORDER-2", List.of(
+                                new BatchReserveStockCommand.Line("SKU-001", "L001", "10"),
+                                new BatchReserveStockCommand.Line("SKU-002", "L001", "6")));
+
+                when(stockRepository.findAllForUpdate(anyList())).thenReturn(List.of(stockA, stockB));
+
+                // Act & Assert
+                assertThatThrownBy(() -> batchReserveStockUseCase.execute(command))
+                                .isInstanceOf(InsufficientStockException.class);
+                verify(stockRepository, never()).saveAll(anyList());
+                verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        void shouldRejectWholeOrderWhenStockIsMissing() {
+                // Arrange
+                BatchReserveStockCommand command = new BatchReserveStockCommand("ORDER-3", List.of(
+                                new BatchReserveStockCommand.Line("SKU-001", "L001", "1"),
+                                new BatchReserveStockCommand.Line("SKU-404", "L001", "1")));
+
+                when(stockRepository.findAllForUpdate(anyList())).thenReturn(List.of(stockA));
+
+                // Act & Assert
+                assertThatThrownBy(() -> batchReserveStockUseCase.execute(command))
+                                .isInstanceOf(StockNotFoundException.class)
+                                .hasMessageContaining("SKU-404@L001");
+                verify(stockRepository, never()).saveAll(anyList());
+        }
+}
@@ -0,0 +1,162 @@
+package com.stockmanagement.inventory.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.application.dto.response.BulkReceiptResponse;
+import com.stockmanagement.inventory.application.dto.response.BulkReceiptResponse.LineResult;
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.service.BulkReceiveStockUseCase;
+import com.stockmanagement.inventory.application.service.BulkReceiveStockUseCase.Format;
+import com.stockmanagement.inventory.domain.event.StockBulkReceivedEvent;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.domain.model.valueobject.StockId;
+import com.stockmanagement.inventory.domain.model.valueobject.StockKey;
+import com.stockmanagement.inventory.infrastructure.persistence.hotstock.HotStockStore;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.BulkReceiptWriter;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.BulkReceiptWriter.LineOutcome;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.BulkReceiptWriter.ReceiptLine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkReceiveStockUseCaseTest {
+
+    @Mock
+    private BulkReceiptWriter bulkReceiptWriter;
+
+    @Mock
+    private HotStockStore hotStocks;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private BulkReceiveStockUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkReceiveStockUseCase(bulkReceiptWriter, hotStocks, eventPublisher, new ObjectMapper(), 1000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStageValidCsvLinesAndReportEveryLine() throws IOException {
+        // Arrange
+        String csv = """
+                sku,location_id,quantity,unit_of_measure,reason,reference_id
+                sku-001,L001,5,piece,"Delivery, dock 2",PO-1
+                SKU-002,L001,-1,PIECE,,
+                HOT-001,L001,3,PIECE,,
+                SKU-003,L002,2.5,KILOGRAM,,
+                """;
+        when(hotStocks.isHotKey(any())).thenAnswer(
+                invocation -> invocation.<StockKey>getArgument(0).sku().value().startsWith("HOT"));
+        when(bulkReceiptWriter.receive(anyList(), eq("admin"))).thenReturn(List.of(
+                new LineOutcome(2, "stock-1", null),
+                new LineOutcome(5, null, "Product not found with SKU: SKU-003")));
+
+        // Act
+        BulkReceiptResponse response = useCase.execute(stream(csv), Format.CSV, "admin");
+
+        // Assert
+        ArgumentCaptor<List<ReceiptLine>> staged = ArgumentCaptor.forClass(List.class);
+        verify(bulkReceiptWriter).receive(staged.capture(), eq("admin"));
+        assertEquals(2, staged.getValue().size());
+        ReceiptLine first = staged.getValue().get(0);
+        assertEquals("SKU-001", first.sku());
+        assertEquals(0, new BigDecimal("5").compareTo(first.quantity()));
+        assertEquals("PIECE", first.unitOfMeasure());
+        assertEquals("Delivery, dock 2", first.reason());
+        assertEquals("PO-1", first.referenceId());
+
+        assertEquals(4, response.totalLines());
+        assertEquals(1, response.received());
+        assertEquals(3, response.rejected());
+        List<Integer> lineNumbers = response.lines().stream().map(LineResult::line).toList();
+        assertEquals(List.of(2, 3, 4, 5), lineNumbers);
+        assertEquals(BulkReceiptResponse.RECEIVED, response.lines().get(0).status());
+        assertEquals("stock-1", response.lines().get(0).stockId());
+        assertEquals(BulkReceiptResponse.REJECTED, response.lines().get(1).status());
+        assertTrue(response.lines().get(2).message().contains("Hot stock"));
+        assertEquals("Product not found with SKU: SKU-003", response.lines().get(3).message());
+    }
+
+    @Test
+    void shouldRejectInvalidJsonLines() throws IOException {
+        // Arrange
+        String ndjson = """
+                {"sku":"SKU-001","locationId":"L001","quantity":5,"unitOfMeasure":"PIECE"}
+                not json
+
+                {"sku":"SKU-002","locationId":"L001","quantity":"1","unitOfMeasure":"BOX"}
+                """;
+        when(bulkReceiptWriter.receive(anyList(), eq("admin"))).thenReturn(List.of(
+                new LineOutcome(1, "stock-1", null),
+                new LineOutcome(4, "stock-2", null)));
+
+        // Act
+        BulkReceiptResponse response = useCase.execute(stream(ndjson), Format.NDJSON, "admin");
+
+        // Assert
+        assertEquals(3, response.totalLines());
+        assertEquals(2, response.received());
+        assertEquals(2, response.lines().get(1).line());
+        assertEquals("Invalid JSON object", response.lines().get(1).message());
+        assertEquals(4, response.lines().get(2).line());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPublishOneEventWithEachReceivedStockOnce() throws IOException {
+        // Arrange
+        String ndjson = """
+                {"sku":"SKU-001","locationId":"L001","quantity":5,"unitOfMeasure":"PIECE"}
+                {"sku":"SKU-001","locationId":"L001","quantity":2,"unitOfMeasure":"PIECE"}
+                {"sku":"SKU-002","locationId":"L009","quantity":1,"unitOfMeasure":"PIECE"}
+                """;
+        when(bulkReceiptWriter.receive(anyList(), eq("admin"))).thenReturn(List.of(
+                new LineOutcome(1, "stock-1", null),
+                new LineOutcome(2, "stock-1", null),
+                new LineOutcome(3, null, "Location not found: L009")));
+
+        // Act
+        useCase.execute(stream(ndjson), Format.NDJSON, "admin");
+
+        // Assert
+        ArgumentCaptor<List<Object>> published = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publish(published.capture());
+        StockBulkReceivedEvent event = (StockBulkReceivedEvent) published.getValue().getFirst();
+        assertEquals(List.of(StockId.of("stock-1")), event.stockIds());
+        assertEquals("admin", event.performedBy());
+    }
+
+    @Test
+    void shouldFailWhenRequiredColumnMissing() {
+        // Arrange
+        String csv = "sku,quantity\nSKU-001,5\n";
+
+        // Act & Assert
+        assertThrows(InvalidStockOperationException.class,
+                () -> useCase.execute(stream(csv), Format.CSV, "admin"));
+        verifyNoInteractions(bulkReceiptWriter);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,6 +4,8 @@ import com.stockmanagement.inventory.application.dto.command.ConfirmReservationC
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
 import com.stockmanagement.inventory.domain.repository.StockRepository;
@@ -17,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +36,9 @@ class ConfirmReservationUseCaseTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private ReservationHoldService reservationHolds;
+
     @InjectMocks
     private ConfirmReservationUseCase confirmReservationUseCase;
 
@@ -64,7 +71,29 @@ class ConfirmReservationUseCaseTest {
         confirmReservationUseCase.execute(command);
 
         // Assert
+        verify(reservationHolds).consume("ORDER-123", stock.getId().toString(), Quantity.of(20));
         verify(stockRepository).save(stock);
         verify(eventPublisher).publish(any());
+        // Round trips: one load, one save
+        verify(stockRepository).findById(any(StockId.class));
+        verifyNoMoreInteractions(stockRepository);
+    }
+
+    @Test
+    void shouldRejectWhenHoldHasExpired() {
+        // Arrange
+        ConfirmReservationCommand command = new ConfirmReservationCommand(
+                stock.getId().toString(), "20", "ORDER-123");
+
+        when(stockRepository.findById(any(StockId.class)))
+                .thenReturn(Optional.of(stock));
+        doThrow(new InvalidStockOperationException("No active reservation"))
+                .when(reservationHolds).consume(any(), any(), any());
+
+        // Act & Assert
+        assertThrows(InvalidStockOperationException.class, () -> confirmReservationUseCase.execute(command));
+        assertEquals(Quantity.of(20), stock.getReservedQuantity());
+        verify(stockRepository, never()).save(any(Stock.class));
+        verifyNoInteractions(eventPublisher);
     }
 }
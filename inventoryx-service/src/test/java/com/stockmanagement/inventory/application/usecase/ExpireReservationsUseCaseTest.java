@@ -0,0 +1,85 @@
+package com.stockmanagement.inventory.application.usecase;
+
+import com.stockmanagement.inventory.application.event.DomainEventPublisher;
+import com.stockmanagement.inventory.application.service.ExpireReservationsUseCase;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.StockReservationRepository.HoldKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpireReservationsUseCaseTest {
+
+    private static final List<HoldKey> KEYS = List.of(new HoldKey("ORDER-123", "stock-1"));
+
+    @Mock
+    private StockReservationRepository reservationRepository;
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ExpireReservationsUseCase expireReservationsUseCase;
+
+    @Test
+    void shouldLockStocksBeforeDeletingHoldsOnExpire() {
+        // Arrange
+        when(reservationRepository.deleteExpired(eq(KEYS), any(Instant.class))).thenReturn(List.of());
+
+        // Act
+        int expired = expireReservationsUseCase.expire(KEYS);
+
+        // Assert: stock row before hold row, same as a reserve top-up
+        assertEquals(0, expired);
+        InOrder order = inOrder(reservationRepository);
+        order.verify(reservationRepository).lockStocksOf(KEYS);
+        order.verify(reservationRepository).deleteExpired(eq(KEYS), any(Instant.class));
+    }
+
+    @Test
+    void shouldLockStocksBeforeDeletingHoldsOnSweep() {
+        // Arrange
+        when(reservationRepository.findExpired(any(Instant.class), eq(100))).thenReturn(KEYS);
+        when(reservationRepository.deleteExpired(eq(KEYS), any(Instant.class))).thenReturn(List.of());
+
+        // Act
+        expireReservationsUseCase.sweep(100);
+
+        // Assert
+        InOrder order = inOrder(reservationRepository);
+        order.verify(reservationRepository).findExpired(any(Instant.class), eq(100));
+        order.verify(reservationRepository).lockStocksOf(KEYS);
+        order.verify(reservationRepository).deleteExpired(eq(KEYS), any(Instant.class));
+    }
+
+    @Test
+    void shouldSkipLockingWhenNothingExpired() {
+        // Arrange
+        when(reservationRepository.findExpired(any(Instant.class), anyInt())).thenReturn(List.of());
+
+        // Act
+        int expired = expireReservationsUseCase.sweep(100);
+
+        // Assert
+        assertEquals(0, expired);
+        verify(reservationRepository, never()).lockStocksOf(any());
+        verifyNoInteractions(stockRepository);
+    }
+}
@@ -4,6 +4,7 @@ import com.stockmanagement.inventory.application.dto.command.QuickSaleCommand;
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
 import com.stockmanagement.inventory.domain.repository.StockRepository;
@@ -17,6 +18,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -45,6 +48,7 @@ class QuickSaleUseCaseTest {
                 new LocationId("L001"),
                 UnitOfMeasure.PIECE);
         stock.receiveStock(Quantity.of(100), "Initial", "Admin");
+        stock.clearDomainEvents();
     }
 
     @Test
@@ -53,9 +57,8 @@ class QuickSaleUseCaseTest {
         QuickSaleCommand command = new QuickSaleCommand(
                 stock.getId().toString(), "5", "INV-999", "Cashier");
 
-        when(stockRepository.findById(any(StockId.class)))
+        when(stockRepository.deductAtomically(any(StockId.class), any(Quantity.class)))
                 .thenReturn(Optional.of(stock));
-        when(stockRepository.save(any(Stock.class))).thenReturn(stock);
         when(stockMapper.toResponse(any(Stock.class))).thenReturn(new StockResponse(
                 "id", "SKU-001", "L001", "95", "0", "PIECE", 1L, "now", "now"));
 
@@ -63,7 +66,28 @@ class QuickSaleUseCaseTest {
         quickSaleUseCase.execute(command);
 
         // Assert
-        verify(stockRepository).save(stock);
+        assertThat(stock.getAvailableQuantity()).isEqualTo(Quantity.of(95));
+        verify(stockRepository, never()).save(any(Stock.class));
         verify(eventPublisher).publish(any());
+        // Round trips: one conditional UPDATE ... RETURNING, nothing else
+        verify(stockRepository).deductAtomically(any(StockId.class), any(Quantity.class));
+        verifyNoMoreInteractions(stockRepository);
+    }
+
+    @Test
+    void shouldThrowInsufficientStockWhenConditionalUpdateMatchesNothing() {
+        // Arrange
+        var command = new QuickSaleCommand(
+                stock.getId().toString(), "500", "INV-1000", "Cashier");
+
+        when(stockRepository.deductAtomically(any(StockId.class), any(Quantity.class)))
+                .thenReturn(Optional.empty());
+        when(stockRepository.findById(any(StockId.class)))
+                .thenReturn(Optional.of(stock));
+
+        // Act & Assert
+        assertThatThrownBy(() -> quickSaleUseCase.execute(command))
+                .isInstanceOf(InsufficientStockException.class);
+        verifyNoInteractions(eventPublisher);
     }
 }
@@ -75,5 +75,9 @@ class ReceiveStockUseCaseTest {
         // Assert
         verify(stockRepository).save(stock);
         verify(eventPublisher).publish(any());
+        // Round trips: one load, one save; no product lookup for an existing stock
+        verify(stockRepository).findBySkuAndLocation(any(ProductSKU.class), any(LocationId.class));
+        verifyNoMoreInteractions(stockRepository);
+        verifyNoInteractions(productRepository);
     }
 }
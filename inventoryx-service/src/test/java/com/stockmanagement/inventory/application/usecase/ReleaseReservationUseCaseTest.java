@@ -4,6 +4,7 @@ import com.stockmanagement.inventory.application.dto.command.ReleaseReservationC
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
 import com.stockmanagement.inventory.domain.repository.StockRepository;
@@ -32,6 +33,9 @@ class ReleaseReservationUseCaseTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private ReservationHoldService reservationHolds;
+
     @InjectMocks
     private ReleaseReservationUseCase releaseReservationUseCase;
 
@@ -66,5 +70,8 @@ class ReleaseReservationUseCaseTest {
         // Assert
         verify(stockRepository).save(stock);
         verify(eventPublisher).publish(any());
+        // Round trips: one load, one save
+        verify(stockRepository).findById(any(StockId.class));
+        verifyNoMoreInteractions(stockRepository);
     }
 }
@@ -4,6 +4,9 @@ import com.stockmanagement.inventory.application.dto.command.ReserveStockCommand
 import com.stockmanagement.inventory.application.dto.response.StockResponse;
 import com.stockmanagement.inventory.application.event.DomainEventPublisher;
 import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.reservation.ReservationHoldService;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
+import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
 import com.stockmanagement.inventory.domain.model.Stock;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
 import com.stockmanagement.inventory.domain.repository.StockRepository;
@@ -18,6 +21,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +41,9 @@ class ReserveStockUseCaseTest {
         @Mock
         private DomainEventPublisher eventPublisher;
 
+        @Mock
+        private ReservationHoldService reservationHolds;
+
         @InjectMocks
         private ReserveStockUseCase reserveStockUseCase;
 
@@ -50,6 +58,7 @@ class ReserveStockUseCaseTest {
                                 UnitOfMeasure.PIECE);
                 // Add initial stock
                 stock.receiveStock(Quantity.of(100), "Initial", "Admin");
+                stock.clearDomainEvents();
         }
 
         @Test
@@ -58,11 +67,11 @@ class ReserveStockUseCaseTest {
                 ReserveStockCommand command = new ReserveStockCommand(
                                 "SKU-001", "L001", "10", "ORDER-123");
 
-                when(stockRepository.findBySkuAndLocation(any(ProductSKU.class), any(LocationId.class)))
+                when(stockRepository.reserveAtomically(any(ProductSKU.class), any(LocationId.class),
+                                any(Quantity.class)))
                                 .thenReturn(Optional.of(stock));
                 when(reservationPolicy.canReserve(any(Stock.class), any(Quantity.class)))
                                 .thenReturn(true);
-                when(stockRepository.save(any(Stock.class))).thenReturn(stock);
                 when(stockMapper.toResponse(any(Stock.class))).thenReturn(new StockResponse(
                                 "id", "SKU-001", "L001", "90", "10", "PIECE", 1L, "now", "now"));
 
@@ -70,7 +79,48 @@ class ReserveStockUseCaseTest {
                 reserveStockUseCase.execute(command);
 
                 // Assert
-                verify(stockRepository).save(stock);
+                assertThat(stock.getReservedQuantity()).isEqualTo(Quantity.of(10));
+                verify(reservationHolds).hold("ORDER-123", stock.getId().value(), Quantity.of(10));
+                verify(stockRepository, never()).save(any(Stock.class));
                 verify(eventPublisher).publish(any());
+                // Round trips: one conditional UPDATE ... RETURNING, nothing else
+                verify(stockRepository).reserveAtomically(any(ProductSKU.class), any(LocationId.class),
+                                any(Quantity.class));
+                verifyNoMoreInteractions(stockRepository);
+        }
+
+        @Test
+        void shouldThrowInsufficientStockWhenConditionalUpdateMatchesNothing() {
+                // Arrange
+                ReserveStockCommand command = new ReserveStockCommand(
+                                "SKU-001", "L001", "500", "ORDER-124");
+
+                when(stockRepository.reserveAtomically(any(ProductSKU.class), any(LocationId.class),
+                                any(Quantity.class)))
+                                .thenReturn(Optional.empty());
+                when(stockRepository.findBySkuAndLocation(any(ProductSKU.class), any(LocationId.class)))
+                                .thenReturn(Optional.of(stock));
+
+                // Act & Assert
+                assertThatThrownBy(() -> reserveStockUseCase.execute(command))
+                                .isInstanceOf(InsufficientStockException.class);
+                verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        void shouldThrowNotFoundWhenStockDoesNotExist() {
+                // Arrange
+                ReserveStockCommand command = new ReserveStockCommand(
+                                "SKU-404", "L001", "1", "ORDER-125");
+
+                when(stockRepository.reserveAtomically(any(ProductSKU.class), any(LocationId.class),
+                                any(Quantity.class)))
+                                .thenReturn(Optional.empty());
+                when(stockRepository.findBySkuAndLocation(any(ProductSKU.class), any(LocationId.class)))
+                                .thenReturn(Optional.empty());
+
+                // Act & Assert
+                assertThatThrownBy(() -> reserveStockUseCase.execute(command))
+                                .isInstanceOf(StockNotFoundException.class);
         }
 }
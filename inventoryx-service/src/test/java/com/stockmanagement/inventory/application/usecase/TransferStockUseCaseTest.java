@@ -0,0 +1,174 @@
+package com.stockmanagement.inventory.application.usecase;
+
+import com.stockmanagement.inventory.application.dto.command.BatchTransferStockCommand;
+import com.stockmanagement.inventory.application.dto.command.TransferStockCommand;
+import com.stockmanagement.inventory.application.dto.response.StockTransferResponse;
+import com.stockmanagement.inventory.application.mapper.StockMapper;
+import com.stockmanagement.inventory.application.service.TransferStockUseCase;
+import com.stockmanagement.inventory.domain.event.StockTransferredInEvent;
+import com.stockmanagement.inventory.domain.event.StockTransferredOutEvent;
+import com.stockmanagement.inventory.domain.exception.InsufficientStockException;
+import com.stockmanagement.inventory.domain.exception.InvalidStockOperationException;
+import com.stockmanagement.inventory.domain.exception.LocationNotFoundException;
+import com.stockmanagement.inventory.domain.exception.StockNotFoundException;
+import com.stockmanagement.inventory.domain.model.Location;
+import com.stockmanagement.inventory.domain.model.LocationRepository;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferStockUseCaseTest {
+
+        @Mock
+        private StockRepository stockRepository;
+
+        @Mock
+        private LocationRepository locationRepository;
+
+        @Mock
+        private StockMapper stockMapper;
+
+        @InjectMocks
+        private TransferStockUseCase transferStockUseCase;
+
+        private Stock warehouseA;
+        private Stock storeA;
+        private Stock warehouseB;
+
+        @BeforeEach
+        void setUp() {
+                warehouseA = Stock.create("P001", new ProductSKU("SKU-001"), new LocationId("WH"), UnitOfMeasure.PIECE);
+                warehouseA.receiveStock(Quantity.of(100), "Initial", "Admin");
+                warehouseA.clearDomainEvents();
+
+                storeA = Stock.create("P001", new ProductSKU("SKU-001"), new LocationId("STORE"), UnitOfMeasure.PIECE);
+                storeA.receiveStock(Quantity.of(5), "Initial", "Admin");
+                storeA.clearDomainEvents();
+
+                warehouseB = Stock.create("P002", new ProductSKU("SKU-002"), new LocationId("WH"), UnitOfMeasure.BOX);
+                warehouseB.receiveStock(Quantity.of(8), "Initial", "Admin");
+                warehouseB.clearDomainEvents();
+        }
+
+        @Test
+        void shouldMoveQuantityBetweenLocationsInOneBatch() {
+                // Arrange
+                TransferStockCommand command = new TransferStockCommand("SKU-001", "WH", "STORE", "30", "Refill",
+                                "Admin");
+                when(stockRepository.findAllForUpdate(anyList())).thenReturn(List.of(storeA, warehouseA));
+                when(stockRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // Act
+                StockTransferResponse response = transferStockUseCase.execute(command);
+
+                // Assert
+                assertThat(warehouseA.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(70));
+                assertThat(storeA.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(35));
+                assertThat(response.lines()).isEqualTo(1);
+                StockTransferredOutEvent out = (StockTransferredOutEvent) warehouseA.getDomainEvents().get(0);
+                StockTransferredInEvent in = (StockTransferredInEvent) storeA.getDomainEvents().get(0);
+                assertThat(out.transferId()).isEqualTo(response.transferId()).isEqualTo(in.transferId());
+                verify(stockRepository, times(1)).findAllForUpdate(anyList());
+                verify(stockRepository).saveAll(List.of(storeA, warehouseA));
+                verifyNoInteractions(locationRepository);
+        }
+
+        @Test
+        void shouldCreateDestinationStockAndAllowChainedLines() {
+                // Arrange: SKU-002 is new at STORE and moved on to OUTLET by the next line
+                BatchTransferStockCommand command = new BatchTransferStockCommand(List.of(
+                                new BatchTransferStockCommand.Line("SKU-002", "WH", "STORE", "8"),
+                                new BatchTransferStockCommand.Line("SKU-002", "STORE", "OUTLET", "3")),
+                                null, "Admin");
+                when(stockRepository.findAllForUpdate(anyList())).thenReturn(List.of(warehouseB));
+                when(locationRepository.findById(any(LocationId.class)))
+                                .thenAnswer(invocation -> Optional.of(location(invocation.getArgument(0),
+                                                Location.LocationStatus.ACTIVE)));
+                when(stockRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // Act
+                transferStockUseCase.execute(command);
+
+                // Assert
+                @SuppressWarnings("unchecked")
+                ArgumentCaptor<List<Stock>> saved = ArgumentCaptor.forClass(List.class);
+                verify(stockRepository).saveAll(saved.capture());
+                assertThat(saved.getValue()).hasSize(3);
+                assertThat(saved.getValue().get(0)).isSameAs(warehouseB);
+                Stock store = saved.getValue().get(1);
+                Stock outlet = saved.getValue().get(2);
+                assertThat(warehouseB.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.ZERO);
+                assertThat(store.getLocationId().value()).isEqualTo("STORE");
+                assertThat(store.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(5));
+                assertThat(outlet.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(3));
+                assertThat(outlet.getUnitOfMeasure()).isEqualTo(UnitOfMeasure.BOX);
+                assertThat(outlet.getProductId()).isEqualTo("P002");
+        }
+
+        @Test
+        void shouldRejectWholeBatchWhenOneLineIsInsufficient() {
+                // Arrange
+                BatchTransferStockCommand command = new BatchTransferStockCommand(List.of(
+                                new BatchTransferStockCommand.Line("SKU-001", "WH", "STORE", "10"),
+                                new BatchTransferStockCommand.Line("SKU-002", "WH", "STORE", "9")),
+                                "Rebalance", "Admin");
+                when(stockRepository.findAllForUpdate(anyList())).thenReturn(List.of(storeA, warehouseA, warehouseB));
+                when(locationRepository.findById(new LocationId("STORE")))
+                                .thenReturn(Optional.of(location(new LocationId("STORE"), Location.LocationStatus.ACTIVE)));
+
+                // Act & Assert
+                assertThatThrownBy(() -> transferStockUseCase.execute(command))
+                                .isInstanceOf(InsufficientStockException.class);
+                verify(stockRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        void shouldRejectMissingSourceAndUnknownDestination() {
+                // Arrange
+                when(stockRepository.findAllForUpdate(anyList())).thenReturn(List.of(warehouseA));
+                when(locationRepository.findById(new LocationId("NOWHERE"))).thenReturn(Optional.empty());
+
+                // Act & Assert
+                assertThatThrownBy(() -> transferStockUseCase.execute(
+                                new TransferStockCommand("SKU-404", "WH", "STORE", "1", null, "Admin")))
+                                .isInstanceOf(StockNotFoundException.class)
+                                .hasMessageContaining("SKU-404@WH");
+                assertThatThrownBy(() -> transferStockUseCase.execute(
+                                new TransferStockCommand("SKU-001", "WH", "NOWHERE", "1", null, "Admin")))
+                                .isInstanceOf(LocationNotFoundException.class);
+                verify(stockRepository, never()).saveAll(anyList());
+        }
+
+        @Test
+        void shouldRejectTransferToSameLocation() {
+                // Act & Assert
+                assertThatThrownBy(() -> transferStockUseCase.execute(
+                                new TransferStockCommand("SKU-001", "WH", "WH", "1", null, "Admin")))
+                                .isInstanceOf(InvalidStockOperationException.class);
+                verifyNoInteractions(stockRepository);
+        }
+
+        private static Location location(LocationId id, Location.LocationStatus status) {
+                return new Location(id, id.value(), Location.LocationType.STORE, null, null, status, Instant.now(),
+                                Instant.now());
+        }
+}
@@ -1,5 +1,7 @@
 package com.stockmanagement.inventory.domain.model;
 
+import com.stockmanagement.inventory.domain.event.StockTransferredInEvent;
+import com.stockmanagement.inventory.domain.event.StockTransferredOutEvent;
 import com.stockmanagement.inventory.domain.model.valueobject.*;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
@@ -68,4 +70,39 @@ class StockTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Insufficient stock");
     }
+
+    @Test
+    void shouldTransferStockOutAndIn() {
+        Stock source = Stock.create("PROD-001", new ProductSKU("SKU-001"), new LocationId("LOC-A"),
+                UnitOfMeasure.PIECE);
+        Stock destination = Stock.create("PROD-001", new ProductSKU("SKU-001"), new LocationId("LOC-B"),
+                UnitOfMeasure.PIECE);
+        source.receiveStock(Quantity.of(40), "Initial", "Admin");
+        source.clearDomainEvents();
+
+        source.transferOut(Quantity.of(15), new LocationId("LOC-B"), "TR-1", "Rebalance", "Staff");
+        destination.transferIn(Quantity.of(15), new LocationId("LOC-A"), "TR-1", "Rebalance", "Staff");
+
+        assertThat(source.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(25));
+        assertThat(destination.getAvailableQuantity().value()).isEqualByComparingTo(BigDecimal.valueOf(15));
+        assertThat(source.getDomainEvents()).singleElement()
+                .isInstanceOfSatisfying(StockTransferredOutEvent.class,
+                        event -> assertThat(event.transferId()).isEqualTo("TR-1"));
+        assertThat(destination.getDomainEvents()).singleElement()
+                .isInstanceOf(StockTransferredInEvent.class);
+    }
+
+    @Test
+    void shouldRejectTransferToOwnLocationOrBeyondAvailable() {
+        Stock stock = Stock.create("PROD-001", new ProductSKU("SKU-001"), new LocationId("LOC-A"),
+                UnitOfMeasure.PIECE);
+        stock.receiveStock(Quantity.of(10), "Initial", "Admin");
+
+        assertThatThrownBy(() -> stock.transferOut(Quantity.of(5), new LocationId("LOC-A"), "TR-1", null, "Staff"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("own location");
+        assertThatThrownBy(() -> stock.transferOut(Quantity.of(20), new LocationId("LOC-B"), "TR-1", null, "Staff"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Insufficient stock");
+    }
 }
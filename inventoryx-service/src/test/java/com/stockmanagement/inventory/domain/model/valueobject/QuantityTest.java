@@ -0,0 +1,51 @@
+package com.stockmanagement.inventory.domain.model.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuantityTest {
+
+    @Test
+    void shouldNormalizeToFourDecimalPlaces() {
+        Quantity quantity = Quantity.of("1.23456");
+
+        assertThat(quantity.units()).isEqualTo(12346);
+        assertThat(quantity.value()).isEqualTo(new BigDecimal("1.2346"));
+        assertThat(quantity.toString()).isEqualTo("1.2346");
+    }
+
+    @Test
+    void shouldBeEqualRegardlessOfInputScale() {
+        assertThat(Quantity.of("5")).isEqualTo(Quantity.of(new BigDecimal("5.0000")));
+        assertThat(Quantity.of("5")).hasSameHashCodeAs(Quantity.of(5));
+    }
+
+    @Test
+    void shouldAddAndSubtract() {
+        Quantity result = Quantity.of("10.5").subtract(Quantity.of("0.25")).add(Quantity.of(1));
+
+        assertThat(result.value()).isEqualByComparingTo("11.25");
+    }
+
+    @Test
+    void shouldRejectNegativeResults() {
+        assertThatThrownBy(() -> Quantity.of(1).subtract(Quantity.of(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Quantity.of("-0.1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectOverflow() {
+        Quantity max = Quantity.ofUnits(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.add(Quantity.ofUnits(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Quantity.of(new BigDecimal("1e20")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
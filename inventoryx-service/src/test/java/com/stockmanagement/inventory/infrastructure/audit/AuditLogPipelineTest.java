@@ -0,0 +1,112 @@
+package com.stockmanagement.inventory.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.domain.model.AuditLog;
+import com.stockmanagement.inventory.domain.repository.AuditLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogPipelineTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @TempDir
+    Path spillDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldWriteQueuedEntriesInOneBatch() {
+        // Arrange
+        AuditLogPipeline pipeline = pipeline(10, AuditOverflowPolicy.BLOCK);
+        pipeline.submit(entry("REGISTER_USER", Map.of("username", "newuser")));
+        pipeline.submit(entry("UPDATE_USER", null));
+        pipeline.submit(entry("TOGGLE_USER_STATUS", null));
+
+        // Act
+        pipeline.drain();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditLogRepository, times(1)).saveAll(captor.capture());
+        List<AuditLog> rows = captor.getValue();
+        assertEquals(3, rows.size());
+        assertEquals("{\"username\":\"newuser\"}", rows.get(0).getDetails());
+        assertEquals(3.0, meterRegistry.counter("inventory.audit.written").count());
+    }
+
+    @Test
+    void shouldDropOldestWhenFull() {
+        // Arrange
+        AuditLogPipeline pipeline = pipeline(2, AuditOverflowPolicy.DROP_OLDEST);
+        AuditEntry oldest = entry("A", null);
+        AuditEntry middle = entry("B", null);
+        AuditEntry newest = entry("C", null);
+
+        // Act
+        pipeline.submit(oldest);
+        pipeline.submit(middle);
+        pipeline.submit(newest);
+        pipeline.drain();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditLogRepository).saveAll(captor.capture());
+        assertEquals(List.of(middle.id(), newest.id()),
+                captor.getValue().stream().map(AuditLog::getId).toList());
+        assertEquals(1.0, meterRegistry.counter("inventory.audit.dropped", "reason", "oldest").count());
+    }
+
+    @Test
+    void shouldSpillWhenFullAndOnWriteFailure() throws Exception {
+        // Arrange
+        AuditLogPipeline pipeline = pipeline(1, AuditOverflowPolicy.SPILL);
+        doThrow(new RuntimeException("database down")).when(auditLogRepository).saveAll(anyList());
+
+        // Act
+        pipeline.submit(entry("A", null));
+        pipeline.submit(entry("B", null)); // queue full -> spilled
+        pipeline.drain(); // insert fails -> spilled
+
+        // Assert
+        assertEquals(2.0, meterRegistry.counter("inventory.audit.spilled").count());
+        assertEquals(2, Files.readAllLines(spillDirectory.resolve("audit-spill.jsonl")).size());
+        assertEquals(0.0, meterRegistry.counter("inventory.audit.dropped", "reason", "write").count());
+    }
+
+    private AuditLogPipeline pipeline(int capacity, AuditOverflowPolicy policy) {
+        return new AuditLogPipeline(capacity, 100, 50, policy, 10, spillDirectory.toString(), false,
+                auditLogRepository, new ObjectMapper(), meterRegistry);
+    }
+
+    private static AuditEntry entry(String action, Object argument) {
+        return new AuditEntry(UUID.randomUUID(), null, action, "USER", argument, null,
+                "127.0.0.1", "JUnit", "SUCCESS", LocalDateTime.now());
+    }
+}
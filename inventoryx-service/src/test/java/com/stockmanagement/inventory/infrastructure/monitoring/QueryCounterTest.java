@@ -0,0 +1,75 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import com.stockmanagement.inventory.infrastructure.monitoring.QueryCounter.Kind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCounterTest {
+
+    @Test
+    void shouldCountOnlyInsideScope() {
+        // Arrange
+        QueryCounter.record("select 1");
+
+        // Act
+        QueryCounter.Scope scope = QueryCounter.start();
+        QueryCounter.record("select s1_0.id from inventory.stocks s1_0 where s1_0.id=?");
+        QueryCounter.record("update inventory.stocks set quantity=? where id=? and version=?");
+        scope.close();
+        QueryCounter.record("delete from inventory.stocks where id=?");
+
+        // Assert
+        assertEquals(2, scope.total());
+        assertEquals(1, scope.count(Kind.SELECT));
+        assertEquals(1, scope.count(Kind.UPDATE));
+        assertEquals(0, scope.count(Kind.DELETE));
+    }
+
+    @Test
+    void shouldCountNestedStatementsInEveryEnclosingScope() {
+        // Arrange
+        try (QueryCounter.Scope outer = QueryCounter.start()) {
+            QueryCounter.record("select 1");
+
+            // Act
+            try (QueryCounter.Scope inner = QueryCounter.start()) {
+                QueryCounter.record("insert into inventory.stock_movements values (?)");
+
+                // Assert
+                assertEquals(1, inner.total());
+            }
+            QueryCounter.record("select 2");
+            assertEquals(3, outer.total());
+            assertEquals(1, outer.count(Kind.INSERT));
+        }
+    }
+
+    @Test
+    void shouldReportMostRepeatedStatementAsNPlusOneCandidate() {
+        // Arrange
+        String perUser = "select r1_0.user_id from inventory.user_roles r1_0 where r1_0.user_id=?";
+
+        // Act
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            QueryCounter.record("select u1_0.id from inventory.users u1_0 offset ? rows fetch first ? rows only");
+            for (int i = 0; i < 20; i++) {
+                QueryCounter.record(perUser);
+            }
+
+            // Assert
+            assertEquals(21, scope.total());
+            assertEquals(perUser, scope.mostRepeated().orElseThrow().getKey());
+            assertEquals(20, scope.mostRepeated().orElseThrow().getValue());
+        }
+    }
+
+    @Test
+    void shouldClassifyStatementsByLeadingKeyword() {
+        // Act & Assert
+        assertEquals(Kind.SELECT, Kind.of("  /* load User */ select * from inventory.users"));
+        assertEquals(Kind.SELECT, Kind.of("WITH moved AS (select 1) select * from moved"));
+        assertEquals(Kind.INSERT, Kind.of("insert into inventory.audit_log values (?)"));
+        assertEquals(Kind.OTHER, Kind.of("call inventory.refresh()"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import com.stockmanagement.inventory.infrastructure.monitoring.QueryCounter.Kind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueryCountingDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private QueryCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        dataSource = new QueryCountingDataSource(pool);
+    }
+
+    @Test
+    void shouldCountPreparedAndPlainStatements() throws SQLException {
+        // Arrange
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        Statement plain = mock(Statement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(prepared);
+        when(connection.createStatement()).thenReturn(plain);
+
+        // Act
+        try (QueryCounter.Scope scope = QueryCounter.start()) {
+            Connection counted = dataSource.getConnection();
+            counted.prepareStatement("UPDATE inventory.stocks SET available_quantity = ? WHERE id = ?")
+                    .executeUpdate();
+            counted.createStatement().execute("NOTIFY catalog_changed");
+            counted.commit();
+
+            // Assert
+            assertEquals(2, scope.total());
+            assertEquals(1, scope.count(Kind.UPDATE));
+            assertEquals(1, scope.count(Kind.OTHER));
+        }
+        verify(prepared).executeUpdate();
+        verify(plain).execute("NOTIFY catalog_changed");
+        verify(connection).commit();
+    }
+
+    @Test
+    void shouldKeepConnectionUsableOutsideScope() throws SQLException {
+        // Arrange
+        when(connection.isWrapperFor(Connection.class)).thenReturn(true);
+
+        // Act
+        Connection counted = dataSource.getConnection();
+
+        // Assert
+        assertEquals(counted, counted);
+        assertNotEquals(connection, counted);
+        assertTrue(counted.isWrapperFor(Connection.class));
+        counted.close();
+        verify(connection).close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import com.stockmanagement.inventory.application.dto.command.QuickSaleCommand;
+import com.stockmanagement.inventory.application.dto.command.ReserveStockCommand;
+import com.stockmanagement.inventory.domain.model.Stock;
+import com.stockmanagement.inventory.domain.model.valueobject.*;
+import com.stockmanagement.inventory.domain.repository.StockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkuMetricTagsTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private ObjectProvider<StockRepository> stockRepositoryProvider;
+
+    @Test
+    void shouldKeepOnlyAllowListedSkus() {
+        // Arrange
+        SkuMetricTags tags = new SkuMetricTags(List.of(" sku-001 ", ""), stockRepositoryProvider);
+
+        // Act & Assert
+        assertEquals("SKU-001", tags.forCommand(new ReserveStockCommand("sku-001", "L001", "1", "ORD-1")));
+        assertEquals(SkuMetricTags.OTHER, tags.forCommand(new ReserveStockCommand("SKU-002", "L001", "1", "ORD-1")));
+        assertEquals(SkuMetricTags.OTHER, tags.forCommand("not a command"));
+        assertEquals(SkuMetricTags.OTHER, tags.forCommand(null));
+    }
+
+    @Test
+    void shouldResolveStockIdOnceAndCacheIt() {
+        // Arrange
+        StockId stockId = StockId.generate();
+        when(stockRepositoryProvider.getObject()).thenReturn(stockRepository);
+        when(stockRepository.findById(stockId)).thenReturn(Optional.of(Stock.reconstitute(stockId, "P001",
+                new ProductSKU("SKU-001"), new LocationId("L001"), Quantity.of(1), Quantity.zero(),
+                UnitOfMeasure.PIECE, 1L, Instant.now(), Instant.now())));
+        SkuMetricTags tags = new SkuMetricTags(List.of("SKU-001"), stockRepositoryProvider);
+        QuickSaleCommand sale = new QuickSaleCommand(stockId.value(), "1", "INV-1", "cashier");
+
+        // Act
+        String first = tags.forCommand(sale);
+        String second = tags.forCommand(sale);
+
+        // Assert
+        assertEquals("SKU-001", first);
+        assertEquals("SKU-001", second);
+        verify(stockRepository, times(1)).findById(any());
+    }
+
+    @Test
+    void shouldNotLookUpStocksWithoutAllowList() {
+        // Arrange
+        SkuMetricTags tags = new SkuMetricTags(List.of(), stockRepositoryProvider);
+
+        // Act & Assert
+        assertEquals(SkuMetricTags.OTHER, tags.forStock(StockId.generate().value()));
+        verifyNoInteractions(stockRepositoryProvider);
+    }
+
+    @Test
+    void shouldReplaceUnlistedSkuTagsInRegistry() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(SkuMetricTags.meterFilter(List.of("SKU-001")));
+
+        // Act
+        registry.counter("inventory.rejections", SkuMetricTags.TAG, "SKU-001").increment();
+        registry.counter("inventory.rejections", SkuMetricTags.TAG, "SKU-002").increment();
+        registry.counter("inventory.rejections", SkuMetricTags.TAG, "SKU-003").increment();
+
+        // Assert
+        assertEquals(1, registry.get("inventory.rejections").tag(SkuMetricTags.TAG, "SKU-001").counter().count());
+        assertEquals(2, registry.get("inventory.rejections").tag(SkuMetricTags.TAG, "other").counter().count());
+    }
+}
@@ -0,0 +1,35 @@
+package com.stockmanagement.inventory.infrastructure.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void shouldAttributePinningToFirstFrameOutsideJdk() {
+        // Arrange
+        List<String> frames = List.of(
+                "java.lang.VirtualThread.parkOnCarrierThread:675",
+                "java.util.concurrent.locks.LockSupport.park:221",
+                "org.postgresql.core.v3.QueryExecutorImpl.execute:350",
+                "com.zaxxer.hikari.pool.ProxyPreparedStatement.executeQuery:52",
+                "com.stockmanagement.inventory.infrastructure.persistence.StockRepositoryImpl.findById:40");
+
+        // Act & Assert
+        assertEquals("jdbc-driver", VirtualThreadPinningMonitor.source(frames));
+        assertEquals("connection-pool", VirtualThreadPinningMonitor.source(frames.subList(3, 5)));
+        assertEquals("application", VirtualThreadPinningMonitor.source(frames.subList(4, 5)));
+    }
+
+    @Test
+    void shouldFallBackForJdkOnlyAndUnknownStacks() {
+        // Act & Assert
+        assertEquals("jdk", VirtualThreadPinningMonitor.source(List.of("java.lang.Object.wait0:-1")));
+        assertEquals("jdk", VirtualThreadPinningMonitor.source(List.of()));
+        assertEquals("other", VirtualThreadPinningMonitor.source(
+                List.of("sun.nio.ch.Net.poll:-1", "org.apache.tomcat.util.net.NioEndpoint.read:1200")));
+    }
+}
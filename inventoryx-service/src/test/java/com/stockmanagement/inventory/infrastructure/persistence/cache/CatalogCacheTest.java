@@ -0,0 +1,127 @@
+package com.stockmanagement.inventory.infrastructure.persistence.cache;
+
+import com.stockmanagement.inventory.domain.event.CatalogChangedEvent;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.LocationEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.ProductEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CatalogCache(100, Duration.ofMinutes(10), false, false, Duration.ofSeconds(2), false,
+                "jdbc:postgresql://localhost/unused", "user", "password", null, meterRegistry);
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCacheAndRecordHits() {
+        // Act
+        cache.productBySku("SKU-001", this::loadProduct);
+        Optional<ProductEntity> second = cache.productBySku("SKU-001", this::loadProduct);
+
+        // Assert
+        assertTrue(second.isPresent());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "catalog.products.by-sku").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void shouldNotCacheMisses() {
+        // Act
+        cache.productById("missing", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.productById("missing", this::loadProduct);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldEvictProductByIdAndSkuAfterCommit() {
+        // Arrange
+        cache.productById("p-1", this::loadProduct);
+        cache.productBySku("SKU-001", this::loadProduct);
+
+        // Act
+        cache.onCatalogChanged(CatalogChangedEvent.productChanged("p-1", "SKU-001"));
+        cache.productById("p-1", this::loadProduct);
+        cache.productBySku("SKU-001", this::loadProduct);
+
+        // Assert
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void shouldNotStoreLoadThatOverlappedEviction() {
+        // Act: the change commits while the old row is being read
+        cache.locationById("loc-1", () -> {
+            loads.incrementAndGet();
+            cache.apply("LOCATION:loc-1");
+            return Optional.of(new LocationEntity());
+        });
+        cache.locationById("loc-1", this::loadLocation);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldEvictActiveLocationsOnRemoteLocationChange() {
+        // Arrange
+        cache.activeLocations(() -> {
+            loads.incrementAndGet();
+            return List.of(new LocationEntity());
+        });
+
+        // Act
+        cache.apply(CatalogCache.toPayload(CatalogChangedEvent.locationChanged("loc-9")));
+        List<LocationEntity> reloaded = cache.activeLocations(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // Assert
+        assertTrue(reloaded.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldClearEverythingOnUnknownPayload() {
+        // Arrange
+        cache.productBySku("SKU-001", this::loadProduct);
+
+        // Act
+        cache.apply("garbage");
+        cache.productBySku("SKU-001", this::loadProduct);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private Optional<ProductEntity> loadProduct() {
+        loads.incrementAndGet();
+        return Optional.of(new ProductEntity());
+    }
+
+    private Optional<LocationEntity> loadLocation() {
+        loads.incrementAndGet();
+        return Optional.of(new LocationEntity());
+    }
+}
@@ -0,0 +1,258 @@
+package com.stockmanagement.inventory.infrastructure.persistence.hotstock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmanagement.inventory.domain.model.valueobject.LocationId;
+import com.stockmanagement.inventory.domain.model.valueobject.ProductSKU;
+import com.stockmanagement.inventory.domain.model.valueobject.Quantity;
+import com.stockmanagement.inventory.domain.model.valueobject.StockKey;
+import com.stockmanagement.inventory.domain.model.valueobject.UnitOfMeasure;
+import com.stockmanagement.inventory.infrastructure.persistence.entity.StockEntity;
+import com.stockmanagement.inventory.infrastructure.persistence.repository.JpaStockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotStockStoreTest {
+
+    private static final StockKey KEY = StockKey.of(ProductSKU.of("SKU-001"), LocationId.of("L001"));
+
+    @Mock
+    private JpaStockRepository jpaRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path walDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TestTransactionManager transactionManager = new TestTransactionManager();
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    private HotStockStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(jpaRepository.findBySkuAndLocationId("SKU-001", "L001")).thenAnswer(invocation -> Optional.of(row()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (store != null) {
+            store.stop();
+        }
+    }
+
+    @Test
+    void shouldFlushCommittedReservationAsOneDelta() throws Exception {
+        // Arrange
+        startStore();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> store.reserve(KEY, Quantity.of(10)));
+        store.flush();
+
+        // Assert
+        StockEntity current = store.overlay(row());
+        assertEquals(0, new BigDecimal("90").compareTo(current.getAvailableQuantity()));
+        assertEquals(0, new BigDecimal("10").compareTo(current.getReservedQuantity()));
+
+        ArgumentCaptor<SqlParameterSource[]> updates = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE inventory.stocks"), updates.capture());
+        MapSqlParameterSource delta = (MapSqlParameterSource) updates.getValue()[0];
+        assertEquals("stock-1", delta.getValue("id"));
+        assertEquals(0, new BigDecimal("-10").compareTo((BigDecimal) delta.getValue("available")));
+        assertEquals(0, new BigDecimal("10").compareTo((BigDecimal) delta.getValue("reserved")));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO inventory.hot_stock_checkpoints"),
+                any(SqlParameterSource.class));
+        assertEquals(1, segments().size()); // sealed segment deleted, fresh one open
+    }
+
+    @Test
+    void shouldRestoreCountersAndWriteNothingOnRollback() throws Exception {
+        // Arrange
+        startStore();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            store.reserve(KEY, Quantity.of(10));
+            status.setRollbackOnly();
+        });
+        store.flush();
+
+        // Assert
+        StockEntity current = store.overlay(row());
+        assertEquals(0, new BigDecimal("100").compareTo(current.getAvailableQuantity()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(current.getReservedQuantity()));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE inventory.stocks"),
+                any(SqlParameterSource[].class));
+        assertEquals(0, Files.size(segments().getFirst()));
+    }
+
+    @Test
+    void shouldSkipRecordOfFailedDatabaseCommitOnReplay() throws Exception {
+        // Arrange
+        startStore();
+        transactionManager.failCommit = true;
+
+        // Act
+        assertThrows(TransactionSystemException.class, () -> transactionTemplate.executeWithoutResult(
+                status -> store.reserve(KEY, Quantity.of(10))));
+
+        // Assert: memory restored, record followed by its abort marker
+        StockEntity current = store.overlay(row());
+        assertEquals(0, new BigDecimal("100").compareTo(current.getAvailableQuantity()));
+        List<String> lines = Files.readAllLines(segments().getFirst(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("\"aborted\":true"));
+
+        // Act: restart replays the leftover segment
+        store.stop();
+        transactionManager.failCommit = false;
+        startStore();
+
+        // Assert
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE inventory.stocks"),
+                argThat((SqlParameterSource[] updates) -> updates.length > 0));
+    }
+
+    @Test
+    void shouldReplayUnflushedSegmentAndIgnoreTornTail() throws Exception {
+        // Arrange: a crash left one committed record and half of the next
+        HotStockWriteAheadLog wal = new HotStockWriteAheadLog(walDirectory, objectMapper, true);
+        wal.open();
+        wal.write(new HotStockWalRecord("tx-1",
+                List.of(new HotStockWalRecord.Delta("stock-1", -50_000, 50_000)), List.of()));
+        wal.close();
+        Path leftover = segments().getFirst();
+        Files.writeString(leftover, "{\"txId\":\"tx-2\",\"del", StandardOpenOption.APPEND);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COUNT(*)"), any(SqlParameterSource.class),
+                eq(Integer.class))).thenReturn(0);
+
+        // Act
+        startStore();
+
+        // Assert
+        ArgumentCaptor<SqlParameterSource[]> updates = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE inventory.stocks"), updates.capture());
+        assertEquals(1, updates.getValue().length);
+        MapSqlParameterSource delta = (MapSqlParameterSource) updates.getValue()[0];
+        assertEquals(0, new BigDecimal("-5").compareTo((BigDecimal) delta.getValue("available")));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO inventory.hot_stock_checkpoints"),
+                argThat((SqlParameterSource source) -> leftover.getFileName().toString()
+                        .equals(source.getValue("segment"))));
+        assertFalse(Files.exists(leftover));
+    }
+
+    @Test
+    void shouldTargetPartitionedMovementKeyOnConflict() throws Exception {
+        // Arrange: JDBC is mocked, so pin the SQL to the V6 primary key
+        String migration;
+        try (InputStream v6 = getClass().getResourceAsStream("/db/migration/V6__partition_stock_movements.sql")) {
+            migration = new String(v6.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        startStore();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            store.deduct("stock-1", Quantity.of(1));
+            store.recordMovement("stock-1", "SALE", BigDecimal.ONE, null, "ORD-1", "cashier", Instant.now());
+        });
+        store.flush();
+
+        // Assert
+        assertTrue(migration.contains("PRIMARY KEY (id, performed_at)"));
+        verify(jdbcTemplate).batchUpdate(eq(HotStockStore.INSERT_MOVEMENT_SQL),
+                argThat((SqlParameterSource[] movements) -> movements.length == 1));
+        assertTrue(HotStockStore.INSERT_MOVEMENT_SQL.contains("ON CONFLICT (id, performed_at) DO NOTHING"));
+    }
+
+    private void startStore() throws IOException {
+        store = new HotStockStore(true, List.of("SKU-001@L001"), 4, 60_000,
+                walDirectory.toString(), true, false,
+                jpaRepository, jdbcTemplate, transactionManager, objectMapper);
+        store.start();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static StockEntity row() {
+        StockEntity row = new StockEntity();
+        row.setId("stock-1");
+        row.setSku("SKU-001");
+        row.setLocationId("L001");
+        row.setProductId("product-1");
+        row.setAvailableQuantity(new BigDecimal("100"));
+        row.setReservedQuantity(BigDecimal.ZERO);
+        row.setUnitOfMeasure(UnitOfMeasure.PIECE);
+        row.setVersion(0L);
+        row.setCreatedAt(Instant.now());
+        return row;
+    }
+
+    /**
+     * Drives transaction synchronizations without a database; the commit
+     * itself can be made to fail.
+     */
+    private static final class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+        private boolean failCommit;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failCommit) {
+                throw new TransactionSystemException("Simulated commit failure");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.stockmanagement.inventory.infrastructure.persistence.hotstock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedCounterTest {
+
+    @Test
+    void shouldRejectDecrementBeyondTotal() {
+        StripedCounter counter = new StripedCounter(4, 100);
+
+        assertThat(counter.tryDecrement(60)).isTrue();
+        assertThat(counter.tryDecrement(50)).isFalse();
+        assertThat(counter.sum()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldDecrementAcrossStripesFilledByDifferentThreads() throws Exception {
+        StripedCounter counter = new StripedCounter(4, 0);
+        List<Thread> adders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            adders.add(Thread.ofPlatform().start(() -> counter.add(10)));
+        }
+        for (Thread adder : adders) {
+            adder.join();
+        }
+
+        // No single stripe is guaranteed to hold 75 - may need consolidation
+        assertThat(counter.tryDecrement(75)).isTrue();
+        assertThat(counter.sum()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNeverOversellUnderContention() throws Exception {
+        StripedCounter counter = new StripedCounter(8, 10_000);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int succeeded = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    if (counter.tryDecrement(1)) {
+                        succeeded++;
+                    }
+                }
+                return succeeded;
+            }));
+        }
+        start.countDown();
+
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get();
+        }
+        executor.shutdown();
+
+        assertThat(total).isEqualTo(10_000);
+        assertThat(counter.sum()).isZero();
+    }
+
+    @Test
+    void shouldNeverExposeConsolidationToReaders() throws Exception {
+        StripedCounter counter = new StripedCounter(8, 0);
+        List<Thread> adders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            adders.add(Thread.ofPlatform().start(() -> counter.add(10)));
+        }
+        for (Thread adder : adders) {
+            adder.join();
+        }
+
+        // A decrement the total cannot cover consolidates every time and
+        // leaves the total unchanged
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread consolidator = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                counter.tryDecrement(1_000);
+            }
+        });
+        long lowest = Long.MAX_VALUE;
+        for (int i = 0; i < 200_000; i++) {
+            lowest = Math.min(lowest, counter.sum());
+        }
+        running.set(false);
+        consolidator.join();
+
+        assertThat(lowest).isEqualTo(80);
+    }
+}
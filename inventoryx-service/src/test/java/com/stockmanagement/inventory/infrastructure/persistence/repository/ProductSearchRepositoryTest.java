@@ -0,0 +1,37 @@
+package com.stockmanagement.inventory.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchRepositoryTest {
+
+    @Test
+    void shouldBoundPrefixRangeByNextCodePoint() {
+        // Act & Assert
+        assertEquals("ab", ProductSearchRepository.prefixUpperBound("aa"));
+        assertEquals("sku-1", ProductSearchRepository.prefixUpperBound("sku-0"));
+        assertEquals("x\uD83D\uDE01", ProductSearchRepository.prefixUpperBound("x\uD83D\uDE00"));
+    }
+
+    @Test
+    void shouldKeepEveryStringWithPrefixInsideRange() {
+        // Arrange
+        String prefix = "ab";
+        String upper = ProductSearchRepository.prefixUpperBound(prefix);
+
+        // Act & Assert
+        assertTrue("ab".compareTo(prefix) >= 0 && "ab".compareTo(upper) < 0);
+        assertTrue("abzzz".compareTo(prefix) >= 0 && "abzzz".compareTo(upper) < 0);
+        assertFalse("ac".compareTo(upper) < 0);
+        assertFalse("aa".compareTo(prefix) >= 0);
+    }
+
+    @Test
+    void shouldEscapeLikeWildcards() {
+        // Act & Assert
+        assertEquals("100\\%", ProductSearchRepository.escapeLike("100%"));
+        assertEquals("a\\_b", ProductSearchRepository.escapeLike("a_b"));
+        assertEquals("c:\\\\tmp", ProductSearchRepository.escapeLike("c:\\tmp"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.stockmanagement.inventory.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadConsistencyTest {
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void shouldParseLsnIntoComparableNumber() {
+        // Act & Assert
+        assertEquals(Optional.of(0x16B3748L), ReadConsistency.parseLsn("0/16B3748"));
+        assertEquals(Optional.of((0x1AL << 32) | 0xFFL), ReadConsistency.parseLsn("1A/FF"));
+        assertTrue(ReadConsistency.parseLsn("1/0").get() > ReadConsistency.parseLsn("0/FFFFFFFF").get());
+    }
+
+    @Test
+    void shouldRejectMalformedLsn() {
+        // Act & Assert
+        assertTrue(ReadConsistency.parseLsn(null).isEmpty());
+        assertTrue(ReadConsistency.parseLsn("").isEmpty());
+        assertTrue(ReadConsistency.parseLsn("16B3748").isEmpty());
+        assertTrue(ReadConsistency.parseLsn("0/").isEmpty());
+        assertTrue(ReadConsistency.parseLsn("0/1/2").isEmpty());
+        assertTrue(ReadConsistency.parseLsn("-1/2").isEmpty());
+        assertTrue(ReadConsistency.parseLsn("0/XYZ").isEmpty());
+        assertTrue(ReadConsistency.parseLsn("0/123456789").isEmpty());
+    }
+
+    @Test
+    void shouldHoldRequirementUntilCleared() {
+        // Act
+        ReadConsistency.require(42);
+
+        // Assert
+        assertEquals(42, ReadConsistency.required().getAsLong());
+        ReadConsistency.clear();
+        assertTrue(ReadConsistency.required().isEmpty());
+    }
+}
@@ -0,0 +1,98 @@
+package com.stockmanagement.inventory.infrastructure.persistence.routing;
+
+import com.stockmanagement.inventory.infrastructure.persistence.routing.ReplicaLagMonitor.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+    }
+
+    @Test
+    void shouldUseReplicaWhenMonitorAllows() throws SQLException {
+        // Arrange
+        when(lagMonitor.route()).thenReturn(Route.REPLICA);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertSame(replicaConnection, connection);
+        verifyNoInteractions(primary);
+        assertEquals(1.0, reads("replica"));
+    }
+
+    @Test
+    void shouldUsePrimaryWhenReplicaLagsOrTokenNotReplayed() throws SQLException {
+        // Arrange
+        when(lagMonitor.route()).thenReturn(Route.PRIMARY_LAG, Route.PRIMARY_TOKEN);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        dataSource.getConnection();
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica);
+        assertEquals(1.0, reads("primary-lag"));
+        assertEquals(1.0, reads("primary-token"));
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaRefusesConnection() throws SQLException {
+        // Arrange
+        SQLException refused = new SQLException("Connection refused");
+        when(lagMonitor.route()).thenReturn(Route.REPLICA);
+        when(replica.getConnection()).thenThrow(refused);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(lagMonitor).markUnavailable(refused);
+        assertEquals(0.0, reads("replica"));
+        assertEquals(1.0, reads("primary-unavailable"));
+    }
+
+    private double reads(String route) {
+        return meterRegistry.get("inventory.datasource.reads").tag("route", route).counter().count();
+    }
+}
@@ -0,0 +1,92 @@
+package com.stockmanagement.inventory.infrastructure.security;
+
+import com.stockmanagement.inventory.domain.event.UserAccessChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedPrincipalCacheTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private AuthenticatedPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AuthenticatedPrincipalCache(userDetailsService, 60, 100);
+    }
+
+    @Test
+    void shouldLoadOncePerToken() {
+        // Arrange
+        UserDetails details = user("testuser", "ROLE_USER");
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(details);
+
+        // Act
+        UserDetails first = cache.get("testuser", "jti-1");
+        UserDetails second = cache.get("testuser", "jti-1");
+
+        // Assert
+        assertSame(details, first);
+        assertSame(details, second);
+        verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void shouldLoadAgainForNewToken() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(user("testuser", "ROLE_USER"));
+
+        // Act
+        cache.get("testuser", "jti-1");
+        cache.get("testuser", "jti-2");
+
+        // Assert
+        verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void shouldReloadAfterAccessChanged() {
+        // Arrange
+        UserDetails before = user("testuser", "ROLE_USER");
+        UserDetails after = user("testuser", "ROLE_ADMIN");
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(before, after);
+        cache.get("testuser", "jti-1");
+
+        // Act
+        cache.onUserAccessChanged(new UserAccessChangedEvent("testuser"));
+        UserDetails result = cache.get("testuser", "jti-1");
+
+        // Assert
+        assertSame(after, result);
+        verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void shouldKeepOtherUsersOnInvalidate() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("other")).thenReturn(user("other", "ROLE_USER"));
+        cache.get("other", "jti-9");
+
+        // Act
+        cache.invalidate("testuser");
+        cache.get("other", "jti-9");
+
+        // Assert
+        verify(userDetailsService, times(1)).loadUserByUsername("other");
+    }
+
+    private static UserDetails user(String username, String role) {
+        return User.withUsername(username).password("secret").authorities(role).build();
+    }
+}
@@ -8,8 +8,13 @@ import type {
   AdjustStockCommand,
   WithdrawStockCommand,
   QuickSaleCommand,
+  TransferStockCommand,
+  BatchTransferStockCommand,
+  StockTransferResponse,
   PagedStockResponse,
-  PaginationParams
+  PaginationParams,
+  CursorPageResponse,
+  StockMovementQueryParams
 } from '~/types/inventory'
 
 /**
@@ -72,12 +77,24 @@ export const useInventoryApi = () => {
     },
 
     /**
-     * Get stock movement history
+     * Get stock movement history (one cursor page)
      * @param stockId - Stock ID
-     * @returns Promise<StockMovement[]> - List of movements (newest first)
+     * @param params - Time range, type filter, cursor and page size
+     * @returns Promise<CursorPageResponse<StockMovement>> - Movements (newest first)
      */
-    async getStockMovements(stockId: string): Promise<StockMovement[]> {
-        const response = await $api.get<StockMovement[]>(`/stocks/${stockId}/movements`)
+    async getStockMovements(
+        stockId: string,
+        params?: StockMovementQueryParams
+    ): Promise<CursorPageResponse<StockMovement>> {
+        const response = await $api.get<CursorPageResponse<StockMovement>>(`/stocks/${stockId}/movements`, {
+            params: {
+                from: params?.from,
+                to: params?.to,
+                type: params?.types?.join(','),
+                cursor: params?.cursor,
+                size: params?.size ?? 50
+            }
+        })
         return response.data
     },
 
@@ -153,6 +170,26 @@ export const useInventoryApi = () => {
     async quickSale(command: QuickSaleCommand): Promise<Stock> {
         const response = await $api.post<Stock>('/stocks/sale', command)
         return response.data
+    },
+
+    /**
+     * Move stock between locations (both sides in one transaction)
+     * @param command - Transfer command
+     * @returns Promise<StockTransferResponse> - Source and destination stock
+     */
+    async transferStock(command: TransferStockCommand): Promise<StockTransferResponse> {
+        const response = await $api.post<StockTransferResponse>('/stocks/transfer', command)
+        return response.data
+    },
+
+    /**
+     * Move many lines between locations (all-or-nothing)
+     * @param command - Batch transfer command (up to 10000 lines)
+     * @returns Promise<StockTransferResponse> - Every changed stock
+     */
+    async transferStockBatch(command: BatchTransferStockCommand): Promise<StockTransferResponse> {
+        const response = await $api.post<StockTransferResponse>('/stocks/transfer/batch', command)
+        return response.data
     }
   }
 }
@@ -1,4 +1,4 @@
-import type { Product, CreateProductCommand, UpdateProductCommand, ProductPageResponse } from '~/types/product'
+import type { Product, CreateProductCommand, UpdateProductCommand, ProductPageResponse, SkuSuggestion } from '~/types/product'
 
 /**
  * Product API Composable
@@ -24,6 +24,22 @@ export const useProductApi = () => {
         return response.data
     },
 
+    /**
+     * Typeahead suggestions, best match first
+     */
+    async suggestProducts(query: string, limit = 10): Promise<Product[]> {
+        const response = await $api.get<Product[]>('/products/suggest', { params: { q: query, limit } })
+        return response.data
+    },
+
+    /**
+     * SKU prefix autocomplete (in-memory, for scanners)
+     */
+    async suggestSkus(prefix: string, limit = 10): Promise<SkuSuggestion[]> {
+        const response = await $api.get<SkuSuggestion[]>('/products/sku-suggest', { params: { prefix, limit } })
+        return response.data
+    },
+
     /**
      * Get a single product by ID
      */
@@ -0,0 +1,133 @@
+import type { StockChange } from '~/types/inventory'
+import { useAuthStore } from '~/stores/auth'
+
+export interface StockStreamHandlers {
+  /** A stock changed (latest state) */
+  onChange: (change: StockChange) => void
+  /** Changes were missed: reload, the stream continues after it */
+  onReset: () => void
+}
+
+export interface StockStreamFilter {
+  sku?: string[]
+  locationId?: string[]
+}
+
+const RECONNECT_DELAY_MS = 3000
+
+/**
+ * Stock Stream Composable
+ *
+ * Subscribes to GET /stocks/stream (Server-Sent Events). Uses fetch instead
+ * of EventSource, which cannot send the Authorization header. Reconnects
+ * after errors and stream timeouts with Last-Event-ID, so changes in
+ * between are replayed (or a reset is sent).
+ *
+ * @example
+ * ```ts
+ * const stream = useStockStream()
+ * const stop = stream.subscribe({ onChange: store.applyStockChange, onReset: reload })
+ * onUnmounted(stop)
+ * ```
+ */
+export const useStockStream = () => {
+  const config = useRuntimeConfig()
+  const authStore = useAuthStore()
+
+  function subscribe(handlers: StockStreamHandlers, filter: StockStreamFilter = {}): () => void {
+    const controller = new AbortController()
+    let lastEventId: string | null = null
+
+    const params = new URLSearchParams()
+    filter.sku?.forEach(sku => params.append('sku', sku))
+    filter.locationId?.forEach(id => params.append('locationId', id))
+    const query = params.toString()
+    const url = `${config.public.apiBaseUrl}/stocks/stream${query ? `?${query}` : ''}`
+
+    const dispatch = (event: string, id: string | null, data: string) => {
+      if (id) {
+        lastEventId = id
+      }
+      if (event === 'stock') {
+        handlers.onChange(JSON.parse(data) as StockChange)
+      } else if (event === 'reset') {
+        handlers.onReset()
+      }
+    }
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const headers: Record<string, string> = { Accept: 'text/event-stream' }
+          if (authStore.token) {
+            headers.Authorization = `Bearer ${authStore.token}`
+          }
+          if (lastEventId) {
+            headers['Last-Event-ID'] = lastEventId
+          }
+          const response = await fetch(url, { headers, signal: controller.signal })
+          if (response.status === 401) {
+            if (!(await authStore.refresh())) {
+              return
+            }
+            continue
+          } else if (response.ok && response.body) {
+            await readEvents(response.body, dispatch)
+          }
+        } catch (e: unknown) {
+          if (controller.signal.aborted) {
+            return
+          }
+          console.warn('[useStockStream] stream interrupted:', e)
+        }
+        await new Promise(resolve => setTimeout(resolve, RECONNECT_DELAY_MS))
+      }
+    }
+
+    connect()
+    return () => controller.abort()
+  }
+
+  return { subscribe }
+}
+
+/**
+ * Parses an SSE body (event/id/data fields, blank line ends an event;
+ * comment lines are keepalives).
+ */
+async function readEvents(
+  body: ReadableStream<Uint8Array>,
+  dispatch: (event: string, id: string | null, data: string) => void
+) {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader()
+  let pending = ''
+  let event = 'message'
+  let id: string | null = null
+  let data: string[] = []
+
+  while (true) {
+    const { value, done } = await reader.read()
+    if (done) {
+      return
+    }
+    pending += value
+    const lines = pending.split(/\r?\n/)
+    pending = lines.pop() ?? ''
+    for (const line of lines) {
+      if (line === '') {
+        if (data.length > 0) {
+          dispatch(event, id, data.join('\n'))
+        }
+        event = 'message'
+        id = null
+        data = []
+      } else if (line.startsWith('event:')) {
+        event = line.slice(6).trim()
+      } else if (line.startsWith('id:')) {
+        id = line.slice(3).trim()
+      } else if (line.startsWith('data:')) {
+        data.push(line.slice(5).replace(/^ /, ''))
+      }
+    }
+  }
+}
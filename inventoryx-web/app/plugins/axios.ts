@@ -1,6 +1,10 @@
 import axios from 'axios';
 import { useAuthStore } from '~/stores/auth';
 
+// Read-your-writes: latest Consistency-Token from a write, sent with every
+// request so reads after a write never hit a replica that is behind
+let consistencyToken: string | null = null;
+
 export default defineNuxtPlugin((nuxtApp) => {
     const config = useRuntimeConfig();
     const authStore = useAuthStore(); // Use the Pinia store
@@ -16,11 +20,20 @@ export default defineNuxtPlugin((nuxtApp) => {
         if (authStore.token) {
             config.headers.Authorization = `Bearer ${authStore.token}`;
         }
+        if (consistencyToken) {
+            config.headers['Consistency-Token'] = consistencyToken;
+        }
         return config;
     });
 
     api.interceptors.response.use(
-        (response) => response,
+        (response) => {
+            const token = response.headers['consistency-token'];
+            if (token) {
+                consistencyToken = token;
+            }
+            return response;
+        },
         async (error) => {
             const originalRequest = error.config;
             
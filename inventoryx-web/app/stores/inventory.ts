@@ -8,7 +8,8 @@ import type {
   AdjustStockCommand,
   WithdrawStockCommand,
   QuickSaleCommand,
-  PaginationParams
+  PaginationParams,
+  StockChange
 } from '~/types/inventory'
 import { useInventoryApi } from '~/composables/api/useInventoryApi'
 
@@ -77,6 +78,28 @@ export const useInventoryStore = defineStore('inventory', () => {
     selectedStock.value = stock
   }
 
+  /**
+   * Apply a live change (GET /stocks/stream) to the loaded stocks.
+   * Stocks not on the current page are ignored; older versions never
+   * overwrite newer ones.
+   */
+  function applyStockChange(change: StockChange) {
+    const apply = (stock: Stock): Stock =>
+      stock.id === change.stockId && change.version >= stock.version
+        ? {
+            ...stock,
+            availableQuantity: change.availableQuantity,
+            reservedQuantity: change.reservedQuantity,
+            version: change.version
+          }
+        : stock
+
+    stocks.value = stocks.value.map(apply)
+    if (selectedStock.value) {
+      selectedStock.value = apply(selectedStock.value)
+    }
+  }
+
   // --------------------------------------------
   // Query Operations
   // --------------------------------------------
@@ -292,6 +315,7 @@ export const useInventoryStore = defineStore('inventory', () => {
     clearError,
     clearSelection,
     selectStock,
+    applyStockChange,
     fetchStocks,
     fetchStocksPaged,
     changePage,
@@ -77,12 +77,7 @@ export const useProductStore = defineStore('product', () => {
     async function searchProducts(query: string): Promise<Product[]> {
         try {
             const api = useProductApi();
-            const response = await api.getProducts({ 
-                search: query, 
-                size: 20, 
-                sort: 'name,asc' 
-            });
-            return response.content;
+            return await api.suggestProducts(query, 20);
         } catch (err) {
             console.error("Failed to search products", err);
             return [];
@@ -115,6 +115,39 @@ export interface QuickSaleCommand {
   performedBy: string
 }
 
+/**
+ * Command to move stock between locations (one transaction)
+ * USE CASE: Warehouse to store replenishment
+ */
+export interface TransferStockCommand {
+  sku: string
+  fromLocationId: string
+  toLocationId: string
+  quantity: string
+  reason?: string
+  performedBy: string
+}
+
+/**
+ * Command to move many lines between locations (all-or-nothing)
+ * USE CASE: Rebalancing job
+ */
+export interface BatchTransferStockCommand {
+  lines: Array<Omit<TransferStockCommand, 'reason' | 'performedBy'>>
+  reason?: string
+  performedBy: string
+}
+
+/**
+ * Result of a transfer: every changed stock (sources and destinations)
+ */
+export interface StockTransferResponse {
+  /** Reference on both TRANSFER movements of every line */
+  transferId: string
+  lines: number
+  stocks: Stock[]
+}
+
 // ============================================
 // Pagination Types
 // ============================================
@@ -147,3 +180,55 @@ export interface PagedStockResponse {
   /** Whether this is the last page */
   last: boolean
 }
+
+/**
+ * Keyset (cursor) page, e.g. stock movement history
+ * Pass nextCursor back as `cursor` to load the next page
+ */
+export interface CursorPageResponse<T> {
+  /** Items in this page */
+  content: T[]
+  /** Number of items in this page */
+  size: number
+  /** Opaque token for the next page (null on the last page) */
+  nextCursor: string | null
+  /** Whether another page exists */
+  hasNext: boolean
+  /** Planner row estimate (only when requested) */
+  estimatedTotal: number | null
+}
+
+/**
+ * Filters for stock movement history
+ */
+export interface StockMovementQueryParams {
+  /** Inclusive start (ISO-8601 instant) */
+  from?: string
+  /** Exclusive end (ISO-8601 instant) */
+  to?: string
+  /** Movement types, e.g. ['RECEIPT', 'SALE'] */
+  types?: string[]
+  /** nextCursor of the previous page */
+  cursor?: string
+  size?: number
+}
+
+/**
+ * Stock state after a committed change (GET /stocks/stream, event "stock")
+ */
+export interface StockChange {
+  /** Stream position, sent back as Last-Event-ID on reconnect */
+  eventId: string
+  /** Last change: RECEIPT, RESERVATION, RELEASE, CONFIRMATION, ADJUSTMENT, WITHDRAWAL, SALE, TRANSFER */
+  type: string
+  stockId: string
+  sku: string
+  locationId: string
+  /** Quantities after the change (as string for BigDecimal precision) */
+  availableQuantity: string
+  reservedQuantity: string
+  unitOfMeasure: string
+  version: number
+  /** ISO 8601 */
+  occurredOn: string
+}
@@ -12,6 +12,12 @@ export interface Product {
   updatedAt: string;
 }
 
+export interface SkuSuggestion {
+  sku: string;
+  productId: string;
+  availableQuantity: string;
+}
+
 export interface CreateProductCommand {
   sku: string;
   name: string;